@@ -0,0 +1,105 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.aop.Advice;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.aop.AfterReturningAdvice;
+import org.springframework.aop.MethodBeforeAdvice;
+
+/**
+ * Benchmarks for invocations through JDK and CGLIB proxies, comparing frozen
+ * configurations (with straight-line advice chains) against regular ones.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProxyInvocationBenchmark {
+
+	@Benchmark
+	public void beforeAndAfterReturningAdvice(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.adviceProxy.getName());
+	}
+
+	@Benchmark
+	public void methodInterceptor(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.interceptorProxy.getName());
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"false", "true"})
+		public boolean proxyTargetClass;
+
+		@Param({"false", "true"})
+		public boolean frozen;
+
+		public Service adviceProxy;
+
+		public Service interceptorProxy;
+
+		@Setup
+		public void setup() {
+			MethodBeforeAdvice beforeAdvice = (method, args, target) -> {};
+			AfterReturningAdvice afterReturningAdvice = (returnValue, method, args, target) -> {};
+			this.adviceProxy = createProxy(beforeAdvice, afterReturningAdvice);
+			MethodInterceptor interceptor = invocation -> invocation.proceed();
+			this.interceptorProxy = createProxy(interceptor, interceptor);
+		}
+
+		private Service createProxy(Advice... advice) {
+			ProxyFactory proxyFactory = new ProxyFactory(new DefaultService());
+			proxyFactory.setProxyTargetClass(this.proxyTargetClass);
+			for (Advice element : advice) {
+				proxyFactory.addAdvice(element);
+			}
+			proxyFactory.setFrozen(this.frozen);
+			return (Service) proxyFactory.getProxy();
+		}
+	}
+
+
+	public interface Service {
+
+		String getName();
+	}
+
+
+	public static class DefaultService implements Service {
+
+		@Override
+		public String getName() {
+			return "juergen";
+		}
+	}
+
+}
@@ -119,6 +119,11 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 
 	private transient boolean pointcutParsingFailed = false;
 
+	@Nullable
+	private transient String persistentCacheKey;
+
+	private transient boolean persistentCacheKeyResolved;
+
 
 	/**
 	 * Create a new default AspectJExpressionPointcut.
@@ -469,6 +474,14 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 	private ShadowMatch getShadowMatch(Method targetMethod, Method originalMethod) {
 		ShadowMatch shadowMatch = ShadowMatchUtils.getShadowMatch(this, targetMethod);
 		if (shadowMatch == null) {
+			PersistentShadowMatchCache persistentCache = ShadowMatchUtils.getPersistentCache();
+			String persistentCacheKey = (persistentCache != null ? obtainPersistentCacheKey(persistentCache) : null);
+			if (persistentCache != null && persistentCacheKey != null &&
+					persistentCache.isNeverMatch(persistentCacheKey, targetMethod, originalMethod)) {
+				// Known from a previous run with the same bytecode: skip the evaluation
+				return ShadowMatchUtils.setShadowMatch(this, targetMethod,
+						new ShadowMatchImpl(org.aspectj.util.FuzzyBoolean.NO, null, null, null));
+			}
 			PointcutExpression fallbackExpression = null;
 			Method methodToMatch = targetMethod;
 			try {
@@ -521,6 +534,9 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 			if (shadowMatch == null) {
 				shadowMatch = new ShadowMatchImpl(org.aspectj.util.FuzzyBoolean.NO, null, null, null);
 			}
+			else if (shadowMatch.neverMatches() && persistentCache != null && persistentCacheKey != null) {
+				persistentCache.addNeverMatch(persistentCacheKey, targetMethod, originalMethod);
+			}
 			else if (shadowMatch.maybeMatches() && fallbackExpression != null) {
 				shadowMatch = new DefensiveShadowMatch(shadowMatch,
 						fallbackExpression.matchesMethodExecution(methodToMatch));
@@ -530,6 +546,20 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut
 		return shadowMatch;
 	}
 
+	/**
+	 * Lazily determine the key for persisting negative shadow matches of this
+	 * pointcut, if possible.
+	 */
+	@Nullable
+	private String obtainPersistentCacheKey(PersistentShadowMatchCache persistentCache) {
+		if (!this.persistentCacheKeyResolved) {
+			this.persistentCacheKey = persistentCache.getPointcutKey(resolveExpression(),
+					this.pointcutDeclarationScope, this.pointcutParameterNames, this.pointcutParameterTypes);
+			this.persistentCacheKeyResolved = true;
+		}
+		return this.persistentCacheKey;
+	}
+
 	private boolean containsAnnotationPointcut() {
 		return resolveExpression().contains("@annotation");
 	}
@@ -0,0 +1,490 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.aspectj;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.weaver.tools.PointcutParser;
+
+import org.springframework.core.SpringVersion;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * File-based cache of negative shadow matches, allowing repeated startups
+ * to skip the evaluation of AspectJ pointcut expressions against methods
+ * that are known not to match.
+ *
+ * <p>Each entry is a digest of the pointcut expression with its declaration
+ * scope and parameters, the method to match, and the bytecode of all types
+ * that a match may depend on: the hierarchies of the method's declaring class,
+ * of all types in the method signature (parameter, return and exception types,
+ * including generic type arguments) and of the pointcut declaration scope,
+ * as well as all annotation types declared on the method, its parameters and
+ * on any of those classes. Any change to those types therefore leads to a fresh
+ * evaluation, e.g. for {@code args} and {@code @args} designators or type
+ * patterns when an argument type gets an additional interface or annotation.
+ * Positive and dynamic matches are not persisted since they carry state for
+ * binding pointcut parameters at runtime.
+ *
+ * <p>Expressions that cannot be fingerprinted reliably are never persisted:
+ * this includes {@code bean()} pointcuts (depending on the current bean name)
+ * and references to named pointcuts outside of the declaration scope.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see ShadowMatchUtils#CACHE_FILE_PROPERTY_NAME
+ */
+final class PersistentShadowMatchCache {
+
+	private static final String HEADER_PREFIX = "# Spring AOP shadow match cache v2";
+
+	private static final Set<String> DESIGNATORS = Set.of("execution", "within", "this", "target", "args",
+			"@annotation", "@within", "@target", "@args");
+
+	private static final String NOT_HASHABLE = "";
+
+	private static final Log logger = LogFactory.getLog(PersistentShadowMatchCache.class);
+
+
+	private final Path location;
+
+	private final String header;
+
+	private final Set<String> neverMatches = ConcurrentHashMap.newKeySet();
+
+	private final Set<String> retainedNeverMatches = ConcurrentHashMap.newKeySet();
+
+	private final Map<Class<?>, String> classHashes = new ConcurrentReferenceHashMap<>(256);
+
+	private final Map<Method, String> methodHashes = new ConcurrentReferenceHashMap<>(256);
+
+	private volatile boolean loaded;
+
+	private volatile boolean modified;
+
+
+	/**
+	 * Create a new cache for the given file.
+	 * @param location the file to load entries from and to store entries to
+	 */
+	PersistentShadowMatchCache(Path location) {
+		this.location = location;
+		this.header = HEADER_PREFIX + " (Spring " + SpringVersion.getVersion() + ", AspectJ " +
+				PointcutParser.class.getPackage().getImplementationVersion() + ")";
+	}
+
+
+	/**
+	 * Compute the key for the given pointcut settings.
+	 * @return the key, or {@code null} if matches of the given pointcut
+	 * cannot be persisted
+	 */
+	@Nullable
+	String getPointcutKey(String expression, @Nullable Class<?> declarationScope,
+			String[] parameterNames, Class<?>[] parameterTypes) {
+
+		if (!isPersistable(expression, declarationScope, new HashSet<>())) {
+			return null;
+		}
+		StringBuilder key = new StringBuilder(expression);
+		if (declarationScope != null) {
+			String scopeHash = getHierarchyHash(Set.of(declarationScope));
+			if (scopeHash == null) {
+				return null;
+			}
+			key.append('\n').append(declarationScope.getName()).append('=').append(scopeHash);
+		}
+		for (int i = 0; i < parameterNames.length; i++) {
+			key.append('\n').append(parameterNames[i]).append(':').append(parameterTypes[i].getName());
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Determine whether the given pointcut is known to never match the
+	 * given method.
+	 * @param pointcutKey the key as returned from {@link #getPointcutKey}
+	 * @param targetMethod the method to match
+	 * @param originalMethod the original method that the target method got
+	 * derived from, possibly identical to the target method
+	 */
+	boolean isNeverMatch(String pointcutKey, Method targetMethod, Method originalMethod) {
+		loadIfNecessary();
+		String entry = getEntry(pointcutKey, targetMethod, originalMethod);
+		if (entry != null && this.neverMatches.contains(entry)) {
+			this.retainedNeverMatches.add(entry);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Record that the given pointcut never matches the given method.
+	 * @param pointcutKey the key as returned from {@link #getPointcutKey}
+	 * @param targetMethod the method to match
+	 * @param originalMethod the original method that the target method got
+	 * derived from, possibly identical to the target method
+	 */
+	void addNeverMatch(String pointcutKey, Method targetMethod, Method originalMethod) {
+		loadIfNecessary();
+		String entry = getEntry(pointcutKey, targetMethod, originalMethod);
+		if (entry != null && this.retainedNeverMatches.add(entry)) {
+			this.neverMatches.add(entry);
+			this.modified = true;
+		}
+	}
+
+	/**
+	 * Store all entries that have been used or added since the cache was
+	 * loaded, if any entries have been added. Stale entries are therefore
+	 * dropped whenever the cache gets stored.
+	 */
+	synchronized void store() {
+		if (!this.loaded || !this.modified) {
+			return;
+		}
+		List<String> lines = new ArrayList<>(this.retainedNeverMatches.size() + 1);
+		lines.add(this.header);
+		lines.addAll(this.retainedNeverMatches);
+		try {
+			Path directory = this.location.toAbsolutePath().getParent();
+			if (directory != null) {
+				Files.createDirectories(directory);
+			}
+			Path tempFile = Files.createTempFile(directory, this.location.getFileName().toString(), ".tmp");
+			Files.write(tempFile, lines, StandardCharsets.UTF_8);
+			try {
+				Files.move(tempFile, this.location, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, this.location, StandardCopyOption.REPLACE_EXISTING);
+			}
+			this.modified = false;
+			if (logger.isDebugEnabled()) {
+				logger.debug("Stored " + (lines.size() - 1) + " shadow match entries to " + this.location);
+			}
+		}
+		catch (IOException ex) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Failed to store shadow match cache to " + this.location + ": " + ex);
+			}
+		}
+	}
+
+	/**
+	 * Return the number of entries currently known.
+	 */
+	int size() {
+		loadIfNecessary();
+		return this.neverMatches.size();
+	}
+
+
+	private void loadIfNecessary() {
+		if (!this.loaded) {
+			synchronized (this) {
+				if (!this.loaded) {
+					load();
+					this.loaded = true;
+				}
+			}
+		}
+	}
+
+	private void load() {
+		if (!Files.isRegularFile(this.location)) {
+			return;
+		}
+		try {
+			List<String> lines = Files.readAllLines(this.location, StandardCharsets.UTF_8);
+			if (lines.isEmpty() || !lines.get(0).equals(this.header)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring outdated shadow match cache at " + this.location);
+				}
+				this.modified = true;
+				return;
+			}
+			this.neverMatches.addAll(lines.subList(1, lines.size()));
+			if (logger.isDebugEnabled()) {
+				logger.debug("Loaded " + this.neverMatches.size() + " shadow match entries from " + this.location);
+			}
+		}
+		catch (IOException ex) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Failed to load shadow match cache from " + this.location + ": " + ex);
+			}
+		}
+	}
+
+	@Nullable
+	private String getEntry(String pointcutKey, Method targetMethod, Method originalMethod) {
+		String targetHash = getMethodHash(targetMethod);
+		String originalHash = (originalMethod != targetMethod ? getMethodHash(originalMethod) : targetHash);
+		if (targetHash == null || originalHash == null) {
+			return null;
+		}
+		MessageDigest digest = newDigest();
+		update(digest, pointcutKey);
+		update(digest, targetMethod.toGenericString());
+		update(digest, targetHash);
+		update(digest, originalMethod.toGenericString());
+		update(digest, originalHash);
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Compute a hash over the bytecode of all types that matching the given
+	 * method may depend on: its declaring class and all types in its signature,
+	 * with their hierarchies, plus the annotation types declared on the method
+	 * and its parameters.
+	 * @return the hash, or {@code null} if the bytecode of any of those
+	 * types is not available (e.g. for generated classes)
+	 */
+	@Nullable
+	private String getMethodHash(Method method) {
+		String methodHash = this.methodHashes.computeIfAbsent(method, key -> {
+			Set<Class<?>> types = new HashSet<>();
+			types.add(method.getDeclaringClass());
+			collectTypes(method.getGenericReturnType(), types);
+			for (Type parameterType : method.getGenericParameterTypes()) {
+				collectTypes(parameterType, types);
+			}
+			for (Type exceptionType : method.getGenericExceptionTypes()) {
+				collectTypes(exceptionType, types);
+			}
+			for (Annotation annotation : method.getDeclaredAnnotations()) {
+				types.add(annotation.annotationType());
+			}
+			for (Annotation[] parameterAnnotations : method.getParameterAnnotations()) {
+				for (Annotation annotation : parameterAnnotations) {
+					types.add(annotation.annotationType());
+				}
+			}
+			String hash = getHierarchyHash(types);
+			return (hash != null ? hash : NOT_HASHABLE);
+		});
+		return (!methodHash.equals(NOT_HASHABLE) ? methodHash : null);
+	}
+
+	private static void collectTypes(Type type, Set<Class<?>> types) {
+		if (type instanceof Class<?> clazz) {
+			Class<?> componentType = clazz;
+			while (componentType.isArray()) {
+				componentType = componentType.getComponentType();
+			}
+			if (!componentType.isPrimitive()) {
+				types.add(componentType);
+			}
+		}
+		else if (type instanceof ParameterizedType parameterizedType) {
+			collectTypes(parameterizedType.getRawType(), types);
+			for (Type typeArgument : parameterizedType.getActualTypeArguments()) {
+				collectTypes(typeArgument, types);
+			}
+		}
+		else if (type instanceof GenericArrayType genericArrayType) {
+			collectTypes(genericArrayType.getGenericComponentType(), types);
+		}
+		else if (type instanceof WildcardType wildcardType) {
+			for (Type bound : wildcardType.getUpperBounds()) {
+				collectTypes(bound, types);
+			}
+			for (Type bound : wildcardType.getLowerBounds()) {
+				collectTypes(bound, types);
+			}
+		}
+		else if (type instanceof TypeVariable<?> typeVariable) {
+			for (Type bound : typeVariable.getBounds()) {
+				// Bounds may refer to the type variable itself: only collect raw types
+				collectTypes(bound instanceof ParameterizedType pt ? pt.getRawType() : bound, types);
+			}
+		}
+	}
+
+	/**
+	 * Compute a hash over the bytecode of the given classes, their superclasses
+	 * and all of their interfaces including inherited super-interfaces, as well as of all annotation types declared
+	 * on any of those classes.
+	 * @return the hash, or {@code null} if the bytecode of any of those
+	 * classes is not available (e.g. for generated classes)
+	 */
+	@Nullable
+	private String getHierarchyHash(Set<Class<?>> classes) {
+		MessageDigest digest = newDigest();
+		Set<Class<?>> hierarchy = new HashSet<>();
+		for (Class<?> clazz : classes) {
+			for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+				hierarchy.add(current);
+				collectInterfaces(current, hierarchy);
+			}
+		}
+		for (Class<?> type : new ArrayList<>(hierarchy)) {
+			for (Annotation annotation : type.getDeclaredAnnotations()) {
+				hierarchy.add(annotation.annotationType());
+			}
+		}
+		List<String> classHashes = new ArrayList<>(hierarchy.size());
+		for (Class<?> type : hierarchy) {
+			String classHash = this.classHashes.computeIfAbsent(type, PersistentShadowMatchCache::computeClassHash);
+			if (classHash.equals(NOT_HASHABLE)) {
+				return null;
+			}
+			classHashes.add(type.getName() + '=' + classHash);
+		}
+		classHashes.sort(null);
+		classHashes.forEach(classHash -> update(digest, classHash));
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void collectInterfaces(Class<?> type, Set<Class<?>> hierarchy) {
+		for (Class<?> ifc : type.getInterfaces()) {
+			if (hierarchy.add(ifc)) {
+				collectInterfaces(ifc, hierarchy);
+			}
+		}
+	}
+
+	private static String computeClassHash(Class<?> clazz) {
+		ClassLoader classLoader = clazz.getClassLoader();
+		if (classLoader == null) {
+			// JDK class: identified by the runtime version
+			return Runtime.version().toString();
+		}
+		if (clazz.isHidden() || clazz.isSynthetic() || clazz.isArray() || clazz.isPrimitive()) {
+			return NOT_HASHABLE;
+		}
+		String resourceName = ClassUtils.convertClassNameToResourcePath(clazz.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+		try (InputStream inputStream = classLoader.getResourceAsStream(resourceName)) {
+			if (inputStream == null) {
+				return NOT_HASHABLE;
+			}
+			return HexFormat.of().formatHex(newDigest().digest(inputStream.readAllBytes()));
+		}
+		catch (IOException ex) {
+			return NOT_HASHABLE;
+		}
+	}
+
+	/**
+	 * Determine whether the given expression only consists of well-known
+	 * designators and of references to named pointcuts in the declaration
+	 * scope that are persistable themselves.
+	 */
+	private static boolean isPersistable(String expression, @Nullable Class<?> declarationScope, Set<String> visited) {
+		int pos = 0;
+		while (pos < expression.length()) {
+			int start = pos;
+			while (pos < expression.length() && isNameChar(expression.charAt(pos))) {
+				pos++;
+			}
+			if (pos == start) {
+				pos++;
+				continue;
+			}
+			String name = expression.substring(start, pos);
+			while (pos < expression.length() && Character.isWhitespace(expression.charAt(pos))) {
+				pos++;
+			}
+			if (pos < expression.length() && expression.charAt(pos) == '(') {
+				if (!DESIGNATORS.contains(name) &&
+						!isPersistableReference(name, declarationScope, visited)) {
+					return false;
+				}
+				// Skip the designator arguments
+				int depth = 0;
+				do {
+					char ch = expression.charAt(pos++);
+					if (ch == '(') {
+						depth++;
+					}
+					else if (ch == ')') {
+						depth--;
+					}
+				}
+				while (depth > 0 && pos < expression.length());
+			}
+		}
+		return true;
+	}
+
+	private static boolean isPersistableReference(String name, @Nullable Class<?> declarationScope,
+			Set<String> visited) {
+
+		if (declarationScope == null || name.indexOf('.') != -1 || name.startsWith("@")) {
+			return false;
+		}
+		if (!visited.add(name)) {
+			return true;
+		}
+		for (Class<?> current = declarationScope; current != null; current = current.getSuperclass()) {
+			for (Method method : current.getDeclaredMethods()) {
+				if (method.getName().equals(name)) {
+					Pointcut pointcut = method.getAnnotation(Pointcut.class);
+					return (pointcut != null && isPersistable(pointcut.value(), declarationScope, visited));
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean isNameChar(char ch) {
+		return (Character.isJavaIdentifierPart(ch) || ch == '.' || ch == '@');
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported", ex);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+}
@@ -17,12 +17,14 @@
 package org.springframework.aop.aspectj;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.aspectj.weaver.tools.ShadowMatch;
 
 import org.springframework.aop.support.ExpressionPointcut;
+import org.springframework.core.SpringProperties;
 import org.springframework.lang.Nullable;
 
 /**
@@ -33,8 +35,30 @@ import org.springframework.lang.Nullable;
  */
 public abstract class ShadowMatchUtils {
 
+	/**
+	 * System property that specifies a file for persisting negative shadow
+	 * matches across restarts, e.g. {@code "build/aop-shadow-matches.cache"}.
+	 * <p>When set, AspectJ expression pointcuts skip the evaluation of methods
+	 * that are known from a previous run not to match, as long as the bytecode
+	 * of the classes involved is unchanged. The file gets written when all
+	 * singletons have been instantiated and on shutdown.
+	 * <p>By default, shadow matches are only cached in memory.
+	 * @see #storeCache()
+	 */
+	public static final String CACHE_FILE_PROPERTY_NAME = "spring.aop.shadowmatch.cache.file";
+
 	private static final Map<Key, ShadowMatch> shadowMatchCache = new ConcurrentHashMap<>(256);
 
+	@Nullable
+	private static final PersistentShadowMatchCache persistentCache = createPersistentCache();
+
+
+	@Nullable
+	private static PersistentShadowMatchCache createPersistentCache() {
+		String location = SpringProperties.getProperty(CACHE_FILE_PROPERTY_NAME);
+		return (location != null ? new PersistentShadowMatchCache(Path.of(location)) : null);
+	}
+
 	/**
 	 * Clear the cache of computed {@link ShadowMatch} instances.
 	 */
@@ -42,6 +66,24 @@ public abstract class ShadowMatchUtils {
 		shadowMatchCache.clear();
 	}
 
+	/**
+	 * Store the negative shadow matches that have been computed so far to the
+	 * file specified through {@link #CACHE_FILE_PROPERTY_NAME}, if any.
+	 */
+	public static void storeCache() {
+		if (persistentCache != null) {
+			persistentCache.store();
+		}
+	}
+
+	/**
+	 * Return the persistent cache of negative shadow matches, if configured.
+	 */
+	@Nullable
+	static PersistentShadowMatchCache getPersistentCache() {
+		return persistentCache;
+	}
+
 	/**
 	 * Return the {@link ShadowMatch} for the specified {@link ExpressionPointcut}
 	 * and {@link Method} or {@code null} if none is found.
@@ -114,11 +114,13 @@ public class AspectJAwareAdvisorAutoProxyCreator extends AbstractAdvisorAutoProx
 
 	@Override
 	public void afterSingletonsInstantiated() {
+		ShadowMatchUtils.storeCache();
 		ShadowMatchUtils.clearCache();
 	}
 
 	@Override
 	public void destroy() {
+		ShadowMatchUtils.storeCache();
 		ShadowMatchUtils.clearCache();
 	}
 
@@ -114,6 +114,15 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 	@Nullable
 	private transient volatile List<Object> cachedInterceptors;
 
+	/**
+	 * Cache with Method as key and precomputed chain as value,
+	 * used while this configuration is frozen.
+	 * @since 6.2
+	 * @see #getFrozenAdviceChain
+	 */
+	@Nullable
+	private transient volatile Map<Method, FrozenAdviceChain> frozenAdviceChains;
+
 	/**
 	 * Optional field for {@link AopProxy} implementations to store metadata in.
 	 * Used by {@link JdkDynamicAopProxy}.
@@ -511,12 +520,40 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 		return cachedInterceptors;
 	}
 
+	/**
+	 * Return the precomputed interceptor chain for the given method, determined
+	 * once per method as long as this configuration is frozen. Discarded along
+	 * with the other caches when the advice changes.
+	 * @param method the proxied method
+	 * @param targetClass the target class
+	 * @return the chain, or {@code null} if this configuration is not frozen
+	 * @since 6.2
+	 */
+	@Nullable
+	FrozenAdviceChain getFrozenAdviceChain(Method method, @Nullable Class<?> targetClass) {
+		if (!isFrozen()) {
+			return null;
+		}
+		Map<Method, FrozenAdviceChain> chains = this.frozenAdviceChains;
+		if (chains == null) {
+			chains = new ConcurrentHashMap<>();
+			this.frozenAdviceChains = chains;
+		}
+		FrozenAdviceChain chain = chains.get(method);
+		if (chain == null) {
+			chain = chains.computeIfAbsent(method, key -> new FrozenAdviceChain(
+					getInterceptorsAndDynamicInterceptionAdvice(key, targetClass)));
+		}
+		return chain;
+	}
+
 	/**
 	 * Invoked when advice has changed.
 	 */
 	protected void adviceChanged() {
 		this.methodCache = null;
 		this.cachedInterceptors = null;
+		this.frozenAdviceChains = null;
 		this.proxyMetadataCache = null;
 
 		// Initialize method cache if necessary; otherwise,
@@ -578,6 +615,7 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 		}
 		copy.methodCache = this.methodCache;
 		copy.cachedInterceptors = this.cachedInterceptors;
+		copy.frozenAdviceChains = this.frozenAdviceChains;
 		copy.proxyMetadataCache = this.proxyMetadataCache;
 		return copy;
 	}
@@ -586,6 +624,7 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
 		this.advisors = this.advisorKey;
 		this.methodCache = null;
 		this.cachedInterceptors = null;
+		this.frozenAdviceChains = null;
 		this.proxyMetadataCache = null;
 	}
 
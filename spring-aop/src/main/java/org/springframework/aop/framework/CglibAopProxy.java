@@ -650,7 +650,7 @@ class CglibAopProxy implements AopProxy, Serializable {
 	 */
 	private static class FixedChainStaticTargetInterceptor implements MethodInterceptor, Serializable {
 
-		private final List<Object> adviceChain;
+		private final FrozenAdviceChain adviceChain;
 
 		@Nullable
 		private final Object target;
@@ -661,7 +661,7 @@ class CglibAopProxy implements AopProxy, Serializable {
 		public FixedChainStaticTargetInterceptor(
 				List<Object> adviceChain, @Nullable Object target, @Nullable Class<?> targetClass) {
 
-			this.adviceChain = adviceChain;
+			this.adviceChain = new FrozenAdviceChain(adviceChain);
 			this.target = target;
 			this.targetClass = targetClass;
 		}
@@ -669,10 +669,17 @@ class CglibAopProxy implements AopProxy, Serializable {
 		@Override
 		@Nullable
 		public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
-			MethodInvocation invocation = new CglibMethodInvocation(
-					proxy, this.target, method, args, this.targetClass, this.adviceChain, methodProxy);
-			// If we get here, we need to create a MethodInvocation.
-			Object retVal = invocation.proceed();
+			Object retVal;
+			if (this.adviceChain.isStraightLine()) {
+				// Only before and after-returning advice: no need for a MethodInvocation.
+				retVal = this.adviceChain.invoke(this.target, method, args);
+			}
+			else {
+				MethodInvocation invocation = new CglibMethodInvocation(proxy, this.target, method, args,
+						this.targetClass, this.adviceChain.getInterceptors(), methodProxy);
+				// If we get here, we need to create a MethodInvocation.
+				retVal = invocation.proceed();
+			}
 			retVal = processReturnType(proxy, this.target, method, args, retVal);
 			return retVal;
 		}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.aop.AfterReturningAdvice;
+import org.springframework.aop.MethodBeforeAdvice;
+import org.springframework.aop.framework.adapter.AfterReturningAdviceInterceptor;
+import org.springframework.aop.framework.adapter.MethodBeforeAdviceInterceptor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * Interceptor chain for a method of a proxy with a frozen configuration,
+ * determined once per method rather than on every invocation.
+ *
+ * <p>If the chain only consists of {@link MethodBeforeAdvice} and
+ * {@link AfterReturningAdvice}, it can be {@linkplain #invoke invoked} in a
+ * straight line: all before advice in order, then the target method, then all
+ * after-returning advice in reverse order, just like the equivalent chain of
+ * interceptors would but without creating a
+ * {@link org.aopalliance.intercept.MethodInvocation}.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see ProxyConfig#isFrozen()
+ */
+@SuppressWarnings("serial")
+final class FrozenAdviceChain implements Serializable {
+
+	private static final MethodBeforeAdvice[] NO_BEFORE_ADVICE = new MethodBeforeAdvice[0];
+
+	private static final AfterReturningAdvice[] NO_AFTER_RETURNING_ADVICE = new AfterReturningAdvice[0];
+
+
+	private final List<Object> interceptors;
+
+	@Nullable
+	private final MethodBeforeAdvice[] beforeAdvice;
+
+	@Nullable
+	private final AfterReturningAdvice[] afterReturningAdvice;
+
+
+	/**
+	 * Create a new chain for the given interceptors.
+	 * @param interceptors the MethodInterceptors (and possibly
+	 * InterceptorAndDynamicMethodMatchers) for the method
+	 */
+	FrozenAdviceChain(List<Object> interceptors) {
+		this.interceptors = interceptors;
+		List<MethodBeforeAdvice> beforeAdvice = new ArrayList<>();
+		List<AfterReturningAdvice> afterReturningAdvice = new ArrayList<>();
+		boolean straightLine = !interceptors.isEmpty();
+		for (Object interceptor : interceptors) {
+			// Exact type checks: subclasses may have custom invoke implementations
+			if (interceptor.getClass() == MethodBeforeAdviceInterceptor.class) {
+				beforeAdvice.add(((MethodBeforeAdviceInterceptor) interceptor).getAdvice());
+			}
+			else if (interceptor.getClass() == AfterReturningAdviceInterceptor.class) {
+				afterReturningAdvice.add(0, ((AfterReturningAdviceInterceptor) interceptor).getAdvice());
+			}
+			else {
+				straightLine = false;
+				break;
+			}
+		}
+		this.beforeAdvice = (straightLine ? beforeAdvice.toArray(NO_BEFORE_ADVICE) : null);
+		this.afterReturningAdvice = (straightLine ? afterReturningAdvice.toArray(NO_AFTER_RETURNING_ADVICE) : null);
+	}
+
+
+	/**
+	 * Return the MethodInterceptors (and possibly InterceptorAndDynamicMethodMatchers)
+	 * for the method.
+	 */
+	List<Object> getInterceptors() {
+		return this.interceptors;
+	}
+
+	/**
+	 * Return whether this chain can be {@linkplain #invoke invoked} in a straight
+	 * line, i.e. whether it only consists of before and after-returning advice.
+	 */
+	boolean isStraightLine() {
+		return (this.beforeAdvice != null);
+	}
+
+	/**
+	 * Invoke the advice and the target method in a straight line.
+	 * @param target the target object
+	 * @param method the method to invoke
+	 * @param args the arguments for the method
+	 * @return the invocation result, if any
+	 * @throws Throwable if thrown by the advice or the target method
+	 * @see #isStraightLine()
+	 */
+	@Nullable
+	Object invoke(@Nullable Object target, Method method, Object[] args) throws Throwable {
+		if (this.beforeAdvice == null || this.afterReturningAdvice == null) {
+			throw new IllegalStateException("Not a straight-line advice chain: " + this.interceptors);
+		}
+		Object[] arguments = AopProxyUtils.adaptArgumentsIfNecessary(method, args);
+		for (MethodBeforeAdvice advice : this.beforeAdvice) {
+			advice.before(method, arguments, target);
+		}
+		Object retVal = AopUtils.invokeJoinpointUsingReflection(target, method, arguments);
+		for (AfterReturningAdvice advice : this.afterReturningAdvice) {
+			advice.afterReturning(retVal, method, arguments, target);
+		}
+		return retVal;
+	}
+
+}
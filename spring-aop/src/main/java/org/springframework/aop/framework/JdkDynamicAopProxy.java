@@ -204,7 +204,9 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 			Class<?> targetClass = (target != null ? target.getClass() : null);
 
 			// Get the interception chain for this method.
-			List<Object> chain = this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
+			FrozenAdviceChain frozenChain = this.advised.getFrozenAdviceChain(method, targetClass);
+			List<Object> chain = (frozenChain != null ? frozenChain.getInterceptors() :
+					this.advised.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass));
 
 			// Check whether we have any advice. If we don't, we can fall back on direct
 			// reflective invocation of the target, and avoid creating a MethodInvocation.
@@ -215,6 +217,10 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 				Object[] argsToUse = AopProxyUtils.adaptArgumentsIfNecessary(method, args);
 				retVal = AopUtils.invokeJoinpointUsingReflection(target, method, argsToUse);
 			}
+			else if (frozenChain != null && frozenChain.isStraightLine()) {
+				// Only before and after-returning advice: no need for a MethodInvocation.
+				retVal = frozenChain.invoke(target, method, args);
+			}
 			else {
 				// We need to create a method invocation...
 				MethodInvocation invocation =
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,6 +51,14 @@ public class MethodBeforeAdviceInterceptor implements MethodInterceptor, BeforeA
 	}
 
 
+	/**
+	 * Return the wrapped MethodBeforeAdvice.
+	 * @since 6.2
+	 */
+	public MethodBeforeAdvice getAdvice() {
+		return this.advice;
+	}
+
 	@Override
 	@Nullable
 	public Object invoke(MethodInvocation mi) throws Throwable {
@@ -16,6 +16,7 @@
 
 package org.springframework.aop.framework.autoproxy;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.aop.Advisor;
@@ -25,6 +26,7 @@ import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -53,9 +55,26 @@ import org.springframework.util.Assert;
 @SuppressWarnings("serial")
 public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyCreator {
 
+	/**
+	 * System property that instructs Spring to ignore the advisor index, i.e.
+	 * to always check every candidate advisor against each bean class.
+	 * <p>By default, candidate advisors are indexed by cheap discriminators such
+	 * as the annotation types and package names that their pointcuts refer to,
+	 * so that each bean class only gets checked against plausible advisors.
+	 * @since 6.2
+	 */
+	public static final String IGNORE_ADVISOR_INDEX_PROPERTY_NAME = "spring.aop.advisorindex.ignore";
+
+	private static final boolean shouldIgnoreAdvisorIndex =
+			SpringProperties.getFlag(IGNORE_ADVISOR_INDEX_PROPERTY_NAME);
+
+
 	@Nullable
 	private BeanFactoryAdvisorRetrievalHelper advisorRetrievalHelper;
 
+	@Nullable
+	private transient volatile AdvisorIndex advisorIndex;
+
 
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) {
@@ -122,6 +141,9 @@ public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyC
 	/**
 	 * Search the given candidate Advisors to find all Advisors that
 	 * can apply to the specified bean.
+	 * <p>Only checks the candidate Advisors that may possibly apply to the
+	 * bean class according to the advisor index, unless ignored through
+	 * {@link #IGNORE_ADVISOR_INDEX_PROPERTY_NAME}.
 	 * @param candidateAdvisors the candidate Advisors
 	 * @param beanClass the target's bean class
 	 * @param beanName the target's bean name
@@ -131,15 +153,31 @@ public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyC
 	protected List<Advisor> findAdvisorsThatCanApply(
 			List<Advisor> candidateAdvisors, Class<?> beanClass, String beanName) {
 
+		List<Advisor> plausibleAdvisors = getPlausibleAdvisors(candidateAdvisors, beanClass);
+		if (plausibleAdvisors.isEmpty()) {
+			return new ArrayList<>();
+		}
 		ProxyCreationContext.setCurrentProxiedBeanName(beanName);
 		try {
-			return AopUtils.findAdvisorsThatCanApply(candidateAdvisors, beanClass);
+			return AopUtils.findAdvisorsThatCanApply(plausibleAdvisors, beanClass);
 		}
 		finally {
 			ProxyCreationContext.setCurrentProxiedBeanName(null);
 		}
 	}
 
+	private List<Advisor> getPlausibleAdvisors(List<Advisor> candidateAdvisors, Class<?> beanClass) {
+		if (shouldIgnoreAdvisorIndex || candidateAdvisors.isEmpty()) {
+			return candidateAdvisors;
+		}
+		AdvisorIndex advisorIndex = this.advisorIndex;
+		if (advisorIndex == null || !advisorIndex.isIndexFor(candidateAdvisors)) {
+			advisorIndex = new AdvisorIndex(candidateAdvisors);
+			this.advisorIndex = advisorIndex;
+		}
+		return advisorIndex.getPlausibleAdvisors(candidateAdvisors, beanClass);
+	}
+
 	/**
 	 * Return whether the Advisor bean with the given name is eligible
 	 * for proxying in the first place.
@@ -0,0 +1,529 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework.autoproxy;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.IntroductionAdvisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.PointcutAdvisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.aop.support.annotation.AnnotationMethodMatcher;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Index of candidate advisors by cheap discriminators, narrowing down the
+ * advisors that may possibly apply to a given bean class before their
+ * pointcuts get checked against every method of the class.
+ *
+ * <p>Discriminators are derived from {@link AnnotationClassFilter} and
+ * {@link AnnotationMethodMatcher} based pointcuts (the annotation type they
+ * look for) as well as from {@link AspectJExpressionPointcut} expressions:
+ * the annotation types referenced by {@code @annotation}, {@code @within}
+ * and {@code @target}, the type referenced by {@code target}, and the package
+ * and type name prefixes of {@code within} and {@code execution} type patterns.
+ * Only fully qualified type names (starting with a lower-case package name)
+ * are taken into account. A discriminator is only ever a necessary condition,
+ * so advisors without a known discriminator are always considered.
+ * The plausible advisors are cached per class.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see AbstractAdvisorAutoProxyCreator#findAdvisorsThatCanApply
+ */
+final class AdvisorIndex {
+
+	private static final boolean aspectjPresent = ClassUtils.isPresent(
+			"org.aspectj.weaver.tools.PointcutParser", AdvisorIndex.class.getClassLoader());
+
+
+	private final List<Advisor> advisors;
+
+	private final List<Discriminator> discriminators;
+
+	private final boolean indexed;
+
+	private final Map<Class<?>, List<Advisor>> plausibleAdvisorsCache = new ConcurrentHashMap<>(256);
+
+
+	/**
+	 * Create an index for the given candidate advisors.
+	 * @param advisors the candidate advisors, in order
+	 */
+	AdvisorIndex(List<Advisor> advisors) {
+		this.advisors = new ArrayList<>(advisors);
+		this.discriminators = new ArrayList<>(advisors.size());
+		boolean indexed = false;
+		for (Advisor advisor : advisors) {
+			Discriminator discriminator = discriminatorFor(advisor);
+			this.discriminators.add(discriminator);
+			indexed |= (discriminator != Discriminator.NONE);
+		}
+		this.indexed = indexed;
+	}
+
+
+	/**
+	 * Return whether this index was built for the given candidate advisors.
+	 */
+	boolean isIndexFor(List<Advisor> candidateAdvisors) {
+		if (candidateAdvisors.size() != this.advisors.size()) {
+			return false;
+		}
+		for (int i = 0; i < candidateAdvisors.size(); i++) {
+			if (candidateAdvisors.get(i) != this.advisors.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return the advisors that may possibly apply to the given class,
+	 * retaining the order of the given candidate advisors.
+	 * @param candidateAdvisors the candidate advisors this index was built for
+	 * @param clazz the bean class
+	 * @return the given candidate advisors as-is if none can be excluded,
+	 * or an unmodifiable subset otherwise
+	 */
+	List<Advisor> getPlausibleAdvisors(List<Advisor> candidateAdvisors, Class<?> clazz) {
+		if (!this.indexed) {
+			return candidateAdvisors;
+		}
+		List<Advisor> plausibleAdvisors = this.plausibleAdvisorsCache.get(clazz);
+		if (plausibleAdvisors == null) {
+			plausibleAdvisors = this.plausibleAdvisorsCache.computeIfAbsent(clazz, this::determinePlausibleAdvisors);
+		}
+		return (plausibleAdvisors.size() == candidateAdvisors.size() ? candidateAdvisors : plausibleAdvisors);
+	}
+
+	private List<Advisor> determinePlausibleAdvisors(Class<?> clazz) {
+		ClassFeatures features = new ClassFeatures(clazz);
+		List<Advisor> plausibleAdvisors = new ArrayList<>(this.advisors.size());
+		try {
+			for (int i = 0; i < this.advisors.size(); i++) {
+				if (this.discriminators.get(i).isPlausible(features)) {
+					plausibleAdvisors.add(this.advisors.get(i));
+				}
+			}
+		}
+		catch (LinkageError err) {
+			// Class not fully introspectable: leave it to the actual pointcut checks
+			return List.copyOf(this.advisors);
+		}
+		return List.copyOf(plausibleAdvisors);
+	}
+
+
+	private static Discriminator discriminatorFor(Advisor advisor) {
+		if (advisor instanceof IntroductionAdvisor || !(advisor instanceof PointcutAdvisor pointcutAdvisor)) {
+			return Discriminator.NONE;
+		}
+		Pointcut pointcut = pointcutAdvisor.getPointcut();
+		if (aspectjPresent && pointcut instanceof AspectJExpressionPointcut expressionPointcut) {
+			String expression = expressionPointcut.getExpression();
+			return (expression != null ? PointcutExpressionParser.parse(expression) : Discriminator.NONE);
+		}
+		List<Discriminator> discriminators = new ArrayList<>(2);
+		// Exact type checks: subclasses may have custom matching semantics
+		if (pointcut.getClassFilter().getClass() == AnnotationClassFilter.class) {
+			Class<? extends Annotation> annotationType =
+					((AnnotationClassFilter) pointcut.getClassFilter()).getAnnotationType();
+			discriminators.add(Discriminator.forAnnotationType(annotationType.getName()));
+		}
+		if (pointcut.getMethodMatcher().getClass() == AnnotationMethodMatcher.class) {
+			Class<? extends Annotation> annotationType =
+					((AnnotationMethodMatcher) pointcut.getMethodMatcher()).getAnnotationType();
+			discriminators.add(Discriminator.forAnnotationType(annotationType.getName()));
+		}
+		return Discriminator.allOf(discriminators);
+	}
+
+	/**
+	 * Normalize the given type name to its canonical form, as used in
+	 * AspectJ type patterns.
+	 */
+	static String normalizeTypeName(String typeName) {
+		return typeName.replace('$', '.');
+	}
+
+
+	/**
+	 * Necessary condition for an advisor to apply to a class.
+	 */
+	interface Discriminator {
+
+		Discriminator NONE = features -> true;
+
+		boolean isPlausible(ClassFeatures features);
+
+		static Discriminator forAnnotationType(String annotationTypeName) {
+			return new FeatureDiscriminator(Set.of(normalizeTypeName(annotationTypeName)), Set.of());
+		}
+
+		static Discriminator forTypeNamePrefix(String typeNamePrefix) {
+			return new FeatureDiscriminator(Set.of(), Set.of(normalizeTypeName(typeNamePrefix)));
+		}
+
+		static Discriminator allOf(List<Discriminator> discriminators) {
+			List<Discriminator> constraining = new ArrayList<>(discriminators.size());
+			for (Discriminator discriminator : discriminators) {
+				if (discriminator != NONE) {
+					constraining.add(discriminator);
+				}
+			}
+			if (constraining.isEmpty()) {
+				return NONE;
+			}
+			if (constraining.size() == 1) {
+				return constraining.get(0);
+			}
+			return features -> {
+				for (Discriminator discriminator : constraining) {
+					if (!discriminator.isPlausible(features)) {
+						return false;
+					}
+				}
+				return true;
+			};
+		}
+
+		static Discriminator anyOf(List<Discriminator> discriminators) {
+			if (discriminators.isEmpty() || discriminators.contains(NONE)) {
+				return NONE;
+			}
+			if (discriminators.size() == 1) {
+				return discriminators.get(0);
+			}
+			return features -> {
+				for (Discriminator discriminator : discriminators) {
+					if (discriminator.isPlausible(features)) {
+						return true;
+					}
+				}
+				return false;
+			};
+		}
+	}
+
+
+	/**
+	 * Discriminator requiring any of the given annotation types to be present
+	 * on the class hierarchy or any of its methods, or any of the types in the
+	 * class hierarchy to start with any of the given type name prefixes.
+	 */
+	private static final class FeatureDiscriminator implements Discriminator {
+
+		private final Set<String> annotationTypeNames;
+
+		private final Set<String> typeNamePrefixes;
+
+		FeatureDiscriminator(Set<String> annotationTypeNames, Set<String> typeNamePrefixes) {
+			this.annotationTypeNames = annotationTypeNames;
+			this.typeNamePrefixes = typeNamePrefixes;
+		}
+
+		@Override
+		public boolean isPlausible(ClassFeatures features) {
+			for (String typeNamePrefix : this.typeNamePrefixes) {
+				if (features.hasTypeNameWithPrefix(typeNamePrefix)) {
+					return true;
+				}
+			}
+			for (String annotationTypeName : this.annotationTypeNames) {
+				if (features.hasAnnotationType(annotationTypeName)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+
+	/**
+	 * Cheap features of a class, computed once per class and shared by
+	 * all discriminators: the names of the types in its hierarchy, and the
+	 * annotation types present on those types and their declared methods.
+	 */
+	static final class ClassFeatures {
+
+		private final Set<Class<?>> hierarchy = new LinkedHashSet<>();
+
+		private final List<String> typeNames = new ArrayList<>();
+
+		@Nullable
+		private Set<String> annotationTypeNames;
+
+		ClassFeatures(Class<?> clazz) {
+			Class<?> current = clazz;
+			while (current != null) {
+				this.hierarchy.add(current);
+				current = current.getSuperclass();
+			}
+			// Include the super-interfaces of implemented interfaces as well
+			for (Class<?> type : new ArrayList<>(this.hierarchy)) {
+				collectInterfaces(type, this.hierarchy);
+			}
+			for (Class<?> type : this.hierarchy) {
+				this.typeNames.add(normalizeTypeName(type.getName()));
+			}
+		}
+
+		private static void collectInterfaces(Class<?> type, Set<Class<?>> hierarchy) {
+			for (Class<?> ifc : type.getInterfaces()) {
+				if (hierarchy.add(ifc)) {
+					collectInterfaces(ifc, hierarchy);
+				}
+			}
+		}
+
+		boolean hasTypeNameWithPrefix(String prefix) {
+			for (String typeName : this.typeNames) {
+				if (typeName.startsWith(prefix)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		boolean hasAnnotationType(String annotationTypeName) {
+			Set<String> annotationTypeNames = this.annotationTypeNames;
+			if (annotationTypeNames == null) {
+				annotationTypeNames = new HashSet<>();
+				for (Class<?> type : this.hierarchy) {
+					collectAnnotationTypeNames(type, annotationTypeNames);
+					for (Method method : type.getDeclaredMethods()) {
+						collectAnnotationTypeNames(method, annotationTypeNames);
+					}
+				}
+				this.annotationTypeNames = annotationTypeNames;
+			}
+			return annotationTypeNames.contains(annotationTypeName);
+		}
+
+		private static void collectAnnotationTypeNames(AnnotatedElement element, Set<String> annotationTypeNames) {
+			Annotation[] annotations = element.getDeclaredAnnotations();
+			if (annotations.length == 0) {
+				return;
+			}
+			for (Annotation annotation : annotations) {
+				annotationTypeNames.add(normalizeTypeName(annotation.annotationType().getName()));
+			}
+			// Include meta-annotations and repeated annotations
+			MergedAnnotations.from(element).stream().forEach(annotation ->
+					annotationTypeNames.add(normalizeTypeName(annotation.getType().getName())));
+		}
+	}
+
+
+	/**
+	 * Minimal parser for AspectJ pointcut expressions, deriving a
+	 * {@link Discriminator} from well-known primitive pointcuts combined
+	 * through {@code &&}, {@code ||} and parentheses. Anything else, such as
+	 * negations or references to named pointcuts, does not constrain the
+	 * classes to match.
+	 */
+	private static final class PointcutExpressionParser {
+
+		private final String expression;
+
+		private int pos;
+
+		private PointcutExpressionParser(String expression) {
+			this.expression = expression;
+		}
+
+		static Discriminator parse(String expression) {
+			String expressionToUse = expression.replace(" and ", " && ").replace(" or ", " || ");
+			PointcutExpressionParser parser = new PointcutExpressionParser(expressionToUse);
+			try {
+				Discriminator discriminator = parser.parseOr();
+				parser.skipWhitespace();
+				return (parser.pos == expressionToUse.length() ? discriminator : Discriminator.NONE);
+			}
+			catch (IllegalArgumentException ex) {
+				return Discriminator.NONE;
+			}
+		}
+
+		private Discriminator parseOr() {
+			List<Discriminator> alternatives = new ArrayList<>();
+			alternatives.add(parseAnd());
+			while (consume("||")) {
+				alternatives.add(parseAnd());
+			}
+			return Discriminator.anyOf(alternatives);
+		}
+
+		private Discriminator parseAnd() {
+			List<Discriminator> conditions = new ArrayList<>();
+			conditions.add(parseUnary());
+			while (consume("&&")) {
+				conditions.add(parseUnary());
+			}
+			return Discriminator.allOf(conditions);
+		}
+
+		private Discriminator parseUnary() {
+			if (consume("!") || consume("not ")) {
+				// A negation cannot narrow down the classes to match
+				parseUnary();
+				return Discriminator.NONE;
+			}
+			if (consume("(")) {
+				Discriminator discriminator = parseOr();
+				if (!consume(")")) {
+					throw new IllegalArgumentException("Unbalanced parentheses");
+				}
+				return discriminator;
+			}
+			return parsePrimitive();
+		}
+
+		private Discriminator parsePrimitive() {
+			skipWhitespace();
+			int start = this.pos;
+			while (this.pos < this.expression.length() && this.expression.charAt(this.pos) != '(' &&
+					!Character.isWhitespace(this.expression.charAt(this.pos))) {
+				this.pos++;
+			}
+			String designator = this.expression.substring(start, this.pos);
+			if (designator.isEmpty() || !consume("(")) {
+				throw new IllegalArgumentException("Expected pointcut designator");
+			}
+			int argumentStart = this.pos;
+			int depth = 1;
+			while (depth > 0) {
+				if (this.pos >= this.expression.length()) {
+					throw new IllegalArgumentException("Unbalanced parentheses");
+				}
+				char ch = this.expression.charAt(this.pos++);
+				if (ch == '(') {
+					depth++;
+				}
+				else if (ch == ')') {
+					depth--;
+				}
+			}
+			String argument = this.expression.substring(argumentStart, this.pos - 1).trim();
+			return switch (designator) {
+				case "within" -> typeNamePrefix(argument);
+				case "execution" -> typeNamePrefix(declaringTypePattern(argument));
+				case "target" -> typeNamePrefix(isQualifiedName(argument) ? argument : null);
+				case "@annotation", "@within", "@target" -> (isQualifiedName(argument) ?
+						Discriminator.forAnnotationType(argument) : Discriminator.NONE);
+				default -> Discriminator.NONE;
+			};
+		}
+
+		private boolean consume(String token) {
+			skipWhitespace();
+			if (this.expression.startsWith(token, this.pos)) {
+				this.pos += token.length();
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (this.pos < this.expression.length() && Character.isWhitespace(this.expression.charAt(this.pos))) {
+				this.pos++;
+			}
+		}
+
+		/**
+		 * Extract the declaring type pattern from an execution pattern such as
+		 * {@code "* com.example..*.*(..)"}, if any.
+		 */
+		@Nullable
+		private static String declaringTypePattern(String executionPattern) {
+			int paramsStart = executionPattern.indexOf('(');
+			if (paramsStart == -1 || executionPattern.indexOf('@') != -1) {
+				return null;
+			}
+			String head = executionPattern.substring(0, paramsStart).trim();
+			String methodPattern = head.substring(head.lastIndexOf(' ') + 1);
+			int nameStart = methodPattern.lastIndexOf('.');
+			return (nameStart > 0 ? methodPattern.substring(0, nameStart + 1) : null);
+		}
+
+		/**
+		 * Derive a discriminator from the literal prefix of the given type pattern,
+		 * e.g. {@code "com.example."} from {@code "com.example..*"}.
+		 */
+		private static Discriminator typeNamePrefix(@Nullable String typePattern) {
+			if (typePattern == null || typePattern.isEmpty()) {
+				return Discriminator.NONE;
+			}
+			for (int i = 0; i < typePattern.length(); i++) {
+				char ch = typePattern.charAt(i);
+				if (!Character.isJavaIdentifierPart(ch) && ch != '.' && ch != '*' && ch != '+') {
+					return Discriminator.NONE;
+				}
+			}
+			String pattern = (typePattern.endsWith("+") ? typePattern.substring(0, typePattern.length() - 1) :
+					typePattern);
+			int wildcard = pattern.indexOf('*');
+			int subpackages = pattern.indexOf("..");
+			String prefix;
+			if (subpackages != -1 && (wildcard == -1 || subpackages < wildcard)) {
+				prefix = pattern.substring(0, subpackages + 1);
+			}
+			else if (wildcard != -1) {
+				prefix = pattern.substring(0, wildcard);
+			}
+			else {
+				// Trailing dot left over from the method name of an execution pattern
+				prefix = (pattern.endsWith(".") ? pattern.substring(0, pattern.length() - 1) : pattern);
+			}
+			String packagePrefix = (prefix.endsWith(".") ? prefix.substring(0, prefix.length() - 1) : prefix);
+			if (packagePrefix.isEmpty() || !Character.isLowerCase(packagePrefix.charAt(0)) ||
+					(!prefix.endsWith(".") && !isQualifiedName(prefix)) || prefix.indexOf('+') != -1) {
+				return Discriminator.NONE;
+			}
+			return Discriminator.forTypeNamePrefix(prefix);
+		}
+
+		private static boolean isQualifiedName(String name) {
+			// Simple names and nested type names may be resolved against imports
+			if (name.indexOf('.') <= 0 || !Character.isLowerCase(name.charAt(0))) {
+				return false;
+			}
+			for (int i = 0; i < name.length(); i++) {
+				char ch = name.charAt(i);
+				if (!Character.isJavaIdentifierPart(ch) && ch != '.') {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+}
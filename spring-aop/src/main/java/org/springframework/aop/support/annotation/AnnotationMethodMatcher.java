@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -67,6 +67,13 @@ public class AnnotationMethodMatcher extends StaticMethodMatcher {
 	}
 
 
+	/**
+	 * Return the annotation type to look for.
+	 * @since 6.2
+	 */
+	public Class<? extends Annotation> getAnnotationType() {
+		return this.annotationType;
+	}
 
 	@Override
 	public boolean matches(Method method, Class<?> targetClass) {
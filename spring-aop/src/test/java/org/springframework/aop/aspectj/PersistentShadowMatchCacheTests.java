@@ -0,0 +1,307 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.aspectj;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.beans.testfixture.beans.ITestBean;
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.OverridingClassLoader;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentShadowMatchCache}.
+ */
+class PersistentShadowMatchCacheTests {
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void neverMatchSurvivesRestart() throws Exception {
+		Path location = this.tempDir.resolve("cache/shadow-matches");
+		Method targetMethod = TestBean.class.getMethod("getAge");
+		Method originalMethod = ITestBean.class.getMethod("getAge");
+
+		PersistentShadowMatchCache cache = new PersistentShadowMatchCache(location);
+		String key = cache.getPointcutKey("execution(* com.example..*(..))", null, new String[0], new Class<?>[0]);
+		assertThat(key).isNotNull();
+		assertThat(cache.isNeverMatch(key, targetMethod, originalMethod)).isFalse();
+		cache.addNeverMatch(key, targetMethod, originalMethod);
+		assertThat(cache.isNeverMatch(key, targetMethod, originalMethod)).isTrue();
+		cache.store();
+		assertThat(location).isRegularFile();
+
+		PersistentShadowMatchCache restarted = new PersistentShadowMatchCache(location);
+		assertThat(restarted.isNeverMatch(key, targetMethod, originalMethod)).isTrue();
+		assertThat(restarted.isNeverMatch(key, targetMethod, targetMethod)).isFalse();
+		String otherKey = restarted.getPointcutKey("execution(* org.example..*(..))", null,
+				new String[0], new Class<?>[0]);
+		assertThat(otherKey).isNotNull();
+		assertThat(restarted.isNeverMatch(otherKey, targetMethod, originalMethod)).isFalse();
+	}
+
+	@Test
+	void storeDropsEntriesNotUsedSinceLoading() throws Exception {
+		Path location = this.tempDir.resolve("shadow-matches");
+		Method getAge = TestBean.class.getMethod("getAge");
+		Method getName = TestBean.class.getMethod("getName");
+
+		PersistentShadowMatchCache cache = new PersistentShadowMatchCache(location);
+		String key = cache.getPointcutKey("within(com.example..*)", null, new String[0], new Class<?>[0]);
+		assertThat(key).isNotNull();
+		cache.addNeverMatch(key, getAge, getAge);
+		cache.store();
+
+		PersistentShadowMatchCache restarted = new PersistentShadowMatchCache(location);
+		restarted.addNeverMatch(key, getName, getName);
+		restarted.store();
+
+		PersistentShadowMatchCache restartedAgain = new PersistentShadowMatchCache(location);
+		assertThat(restartedAgain.size()).isEqualTo(1);
+		assertThat(restartedAgain.isNeverMatch(key, getName, getName)).isTrue();
+		assertThat(restartedAgain.isNeverMatch(key, getAge, getAge)).isFalse();
+	}
+
+	@Test
+	void outdatedFileIgnored() throws Exception {
+		Path location = this.tempDir.resolve("shadow-matches");
+		Files.write(location, List.of("# Spring AOP shadow match cache v0", "0123456789abcdef"));
+
+		assertThat(new PersistentShadowMatchCache(location).size()).isZero();
+	}
+
+	@Test
+	void generatedClassesNotPersisted() throws Exception {
+		PersistentShadowMatchCache cache = new PersistentShadowMatchCache(this.tempDir.resolve("shadow-matches"));
+		String key = cache.getPointcutKey("within(com.example..*)", null, new String[0], new Class<?>[0]);
+		assertThat(key).isNotNull();
+		Runnable runnable = () -> {};
+		Method method = runnable.getClass().getMethod("run");
+
+		cache.addNeverMatch(key, method, method);
+		assertThat(cache.isNeverMatch(key, method, method)).isFalse();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void neverMatchInvalidatedByChangedParameterType() throws Exception {
+		Path location = this.tempDir.resolve("shadow-matches");
+		String handler = SampleHandler.class.getName();
+		String argument = SampleArgument.class.getName();
+
+		PersistentShadowMatchCache cache = new PersistentShadowMatchCache(location);
+		String key = cache.getPointcutKey("args(java.io.Serializable)", null, new String[0], new Class<?>[0]);
+		assertThat(key).isNotNull();
+		Method method = handleMethod(new ResourceReplacingClassLoader(Set.of(handler, argument), argument, argument));
+		cache.addNeverMatch(key, method, method);
+		cache.store();
+
+		PersistentShadowMatchCache restarted = new PersistentShadowMatchCache(location);
+		assertThat(restarted.isNeverMatch(key, method, method)).isTrue();
+		Method changed = handleMethod(new ResourceReplacingClassLoader(Set.of(handler, argument), argument,
+				SerializableSampleArgument.class.getName()));
+		assertThat(restarted.isNeverMatch(key, changed, changed)).isFalse();
+	}
+
+	@Test
+	void neverMatchInvalidatedByChangedInheritedSuperInterface() throws Exception {
+		Path location = this.tempDir.resolve("shadow-matches");
+		String handler = ContractHandler.class.getName();
+		String argument = ContractArgument.class.getName();
+		String baseContract = BaseContract.class.getName();
+		Set<String> classNames = Set.of(handler, argument, ExtendedContract.class.getName(), baseContract);
+
+		PersistentShadowMatchCache cache = new PersistentShadowMatchCache(location);
+		String key = cache.getPointcutKey("args(java.io.Serializable)", null, new String[0], new Class<?>[0]);
+		assertThat(key).isNotNull();
+		Method method = contractHandleMethod(new ResourceReplacingClassLoader(classNames, baseContract, baseContract));
+		cache.addNeverMatch(key, method, method);
+		cache.store();
+
+		PersistentShadowMatchCache restarted = new PersistentShadowMatchCache(location);
+		assertThat(restarted.isNeverMatch(key, method, method)).isTrue();
+		Method changed = contractHandleMethod(new ResourceReplacingClassLoader(classNames, baseContract,
+				SerializableBaseContract.class.getName()));
+		assertThat(restarted.isNeverMatch(key, changed, changed)).isFalse();
+	}
+
+	@Test
+	void parameterTypesWithoutBytecodeNotPersisted() throws Exception {
+		PersistentShadowMatchCache cache = new PersistentShadowMatchCache(this.tempDir.resolve("shadow-matches"));
+		String key = cache.getPointcutKey("args(java.io.Serializable)", null, new String[0], new Class<?>[0]);
+		assertThat(key).isNotNull();
+		String argument = SampleArgument.class.getName();
+		Method method = handleMethod(new ResourceReplacingClassLoader(
+				Set.of(SampleHandler.class.getName(), argument), argument, null));
+
+		cache.addNeverMatch(key, method, method);
+		assertThat(cache.isNeverMatch(key, method, method)).isFalse();
+		assertThat(cache.size()).isZero();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"execution(* com.example..*(..))",
+		"serviceLayer() && args(name)",
+		"!serviceLayer() or @annotation(com.example.Audited)"
+	})
+	void persistablePointcuts(String expression) {
+		PersistentShadowMatchCache cache = new PersistentShadowMatchCache(this.tempDir.resolve("shadow-matches"));
+
+		assertThat(cache.getPointcutKey(expression, SampleAspect.class,
+				new String[] {"name"}, new Class<?>[] {String.class})).isNotNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"bean(testBean)",
+		"execution(* *(..)) && !bean(*Service)",
+		"com.example.SystemArchitecture.businessService()",
+		"externalReference()",
+		"undefined()"
+	})
+	void nonPersistablePointcuts(String expression) {
+		PersistentShadowMatchCache cache = new PersistentShadowMatchCache(this.tempDir.resolve("shadow-matches"));
+
+		assertThat(cache.getPointcutKey(expression, SampleAspect.class, new String[0], new Class<?>[0])).isNull();
+	}
+
+
+	private static Method handleMethod(ClassLoader classLoader) throws Exception {
+		Class<?> handlerClass = classLoader.loadClass(SampleHandler.class.getName());
+		return handlerClass.getMethod("handle", classLoader.loadClass(SampleArgument.class.getName()));
+	}
+
+	private static Method contractHandleMethod(ClassLoader classLoader) throws Exception {
+		Class<?> handlerClass = classLoader.loadClass(ContractHandler.class.getName());
+		return handlerClass.getMethod("handle", classLoader.loadClass(ContractArgument.class.getName()));
+	}
+
+
+	@Aspect
+	static class SampleAspect {
+
+		@Pointcut("execution(* com.example.service..*(..))")
+		void serviceLayer() {
+		}
+
+		@Pointcut("serviceLayer() && com.example.SystemArchitecture.businessService()")
+		void externalReference() {
+		}
+	}
+
+
+	public static class SampleHandler {
+
+		public void handle(SampleArgument argument) {
+		}
+	}
+
+
+	public static class SampleArgument {
+	}
+
+
+	public static class SerializableSampleArgument implements Serializable {
+	}
+
+
+	public static class ContractHandler {
+
+		public void handle(ContractArgument argument) {
+		}
+	}
+
+
+	public interface BaseContract {
+	}
+
+
+	public interface SerializableBaseContract extends Serializable {
+	}
+
+
+	public interface ExtendedContract extends BaseContract {
+	}
+
+
+	public static class ContractArgument implements ExtendedContract {
+	}
+
+
+	/**
+	 * ClassLoader that defines the given classes itself and exposes different
+	 * bytecode for one of them as a resource, simulating a changed type after
+	 * a restart.
+	 */
+	private static class ResourceReplacingClassLoader extends OverridingClassLoader {
+
+		private final Set<String> classNames;
+
+		private final String replacedClassName;
+
+		@Nullable
+		private final String replacementClassName;
+
+		ResourceReplacingClassLoader(Set<String> classNames, String replacedClassName,
+				@Nullable String replacementClassName) {
+
+			super(PersistentShadowMatchCacheTests.class.getClassLoader());
+			this.classNames = classNames;
+			this.replacedClassName = replacedClassName;
+			this.replacementClassName = replacementClassName;
+		}
+
+		@Override
+		protected boolean isEligibleForOverriding(String className) {
+			return this.classNames.contains(className);
+		}
+
+		@Override
+		@Nullable
+		public InputStream getResourceAsStream(String name) {
+			if (name.equals(toResourceName(this.replacedClassName))) {
+				return (this.replacementClassName != null ?
+						getParent().getResourceAsStream(toResourceName(this.replacementClassName)) : null);
+			}
+			return super.getResourceAsStream(name);
+		}
+
+		private static String toResourceName(String className) {
+			return ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+		}
+	}
+
+}
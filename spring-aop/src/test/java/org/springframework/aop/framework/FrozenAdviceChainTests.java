@@ -0,0 +1,127 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.aopalliance.aop.Advice;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.aop.AfterReturningAdvice;
+import org.springframework.aop.MethodBeforeAdvice;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.testfixture.interceptor.NopInterceptor;
+import org.springframework.beans.testfixture.beans.ITestBean;
+import org.springframework.beans.testfixture.beans.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link FrozenAdviceChain} as used by JDK and CGLIB proxies
+ * with a frozen configuration.
+ */
+class FrozenAdviceChainTests {
+
+	private final List<String> calls = new ArrayList<>();
+
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	void invokeBeforeAndAfterReturningAdviceInStraightLine(boolean proxyTargetClass) {
+		ITestBean proxy = createProxy(proxyTargetClass, recordingBeforeAdvice("before1"),
+				recordingAfterReturningAdvice("after1"), recordingBeforeAdvice("before2"),
+				recordingAfterReturningAdvice("after2"));
+
+		assertThat(proxy.getAge()).isEqualTo(42);
+		assertThat(this.calls).containsExactly("before1 getAge", "before2 getAge", "after2 42", "after1 42");
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	void doNotInvokeAfterReturningAdviceOnException(boolean proxyTargetClass) {
+		ITestBean proxy = createProxy(proxyTargetClass, recordingBeforeAdvice("before"),
+				recordingAfterReturningAdvice("after"));
+
+		assertThatIllegalStateException().isThrownBy(() -> proxy.exceptional(new IllegalStateException()));
+		assertThat(this.calls).containsExactly("before exceptional");
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	void invokeMixedChainThroughMethodInvocation(boolean proxyTargetClass) {
+		NopInterceptor nop = new NopInterceptor();
+		ITestBean proxy = createProxy(proxyTargetClass, recordingBeforeAdvice("before"), nop,
+				recordingAfterReturningAdvice("after"));
+
+		assertThat(proxy.getAge()).isEqualTo(42);
+		assertThat(nop.getCount()).isEqualTo(1);
+		assertThat(this.calls).containsExactly("before getAge", "after 42");
+	}
+
+	@Test
+	void reflectAdviceAddedWhileUnfrozenForJdkProxy() {
+		ProxyFactory pf = new ProxyFactory(new TestBean("juergen", 42));
+		pf.addAdvice(recordingBeforeAdvice("before1"));
+		pf.setFrozen(true);
+		ITestBean proxy = (ITestBean) pf.getProxy();
+		assertThat(AopUtils.isJdkDynamicProxy(proxy)).isTrue();
+
+		assertThat(proxy.getAge()).isEqualTo(42);
+		assertThat(this.calls).containsExactly("before1 getAge");
+
+		this.calls.clear();
+		pf.setFrozen(false);
+		pf.addAdvice(recordingBeforeAdvice("before2"));
+		pf.setFrozen(true);
+		assertThat(proxy.getAge()).isEqualTo(42);
+		assertThat(this.calls).containsExactly("before1 getAge", "before2 getAge");
+	}
+
+	@Test
+	void returnProxyForTargetReturningItself() {
+		ITestBean proxy = createProxy(true, recordingBeforeAdvice("before"));
+
+		assertThat(proxy.returnsThis()).isSameAs(proxy);
+	}
+
+
+	private ITestBean createProxy(boolean proxyTargetClass, Advice... advice) {
+		TestBean target = new TestBean("juergen", 42);
+		ProxyFactory pf = new ProxyFactory(target);
+		pf.setProxyTargetClass(proxyTargetClass);
+		for (Advice element : advice) {
+			pf.addAdvice(element);
+		}
+		pf.setFrozen(true);
+		ITestBean proxy = (ITestBean) pf.getProxy();
+		assertThat(AopUtils.isCglibProxy(proxy)).isEqualTo(proxyTargetClass);
+		return proxy;
+	}
+
+	private MethodBeforeAdvice recordingBeforeAdvice(String name) {
+		return (method, args, target) -> this.calls.add(name + " " + method.getName());
+	}
+
+	private AfterReturningAdvice recordingAfterReturningAdvice(String name) {
+		return (returnValue, method, args, target) -> this.calls.add(name + " " + returnValue);
+	}
+
+}
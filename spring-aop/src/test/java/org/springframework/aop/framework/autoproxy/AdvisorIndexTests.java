@@ -0,0 +1,222 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework.autoproxy;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.aop.testfixture.interceptor.NopInterceptor;
+import org.springframework.beans.testfixture.beans.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AdvisorIndex}.
+ */
+class AdvisorIndexTests {
+
+	private static final String MARKER = "org.springframework.aop.framework.autoproxy.AdvisorIndexTests.Marker";
+
+
+	@Test
+	void withinExpressionExcludesClassesOutsideOfPackage() {
+		Advisor advisor = expressionAdvisor("within(org.springframework.beans.testfixture.beans..*)");
+		List<Advisor> advisors = List.of(advisor);
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		assertThat(index.getPlausibleAdvisors(advisors, TestBean.class)).containsExactly(advisor);
+		assertThat(index.getPlausibleAdvisors(advisors, PlainBean.class)).isEmpty();
+	}
+
+	@Test
+	void executionExpressionConsidersTypeHierarchy() {
+		Advisor advisor = expressionAdvisor(
+				"execution(* org.springframework.beans.testfixture.beans.ITestBean.getAge(..))");
+		List<Advisor> advisors = List.of(advisor);
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		assertThat(index.getPlausibleAdvisors(advisors, TestBean.class)).containsExactly(advisor);
+		assertThat(index.getPlausibleAdvisors(advisors, PlainBean.class)).isEmpty();
+	}
+
+	@Test
+	void executionExpressionConsidersInheritedSuperInterfaces() {
+		Advisor advisor = expressionAdvisor("execution(* " + BaseOperations.class.getCanonicalName() + ".doSomething(..))");
+		List<Advisor> advisors = List.of(advisor);
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		assertThat(index.getPlausibleAdvisors(advisors, ExtendedOperationsBean.class)).containsExactly(advisor);
+		assertThat(index.getPlausibleAdvisors(advisors, PlainBean.class)).isEmpty();
+	}
+
+	@Test
+	void withinExpressionWithNestedTypeName() {
+		Advisor advisor = expressionAdvisor("within(" + AnnotatedBean.class.getName() + ")");
+		List<Advisor> advisors = List.of(advisor);
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		assertThat(index.getPlausibleAdvisors(advisors, AnnotatedBean.class)).containsExactly(advisor);
+		assertThat(index.getPlausibleAdvisors(advisors, PlainBean.class)).isEmpty();
+	}
+
+	@Test
+	void annotationExpressionConsidersMethodAnnotations() {
+		Advisor advisor = expressionAdvisor("@annotation(" + MARKER + ")");
+		List<Advisor> advisors = List.of(advisor);
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		assertThat(index.getPlausibleAdvisors(advisors, AnnotatedMethodBean.class)).containsExactly(advisor);
+		assertThat(index.getPlausibleAdvisors(advisors, PlainBean.class)).isEmpty();
+	}
+
+	@Test
+	void combinedExpressions() {
+		Advisor either = expressionAdvisor(
+				"within(org.springframework.beans.testfixture.beans..*) || @within(" + MARKER + ")");
+		Advisor both = expressionAdvisor(
+				"within(org.springframework.aop..*) and (@within(" + MARKER + ") && execution(* *(..)))");
+		List<Advisor> advisors = List.of(either, both);
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		assertThat(index.getPlausibleAdvisors(advisors, TestBean.class)).containsExactly(either);
+		assertThat(index.getPlausibleAdvisors(advisors, AnnotatedBean.class)).containsExactly(either, both);
+		assertThat(index.getPlausibleAdvisors(advisors, PlainBean.class)).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"!within(org.springframework.beans..*)",
+		"bean(testBean)",
+		"execution(* *(..))",
+		"within(*..PlainBean)",
+		"within(AdvisorIndexTests.*)",
+		"@annotation(Marker)",
+		"this(org.springframework.beans.testfixture.beans.ITestBean)",
+		"within(org.springframework.beans..*) ||"
+	})
+	void unknownExpressionsRemainPlausible(String expression) {
+		List<Advisor> advisors = List.of(expressionAdvisor(expression));
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		assertThat(index.getPlausibleAdvisors(advisors, PlainBean.class)).isSameAs(advisors);
+	}
+
+	@Test
+	void annotationMatchingPointcut() {
+		Advisor classAdvisor = new DefaultPointcutAdvisor(
+				new AnnotationMatchingPointcut(Marker.class, true), new NopInterceptor());
+		Advisor methodAdvisor = new DefaultPointcutAdvisor(
+				AnnotationMatchingPointcut.forMethodAnnotation(Marker.class), new NopInterceptor());
+		List<Advisor> advisors = List.of(classAdvisor, methodAdvisor);
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		assertThat(index.getPlausibleAdvisors(advisors, AnnotatedBean.class)).containsExactly(classAdvisor);
+		assertThat(index.getPlausibleAdvisors(advisors, AnnotatedMethodBean.class)).containsExactly(methodAdvisor);
+		assertThat(index.getPlausibleAdvisors(advisors, PlainBean.class)).isEmpty();
+	}
+
+	@Test
+	void plausibleAdvisorsCachedPerClass() {
+		List<Advisor> advisors = List.of(expressionAdvisor("bean(testBean)"),
+				expressionAdvisor("within(org.springframework.beans.testfixture.beans..*)"));
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		List<Advisor> plausibleAdvisors = index.getPlausibleAdvisors(advisors, PlainBean.class);
+		assertThat(plausibleAdvisors).containsExactly(advisors.get(0));
+		assertThat(index.getPlausibleAdvisors(advisors, PlainBean.class)).isSameAs(plausibleAdvisors);
+		assertThat(index.getPlausibleAdvisors(advisors, TestBean.class)).isSameAs(advisors);
+	}
+
+	@Test
+	void isIndexFor() {
+		Advisor advisor = expressionAdvisor("within(org.springframework.beans..*)");
+		List<Advisor> advisors = new ArrayList<>(List.of(advisor));
+		AdvisorIndex index = new AdvisorIndex(advisors);
+
+		assertThat(index.isIndexFor(List.of(advisor))).isTrue();
+		advisors.add(expressionAdvisor("bean(testBean)"));
+		assertThat(index.isIndexFor(advisors)).isFalse();
+		assertThat(index.isIndexFor(List.of(expressionAdvisor("within(org.springframework.beans..*)")))).isFalse();
+	}
+
+
+	private static Advisor expressionAdvisor(String expression) {
+		AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+		pointcut.setExpression(expression);
+		return new DefaultPointcutAdvisor(pointcut, new NopInterceptor());
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.METHOD})
+	@interface Marker {
+	}
+
+
+	static class PlainBean {
+
+		public void doSomething() {
+		}
+	}
+
+
+	@Marker
+	static class AnnotatedBean {
+
+		public void doSomething() {
+		}
+	}
+
+
+	interface BaseOperations {
+
+		void doSomething();
+	}
+
+
+	interface ExtendedOperations extends BaseOperations {
+	}
+
+
+	static class ExtendedOperationsBean implements ExtendedOperations {
+
+		@Override
+		public void doSomething() {
+		}
+	}
+
+
+	static class AnnotatedMethodBean {
+
+		@Marker
+		public void doSomething() {
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import org.openjdk.jmh.annotations.State;
 
 import org.springframework.beans.propertyeditors.CustomNumberEditor;
 import org.springframework.beans.propertyeditors.StringTrimmerEditor;
+import org.springframework.core.SpringProperties;
 
 /**
  * Benchmark for {@link AbstractPropertyAccessor} use on beans.
@@ -38,7 +39,7 @@ public class AbstractPropertyAccessorBenchmark {
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
-		@Param({"DirectFieldAccessor", "BeanWrapper"})
+		@Param({"DirectFieldAccessor", "BeanWrapper", "BeanWrapperWithGeneratedAccessors"})
 		public String accessor;
 
 		@Param({"none", "stringTrimmer", "numberOnPath", "numberOnNestedPath", "numberOnType"})
@@ -54,6 +55,9 @@ public class AbstractPropertyAccessorBenchmark {
 		public void setup() {
 			this.target = new PrimitiveArrayBean();
 			this.input = new int[1024];
+			SpringProperties.setProperty(CachedIntrospectionResults.GENERATED_ACCESSORS_PROPERTY_NAME,
+					String.valueOf(this.accessor.equals("BeanWrapperWithGeneratedAccessors")));
+			CachedIntrospectionResults.clearClassLoader(getClass().getClassLoader());
 			if (this.accessor.equals("DirectFieldAccessor")) {
 				this.propertyAccessor = new DirectFieldAccessor(this.target);
 			}
@@ -80,6 +84,11 @@ public class AbstractPropertyAccessorBenchmark {
 		return state.target;
 	}
 
+	@Benchmark
+	public Object getPropertyValue(BenchmarkState state) {
+		return state.propertyAccessor.getPropertyValue("array");
+	}
+
 	@SuppressWarnings("unused")
 	private static class PrimitiveArrayBean {
 
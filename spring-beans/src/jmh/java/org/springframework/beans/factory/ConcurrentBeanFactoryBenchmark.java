@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,12 +22,15 @@ import java.util.Date;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.beans.propertyeditors.CustomDateEditor;
 
@@ -50,13 +53,7 @@ public class ConcurrentBeanFactoryBenchmark {
 
 		@Setup
 		public void setup() {
-			this.factory = new DefaultListableBeanFactory();
-			new XmlBeanDefinitionReader(this.factory).loadBeanDefinitions(
-					qualifiedResource(ConcurrentBeanFactoryBenchmark.class, "context.xml"));
-
-			this.factory.addPropertyEditorRegistrar(
-					registry -> registry.registerCustomEditor(Date.class,
-							new CustomDateEditor(new SimpleDateFormat("yyyy/MM/dd"), false)));
+			this.factory = createFactory();
 		}
 
 	}
@@ -67,6 +64,45 @@ public class ConcurrentBeanFactoryBenchmark {
 		bh.consume(state.factory.getBean("bean2"));
 	}
 
+	@State(Scope.Benchmark)
+	public static class LookupByTypeState {
+
+		@Param({"false", "true"})
+		public boolean frozen;
+
+		public DefaultListableBeanFactory factory;
+
+		@Setup
+		public void setup() {
+			this.factory = createFactory();
+			RootBeanDefinition bd = new RootBeanDefinition(ConcurrentBean.class);
+			bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			bd.setPrimary(true);
+			bd.getPropertyValues().add("date", "2024/01/01");
+			this.factory.registerBeanDefinition("primaryBean", bd);
+			if (this.frozen) {
+				this.factory.freezeConfiguration();
+			}
+		}
+	}
+
+	@Benchmark
+	public void concurrentBeanCreationByType(LookupByTypeState state, Blackhole bh) {
+		bh.consume(state.factory.getBean(ConcurrentBean.class));
+		bh.consume(state.factory.getBeanProvider(ConcurrentBean.class).getObject());
+	}
+
+	private static DefaultListableBeanFactory createFactory() {
+		DefaultListableBeanFactory factory = new DefaultListableBeanFactory();
+		new XmlBeanDefinitionReader(factory).loadBeanDefinitions(
+				qualifiedResource(ConcurrentBeanFactoryBenchmark.class, "context.xml"));
+
+		factory.addPropertyEditorRegistrar(
+				registry -> registry.registerCustomEditor(Date.class,
+						new CustomDateEditor(new SimpleDateFormat("yyyy/MM/dd"), false)));
+		return factory;
+	}
+
 
 	public static class ConcurrentBean {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -133,6 +133,37 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class PrototypeLookupByTypeState extends Shared {
+
+		@Param({"false", "true"})
+		public boolean frozen;
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < 10; i++) {
+				RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+				bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+				bd.setPrimary(i == 0);
+				this.beanFactory.registerBeanDefinition("test" + i, bd);
+			}
+			if (this.frozen) {
+				this.beanFactory.freezeConfiguration();
+			}
+		}
+	}
+
+	@Benchmark
+	public Object prototypeLookupByTypeWithPrimary(PrototypeLookupByTypeState state) {
+		return state.beanFactory.getBean(TestBean.class);
+	}
+
+	@Benchmark
+	public Object prototypeLookupByBeanProvider(PrototypeLookupByTypeState state) {
+		return state.beanFactory.getBeanProvider(TestBean.class).getObject();
+	}
+
 	static class A {
 	}
 
@@ -937,12 +937,25 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		}
 	}
 
+	/**
+	 * Obtain the property name tokens for the given property name.
+	 * <p>The default implementation parses the property name on every call.
+	 * Subclasses may cache parsed property names since the returned tokens
+	 * are not modified by the caller.
+	 * @param propertyName the property name to parse
+	 * @return representation of the parsed property tokens
+	 * @see #parsePropertyNameTokens(String)
+	 */
+	PropertyTokenHolder getPropertyNameTokens(String propertyName) {
+		return parsePropertyNameTokens(propertyName);
+	}
+
 	/**
 	 * Parse the given property name into the corresponding property name tokens.
 	 * @param propertyName the property name to parse
 	 * @return representation of the parsed property tokens
 	 */
-	private PropertyTokenHolder getPropertyNameTokens(String propertyName) {
+	static PropertyTokenHolder parsePropertyNameTokens(String propertyName) {
 		String actualName = null;
 		List<String> keys = new ArrayList<>(2);
 		int searchIndex = 0;
@@ -975,7 +988,7 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		return tokens;
 	}
 
-	private int getPropertyNameKeyEnd(String propertyName, int startIndex) {
+	private static int getPropertyNameKeyEnd(String propertyName, int startIndex) {
 		int unclosedPrefixes = 0;
 		int length = propertyName.length();
 		for (int i = startIndex; i < length; i++) {
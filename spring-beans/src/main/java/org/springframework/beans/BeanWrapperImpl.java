@@ -197,6 +197,12 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		return (pd != null ? new BeanPropertyHandler((GenericTypeAwarePropertyDescriptor) pd) : null);
 	}
 
+	@Override
+	PropertyTokenHolder getPropertyNameTokens(String propertyName) {
+		return getCachedIntrospectionResults().getPropertyTokens(
+				propertyName, AbstractNestablePropertyAccessor::parsePropertyNameTokens);
+	}
+
 	@Override
 	protected BeanWrapperImpl newNestedPropertyAccessor(Object object, String nestedPath) {
 		return new BeanWrapperImpl(object, nestedPath, this);
@@ -271,6 +277,10 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		public Object getValue() throws Exception {
 			Method readMethod = this.pd.getReadMethod();
 			Assert.state(readMethod != null, "No read method available");
+			GeneratedPropertyAccessor accessor = getCachedIntrospectionResults().getReadAccessor(readMethod);
+			if (accessor != null) {
+				return accessor.getValue(getWrappedInstance());
+			}
 			ReflectionUtils.makeAccessible(readMethod);
 			return readMethod.invoke(getWrappedInstance(), (Object[]) null);
 		}
@@ -278,6 +288,11 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		@Override
 		public void setValue(@Nullable Object value) throws Exception {
 			Method writeMethod = this.pd.getWriteMethodForActualAccess();
+			GeneratedPropertyAccessor accessor = getCachedIntrospectionResults().getWriteAccessor(writeMethod);
+			if (accessor != null && accessor.isAssignableValue(value)) {
+				accessor.setValue(getWrappedInstance(), value);
+				return;
+			}
 			ReflectionUtils.makeAccessible(writeMethod);
 			writeMethod.invoke(getWrappedInstance(), value);
 		}
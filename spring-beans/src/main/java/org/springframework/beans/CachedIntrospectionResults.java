@@ -30,10 +30,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.AbstractNestablePropertyAccessor.PropertyTokenHolder;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
@@ -66,6 +69,10 @@ import org.springframework.util.StringUtils;
  * For Spring 5.3 compatible extended introspection including non-void setter methods:
  * {@code org.springframework.beans.BeanInfoFactory=org.springframework.beans.ExtendedBeanInfoFactory}
  *
+ * <p>As of 6.2, generated accessors for read and write methods may be enabled through
+ * the {@link #GENERATED_ACCESSORS_PROPERTY_NAME "spring.beaninfo.generated-accessors"}
+ * property, avoiding reflective method invocation in {@link BeanWrapperImpl}.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @since 05 May 2001
@@ -75,6 +82,29 @@ import org.springframework.util.StringUtils;
  */
 public final class CachedIntrospectionResults {
 
+	/**
+	 * System property that instructs Spring to generate accessor classes for
+	 * the read and write methods of bean properties through
+	 * {@link java.lang.invoke.LambdaMetafactory}, avoiding reflective method
+	 * invocation in {@link BeanWrapperImpl}: "spring.beaninfo.generated-accessors".
+	 * Parsed property paths are cached along with the accessors then.
+	 * <p>The default is "false", using reflective invocation. Generated accessors
+	 * are only available for methods in classes that live in the same module
+	 * (in particular, in the same ClassLoader on the classpath) as Spring's
+	 * {@code spring-beans} module; reflective invocation is used otherwise.
+	 * <p>May alternatively be configured via a {@code spring.properties} file
+	 * in the root of the classpath.
+	 * @since 6.2
+	 * @see org.springframework.core.SpringProperties
+	 */
+	public static final String GENERATED_ACCESSORS_PROPERTY_NAME = "spring.beaninfo.generated-accessors";
+
+	/** Maximum number of parsed property paths to cache per bean class. */
+	private static final int PROPERTY_TOKENS_CACHE_LIMIT = 256;
+
+	/** Marker for methods that no accessor could be generated for. */
+	private static final Object NO_GENERATED_ACCESSOR = new Object();
+
 	private static final List<BeanInfoFactory> beanInfoFactories = SpringFactoriesLoader.loadFactories(
 			BeanInfoFactory.class, CachedIntrospectionResults.class.getClassLoader());
 
@@ -232,6 +262,14 @@ public final class CachedIntrospectionResults {
 	/** PropertyDescriptor objects keyed by property name String. */
 	private final Map<String, PropertyDescriptor> propertyDescriptors;
 
+	/** Generated accessors (or markers) keyed by Method, if enabled. */
+	@Nullable
+	private final Map<Method, Object> generatedAccessors;
+
+	/** Parsed property paths keyed by property path String, if enabled. */
+	@Nullable
+	private final Map<String, PropertyTokenHolder> propertyTokens;
+
 
 	/**
 	 * Create a new CachedIntrospectionResults instance for the given class.
@@ -294,6 +332,15 @@ public final class CachedIntrospectionResults {
 			// - accessor method directly referring to instance field of same name
 			// - same convention for component accessors of Java 15 record classes
 			introspectPlainAccessors(beanClass, readMethodNames);
+
+			if (SpringProperties.getFlag(GENERATED_ACCESSORS_PROPERTY_NAME)) {
+				this.generatedAccessors = new ConcurrentHashMap<>();
+				this.propertyTokens = new ConcurrentHashMap<>();
+			}
+			else {
+				this.generatedAccessors = null;
+				this.propertyTokens = null;
+			}
 		}
 		catch (IntrospectionException ex) {
 			throw new FatalBeanException("Failed to obtain BeanInfo for class [" + beanClass.getName() + "]", ex);
@@ -392,6 +439,65 @@ public final class CachedIntrospectionResults {
 		return this.propertyDescriptors.values().toArray(PropertyDescriptorUtils.EMPTY_PROPERTY_DESCRIPTOR_ARRAY);
 	}
 
+	/**
+	 * Return a generated accessor for the given read method, if enabled.
+	 * @param readMethod the read method of a property of the bean class
+	 * @return the accessor, or {@code null} for reflective invocation
+	 */
+	@Nullable
+	GeneratedPropertyAccessor getReadAccessor(Method readMethod) {
+		return getGeneratedAccessor(readMethod, GeneratedPropertyAccessor::forReadMethod);
+	}
+
+	/**
+	 * Return a generated accessor for the given write method, if enabled.
+	 * @param writeMethod the write method of a property of the bean class
+	 * @return the accessor, or {@code null} for reflective invocation
+	 */
+	@Nullable
+	GeneratedPropertyAccessor getWriteAccessor(Method writeMethod) {
+		return getGeneratedAccessor(writeMethod, GeneratedPropertyAccessor::forWriteMethod);
+	}
+
+	@Nullable
+	private GeneratedPropertyAccessor getGeneratedAccessor(
+			Method method, Function<Method, GeneratedPropertyAccessor> generator) {
+
+		if (this.generatedAccessors == null) {
+			return null;
+		}
+		Object accessor = this.generatedAccessors.get(method);
+		if (accessor == null) {
+			accessor = generator.apply(method);
+			if (accessor == null) {
+				accessor = NO_GENERATED_ACCESSOR;
+			}
+			this.generatedAccessors.putIfAbsent(method, accessor);
+		}
+		return (accessor != NO_GENERATED_ACCESSOR ? (GeneratedPropertyAccessor) accessor : null);
+	}
+
+	/**
+	 * Return the parsed tokens for the given property path, using the cached
+	 * representation if enabled.
+	 * @param propertyPath the property path to parse
+	 * @param parser the parser to use if not cached yet
+	 * @return the (potentially cached) property tokens
+	 */
+	PropertyTokenHolder getPropertyTokens(String propertyPath, Function<String, PropertyTokenHolder> parser) {
+		if (this.propertyTokens == null) {
+			return parser.apply(propertyPath);
+		}
+		PropertyTokenHolder tokens = this.propertyTokens.get(propertyPath);
+		if (tokens == null) {
+			tokens = parser.apply(propertyPath);
+			if (this.propertyTokens.size() < PROPERTY_TOKENS_CACHE_LIMIT) {
+				this.propertyTokens.putIfAbsent(propertyPath, tokens);
+			}
+		}
+		return tokens;
+	}
+
 	private PropertyDescriptor buildGenericTypeAwarePropertyDescriptor(Class<?> beanClass, PropertyDescriptor pd) {
 		try {
 			return new GenericTypeAwarePropertyDescriptor(beanClass, pd.getName(), pd.getReadMethod(),
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Accessor for a JavaBeans read or write method, invoking the method through
+ * a {@link LambdaMetafactory}-generated class instead of through reflection.
+ *
+ * <p>The generated class is defined as a hidden nestmate of the declaring class
+ * of the method, which requires the declaring class to be accessible through
+ * {@link MethodHandles#privateLookupIn} with full privilege access, i.e. to live
+ * in the same module as the Spring Framework classes.
+ *
+ * <p>Exceptions thrown by the method are wrapped in an
+ * {@link InvocationTargetException}, consistent with reflective invocation.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see CachedIntrospectionResults#GENERATED_ACCESSORS_PROPERTY_NAME
+ */
+final class GeneratedPropertyAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Function.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(BiConsumer.class);
+
+	private static final MethodType GETTER_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_SAM_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final Log logger = LogFactory.getLog(GeneratedPropertyAccessor.class);
+
+
+	@Nullable
+	private final Function<Object, Object> getter;
+
+	@Nullable
+	private final BiConsumer<Object, Object> setter;
+
+	private final Class<?> valueType;
+
+	private final boolean primitive;
+
+
+	private GeneratedPropertyAccessor(@Nullable Function<Object, Object> getter,
+			@Nullable BiConsumer<Object, Object> setter, Class<?> valueType) {
+
+		this.getter = getter;
+		this.setter = setter;
+		this.valueType = ClassUtils.resolvePrimitiveIfNecessary(valueType);
+		this.primitive = valueType.isPrimitive();
+	}
+
+
+	/**
+	 * Invoke the read method on the given target.
+	 * @param target the target instance
+	 * @return the value returned by the read method
+	 * @throws InvocationTargetException if the read method threw an exception
+	 */
+	@Nullable
+	public Object getValue(Object target) throws InvocationTargetException {
+		if (this.getter == null) {
+			throw new IllegalStateException("Not a read accessor");
+		}
+		try {
+			return this.getter.apply(target);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	/**
+	 * Determine whether the given value can be passed to the write method
+	 * as-is, without any coercion that reflective invocation would perform.
+	 * @param value the value to check
+	 */
+	public boolean isAssignableValue(@Nullable Object value) {
+		return (value != null ? this.valueType.isInstance(value) : !this.primitive);
+	}
+
+	/**
+	 * Invoke the write method on the given target.
+	 * @param target the target instance
+	 * @param value the value to pass, {@linkplain #isAssignableValue assignable}
+	 * to the parameter type of the write method
+	 * @throws InvocationTargetException if the write method threw an exception
+	 */
+	public void setValue(Object target, @Nullable Object value) throws InvocationTargetException {
+		if (this.setter == null) {
+			throw new IllegalStateException("Not a write accessor");
+		}
+		try {
+			this.setter.accept(target, value);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+
+	/**
+	 * Generate an accessor for the given read method.
+	 * @param readMethod the read method (without parameters)
+	 * @return the accessor, or {@code null} if no accessor could be generated
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	static GeneratedPropertyAccessor forReadMethod(Method readMethod) {
+		if (!isEligible(readMethod, 0) || readMethod.getReturnType() == void.class) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = getLookup(readMethod);
+			MethodHandle handle = lookup.unreflect(readMethod);
+			Class<?> returnType = readMethod.getReturnType();
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", GETTER_TYPE, GETTER_SAM_TYPE, handle,
+					MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(returnType),
+							readMethod.getDeclaringClass()));
+			return new GeneratedPropertyAccessor(
+					(Function<Object, Object>) callSite.getTarget().invoke(), null, returnType);
+		}
+		catch (Throwable ex) {
+			logFailure(readMethod, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Generate an accessor for the given write method.
+	 * @param writeMethod the write method (with a single parameter)
+	 * @return the accessor, or {@code null} if no accessor could be generated
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	static GeneratedPropertyAccessor forWriteMethod(Method writeMethod) {
+		if (!isEligible(writeMethod, 1)) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = getLookup(writeMethod);
+			MethodHandle handle = lookup.unreflect(writeMethod);
+			Class<?> parameterType = writeMethod.getParameterTypes()[0];
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", SETTER_TYPE, SETTER_SAM_TYPE, handle,
+					MethodType.methodType(void.class, writeMethod.getDeclaringClass(),
+							ClassUtils.resolvePrimitiveIfNecessary(parameterType)));
+			return new GeneratedPropertyAccessor(
+					null, (BiConsumer<Object, Object>) callSite.getTarget().invoke(), parameterType);
+		}
+		catch (Throwable ex) {
+			logFailure(writeMethod, ex);
+			return null;
+		}
+	}
+
+	private static boolean isEligible(Method method, int parameterCount) {
+		return (method.getParameterCount() == parameterCount && !Modifier.isStatic(method.getModifiers()) &&
+				!method.getDeclaringClass().isInterface() && !method.getDeclaringClass().isHidden());
+	}
+
+	private static MethodHandles.Lookup getLookup(Method method) throws IllegalAccessException {
+		return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+	}
+
+	private static void logFailure(Method method, Throwable ex) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Falling back to reflective invocation of method [" + method + "]: " + ex);
+		}
+	}
+
+}
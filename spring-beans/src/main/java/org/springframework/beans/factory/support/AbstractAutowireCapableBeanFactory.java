@@ -1023,7 +1023,8 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		catch (BeanCreationException ex) {
 			// Don't swallow a linkage error since it contains a full stacktrace on
 			// first occurrence... and just a plain NoClassDefFoundError afterwards.
-			if (ex.contains(LinkageError.class)) {
+			// Don't swallow a deferral of parallel pre-instantiation either.
+			if (ex.contains(LinkageError.class) || ex.contains(ParallelCreationDeferredException.class)) {
 				throw ex;
 			}
 			// Instantiation failure, maybe too early...
@@ -1071,6 +1072,9 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throw ex;
 		}
 		catch (BeanCreationException ex) {
+			if (ex.contains(ParallelCreationDeferredException.class)) {
+				throw ex;
+			}
 			// Instantiation failure, maybe too early...
 			if (logger.isDebugEnabled()) {
 				logger.debug("Bean creation exception on non-singleton FactoryBean type check: " + ex);
@@ -1730,6 +1730,9 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 				return (objectType != null ? ResolvableType.forClass(objectType) : ResolvableType.NONE);
 			}
 			catch (BeanCreationException ex) {
+				if (ex.contains(ParallelCreationDeferredException.class)) {
+					throw ex;
+				}
 				if (ex.contains(BeanCurrentlyInCreationException.class)) {
 					logger.trace(LogMessage.format("Bean currently in creation on FactoryBean type check: %s", ex));
 				}
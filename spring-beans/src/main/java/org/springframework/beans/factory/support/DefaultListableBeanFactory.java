@@ -30,8 +30,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +43,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -49,6 +53,7 @@ import java.util.stream.Stream;
 import jakarta.inject.Provider;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -70,8 +75,10 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.Ordered;
@@ -161,6 +168,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Nullable
 	private Executor bootstrapExecutor;
 
+	@Nullable
+	private Executor preInstantiationExecutor;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	@Nullable
 	private Comparator<Object> dependencyComparator;
@@ -186,6 +196,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map of singleton-only bean names, keyed by dependency type. */
 	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
+	/** Map of uniquely resolved bean names for a frozen configuration, keyed by required type. */
+	private final Map<Class<?>, String> resolvedBeanNamesByType = new ConcurrentHashMap<>(64);
+
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 
@@ -204,6 +217,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private final NamedThreadLocal<PreInstantiation> preInstantiationThread =
 			new NamedThreadLocal<>("Pre-instantiation thread marker");
 
+	/** Singletons currently created by parallel pre-instantiation threads, keyed by bean name. */
+	private final Map<String, ParallelSingletonCreation> parallelSingletonCreations = new ConcurrentHashMap<>(16);
+
+	/** Parallel singleton creations that parallel pre-instantiation threads wait for. */
+	private final Map<Thread, ParallelSingletonCreation> parallelSingletonWaits = new HashMap<>(16);
+
 
 	/**
 	 * Create a new DefaultListableBeanFactory.
@@ -299,6 +318,41 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.bootstrapExecutor;
 	}
 
+	/**
+	 * Set an {@link Executor} for instantiating independent non-lazy singletons
+	 * in parallel within {@link #preInstantiateSingletons()}, for example a
+	 * {@link java.util.concurrent.ForkJoinPool} or a virtual thread executor.
+	 * <p>Default is none, instantiating all singletons one at a time in the
+	 * bootstrap thread. If specified, singletons are scheduled along the
+	 * dependencies declared in their merged bean definitions: depends-on
+	 * declarations, factory beans and bean references in constructor arguments
+	 * and properties. Dependencies that are only discovered during creation,
+	 * e.g. through annotation-driven injection, are coordinated per bean: a thread that
+	 * requests a singleton currently created by another thread waits for it
+	 * rather than creating it itself or obtaining an early reference. A bean
+	 * whose creation would close a circular wait between threads is
+	 * instantiated in the bootstrap thread after the parallel phase instead.
+	 * <p>Note that this is a factory-wide alternative to per-bean
+	 * {@link AbstractBeanDefinition#setBackgroundInit background initialization}
+	 * which is applied as usual for beans marked accordingly. All singletons
+	 * are fully instantiated before any {@link SmartInitializingSingleton}
+	 * callback, as with sequential pre-instantiation.
+	 * @since 6.2
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setPreInstantiationExecutor(@Nullable Executor preInstantiationExecutor) {
+		this.preInstantiationExecutor = preInstantiationExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} for instantiating singletons in parallel, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Executor getPreInstantiationExecutor() {
+		return this.preInstantiationExecutor;
+	}
+
 	/**
 	 * Set a {@link java.util.Comparator} for dependency Lists and arrays.
 	 * @since 4.0
@@ -346,6 +400,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			this.preInstantiationExecutor = otherListableFactory.preInstantiationExecutor;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
@@ -368,6 +423,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Override
 	public <T> T getBean(Class<T> requiredType, @Nullable Object... args) throws BeansException {
 		Assert.notNull(requiredType, "Required type must not be null");
+		if (args == null) {
+			T resolved = resolveFrozenBean(requiredType);
+			if (resolved != null) {
+				return resolved;
+			}
+		}
 		Object resolved = resolveBean(ResolvableType.forRawClass(requiredType), args, false);
 		if (resolved == null) {
 			throw new NoSuchBeanDefinitionException(requiredType);
@@ -511,8 +572,18 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		};
 	}
 
+	@SuppressWarnings("unchecked")
 	@Nullable
 	private <T> T resolveBean(ResolvableType requiredType, @Nullable Object[] args, boolean nonUniqueAsNull) {
+		if (args == null) {
+			Class<?> rawClass = requiredType.resolve();
+			if (rawClass != null && !requiredType.hasGenerics()) {
+				T resolved = (T) resolveFrozenBean(rawClass);
+				if (resolved != null) {
+					return resolved;
+				}
+			}
+		}
 		NamedBeanHolder<T> namedBean = resolveNamedBean(requiredType, args, nonUniqueAsNull);
 		if (namedBean != null) {
 			return namedBean.getBeanInstance();
@@ -533,6 +604,47 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return null;
 	}
 
+	/**
+	 * Resolve the bean for the given raw type through the index of uniquely
+	 * resolved bean names, as populated for a frozen configuration.
+	 * <p>Avoids by-type candidate determination and any related allocations
+	 * for repeated lookups of the same type, in particular for non-singleton beans.
+	 * @param requiredType the type the bean must match
+	 * @return the bean instance, or {@code null} if the type is not indexed
+	 * (or the indexed bean is a {@code null} bean)
+	 * @see #freezeConfiguration()
+	 */
+	@Nullable
+	private <T> T resolveFrozenBean(Class<T> requiredType) {
+		if (!isConfigurationFrozen()) {
+			return null;
+		}
+		String beanName = this.resolvedBeanNamesByType.get(requiredType);
+		if (beanName == null) {
+			return null;
+		}
+		Object bean = getBean(beanName);
+		if (bean instanceof NullBean) {
+			return null;
+		}
+		return adaptBeanInstance(beanName, bean, requiredType);
+	}
+
+	/**
+	 * Register the given uniquely resolved bean name for the given type
+	 * in the by-type index for a frozen configuration, if applicable.
+	 * <p>Primary and priority candidates are resolved at this point already,
+	 * so that subsequent lookups of the same type can go straight to the bean.
+	 */
+	private void registerResolvedBeanName(ResolvableType requiredType, @Nullable Object[] args, String beanName) {
+		if (args == null && isConfigurationFrozen()) {
+			Class<?> rawClass = requiredType.resolve();
+			if (rawClass != null && !requiredType.hasGenerics() && ClassUtils.isCacheSafe(rawClass, getBeanClassLoader())) {
+				this.resolvedBeanNamesByType.put(rawClass, beanName);
+			}
+		}
+	}
+
 	private String[] getBeanNamesForTypedStream(ResolvableType requiredType, boolean allowEagerInit) {
 		return BeanFactoryUtils.beanNamesForTypeIncludingAncestors(this, requiredType, true, allowEagerInit);
 	}
@@ -1005,7 +1117,87 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Override
 	@Nullable
 	protected Boolean isCurrentThreadAllowedToHoldSingletonLock() {
-		return (this.preInstantiationPhase ? this.preInstantiationThread.get() != PreInstantiation.BACKGROUND : null);
+		if (!this.preInstantiationPhase) {
+			return null;
+		}
+		PreInstantiation preInstantiation = this.preInstantiationThread.get();
+		return (preInstantiation != PreInstantiation.BACKGROUND && preInstantiation != PreInstantiation.PARALLEL);
+	}
+
+	@Override
+	@Nullable
+	protected Object getSingleton(String beanName, boolean allowEarlyReference) {
+		if (allowEarlyReference && !this.parallelSingletonCreations.isEmpty() &&
+				this.preInstantiationThread.get() == PreInstantiation.PARALLEL) {
+			ParallelSingletonCreation creation = this.parallelSingletonCreations.get(beanName);
+			if (creation != null && creation.thread != Thread.currentThread()) {
+				// Never expose an early reference to a singleton created in another parallel thread
+				return (containsSingleton(beanName) ? super.getSingleton(beanName, false) : null);
+			}
+		}
+		return super.getSingleton(beanName, allowEarlyReference);
+	}
+
+	@Override
+	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+		if (this.preInstantiationThread.get() != PreInstantiation.PARALLEL) {
+			return super.getSingleton(beanName, singletonFactory);
+		}
+		ParallelSingletonCreation creation = new ParallelSingletonCreation();
+		ParallelSingletonCreation existing;
+		while ((existing = this.parallelSingletonCreations.putIfAbsent(beanName, creation)) != null) {
+			if (existing.thread == creation.thread) {
+				// Circular reference within the current thread: regular handling
+				return super.getSingleton(beanName, singletonFactory);
+			}
+			awaitParallelSingletonCreation(beanName, existing);
+			Object singletonInstance = super.getSingleton(beanName, false);
+			if (singletonInstance != null && containsSingleton(beanName)) {
+				return singletonInstance;
+			}
+			// Creation failed in the other thread: try again in the current thread
+		}
+		try {
+			return super.getSingleton(beanName, singletonFactory);
+		}
+		finally {
+			this.parallelSingletonCreations.remove(beanName);
+			creation.latch.countDown();
+		}
+	}
+
+	/**
+	 * Wait for the given singleton creation in another parallel pre-instantiation
+	 * thread to complete, unless that thread (transitively) waits for the current
+	 * thread in turn.
+	 * @throws ParallelCreationDeferredException in case of a circular wait
+	 */
+	private void awaitParallelSingletonCreation(String beanName, ParallelSingletonCreation creation) {
+		Thread currentThread = Thread.currentThread();
+		synchronized (this.parallelSingletonWaits) {
+			Thread thread = creation.thread;
+			while (thread != null) {
+				if (thread == currentThread) {
+					throw new ParallelCreationDeferredException(beanName);
+				}
+				ParallelSingletonCreation awaited = this.parallelSingletonWaits.get(thread);
+				thread = (awaited != null ? awaited.thread : null);
+			}
+			this.parallelSingletonWaits.put(currentThread, creation);
+		}
+		try {
+			creation.latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new BeanCurrentlyInCreationException(beanName,
+					"Interrupted while waiting for creation of singleton bean in other thread");
+		}
+		finally {
+			synchronized (this.parallelSingletonWaits) {
+				this.parallelSingletonWaits.remove(currentThread);
+			}
+		}
 	}
 
 	@Override
@@ -1024,15 +1216,24 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		this.preInstantiationPhase = true;
 		this.preInstantiationThread.set(PreInstantiation.MAIN);
 		try {
+			Executor parallelExecutor = getPreInstantiationExecutor();
+			Map<String, RootBeanDefinition> parallelCandidates = new LinkedHashMap<>();
 			for (String beanName : beanNames) {
 				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
 				if (!mbd.isAbstract() && mbd.isSingleton()) {
+					if (parallelExecutor != null && !mbd.isBackgroundInit() && !mbd.isLazyInit()) {
+						parallelCandidates.put(beanName, mbd);
+						continue;
+					}
 					CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
 					if (future != null) {
 						futures.add(future);
 					}
 				}
 			}
+			if (parallelExecutor != null && !parallelCandidates.isEmpty()) {
+				preInstantiateSingletonsInParallel(parallelCandidates, parallelExecutor);
+			}
 		}
 		finally {
 			this.preInstantiationThread.remove();
@@ -1095,6 +1296,115 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return null;
 	}
 
+	private void preInstantiateSingletonsInParallel(Map<String, RootBeanDefinition> candidates, Executor executor) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Pre-instantiating " + candidates.size() + " singletons in parallel");
+		}
+		Set<String> deferredBeanNames = ConcurrentHashMap.newKeySet();
+		Map<String, CompletableFuture<?>> futures = new HashMap<>(candidates.size());
+		for (String beanName : candidates.keySet()) {
+			scheduleParallelSingleton(beanName, candidates, futures, deferredBeanNames, executor, new HashSet<>());
+		}
+		try {
+			CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+		}
+		catch (CompletionException ex) {
+			ReflectionUtils.rethrowRuntimeException(ex.getCause());
+		}
+		// Instantiate beans with circular waits between threads in mainline thread
+		for (String beanName : candidates.keySet()) {
+			if (deferredBeanNames.contains(beanName)) {
+				instantiateSingleton(beanName);
+			}
+		}
+	}
+
+	private CompletableFuture<?> scheduleParallelSingleton(String beanName, Map<String, RootBeanDefinition> candidates,
+			Map<String, CompletableFuture<?>> futures, Set<String> deferredBeanNames, Executor executor,
+			Set<String> beansInScheduling) {
+
+		CompletableFuture<?> future = futures.get(beanName);
+		if (future != null) {
+			return future;
+		}
+		beansInScheduling.add(beanName);
+		List<CompletableFuture<?>> dependencyFutures = new ArrayList<>();
+		for (String dependency : getDeclaredDependencies(candidates.get(beanName))) {
+			if (candidates.containsKey(dependency) && !beansInScheduling.contains(dependency)) {
+				dependencyFutures.add(scheduleParallelSingleton(
+						dependency, candidates, futures, deferredBeanNames, executor, beansInScheduling));
+			}
+		}
+		beansInScheduling.remove(beanName);
+		future = CompletableFuture.allOf(dependencyFutures.toArray(new CompletableFuture<?>[0]))
+				.thenRunAsync(() -> instantiateSingletonInParallelThread(beanName, deferredBeanNames), executor);
+		futures.put(beanName, future);
+		return future;
+	}
+
+	/**
+	 * Determine the names of the beans that the given merged bean definition
+	 * declares a dependency on, for scheduling parallel pre-instantiation.
+	 */
+	private Set<String> getDeclaredDependencies(RootBeanDefinition mbd) {
+		Set<String> dependencies = new LinkedHashSet<>();
+		String[] dependsOn = mbd.getDependsOn();
+		if (dependsOn != null) {
+			for (String dependency : dependsOn) {
+				dependencies.add(transformedBeanName(dependency));
+			}
+		}
+		String factoryBeanName = mbd.getFactoryBeanName();
+		if (factoryBeanName != null) {
+			dependencies.add(transformedBeanName(factoryBeanName));
+		}
+		if (mbd.hasConstructorArgumentValues()) {
+			ConstructorArgumentValues cargs = mbd.getConstructorArgumentValues();
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cargs.getIndexedArgumentValues().values()) {
+				addDeclaredDependency(valueHolder.getValue(), dependencies);
+			}
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cargs.getGenericArgumentValues()) {
+				addDeclaredDependency(valueHolder.getValue(), dependencies);
+			}
+		}
+		if (mbd.hasPropertyValues()) {
+			for (PropertyValue pv : mbd.getPropertyValues().getPropertyValues()) {
+				addDeclaredDependency(pv.getValue(), dependencies);
+			}
+		}
+		return dependencies;
+	}
+
+	private void addDeclaredDependency(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof RuntimeBeanReference ref && ref.getBeanType() == null && !ref.isToParent()) {
+			dependencies.add(transformedBeanName(ref.getBeanName()));
+		}
+	}
+
+	private void instantiateSingletonInParallelThread(String beanName, Set<String> deferredBeanNames) {
+		this.preInstantiationThread.set(PreInstantiation.PARALLEL);
+		try {
+			instantiateSingleton(beanName);
+		}
+		catch (BeansException ex) {
+			if (ex.contains(ParallelCreationDeferredException.class)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Deferring instantiation of singleton bean '" + beanName +
+							"' to mainline thread: " + ex.getMostSpecificCause().getMessage());
+				}
+				deferredBeanNames.add(beanName);
+				return;
+			}
+			if (logger.isWarnEnabled()) {
+				logger.warn("Failed to instantiate singleton bean '" + beanName + "' in parallel thread", ex);
+			}
+			throw ex;
+		}
+		finally {
+			this.preInstantiationThread.remove();
+		}
+	}
+
 	private void instantiateSingletonInBackgroundThread(String beanName) {
 		this.preInstantiationThread.set(PreInstantiation.BACKGROUND);
 		try {
@@ -1400,6 +1710,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private void clearByTypeCache() {
 		this.allBeanNamesByType.clear();
 		this.singletonBeanNamesByType.clear();
+		this.resolvedBeanNamesByType.clear();
 	}
 
 
@@ -1442,7 +1753,11 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 
 		if (candidateNames.length == 1) {
-			return resolveNamedBean(candidateNames[0], requiredType, args);
+			NamedBeanHolder<T> namedBean = resolveNamedBean(candidateNames[0], requiredType, args);
+			if (namedBean != null) {
+				registerResolvedBeanName(requiredType, args, namedBean.getBeanName());
+			}
+			return namedBean;
 		}
 		else if (candidateNames.length > 1) {
 			Map<String, Object> candidates = CollectionUtils.newLinkedHashMap(candidateNames.length);
@@ -1464,6 +1779,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 				if (beanInstance == null) {
 					return null;
 				}
+				registerResolvedBeanName(requiredType, args, candidateName);
 				if (beanInstance instanceof Class) {
 					return resolveNamedBean(candidateName, requiredType, args);
 				}
@@ -2550,7 +2866,18 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	private enum PreInstantiation {
 
-		MAIN, BACKGROUND
+		MAIN, BACKGROUND, PARALLEL
+	}
+
+
+	/**
+	 * Creation of a singleton bean in a parallel pre-instantiation thread.
+	 */
+	private static final class ParallelSingletonCreation {
+
+		final Thread thread = Thread.currentThread();
+
+		final CountDownLatch latch = new CountDownLatch(1);
 	}
 
 }
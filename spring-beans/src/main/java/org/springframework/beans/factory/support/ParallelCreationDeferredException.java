@@ -0,0 +1,42 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import org.springframework.beans.BeansException;
+
+/**
+ * Internal exception indicating that a singleton bean cannot be created in a
+ * parallel pre-instantiation thread since it would wait for a thread waiting
+ * for it, to be propagated to the parallel scheduler in
+ * {@link DefaultListableBeanFactory} which defers the top-level bean to the
+ * mainline thread.
+ *
+ * <p>Deliberately not a {@code BeanCreationException}: it must not be mistaken
+ * for a regular circular reference and swallowed along the way.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ */
+@SuppressWarnings("serial")
+class ParallelCreationDeferredException extends BeansException {
+
+	public ParallelCreationDeferredException(String beanName) {
+		super("Requested bean '" + beanName + "' is currently in creation in another thread " +
+				"which waits for the current thread: deferring to mainline thread");
+	}
+
+}
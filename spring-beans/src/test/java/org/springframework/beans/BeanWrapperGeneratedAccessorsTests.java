@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * {@link BeanWrapperImpl} tests with generated accessors enabled through
+ * {@link CachedIntrospectionResults#GENERATED_ACCESSORS_PROPERTY_NAME}.
+ */
+class BeanWrapperGeneratedAccessorsTests extends AbstractPropertyAccessorTests {
+
+	@BeforeEach
+	void enableGeneratedAccessors() {
+		SpringProperties.setFlag(CachedIntrospectionResults.GENERATED_ACCESSORS_PROPERTY_NAME);
+		CachedIntrospectionResults.clearClassLoader(getClass().getClassLoader());
+	}
+
+	@AfterEach
+	void resetGeneratedAccessors() {
+		SpringProperties.setProperty(CachedIntrospectionResults.GENERATED_ACCESSORS_PROPERTY_NAME, null);
+		CachedIntrospectionResults.clearClassLoader(getClass().getClassLoader());
+	}
+
+
+	@Override
+	protected BeanWrapperImpl createAccessor(Object target) {
+		return new BeanWrapperImpl(target);
+	}
+
+
+	@Test
+	void generatesAccessorsForBeanProperties() {
+		CachedIntrospectionResults results = CachedIntrospectionResults.forClass(TestBean.class);
+		assertThat(results.getReadAccessor(ClassUtils.getMethod(TestBean.class, "getAge"))).isNotNull();
+		assertThat(results.getWriteAccessor(ClassUtils.getMethod(TestBean.class, "setAge", int.class))).isNotNull();
+		assertThat(results.getReadAccessor(ClassUtils.getMethod(Object.class, "getClass"))).isNull();
+
+		TestBean target = new TestBean();
+		BeanWrapper accessor = createAccessor(target);
+		accessor.setPropertyValue("age", 42);
+		accessor.setPropertyValue("name", "tom");
+		assertThat(target.getAge()).isEqualTo(42);
+		assertThat(accessor.getPropertyValue("age")).isEqualTo(42);
+		assertThat(accessor.getPropertyValue("name")).isEqualTo("tom");
+		assertThat(accessor.getPropertyValue("class")).isEqualTo(TestBean.class);
+	}
+
+	@Test
+	void generatedAccessorForNonPublicClass() {
+		NonPublicBean target = new NonPublicBean();
+		BeanWrapper accessor = createAccessor(target);
+		accessor.setPropertyValue("value", "1");
+		assertThat(target.getValue()).isEqualTo(1L);
+		assertThat(accessor.getPropertyValue("value")).isEqualTo(1L);
+	}
+
+	@Test
+	void exceptionFromGeneratedAccessorIsExposedAsCause() {
+		BeanWrapper accessor = createAccessor(new ThrowingBean());
+		assertThatExceptionOfType(MethodInvocationException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("value", "x"))
+				.withCauseExactlyInstanceOf(IllegalStateException.class);
+		assertThatExceptionOfType(InvalidPropertyException.class)
+				.isThrownBy(() -> accessor.getPropertyValue("value"))
+				.withRootCauseExactlyInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void parsedPropertyPathsAreCached() {
+		CachedIntrospectionResults results = CachedIntrospectionResults.forClass(TestBean.class);
+		AbstractNestablePropertyAccessor.PropertyTokenHolder tokens =
+				results.getPropertyTokens("map['key']", AbstractNestablePropertyAccessor::parsePropertyNameTokens);
+		assertThat(tokens.actualName).isEqualTo("map");
+		assertThat(tokens.canonicalName).isEqualTo("map[key]");
+		assertThat(tokens.keys).containsExactly("key");
+		assertThat(results.getPropertyTokens("map['key']", name -> {
+			throw new AssertionError("Should have been cached");
+		})).isSameAs(tokens);
+	}
+
+
+	@SuppressWarnings("unused")
+	static class NonPublicBean {
+
+		private long value;
+
+		public long getValue() {
+			return this.value;
+		}
+
+		public void setValue(long value) {
+			this.value = value;
+		}
+	}
+
+
+	@SuppressWarnings("unused")
+	public static class ThrowingBean {
+
+		public String getValue() {
+			throw new IllegalStateException("read");
+		}
+
+		public void setValue(String value) {
+			throw new IllegalStateException("write");
+		}
+	}
+
+}
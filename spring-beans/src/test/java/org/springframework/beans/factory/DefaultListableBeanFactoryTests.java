@@ -1617,6 +1617,40 @@ class DefaultListableBeanFactoryTests {
 		assertThat(bean.getBeanName()).isEqualTo("bd1");
 	}
 
+	@Test
+	void getBeanByTypeWithPrimaryAgainstFrozen() {
+		RootBeanDefinition bd1 = new RootBeanDefinition(TestBean.class);
+		bd1.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		RootBeanDefinition bd2 = new RootBeanDefinition(TestBean.class);
+		bd2.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		bd2.setPrimary(true);
+		lbf.registerBeanDefinition("bd1", bd1);
+		lbf.registerBeanDefinition("bd2", bd2);
+		lbf.freezeConfiguration();
+
+		TestBean bean = lbf.getBean(TestBean.class);
+		assertThat(bean.getBeanName()).isEqualTo("bd2");
+		TestBean bean2 = lbf.getBean(TestBean.class);
+		assertThat(bean2.getBeanName()).isEqualTo("bd2");
+		assertThat(bean2).isNotSameAs(bean);
+		assertThat(lbf.getBeanProvider(TestBean.class).getObject().getBeanName()).isEqualTo("bd2");
+
+		lbf.removeBeanDefinition("bd2");
+		assertThat(lbf.getBean(TestBean.class).getBeanName()).isEqualTo("bd1");
+	}
+
+	@Test
+	void getBeanByTypeWithLateSingletonRegistrationAgainstFrozen() {
+		lbf.registerBeanDefinition("bd1", new RootBeanDefinition(TestBean.class));
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBean(TestBean.class).getBeanName()).isEqualTo("bd1");
+
+		lbf.registerSingleton("bd2", new TestBean());
+		assertThatExceptionOfType(NoUniqueBeanDefinitionException.class).isThrownBy(() ->
+				lbf.getBean(TestBean.class));
+		assertThat(lbf.getBeanProvider(TestBean.class).getIfUnique()).isNull();
+	}
+
 	@Test
 	void getBeanByTypeDefinedInParent() {
 		DefaultListableBeanFactory parent = new DefaultListableBeanFactory();
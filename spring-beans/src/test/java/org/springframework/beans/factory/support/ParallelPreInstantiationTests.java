@@ -0,0 +1,255 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link DefaultListableBeanFactory#setPreInstantiationExecutor}.
+ */
+class ParallelPreInstantiationTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	void independentSingletonsAreInstantiatedConcurrently() {
+		CountDownLatch allStarted = new CountDownLatch(4);
+		for (int i = 0; i < 4; i++) {
+			this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(Object.class, () -> {
+				allStarted.countDown();
+				return awaitLatch(allStarted);
+			}));
+		}
+		this.beanFactory.setPreInstantiationExecutor(this.executor);
+		this.beanFactory.preInstantiateSingletons();
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(this.beanFactory.getSingleton("bean" + i)).isEqualTo(Boolean.TRUE);
+		}
+	}
+
+	@Test
+	void sharedDependencyIsInstantiatedOnce() {
+		AtomicInteger instances = new AtomicInteger();
+		this.beanFactory.registerBeanDefinition("shared", new RootBeanDefinition(TestBean.class, () -> {
+			instances.incrementAndGet();
+			sleep();
+			return new TestBean();
+		}));
+		for (int i = 0; i < 4; i++) {
+			RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+			bd.getPropertyValues().add("other", new RuntimeBeanReference("shared"));
+			this.beanFactory.registerBeanDefinition("bean" + i, bd);
+		}
+		this.beanFactory.setPreInstantiationExecutor(this.executor);
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(instances).hasValue(1);
+		TestBean shared = this.beanFactory.getBean("shared", TestBean.class);
+		for (int i = 0; i < 4; i++) {
+			assertThat(this.beanFactory.getBean("bean" + i, TestBean.class).getOther()).isSameAs(shared);
+		}
+	}
+
+	@Test
+	void circularReferencesAreResolved() {
+		for (int i = 0; i < 4; i++) {
+			RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+			bd.getPropertyValues().add("other", new RuntimeBeanReference("bean" + ((i + 1) % 4)));
+			this.beanFactory.registerBeanDefinition("bean" + i, bd);
+		}
+		this.beanFactory.setPreInstantiationExecutor(this.executor);
+		this.beanFactory.preInstantiateSingletons();
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(this.beanFactory.getBean("bean" + i, TestBean.class).getOther())
+					.isSameAs(this.beanFactory.getBean("bean" + ((i + 1) % 4)));
+		}
+	}
+
+	@Test
+	void dependsOnIsInstantiatedFirst() {
+		List<String> instantiated = new CopyOnWriteArrayList<>();
+		RootBeanDefinition first = new RootBeanDefinition(Object.class, () -> {
+			sleep();
+			instantiated.add("first");
+			return new Object();
+		});
+		RootBeanDefinition second = new RootBeanDefinition(Object.class, () -> {
+			instantiated.add("second");
+			return new Object();
+		});
+		second.setDependsOn("first");
+		this.beanFactory.registerBeanDefinition("second", second);
+		this.beanFactory.registerBeanDefinition("first", first);
+		this.beanFactory.setPreInstantiationExecutor(this.executor);
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(instantiated).containsExactly("first", "second");
+	}
+
+	@Test
+	void smartInitializingSingletonsAreCalledAfterAllSingletons() {
+		AtomicInteger instances = new AtomicInteger();
+		for (int i = 0; i < 4; i++) {
+			this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(Object.class, () -> {
+				sleep();
+				return instances.incrementAndGet();
+			}));
+		}
+		List<Integer> instancesOnCallback = new CopyOnWriteArrayList<>();
+		this.beanFactory.registerBeanDefinition("callback", new RootBeanDefinition(SmartInitializingSingleton.class,
+				() -> () -> instancesOnCallback.add(instances.get())));
+		this.beanFactory.setPreInstantiationExecutor(this.executor);
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(instancesOnCallback).containsExactly(4);
+	}
+
+	@Test
+	void circularWaitBetweenThreadsIsNotSwallowedAsCircularReference() {
+		CountDownLatch lookupStarted = new CountDownLatch(1);
+		AtomicReference<Thread> initThread = new AtomicReference<>();
+		this.beanFactory.registerBeanDefinition("initializing", new RootBeanDefinition(InitializingTestBean.class,
+				() -> new InitializingTestBean(this.beanFactory, lookupStarted, initThread)));
+		this.beanFactory.registerBeanDefinition("lookup", new RootBeanDefinition(Map.class, () -> {
+			lookupStarted.countDown();
+			awaitWaitingThread(initThread);
+			return this.beanFactory.getBeansOfType(InitializingTestBean.class);
+		}));
+		this.beanFactory.setPreInstantiationExecutor(this.executor);
+		this.beanFactory.preInstantiateSingletons();
+
+		InitializingTestBean initializing = this.beanFactory.getBean("initializing", InitializingTestBean.class);
+		assertThat(this.beanFactory.getBean("lookup", Map.class)).containsEntry("initializing", initializing);
+		assertThat(initializing.lookup).isSameAs(this.beanFactory.getBean("lookup"));
+	}
+
+	@Test
+	void instantiationFailureIsPropagated() {
+		this.beanFactory.registerBeanDefinition("ok", new RootBeanDefinition(Object.class));
+		this.beanFactory.registerBeanDefinition("failing", new RootBeanDefinition(Object.class, () -> {
+			throw new IllegalStateException("test");
+		}));
+		this.beanFactory.setPreInstantiationExecutor(this.executor);
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(this.beanFactory::preInstantiateSingletons)
+				.satisfies(ex -> assertThat(ex.getBeanName()).isEqualTo("failing"));
+	}
+
+
+	private static Boolean awaitLatch(CountDownLatch latch) {
+		try {
+			return latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static void awaitWaitingThread(AtomicReference<Thread> threadRef) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (System.nanoTime() < deadline) {
+			Thread thread = threadRef.get();
+			if (thread == Thread.currentThread() || (thread != null && thread.getState() == Thread.State.WAITING)) {
+				return;
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(50);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	public static class TestBean {
+
+		private TestBean other;
+
+		public TestBean getOther() {
+			return this.other;
+		}
+
+		public void setOther(TestBean other) {
+			this.other = other;
+		}
+	}
+
+
+	public static class InitializingTestBean implements InitializingBean {
+
+		private final DefaultListableBeanFactory beanFactory;
+
+		private final CountDownLatch lookupStarted;
+
+		private final AtomicReference<Thread> initThread;
+
+		Object lookup;
+
+		InitializingTestBean(DefaultListableBeanFactory beanFactory,
+				CountDownLatch lookupStarted, AtomicReference<Thread> initThread) {
+
+			this.beanFactory = beanFactory;
+			this.lookupStarted = lookupStarted;
+			this.initThread = initThread;
+		}
+
+		@Override
+		public void afterPropertiesSet() {
+			// Request the bean in creation in another thread which then requests this bean in turn
+			awaitLatch(this.lookupStarted);
+			this.initThread.set(Thread.currentThread());
+			this.lookup = this.beanFactory.getBean("lookup");
+		}
+	}
+
+}
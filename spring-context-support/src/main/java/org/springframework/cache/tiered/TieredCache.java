@@ -0,0 +1,275 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.tiered;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Cache} implementation that combines a local cache (L1) with a remote
+ * cache (L2), for example a Caffeine cache in front of a JCache cache.
+ *
+ * <p>Reads are served from the local cache if possible and read through to
+ * the remote cache otherwise, populating the local cache with the value found.
+ * Writes and evictions are applied to the remote cache first and to the local
+ * cache afterwards, so that the local cache never holds a value that has not
+ * been written to the remote cache.
+ *
+ * <p>Entries removed from the remote cache by other means, e.g. through
+ * expiration or by another node, are not visible to this cache by default:
+ * {@link #evictLocal} and {@link #clearLocal} allow for invalidating the local
+ * cache accordingly. {@link TieredCacheManager} registers a corresponding
+ * listener with JCache-based remote caches.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see TieredCacheManager
+ */
+public class TieredCache implements Cache {
+
+	private final Cache localCache;
+
+	private final Cache remoteCache;
+
+
+	/**
+	 * Create a new TieredCache for the given local and remote cache.
+	 * @param localCache the local cache to serve reads from (L1)
+	 * @param remoteCache the remote cache to read through and write through to (L2)
+	 */
+	public TieredCache(Cache localCache, Cache remoteCache) {
+		Assert.notNull(localCache, "Local Cache must not be null");
+		Assert.notNull(remoteCache, "Remote Cache must not be null");
+		this.localCache = localCache;
+		this.remoteCache = remoteCache;
+	}
+
+
+	/**
+	 * Return the local cache (L1) that this cache delegates to.
+	 */
+	public final Cache getLocalCache() {
+		return this.localCache;
+	}
+
+	/**
+	 * Return the remote cache (L2) that this cache delegates to.
+	 */
+	public final Cache getRemoteCache() {
+		return this.remoteCache;
+	}
+
+	@Override
+	public String getName() {
+		return this.remoteCache.getName();
+	}
+
+	/**
+	 * This implementation returns the native cache of the remote cache.
+	 */
+	@Override
+	public Object getNativeCache() {
+		return this.remoteCache.getNativeCache();
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper get(Object key) {
+		ValueWrapper wrapper = this.localCache.get(key);
+		if (wrapper == null) {
+			wrapper = this.remoteCache.get(key);
+			if (wrapper != null) {
+				this.localCache.put(key, wrapper.get());
+			}
+		}
+		return wrapper;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public <T> T get(Object key, @Nullable Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = (wrapper != null ? wrapper.get() : null);
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+					"Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		try {
+			return this.localCache.get(key, () -> this.remoteCache.get(key, valueLoader));
+		}
+		catch (ValueRetrievalException ex) {
+			// Expose the remote cache's exception for the original value loader
+			if (ex.getCause() instanceof ValueRetrievalException remoteEx) {
+				throw remoteEx;
+			}
+			throw ex;
+		}
+	}
+
+	@Override
+	public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		Map<Object, ValueWrapper> localValues = this.localCache.getAll(keys);
+		if (localValues.size() == keys.size()) {
+			return localValues;
+		}
+		List<Object> missingKeys = new ArrayList<>(keys.size() - localValues.size());
+		for (Object key : keys) {
+			if (!localValues.containsKey(key)) {
+				missingKeys.add(key);
+			}
+		}
+		Map<Object, ValueWrapper> remoteValues = this.remoteCache.getAll(missingKeys);
+		if (remoteValues.isEmpty()) {
+			return localValues;
+		}
+		Map<Object, Object> valuesToPut = new LinkedHashMap<>(remoteValues.size());
+		remoteValues.forEach((key, wrapper) -> valuesToPut.put(key, wrapper.get()));
+		this.localCache.putAll(valuesToPut);
+		Map<Object, ValueWrapper> result = new LinkedHashMap<>(localValues.size() + remoteValues.size());
+		for (Object key : keys) {
+			ValueWrapper wrapper = localValues.get(key);
+			if (wrapper == null) {
+				wrapper = remoteValues.get(key);
+			}
+			if (wrapper != null) {
+				result.put(key, wrapper);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	@Nullable
+	public CompletableFuture<?> retrieve(Object key) {
+		CompletableFuture<?> result = this.localCache.retrieve(key);
+		if (result == null) {
+			return retrieveRemote(key);
+		}
+		return result.thenCompose(value -> {
+			if (value != null) {
+				return CompletableFuture.<Object>completedFuture(value);
+			}
+			CompletableFuture<Object> remoteResult = retrieveRemote(key);
+			return (remoteResult != null ? remoteResult : CompletableFuture.completedFuture(null));
+		});
+	}
+
+	@Nullable
+	private CompletableFuture<Object> retrieveRemote(Object key) {
+		CompletableFuture<?> result = this.remoteCache.retrieve(key);
+		if (result == null) {
+			return null;
+		}
+		return result.thenApply(value -> {
+			if (value != null) {
+				this.localCache.put(key, (value instanceof ValueWrapper wrapper ? wrapper.get() : value));
+			}
+			return (Object) value;
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return this.localCache.retrieve(key, () -> this.remoteCache.retrieve(key, valueLoader));
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		this.remoteCache.put(key, value);
+		this.localCache.put(key, value);
+	}
+
+	@Override
+	public void putAll(Map<?, ?> entries) {
+		this.remoteCache.putAll(entries);
+		this.localCache.putAll(entries);
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		ValueWrapper existing = this.remoteCache.putIfAbsent(key, value);
+		this.localCache.put(key, (existing != null ? existing.get() : value));
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.remoteCache.evict(key);
+		this.localCache.evict(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean remoteEvicted = this.remoteCache.evictIfPresent(key);
+		boolean localEvicted = this.localCache.evictIfPresent(key);
+		return (remoteEvicted || localEvicted);
+	}
+
+	@Override
+	public void clear() {
+		this.remoteCache.clear();
+		this.localCache.clear();
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean remoteInvalidated = this.remoteCache.invalidate();
+		boolean localInvalidated = this.localCache.invalidate();
+		return (remoteInvalidated || localInvalidated);
+	}
+
+	/**
+	 * Evict the mapping for the given key from the local cache only,
+	 * e.g. once it has been removed from the remote cache by other means.
+	 * @param key the key whose mapping is to be removed from the local cache
+	 */
+	public void evictLocal(Object key) {
+		this.localCache.evictIfPresent(key);
+	}
+
+	/**
+	 * Clear the local cache only, e.g. once the remote cache has been
+	 * cleared by other means.
+	 */
+	public void clearLocal() {
+		this.localCache.invalidate();
+	}
+
+	@Override
+	public String toString() {
+		return "TieredCache '" + getName() + "' [local=" + this.localCache + ", remote=" + this.remoteCache + "]";
+	}
+
+}
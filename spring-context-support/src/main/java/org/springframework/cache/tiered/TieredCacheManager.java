@@ -0,0 +1,322 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.tiered;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link CacheManager} implementation that composes a local and a remote
+ * {@link CacheManager} into {@link TieredCache} instances, for example a
+ * {@link org.springframework.cache.caffeine.CaffeineCacheManager} in front of a
+ * {@link org.springframework.cache.jcache.JCacheCacheManager}.
+ *
+ * <p>Caches are exposed for the names that the remote cache manager knows
+ * about. If the local cache manager does not provide a cache of the same name,
+ * the remote cache is exposed as-is.
+ *
+ * <p>If the remote cache is backed by a JCache {@link javax.cache.Cache}, a
+ * synchronous listener for removed and expired entries is registered with it
+ * so that the corresponding local entries are evicted as well. Other remote
+ * caches need to call {@link TieredCache#evictLocal} for that purpose.
+ * The listener configuration is serializable as required by distributed
+ * JCache providers, but it only refers to the local tier by name: a listener
+ * instantiated in a different JVM does not find a local tier there and
+ * ignores all events. Each node therefore relies on its own registration,
+ * which is removed again when this cache manager is {@link #destroy() destroyed}.
+ *
+ * <p>Transaction awareness is best configured on this cache manager through
+ * {@link #setTransactionAware}, applying to both tiers at once. If the remote
+ * cache manager exposes transaction-aware caches itself, the local caches are
+ * decorated accordingly so that both tiers are updated after commit.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see TieredCache
+ */
+public class TieredCacheManager extends AbstractTransactionSupportingCacheManager implements DisposableBean {
+
+	private static final boolean jcachePresent = ClassUtils.isPresent(
+			"javax.cache.Cache", TieredCacheManager.class.getClassLoader());
+
+	/**
+	 * Tiered caches in this JVM that remote eviction listeners refer to,
+	 * keyed by registration id.
+	 */
+	private static final Map<String, WeakReference<TieredCache>> localEvictionTargets = new ConcurrentHashMap<>(16);
+
+
+	private final CacheManager localCacheManager;
+
+	private final CacheManager remoteCacheManager;
+
+	private final Map<String, Runnable> listenerDeregistrations = new ConcurrentHashMap<>(16);
+
+	private final String registrationPrefix = UUID.randomUUID() + ":";
+
+
+	/**
+	 * Create a new TieredCacheManager for the given cache managers.
+	 * @param localCacheManager the cache manager providing the local caches (L1)
+	 * @param remoteCacheManager the cache manager providing the remote caches (L2)
+	 */
+	public TieredCacheManager(CacheManager localCacheManager, CacheManager remoteCacheManager) {
+		Assert.notNull(localCacheManager, "Local CacheManager must not be null");
+		Assert.notNull(remoteCacheManager, "Remote CacheManager must not be null");
+		this.localCacheManager = localCacheManager;
+		this.remoteCacheManager = remoteCacheManager;
+	}
+
+
+	/**
+	 * Return the cache manager providing the local caches (L1).
+	 */
+	public CacheManager getLocalCacheManager() {
+		return this.localCacheManager;
+	}
+
+	/**
+	 * Return the cache manager providing the remote caches (L2).
+	 */
+	public CacheManager getRemoteCacheManager() {
+		return this.remoteCacheManager;
+	}
+
+
+	@Override
+	protected Collection<Cache> loadCaches() {
+		Collection<Cache> caches = new LinkedHashSet<>();
+		for (String name : this.remoteCacheManager.getCacheNames()) {
+			Cache cache = getMissingCache(name);
+			if (cache != null) {
+				caches.add(cache);
+			}
+		}
+		return caches;
+	}
+
+	@Override
+	@Nullable
+	protected Cache getMissingCache(String name) {
+		Cache remoteCache = this.remoteCacheManager.getCache(name);
+		if (remoteCache == null) {
+			return null;
+		}
+		Cache localCache = this.localCacheManager.getCache(name);
+		if (localCache == null) {
+			return remoteCache;
+		}
+		return createTieredCache(localCache, remoteCache);
+	}
+
+	/**
+	 * Create a {@link TieredCache} for the given local and remote cache.
+	 * <p>If this cache manager is {@link #isTransactionAware() transaction-aware},
+	 * transaction-aware decorators of the given caches are unwrapped since the
+	 * tiered cache gets decorated as a whole. Otherwise, the local cache is
+	 * decorated if the remote cache is transaction-aware.
+	 * @param localCache the local cache (L1)
+	 * @param remoteCache the remote cache (L2)
+	 * @return the tiered cache
+	 */
+	protected TieredCache createTieredCache(Cache localCache, Cache remoteCache) {
+		if (isTransactionAware()) {
+			localCache = unwrapTransactionAwareCache(localCache);
+			remoteCache = unwrapTransactionAwareCache(remoteCache);
+		}
+		else if (remoteCache instanceof TransactionAwareCacheDecorator &&
+				!(localCache instanceof TransactionAwareCacheDecorator)) {
+			localCache = new TransactionAwareCacheDecorator(localCache);
+		}
+		return new TieredCache(localCache, remoteCache);
+	}
+
+	private static Cache unwrapTransactionAwareCache(Cache cache) {
+		return (cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache);
+	}
+
+	@Override
+	protected Cache decorateCache(Cache cache) {
+		if (cache instanceof TieredCache tieredCache) {
+			registerRemoteEvictionListener(tieredCache);
+		}
+		else if (cache instanceof TransactionAwareCacheDecorator) {
+			// Remote cache exposed as-is: already transaction-aware
+			return cache;
+		}
+		return super.decorateCache(cache);
+	}
+
+	/**
+	 * Register a listener with the remote cache of the given tiered cache
+	 * which evicts entries from the local cache when they are removed from
+	 * the remote cache, if supported by the remote cache.
+	 * <p>The default implementation supports JCache-based remote caches.
+	 * @param tieredCache the tiered cache to keep in sync
+	 */
+	protected void registerRemoteEvictionListener(TieredCache tieredCache) {
+		Runnable previousDeregistration = this.listenerDeregistrations.remove(tieredCache.getName());
+		if (previousDeregistration != null) {
+			previousDeregistration.run();
+		}
+		if (jcachePresent && tieredCache.getNativeCache() instanceof javax.cache.Cache<?, ?> jcache) {
+			String registrationId = this.registrationPrefix + tieredCache.getName();
+			localEvictionTargets.put(registrationId, new WeakReference<>(tieredCache));
+			Runnable deregistration;
+			try {
+				deregistration = JCacheDelegate.registerEvictionListener(jcache, registrationId);
+			}
+			catch (RuntimeException ex) {
+				localEvictionTargets.remove(registrationId);
+				throw ex;
+			}
+			this.listenerDeregistrations.put(tieredCache.getName(), () -> {
+				localEvictionTargets.remove(registrationId);
+				deregistration.run();
+			});
+		}
+	}
+
+	/**
+	 * Deregister all listeners registered with remote caches.
+	 */
+	@Override
+	public void destroy() {
+		for (String name : this.listenerDeregistrations.keySet()) {
+			Runnable deregistration = this.listenerDeregistrations.remove(name);
+			if (deregistration != null) {
+				deregistration.run();
+			}
+		}
+	}
+
+	@Nullable
+	private static TieredCache getLocalEvictionTarget(String registrationId) {
+		WeakReference<TieredCache> reference = localEvictionTargets.get(registrationId);
+		return (reference != null ? reference.get() : null);
+	}
+
+
+	/**
+	 * Inner class to avoid a hard dependency on the JCache API at runtime.
+	 */
+	private static class JCacheDelegate {
+
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		public static Runnable registerEvictionListener(javax.cache.Cache<?, ?> jcache, String registrationId) {
+			MutableCacheEntryListenerConfiguration configuration = new MutableCacheEntryListenerConfiguration(
+					new LocalEvictionListenerFactory(registrationId), null, false, true);
+			jcache.registerCacheEntryListener(configuration);
+			return () -> {
+				if (!jcache.isClosed()) {
+					jcache.deregisterCacheEntryListener(configuration);
+				}
+			};
+		}
+	}
+
+
+	/**
+	 * Serializable JCache listener factory which only holds the registration id
+	 * of the tiered cache to keep in sync.
+	 */
+	private static class LocalEvictionListenerFactory implements Factory<LocalEvictionListener> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String registrationId;
+
+		LocalEvictionListenerFactory(String registrationId) {
+			this.registrationId = registrationId;
+		}
+
+		@Override
+		public LocalEvictionListener create() {
+			return new LocalEvictionListener(this.registrationId);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof LocalEvictionListenerFactory that &&
+					this.registrationId.equals(that.registrationId)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.registrationId.hashCode();
+		}
+	}
+
+
+	/**
+	 * JCache listener which evicts removed and expired entries from the local cache,
+	 * looking the tiered cache up by registration id in the current JVM.
+	 */
+	private static class LocalEvictionListener implements
+			CacheEntryRemovedListener<Object, Object>, CacheEntryExpiredListener<Object, Object>, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String registrationId;
+
+		LocalEvictionListener(String registrationId) {
+			this.registrationId = registrationId;
+		}
+
+		@Override
+		public void onRemoved(Iterable<CacheEntryEvent<?, ?>> events) {
+			evictLocal(events);
+		}
+
+		@Override
+		public void onExpired(Iterable<CacheEntryEvent<?, ?>> events) {
+			evictLocal(events);
+		}
+
+		private void evictLocal(Iterable<CacheEntryEvent<?, ?>> events) {
+			TieredCache tieredCache = getLocalEvictionTarget(this.registrationId);
+			if (tieredCache == null) {
+				// Not registered in this JVM or already destroyed
+				return;
+			}
+			for (CacheEntryEvent<?, ?> event : events) {
+				tieredCache.evictLocal(event.getKey());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,10 @@
+/**
+ * Support classes for combining a local cache with a remote cache,
+ * allowing to set up a near cache within Spring's cache abstraction.
+ */
+@NonNullApi
+@NonNullFields
+package org.springframework.cache.tiered;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.lang.NonNullFields;
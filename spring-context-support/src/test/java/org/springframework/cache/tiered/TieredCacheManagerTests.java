@@ -0,0 +1,304 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.tiered;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.cache.Caching;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.CompleteConfiguration;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.EventType;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.core.testfixture.io.SerializationTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.testfixture.CallCountingTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TieredCacheManager} and {@link TieredCache}.
+ */
+class TieredCacheManagerTests {
+
+	private final ConcurrentMapCacheManager localCacheManager = new ConcurrentMapCacheManager();
+
+	private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager("c1");
+
+
+	@Test
+	void exposesTieredCachesForRemoteCacheNames() {
+		TieredCacheManager cacheManager = createCacheManager();
+		assertThat(cacheManager.getCacheNames()).containsOnly("c1");
+		assertThat(cacheManager.getCache("c1")).isInstanceOfSatisfying(TieredCache.class, cache -> {
+			assertThat(cache.getLocalCache()).isSameAs(this.localCacheManager.getCache("c1"));
+			assertThat(cache.getRemoteCache()).isSameAs(this.remoteCacheManager.getCache("c1"));
+		});
+		assertThat(cacheManager.getCache("c2")).isNull();
+	}
+
+	@Test
+	void readsThroughToRemoteCache() {
+		Cache cache = createCacheManager().getCache("c1");
+		Cache localCache = this.localCacheManager.getCache("c1");
+		this.remoteCacheManager.getCache("c1").put("key", "value");
+
+		assertThat(localCache.get("key")).isNull();
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(localCache.get("key", String.class)).isEqualTo("value");
+		assertThat(cache.get("missing")).isNull();
+	}
+
+	@Test
+	void servesReadsFromLocalCache() {
+		Cache cache = createCacheManager().getCache("c1");
+		this.localCacheManager.getCache("c1").put("key", "local");
+		this.remoteCacheManager.getCache("c1").put("key", "remote");
+
+		assertThat(cache.get("key", String.class)).isEqualTo("local");
+		assertThat(cache.get("key", () -> "loaded")).isEqualTo("local");
+	}
+
+	@Test
+	void loadsValueIntoBothTiers() {
+		Cache cache = createCacheManager().getCache("c1");
+
+		assertThat(cache.get("key", () -> "loaded")).isEqualTo("loaded");
+		assertThat(this.localCacheManager.getCache("c1").get("key", String.class)).isEqualTo("loaded");
+		assertThat(this.remoteCacheManager.getCache("c1").get("key", String.class)).isEqualTo("loaded");
+	}
+
+	@Test
+	void writesThroughToBothTiers() {
+		Cache cache = createCacheManager().getCache("c1");
+		Cache localCache = this.localCacheManager.getCache("c1");
+		Cache remoteCache = this.remoteCacheManager.getCache("c1");
+
+		cache.put("key", "value");
+		assertThat(localCache.get("key", String.class)).isEqualTo("value");
+		assertThat(remoteCache.get("key", String.class)).isEqualTo("value");
+
+		assertThat(cache.putIfAbsent("key", "other").get()).isEqualTo("value");
+		assertThat(localCache.get("key", String.class)).isEqualTo("value");
+
+		cache.evict("key");
+		assertThat(localCache.get("key")).isNull();
+		assertThat(remoteCache.get("key")).isNull();
+
+		cache.put("key", "value");
+		cache.clear();
+		assertThat(localCache.get("key")).isNull();
+		assertThat(remoteCache.get("key")).isNull();
+	}
+
+	@Test
+	void readsThroughToRemoteCacheInBulk() {
+		Cache cache = createCacheManager().getCache("c1");
+		Cache localCache = this.localCacheManager.getCache("c1");
+		localCache.put("k1", "local");
+		this.remoteCacheManager.getCache("c1").putAll(Map.of("k1", "remote", "k2", "remote"));
+
+		Map<Object, Cache.ValueWrapper> result = cache.getAll(List.of("k1", "k2", "k3"));
+		assertThat(result.keySet()).containsExactly("k1", "k2");
+		assertThat(result.get("k1").get()).isEqualTo("local");
+		assertThat(result.get("k2").get()).isEqualTo("remote");
+		assertThat(localCache.get("k2", String.class)).isEqualTo("remote");
+	}
+
+	@Test
+	void evictLocalKeepsRemoteEntry() {
+		TieredCache cache = (TieredCache) createCacheManager().getCache("c1");
+		cache.put("key", "value");
+
+		cache.evictLocal("key");
+		assertThat(this.localCacheManager.getCache("c1").get("key")).isNull();
+		assertThat(this.remoteCacheManager.getCache("c1").get("key", String.class)).isEqualTo("value");
+	}
+
+	@Test
+	void retrievesFromRemoteCache() {
+		Cache cache = createCacheManager().getCache("c1");
+		this.remoteCacheManager.getCache("c1").put("key", "value");
+
+		assertThat(cache.retrieve("key").join()).isInstanceOfSatisfying(Cache.ValueWrapper.class,
+				wrapper -> assertThat(wrapper.get()).isEqualTo("value"));
+		assertThat(this.localCacheManager.getCache("c1").get("key", String.class)).isEqualTo("value");
+		assertThat(cache.retrieve("missing")).isNull();
+	}
+
+	@Test
+	void exposesRemoteCacheWithoutLocalCache() {
+		ConcurrentMapCacheManager staticLocalCacheManager = new ConcurrentMapCacheManager("other");
+		TieredCacheManager cacheManager = new TieredCacheManager(staticLocalCacheManager, this.remoteCacheManager);
+		cacheManager.afterPropertiesSet();
+		assertThat(cacheManager.getCache("c1")).isSameAs(this.remoteCacheManager.getCache("c1"));
+	}
+
+	@Test
+	void transactionAwareCacheManager() {
+		TieredCacheManager cacheManager = new TieredCacheManager(this.localCacheManager, this.remoteCacheManager);
+		cacheManager.setTransactionAware(true);
+		cacheManager.afterPropertiesSet();
+		Cache cache = cacheManager.getCache("c1");
+		assertThat(cache).isInstanceOf(TransactionAwareCacheDecorator.class);
+
+		Cache localCache = this.localCacheManager.getCache("c1");
+		Cache remoteCache = this.remoteCacheManager.getCache("c1");
+		TransactionTemplate txTemplate = new TransactionTemplate(new CallCountingTransactionManager());
+		txTemplate.executeWithoutResult(status -> {
+			cache.put("key", "value");
+			assertThat(localCache.get("key")).isNull();
+			assertThat(remoteCache.get("key")).isNull();
+		});
+		assertThat(localCache.get("key", String.class)).isEqualTo("value");
+		assertThat(remoteCache.get("key", String.class)).isEqualTo("value");
+	}
+
+	@Test
+	void localCacheDecoratedForTransactionAwareRemoteCache() {
+		JCacheCacheManager jcacheCacheManager = createJCacheCacheManager();
+		jcacheCacheManager.setTransactionAware(true);
+		jcacheCacheManager.afterPropertiesSet();
+		try {
+			TieredCacheManager cacheManager = new TieredCacheManager(this.localCacheManager, jcacheCacheManager);
+			cacheManager.afterPropertiesSet();
+			TieredCache cache = (TieredCache) cacheManager.getCache("c1");
+			assertThat(cache.getLocalCache()).isInstanceOf(TransactionAwareCacheDecorator.class);
+			assertThat(cache.getRemoteCache()).isInstanceOf(TransactionAwareCacheDecorator.class);
+		}
+		finally {
+			jcacheCacheManager.getCacheManager().close();
+		}
+	}
+
+	@Test
+	void localEntryEvictedWhenRemovedFromJCache() {
+		JCacheCacheManager jcacheCacheManager = createJCacheCacheManager();
+		jcacheCacheManager.afterPropertiesSet();
+		try {
+			TieredCacheManager cacheManager = new TieredCacheManager(this.localCacheManager, jcacheCacheManager);
+			cacheManager.afterPropertiesSet();
+			Cache cache = cacheManager.getCache("c1");
+			Cache localCache = this.localCacheManager.getCache("c1");
+			javax.cache.Cache<Object, Object> jcache = jcacheCacheManager.getCacheManager().getCache("c1");
+
+			cache.put("key", "value");
+			assertThat(localCache.get("key", String.class)).isEqualTo("value");
+			jcache.remove("key");
+			assertThat(localCache.get("key")).isNull();
+			assertThat(cache.get("key")).isNull();
+		}
+		finally {
+			jcacheCacheManager.getCacheManager().close();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void evictionListenerConfigurationIsSerializable() throws Exception {
+		JCacheCacheManager jcacheCacheManager = createJCacheCacheManager();
+		jcacheCacheManager.afterPropertiesSet();
+		try {
+			TieredCacheManager cacheManager = new TieredCacheManager(this.localCacheManager, jcacheCacheManager);
+			cacheManager.afterPropertiesSet();
+			Cache cache = cacheManager.getCache("c1");
+			javax.cache.Cache<Object, Object> jcache = jcacheCacheManager.getCacheManager().getCache("c1");
+			CacheEntryListenerConfiguration<Object, Object> configuration = jcache
+					.getConfiguration(CompleteConfiguration.class).getCacheEntryListenerConfigurations()
+					.iterator().next();
+
+			CacheEntryListenerConfiguration<Object, Object> copy =
+					SerializationTestUtils.serializeAndDeserialize(configuration);
+			CacheEntryRemovedListener<Object, Object> listener =
+					(CacheEntryRemovedListener<Object, Object>) copy.getCacheEntryListenerFactory().create();
+			cache.put("key", "value");
+			listener.onRemoved(List.of(new RemovedEvent(jcache, "key")));
+			assertThat(this.localCacheManager.getCache("c1").get("key")).isNull();
+
+			cacheManager.destroy();
+			assertThat(jcache.getConfiguration(CompleteConfiguration.class)
+					.getCacheEntryListenerConfigurations()).isEmpty();
+			this.localCacheManager.getCache("c1").put("key", "value");
+			listener.onRemoved(List.of(new RemovedEvent(jcache, "key")));
+			assertThat(this.localCacheManager.getCache("c1").get("key", String.class)).isEqualTo("value");
+		}
+		finally {
+			jcacheCacheManager.getCacheManager().close();
+		}
+	}
+
+
+	private TieredCacheManager createCacheManager() {
+		TieredCacheManager cacheManager = new TieredCacheManager(this.localCacheManager, this.remoteCacheManager);
+		cacheManager.afterPropertiesSet();
+		return cacheManager;
+	}
+
+	private JCacheCacheManager createJCacheCacheManager() {
+		javax.cache.CacheManager cacheManager = Caching.getCachingProvider(
+				"org.ehcache.jsr107.EhcacheCachingProvider").getCacheManager();
+		cacheManager.createCache("c1", new MutableConfiguration<>());
+		return new JCacheCacheManager(cacheManager);
+	}
+
+
+	@SuppressWarnings("serial")
+	private static class RemovedEvent extends CacheEntryEvent<Object, Object> {
+
+		private final Object key;
+
+		RemovedEvent(javax.cache.Cache<Object, Object> source, Object key) {
+			super(source, EventType.REMOVED);
+			this.key = key;
+		}
+
+		@Override
+		public Object getKey() {
+			return this.key;
+		}
+
+		@Override
+		public Object getValue() {
+			return null;
+		}
+
+		@Override
+		public Object getOldValue() {
+			return null;
+		}
+
+		@Override
+		public boolean isOldValueAvailable() {
+			return false;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> clazz) {
+			throw new IllegalArgumentException("Cannot unwrap to " + clazz);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.context.expression;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -25,13 +26,20 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheAspectSupport;
+import org.springframework.cache.interceptor.CacheInterceptor;
 import org.springframework.context.support.GenericApplicationContext;
 
 /**
- * Benchmark for application context expressions resolution during prototype bean creation.
+ * Benchmark for application context expressions resolution during prototype bean creation,
+ * as well as for cache key expressions evaluated on {@code @Cacheable} method invocations.
  * @author Brian Clozel
  */
 @BenchmarkMode(Mode.Throughput)
@@ -68,4 +76,42 @@ public class ApplicationContextExpressionBenchmark {
 		bh.consume(tb.getName());
 		bh.consume(tb.getCountry());
 	}
+
+	@State(Scope.Benchmark)
+	public static class CacheableState {
+
+		public CacheableService service;
+
+		@Setup
+		public void setup() {
+			CacheInterceptor interceptor = new CacheInterceptor();
+			interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+			interceptor.setCacheManager(new ConcurrentMapCacheManager());
+			interceptor.afterPropertiesSet();
+			interceptor.afterSingletonsInstantiated();
+			ProxyFactory proxyFactory = new ProxyFactory(new CacheableService());
+			proxyFactory.setProxyTargetClass(true);
+			proxyFactory.addAdvice(interceptor);
+			this.service = (CacheableService) proxyFactory.getProxy();
+		}
+	}
+
+	@Benchmark
+	public void cacheableKeyExpression(CacheableState state, Blackhole bh) {
+		bh.consume(state.service.findName(42L, "UK"));
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = "-D" + CacheAspectSupport.REUSE_EVALUATION_CONTEXT_PROPERTY_NAME + "=true")
+	public void cacheableKeyExpressionWithReusedContext(CacheableState state, Blackhole bh) {
+		bh.consume(state.service.findName(42L, "UK"));
+	}
+
+	public static class CacheableService {
+
+		@Cacheable(cacheNames = "names", key = "#id + '-' + #country", condition = "#id > 0")
+		public String findName(Long id, String country) {
+			return "juergen";
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package org.springframework.cache;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -108,6 +111,33 @@ public interface Cache {
 	@Nullable
 	<T> T get(Object key, Callable<T> valueLoader);
 
+	/**
+	 * Return the values to which this cache maps the specified keys.
+	 * <p>The returned map contains an entry for each of the given keys that
+	 * this cache contains a mapping for, in the iteration order of the given
+	 * keys, with the value wrapped in a {@link ValueWrapper} as returned by
+	 * {@link #get(Object)}. Keys without a mapping are not contained in it.
+	 * <p>The default implementation delegates to {@link #get(Object)} for each
+	 * key. Implementations are encouraged to fetch all entries at once through
+	 * a bulk operation of the native cache, avoiding a round-trip per key.
+	 * @param keys the keys whose associated values are to be returned
+	 * @return a map of the cached values, keyed by the given keys
+	 * (never {@code null}, but possibly empty)
+	 * @since 6.2
+	 * @see #get(Object)
+	 * @see #putAll(Map)
+	 */
+	default Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		Map<Object, ValueWrapper> result = new LinkedHashMap<>(keys.size());
+		for (Object key : keys) {
+			ValueWrapper valueWrapper = get(key);
+			if (valueWrapper != null) {
+				result.put(key, valueWrapper);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Return the value to which this cache maps the specified key,
 	 * wrapped in a {@link CompletableFuture}. This operation must not block
@@ -223,6 +253,23 @@ public interface Cache {
 		return existingValue;
 	}
 
+	/**
+	 * Associate each of the specified values with its key in this cache.
+	 * <p>The same semantics as for {@link #put(Object, Object)} apply to each
+	 * entry, including a potentially asynchronous or deferred registration.
+	 * <p>The default implementation delegates to {@link #put(Object, Object)}
+	 * for each entry. Implementations are encouraged to store all entries at
+	 * once through a bulk operation of the native cache.
+	 * @param entries the keys and values to be associated with each other
+	 * (values may be {@code null})
+	 * @since 6.2
+	 * @see #put(Object, Object)
+	 * @see #getAll(Collection)
+	 */
+	default void putAll(Map<?, ?> entries) {
+		entries.forEach(this::put);
+	}
+
 	/**
 	 * Evict the mapping for this key from this cache if it is present.
 	 * <p>Actual eviction may be performed in an asynchronous or deferred
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -194,4 +194,54 @@ public @interface Cacheable {
 	 */
 	boolean sync() default false;
 
+	/**
+	 * The age after which a value cached by this operation is refreshed ahead
+	 * of its expiration, e.g. {@code "30s"} or {@code "PT5M"}.
+	 * <p>Default is {@code ""}, meaning that cached values are not refreshed.
+	 * <p>A cache hit for a value that has been written longer ago than the
+	 * specified duration returns the cached value as usual and triggers an
+	 * asynchronous invocation of the method in order to update the cache, so
+	 * that the value is renewed before the cache provider expires it. Refreshes
+	 * run on the {@linkplain org.springframework.cache.interceptor.CacheAspectSupport#setRefreshExecutor
+	 * refresh executor}, at most once at a time per cache key, and proceed
+	 * through a copy of the original method invocation: advice applied after
+	 * the cache interceptor applies to the refresh as well.
+	 * <p>Values are cached as usual, while their write time is tracked by the
+	 * cache interceptor. Values it does not know about, e.g. written by another
+	 * node accessing a distributed cache, are aged from their first hit.
+	 * <p>Refresh-ahead is supported for imperative methods and methods returning a
+	 * {@link java.util.concurrent.CompletableFuture} on proxy-based caching, and
+	 * only if no other cache operation is declared on the method. It is rejected
+	 * for reactive return types and cannot be combined with {@link #sync()}.
+	 * @since 6.2
+	 * @see org.springframework.format.annotation.DurationFormat.Style
+	 */
+	String refreshAfter() default "";
+
+	/**
+	 * Cache the entries of the returned map individually, keyed by the elements
+	 * of the collection of keys passed to the method.
+	 * <p>Default is {@code false}, caching the returned value as a whole.
+	 * <p>A batch operation applies to a method whose first parameter is a
+	 * {@link java.util.Collection} of keys and which returns a {@link java.util.Map}
+	 * of the values found for those keys. On invocation, all keys are looked up
+	 * at once through {@link org.springframework.cache.Cache#getAll}, and the
+	 * method is only invoked for the keys that are missing, with a collection of
+	 * those keys in place of the original argument. The values it returns are
+	 * stored through {@link org.springframework.cache.Cache#putAll}, and the
+	 * cached and the loaded values are combined into the returned map, ordered
+	 * like the given keys.
+	 * <p>Each element of the collection is used as a cache key as-is, so the
+	 * {@link #key()} and {@link #unless()} attributes are not supported, and
+	 * neither is a combination with other cache operations, {@link #sync()} or
+	 * {@link #refreshAfter()}. The {@link #condition()} is evaluated against
+	 * the original arguments.
+	 * <p>Note that replacing the argument requires proxy-based interception:
+	 * with AspectJ weaving, the method is invoked for all keys on a partial miss.
+	 * @since 6.2
+	 * @see org.springframework.cache.Cache#getAll(java.util.Collection)
+	 * @see org.springframework.cache.Cache#putAll(java.util.Map)
+	 */
+	boolean batch() default false;
+
 }
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Simple {@link org.springframework.cache.Cache} implementation bounded by
+ * a maximum number of entries, evicting the least recently used entries once
+ * the limit is exceeded. Entries may also expire after a fixed duration since
+ * they were written: expired entries are removed once read, and purged in
+ * write order as part of subsequent writes, so that they do not accumulate
+ * in a cache that is written to but rarely read.
+ *
+ * <p>Based on the {@link ConcurrentLruCache} from the core utility package,
+ * this provides a bounded alternative to {@link ConcurrentMapCache} without
+ * requiring a third-party caching library. Hits, misses and evictions are
+ * recorded and exposed as a {@link ConcurrentMapCacheStatistics} snapshot
+ * through {@link #getStatistics()}.
+ *
+ * <p>Supports the {@link #retrieve(Object)} and {@link #retrieve(Object, Supplier)}
+ * operations in a best-effort fashion, relying on default {@link CompletableFuture}
+ * execution (typically within the JVM's {@link ForkJoinPool#commonPool()}).
+ *
+ * <p>Concurrent {@link #get(Object, Callable)} calls for the same missing key
+ * share a single invocation of the value loader. Similar to
+ * {@link ConcurrentHashMap#computeIfAbsent}, a value loader must not load
+ * the same key from this cache recursively: this fails with an
+ * {@link IllegalStateException} instead of waiting for itself. For advanced local caching
+ * needs, consider {@link org.springframework.cache.caffeine.CaffeineCache}.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see ConcurrentMapCacheManager#setMaximumSize
+ * @see ConcurrentMapCacheManager#setExpireAfterWrite
+ */
+public class BoundedConcurrentMapCache extends AbstractValueAdaptingCache {
+
+	private final String name;
+
+	private final ConcurrentLruCache<Object, Object> store;
+
+	private final long expireAfterWriteNanos;
+
+	@Nullable
+	private final SerializationDelegate serialization;
+
+	private final ConcurrentMap<Object, LoadingFuture> loading = new ConcurrentHashMap<>();
+
+	private final Queue<PendingExpiration> expirationQueue = new ConcurrentLinkedQueue<>();
+
+	private final AtomicBoolean purging = new AtomicBoolean();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and
+	 * maximum size, without expiration of entries.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries in the cache
+	 */
+	public BoundedConcurrentMapCache(String name, int maximumSize) {
+		this(name, maximumSize, null, true, null);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name,
+	 * maximum size and expiration.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries in the cache
+	 * @param expireAfterWrite the duration after which an entry expires once
+	 * it has been written, or {@code null} for no expiration
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 */
+	public BoundedConcurrentMapCache(String name, int maximumSize,
+			@Nullable Duration expireAfterWrite, boolean allowNullValues) {
+
+		this(name, maximumSize, expireAfterWrite, allowNullValues, null);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name,
+	 * maximum size and expiration. If the {@link SerializationDelegate} is
+	 * specified, {@link #isStoreByValue() store-by-value} is enabled.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries in the cache
+	 * @param expireAfterWrite the duration after which an entry expires once
+	 * it has been written, or {@code null} for no expiration
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 * @param serialization the {@link SerializationDelegate} to use
+	 * to serialize cache entry or {@code null} to store the reference
+	 */
+	protected BoundedConcurrentMapCache(String name, int maximumSize, @Nullable Duration expireAfterWrite,
+			boolean allowNullValues, @Nullable SerializationDelegate serialization) {
+
+		super(allowNullValues);
+		Assert.notNull(name, "Name must not be null");
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+		Assert.isTrue(expireAfterWrite == null || !expireAfterWrite.isNegative(),
+				"Expiration duration must not be negative");
+		this.name = name;
+		this.store = new ConcurrentLruCache<>(maximumSize, key -> {
+			throw new IllegalStateException("Cache values are only stored explicitly");
+		}, (key, value) -> this.evictionCount.increment());
+		this.expireAfterWriteNanos = (expireAfterWrite != null && !expireAfterWrite.isZero() ?
+				expireAfterWrite.toNanos() : 0);
+		this.serialization = serialization;
+	}
+
+
+	/**
+	 * Return whether this cache stores a copy of each entry ({@code true}) or
+	 * a reference ({@code false}, default). If store by value is enabled, each
+	 * entry in the cache must be serializable.
+	 */
+	public final boolean isStoreByValue() {
+		return (this.serialization != null);
+	}
+
+	/**
+	 * Return the maximum number of entries in this cache.
+	 */
+	public final int getMaximumSize() {
+		return this.store.capacity();
+	}
+
+	/**
+	 * Return a snapshot of the hit, miss and eviction counts recorded by this cache.
+	 */
+	public ConcurrentMapCacheStatistics getStatistics() {
+		return new ConcurrentMapCacheStatistics(this.hitCount.sum(), this.missCount.sum(),
+				this.evictionCount.sum(), this.store.size());
+	}
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	@Override
+	public final ConcurrentLruCache<Object, Object> getNativeCache() {
+		return this.store;
+	}
+
+	@Override
+	@Nullable
+	protected Object lookup(Object key) {
+		Object storeValue = getIfNotExpired(key);
+		if (storeValue != null) {
+			this.hitCount.increment();
+		}
+		else {
+			this.missCount.increment();
+		}
+		return storeValue;
+	}
+
+	@Nullable
+	private Object getIfNotExpired(Object key) {
+		Object value = this.store.getIfPresent(key);
+		if (value instanceof ExpiringValue expiringValue) {
+			if (expiringValue.isExpired()) {
+				// Only remove the expired entry itself, not a value written concurrently
+				if (this.store.remove(key, expiringValue)) {
+					this.evictionCount.increment();
+				}
+				return null;
+			}
+			return expiringValue.storeValue();
+		}
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		Object storeValue = lookup(key);
+		if (storeValue == null) {
+			storeValue = load(key, valueLoader);
+		}
+		return (T) fromStoreValue(storeValue);
+	}
+
+	private Object load(Object key, Callable<?> valueLoader) {
+		LoadingFuture future = new LoadingFuture();
+		LoadingFuture inFlight = this.loading.putIfAbsent(key, future);
+		if (inFlight != null) {
+			if (inFlight.loadingThread == Thread.currentThread()) {
+				// Value loader for the same key on the same thread: would wait for itself
+				throw new IllegalStateException("Recursive load of key '" + key + "' in cache '" + this.name + "'");
+			}
+			try {
+				return inFlight.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw ex;
+			}
+		}
+		try {
+			Object storeValue = getIfNotExpired(key);
+			if (storeValue == null) {
+				try {
+					storeValue = toStoreValue(valueLoader.call());
+				}
+				catch (Throwable ex) {
+					throw new ValueRetrievalException(key, valueLoader, ex);
+				}
+				Object existing = putIfAbsentInternal(key, storeValue);
+				if (existing != null) {
+					storeValue = existing;
+				}
+			}
+			future.complete(storeValue);
+			return storeValue;
+		}
+		catch (RuntimeException ex) {
+			future.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.loading.remove(key, future);
+		}
+	}
+
+	@Override
+	@Nullable
+	public CompletableFuture<?> retrieve(Object key) {
+		Object value = lookup(key);
+		return (value != null ? CompletableFuture.completedFuture(
+				isAllowNullValues() ? toValueWrapper(value) : fromStoreValue(value)) : null);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return CompletableFuture.supplyAsync(() -> get(key, () -> valueLoader.get().join()));
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		Object storeValue = wrap(toStoreValue(value));
+		this.store.put(key, storeValue);
+		written(key, storeValue);
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		return toValueWrapper(putIfAbsentInternal(key, toStoreValue(value)));
+	}
+
+	@Nullable
+	private Object putIfAbsentInternal(Object key, Object storeValue) {
+		Object existing = getIfNotExpired(key);
+		if (existing != null) {
+			return existing;
+		}
+		Object wrapped = wrap(storeValue);
+		existing = this.store.putIfAbsent(key, wrapped);
+		if (existing == null) {
+			written(key, wrapped);
+		}
+		return (existing instanceof ExpiringValue expiringValue ? expiringValue.storeValue() : existing);
+	}
+
+	private Object wrap(Object storeValue) {
+		return (this.expireAfterWriteNanos > 0 ?
+				new ExpiringValue(storeValue, System.nanoTime() + this.expireAfterWriteNanos) : storeValue);
+	}
+
+	/**
+	 * Track the expiration of the given written value, and purge the entries
+	 * that expired in the meantime. Since all entries expire after the same
+	 * duration, they expire in write order and only the head of the queue
+	 * needs to be checked, with a single thread purging at a time.
+	 */
+	private void written(Object key, Object value) {
+		if (!(value instanceof ExpiringValue expiringValue)) {
+			return;
+		}
+		this.expirationQueue.add(new PendingExpiration(key, expiringValue));
+		if (this.purging.compareAndSet(false, true)) {
+			try {
+				PendingExpiration pending = this.expirationQueue.peek();
+				while (pending != null && pending.value().isExpired()) {
+					this.expirationQueue.poll();
+					// Only remove the expired value itself, not a value written since
+					if (this.store.remove(pending.key(), pending.value())) {
+						this.evictionCount.increment();
+					}
+					pending = this.expirationQueue.peek();
+				}
+			}
+			finally {
+				this.purging.set(false);
+			}
+		}
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.store.remove(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		return this.store.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		this.store.clear();
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean notEmpty = (this.store.size() > 0);
+		this.store.clear();
+		return notEmpty;
+	}
+
+	@Override
+	protected Object toStoreValue(@Nullable Object userValue) {
+		Object storeValue = super.toStoreValue(userValue);
+		if (this.serialization != null) {
+			try {
+				return this.serialization.serializeToByteArray(storeValue);
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to serialize cache value '" + userValue +
+						"'. Does it implement Serializable?", ex);
+			}
+		}
+		else {
+			return storeValue;
+		}
+	}
+
+	@Override
+	@Nullable
+	protected Object fromStoreValue(@Nullable Object storeValue) {
+		if (storeValue != null && this.serialization != null) {
+			try {
+				return super.fromStoreValue(this.serialization.deserializeFromByteArray((byte[]) storeValue));
+			}
+			catch (Throwable ex) {
+				throw new IllegalArgumentException("Failed to deserialize cache value '" + storeValue + "'", ex);
+			}
+		}
+		else {
+			return super.fromStoreValue(storeValue);
+		}
+	}
+
+
+	/**
+	 * Future for a value loader invocation in progress, along with the
+	 * thread that invokes the value loader.
+	 */
+	private static class LoadingFuture extends CompletableFuture<Object> {
+
+		final Thread loadingThread = Thread.currentThread();
+	}
+
+
+	/**
+	 * Written value awaiting expiration, in write order.
+	 */
+	private record PendingExpiration(Object key, ExpiringValue value) {
+	}
+
+
+	/**
+	 * Holder for a store value along with its expiration time.
+	 */
+	private record ExpiringValue(Object storeValue, long expirationTime) {
+
+		boolean isExpired() {
+			return (System.nanoTime() - this.expirationTime >= 0);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,11 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -29,6 +31,8 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.core.serializer.support.SerializationDelegate;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link CacheManager} implementation that lazily builds {@link ConcurrentMapCache}
@@ -40,8 +44,14 @@ import org.springframework.lang.Nullable;
  * {@link Cache#retrieve(Object, Supplier)} operations through basic
  * {@code CompletableFuture} adaptation, with early-determined cache misses.
  *
- * <p>Note: This is by no means a sophisticated CacheManager; it comes with no
- * cache configuration options. However, it may be useful for testing or simple
+ * <p>Caches are unbounded by default. A {@link #setMaximumSize maximum size}
+ * and/or an {@link #setExpireAfterWrite expiration} may be configured, in which
+ * case {@link BoundedConcurrentMapCache} instances with least-recently-used
+ * eviction are created instead, exposing their statistics through
+ * {@link #getCacheStatistics()}.
+ *
+ * <p>Note: This is by no means a sophisticated CacheManager; it comes with only
+ * basic cache configuration options. However, it may be useful for testing or simple
  * caching scenarios. For advanced local caching needs, consider
  * {@link org.springframework.cache.caffeine.CaffeineCacheManager} or
  * {@link org.springframework.cache.jcache.JCacheCacheManager}.
@@ -60,6 +70,11 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 
 	private boolean storeByValue = false;
 
+	private int maximumSize = 0;
+
+	@Nullable
+	private Duration expireAfterWrite;
+
 	@Nullable
 	private SerializationDelegate serialization;
 
@@ -150,6 +165,58 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return this.storeByValue;
 	}
 
+	/**
+	 * Specify the maximum number of entries for each cache in this cache manager,
+	 * evicting the least recently used entries once the limit is exceeded.
+	 * <p>Default is 0, meaning that caches are unbounded.
+	 * <p>Note: A change of the maximum size will reset all existing caches,
+	 * if any, to reconfigure them with the new limit.
+	 * @since 6.2
+	 * @see BoundedConcurrentMapCache
+	 */
+	public void setMaximumSize(int maximumSize) {
+		Assert.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+		if (maximumSize != this.maximumSize) {
+			this.maximumSize = maximumSize;
+			// Need to recreate all Cache instances with the new size limit...
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the maximum number of entries for each cache,
+	 * or 0 if caches are unbounded.
+	 * @since 6.2
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Specify the duration after which cache entries expire once written.
+	 * <p>Default is none, meaning that entries do not expire.
+	 * <p>Note: A change of the expiration will reset all existing caches,
+	 * if any, to reconfigure them with the new expiration.
+	 * @since 6.2
+	 * @see BoundedConcurrentMapCache
+	 */
+	public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+		if (!ObjectUtils.nullSafeEquals(expireAfterWrite, this.expireAfterWrite)) {
+			this.expireAfterWrite = expireAfterWrite;
+			// Need to recreate all Cache instances with the new expiration...
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the duration after which cache entries expire, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Duration getExpireAfterWrite() {
+		return this.expireAfterWrite;
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.serialization = new SerializationDelegate(classLoader);
@@ -175,6 +242,24 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return cache;
 	}
 
+	/**
+	 * Return a snapshot of the statistics of each bounded cache, keyed by cache name.
+	 * <p>Statistics are only recorded once a {@link #setMaximumSize maximum size}
+	 * or an {@link #setExpireAfterWrite expiration} is configured; the returned
+	 * map is empty for unbounded caches.
+	 * @since 6.2
+	 * @see BoundedConcurrentMapCache#getStatistics()
+	 */
+	public Map<String, ConcurrentMapCacheStatistics> getCacheStatistics() {
+		Map<String, ConcurrentMapCacheStatistics> statistics = new LinkedHashMap<>(this.cacheMap.size());
+		this.cacheMap.forEach((name, cache) -> {
+			if (cache instanceof BoundedConcurrentMapCache boundedCache) {
+				statistics.put(name, boundedCache.getStatistics());
+			}
+		});
+		return statistics;
+	}
+
 	private void recreateCaches() {
 		for (Map.Entry<String, Cache> entry : this.cacheMap.entrySet()) {
 			entry.setValue(createConcurrentMapCache(entry.getKey()));
@@ -182,12 +267,18 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	}
 
 	/**
-	 * Create a new ConcurrentMapCache instance for the specified cache name.
+	 * Create a new ConcurrentMapCache instance for the specified cache name,
+	 * or a {@link BoundedConcurrentMapCache} if a maximum size or an expiration
+	 * has been configured.
 	 * @param name the name of the cache
 	 * @return the ConcurrentMapCache (or a decorator thereof)
 	 */
 	protected Cache createConcurrentMapCache(String name) {
 		SerializationDelegate actualSerialization = (isStoreByValue() ? this.serialization : null);
+		if (this.maximumSize > 0 || this.expireAfterWrite != null) {
+			return new BoundedConcurrentMapCache(name, (this.maximumSize > 0 ? this.maximumSize : Integer.MAX_VALUE),
+					this.expireAfterWrite, isAllowNullValues(), actualSerialization);
+		}
 		return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), isAllowNullValues(), actualSerialization);
 	}
 
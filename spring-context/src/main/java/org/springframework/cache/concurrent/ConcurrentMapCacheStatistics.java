@@ -0,0 +1,50 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+/**
+ * Immutable snapshot of the statistics recorded by a {@link BoundedConcurrentMapCache}.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @param hitCount the number of lookups that returned a cached value
+ * @param missCount the number of lookups that did not find a cached value
+ * @param evictionCount the number of entries removed because of the size
+ * limit or because they expired
+ * @param size the number of entries in the cache at the time of the snapshot
+ * @see BoundedConcurrentMapCache#getStatistics()
+ * @see ConcurrentMapCacheManager#getCacheStatistics()
+ */
+public record ConcurrentMapCacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+
+	/**
+	 * Return the total number of lookups, i.e. the sum of hits and misses.
+	 */
+	public long requestCount() {
+		return this.hitCount + this.missCount;
+	}
+
+	/**
+	 * Return the ratio of lookups that returned a cached value,
+	 * or {@code 1.0} if no lookup has been performed yet.
+	 */
+	public double hitRate() {
+		long requestCount = requestCount();
+		return (requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount);
+	}
+
+}
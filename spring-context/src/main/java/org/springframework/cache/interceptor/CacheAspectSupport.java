@@ -18,14 +18,19 @@ package org.springframework.cache.interceptor;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
@@ -49,16 +54,20 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.CollectionFactory;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.SpringProperties;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ObjectUtils;
@@ -116,18 +125,51 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	private static final boolean shouldIgnoreReactiveStreams =
 			SpringProperties.getFlag(IGNORE_REACTIVESTREAMS_PROPERTY_NAME);
 
+	/**
+	 * System property that instructs Spring's caching infrastructure to reuse
+	 * the SpEL evaluation context for key, condition and unless expressions
+	 * within a cached method invocation, rather than creating a new context
+	 * for every evaluation.
+	 * <p>Switch this flag to "true" on busy services to reduce the allocation
+	 * per cached method invocation. The context is discarded at the end of
+	 * the invocation, so threads do not retain it.
+	 * @since 6.2
+	 */
+	public static final String REUSE_EVALUATION_CONTEXT_PROPERTY_NAME = "spring.cache.evaluationContext.reuse";
+
+	private static final boolean shouldReuseEvaluationContext =
+			SpringProperties.getFlag(REUSE_EVALUATION_CONTEXT_PROPERTY_NAME);
+
 	private static final boolean reactiveStreamsPresent = ClassUtils.isPresent(
 			"org.reactivestreams.Publisher", CacheAspectSupport.class.getClassLoader());
 
+	/**
+	 * The name of the {@link TaskExecutor} bean to refresh cached values on by
+	 * default if there is no unique {@code TaskExecutor} bean: {@value}.
+	 * @since 6.2
+	 * @see #setRefreshExecutor
+	 */
+	public static final String DEFAULT_REFRESH_EXECUTOR_BEAN_NAME = "taskExecutor";
+
+	private static final int REFRESH_AHEAD_WRITE_TIMES_CAPACITY = 8192;
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private final Map<CacheOperationCacheKey, CacheOperationMetadata> metadataCache = new ConcurrentHashMap<>(1024);
 
+	private final ConcurrentMap<CacheMissKey, Object> inFlightCacheMisses = new ConcurrentHashMap<>(64);
+
+	private final Set<CacheEntryKey> refreshesInProgress = ConcurrentHashMap.newKeySet();
+
+	// Entries unknown to this aspect, e.g. written by another node, are aged from their first hit
+	private final ConcurrentLruCache<CacheEntryKey, Long> refreshAheadWriteTimes =
+			new ConcurrentLruCache<>(REFRESH_AHEAD_WRITE_TIMES_CAPACITY, key -> System.currentTimeMillis());
+
 	private final StandardEvaluationContext originalEvaluationContext = new StandardEvaluationContext();
 
 	private final CacheOperationExpressionEvaluator evaluator = new CacheOperationExpressionEvaluator(
-			new CacheEvaluationContextFactory(this.originalEvaluationContext));
+			new CacheEvaluationContextFactory(this.originalEvaluationContext, shouldReuseEvaluationContext));
 
 	@Nullable
 	private final ReactiveCachingHandler reactiveCachingHandler;
@@ -143,6 +185,11 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	@Nullable
 	private BeanFactory beanFactory;
 
+	private boolean coalesceCacheMisses = false;
+
+	@Nullable
+	private SingletonSupplier<TaskExecutor> refreshExecutor;
+
 	private boolean initialized = false;
 
 
@@ -243,6 +290,69 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		this.cacheResolver = SingletonSupplier.of(new SimpleCacheResolver(cacheManager));
 	}
 
+	/**
+	 * Specify whether concurrent misses for the same cache key should share a
+	 * single invocation of the underlying method.
+	 * <p>Default is {@code false}. Switch this flag to {@code true} in order to
+	 * protect expensive methods against a burst of identical invocations when a
+	 * popular entry is missing, e.g. after it expired. The first caller invokes
+	 * the method and populates the cache while concurrent callers for the same
+	 * method, caches and keys of all its cacheable operations wait for that
+	 * invocation and receive its result (or exception) instead of invoking the
+	 * method themselves. This works with any cache provider and applies to
+	 * imperative methods as well as to methods returning a {@link CompletableFuture}
+	 * or a single-value reactive type such as Reactor's {@link Mono}; the latter
+	 * two are coalesced without blocking.
+	 * <p>A miss for the same key within the invocation itself, i.e. a recursive
+	 * call on the invoking thread, is not coalesced since it would wait for its
+	 * own result: the method is invoked again instead.
+	 * <p>Only {@link org.springframework.cache.annotation.Cacheable} methods
+	 * without any other cache operation are coalesced, since {@code @CachePut}
+	 * and {@code @CacheEvict} operations are expected to be processed for each
+	 * invocation. Operations declared with {@code sync=true} keep relying on
+	 * the locking semantics of {@link Cache#get(Object, java.util.concurrent.Callable)}.
+	 * @since 6.2
+	 */
+	public void setCoalesceCacheMisses(boolean coalesceCacheMisses) {
+		this.coalesceCacheMisses = coalesceCacheMisses;
+	}
+
+	/**
+	 * Return whether concurrent misses for the same cache key share a single
+	 * invocation of the underlying method.
+	 * @since 6.2
+	 */
+	public boolean isCoalesceCacheMisses() {
+		return this.coalesceCacheMisses;
+	}
+
+	/**
+	 * Set the {@link TaskExecutor} to refresh cached values on for operations
+	 * that specify a {@link CacheableOperation#getRefreshAfter() refresh-ahead}
+	 * duration.
+	 * <p>By default, a unique {@code TaskExecutor} bean in the containing bean
+	 * factory is used, or otherwise a {@code TaskExecutor} bean named
+	 * {@value #DEFAULT_REFRESH_EXECUTOR_BEAN_NAME}. Refresh-ahead operations
+	 * fail with an {@link IllegalStateException} if no executor is available.
+	 * Refreshes rejected by the executor keep the cached value until a
+	 * subsequent hit.
+	 * @since 6.2
+	 * @see org.springframework.cache.annotation.Cacheable#refreshAfter()
+	 */
+	public void setRefreshExecutor(TaskExecutor refreshExecutor) {
+		this.refreshExecutor = SingletonSupplier.of(refreshExecutor);
+	}
+
+	/**
+	 * Return the {@link TaskExecutor} that cached values are refreshed on,
+	 * if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public TaskExecutor getRefreshExecutor() {
+		return SupplierUtils.resolve(this.refreshExecutor);
+	}
+
 	/**
 	 * Set the containing {@link BeanFactory} for {@link CacheManager} and other
 	 * service lookups.
@@ -292,9 +402,32 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 						+ "register a CacheManager bean or remove the @EnableCaching annotation from your configuration.");
 			}
 		}
+		if (this.refreshExecutor == null && this.beanFactory != null) {
+			// Lazily resolve default refresh executor, only once needed by a refresh-ahead operation
+			BeanFactory beanFactory = this.beanFactory;
+			this.refreshExecutor = SingletonSupplier.of(() -> findDefaultRefreshExecutor(beanFactory));
+		}
 		this.initialized = true;
 	}
 
+	@Nullable
+	private TaskExecutor findDefaultRefreshExecutor(BeanFactory beanFactory) {
+		try {
+			return beanFactory.getBean(TaskExecutor.class);
+		}
+		catch (NoUniqueBeanDefinitionException ex) {
+			try {
+				return beanFactory.getBean(DEFAULT_REFRESH_EXECUTOR_BEAN_NAME, TaskExecutor.class);
+			}
+			catch (NoSuchBeanDefinitionException ex2) {
+				return null;
+			}
+		}
+		catch (NoSuchBeanDefinitionException ex) {
+			return null;
+		}
+	}
+
 
 	/**
 	 * Convenience method to return a String representation of this Method
@@ -399,6 +532,25 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	@Nullable
 	protected Object execute(CacheOperationInvoker invoker, Object target, Method method, Object[] args) {
+		return execute(invoker, target, method, args, null);
+	}
+
+	/**
+	 * Variant of {@link #execute(CacheOperationInvoker, Object, Method, Object[])}
+	 * with a separate invoker for refreshing a cached value ahead of time.
+	 * <p>The refresh invoker is called on the {@linkplain #setRefreshExecutor
+	 * refresh executor} after the current invocation completed with a cache
+	 * hit, and must therefore be able to invoke the underlying operation
+	 * independently of the given invoker, once per call.
+	 * @param refreshInvoker the invoker to refresh cached values with, or
+	 * {@code null} if refresh-ahead is not supported
+	 * @since 6.2
+	 * @see org.springframework.cache.annotation.Cacheable#refreshAfter()
+	 */
+	@Nullable
+	protected Object execute(CacheOperationInvoker invoker, Object target, Method method, Object[] args,
+			@Nullable CacheOperationInvoker refreshInvoker) {
+
 		// Check whether aspect is enabled (to cope with cases where the AJ is pulled in automatically)
 		if (this.initialized) {
 			Class<?> targetClass = AopProxyUtils.ultimateTargetClass(target);
@@ -406,8 +558,17 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			if (cacheOperationSource != null) {
 				Collection<CacheOperation> operations = cacheOperationSource.getCacheOperations(method, targetClass);
 				if (!CollectionUtils.isEmpty(operations)) {
-					return execute(invoker, method,
-							new CacheOperationContexts(operations, method, args, target, targetClass));
+					boolean invocationStarted = this.evaluator.beginInvocation();
+					try {
+						CacheOperationContexts contexts = new CacheOperationContexts(
+								operations, method, args, target, targetClass, refreshInvoker);
+						return execute(invoker, method, contexts);
+					}
+					finally {
+						if (invocationStarted) {
+							this.evaluator.endInvocation();
+						}
+					}
 				}
 			}
 		}
@@ -436,6 +597,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			// Special handling of synchronized invocation
 			return executeSynchronized(invoker, method, contexts);
 		}
+		if (contexts.isBatch()) {
+			// Special handling of batch invocation
+			return executeBatch(invoker, method, contexts);
+		}
 
 		// Process any early evictions
 		processCacheEvicts(contexts.get(CacheEvictOperation.class), true,
@@ -443,8 +608,13 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		// Check if we have a cached value matching the conditions
 		Object cacheHit = findCachedValue(invoker, method, contexts);
-		if (cacheHit == null || cacheHit instanceof Cache.ValueWrapper) {
-			return evaluate(cacheHit, invoker, method, contexts);
+		if (cacheHit == null) {
+			return evaluateCacheMiss(invoker, method, contexts);
+		}
+		if (cacheHit instanceof Cache.ValueWrapper) {
+			Object returnValue = evaluate(cacheHit, invoker, method, contexts);
+			refreshIfNecessary(contexts);
+			return returnValue;
 		}
 		return cacheHit;
 	}
@@ -509,6 +679,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return null;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Nullable
 	private Object findInCaches(CacheOperationContext context, Object key,
 			CacheOperationInvoker invoker, Method method, CacheOperationContexts contexts) {
@@ -520,9 +691,15 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 					return result.exceptionally(ex -> {
 						getErrorHandler().handleCacheGetError((RuntimeException) ex, cache, key);
 						return null;
-					}).thenCompose(value -> (CompletableFuture<?>) evaluate(
-							(value != null ? CompletableFuture.completedFuture(unwrapCacheValue(value)) : null),
-							invoker, method, contexts));
+					}).thenCompose(value -> {
+						if (value == null) {
+							return (CompletableFuture<Object>) evaluateCacheMiss(invoker, method, contexts);
+						}
+						CompletableFuture<Object> returnValue = (CompletableFuture<Object>) evaluate(
+								CompletableFuture.completedFuture(unwrapCacheValue(value)), invoker, method, contexts);
+						refreshIfNecessary(contexts);
+						return returnValue;
+					});
 				}
 				else {
 					continue;
@@ -596,6 +773,264 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return returnValue;
 	}
 
+	/**
+	 * Evaluate a cache miss, sharing a single invocation of the underlying method
+	 * between concurrent misses for the same key if
+	 * {@link #setCoalesceCacheMisses coalescing} is enabled.
+	 */
+	@Nullable
+	private Object evaluateCacheMiss(CacheOperationInvoker invoker, Method method, CacheOperationContexts contexts) {
+		CacheMissKey missKey = (this.coalesceCacheMisses ? contexts.getCacheMissKey(method) : null);
+		if (missKey == null) {
+			return evaluate(null, invoker, method, contexts);
+		}
+		if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+			return evaluateCoalescedFuture(missKey, invoker, method, contexts);
+		}
+		if (this.reactiveCachingHandler != null) {
+			Object returnValue = this.reactiveCachingHandler.evaluateCoalesced(missKey, invoker, method, contexts);
+			if (returnValue != ReactiveCachingHandler.NOT_HANDLED) {
+				return returnValue;
+			}
+		}
+
+		InFlightInvocation invocation = new InFlightInvocation();
+		Object inFlight = this.inFlightCacheMisses.putIfAbsent(missKey, invocation);
+		if (inFlight != null) {
+			if (isReentrant(inFlight, missKey)) {
+				return evaluate(null, invoker, method, contexts);
+			}
+			if (logger.isTraceEnabled()) {
+				logger.trace("Awaiting in-flight invocation for cache entries " + missKey.entries());
+			}
+			try {
+				return ((CompletableFuture<?>) inFlight).join();
+			}
+			catch (CompletionException ex) {
+				// Propagate ThrowableWrapper from the invoker as-is
+				ReflectionUtils.rethrowRuntimeException(ex.getCause());
+				// Never reached
+				return null;
+			}
+		}
+		try {
+			Object returnValue = evaluate(null, invoker, method, contexts);
+			invocation.complete(returnValue);
+			return returnValue;
+		}
+		catch (RuntimeException | Error ex) {
+			invocation.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			invocation.invokingThread = null;
+			this.inFlightCacheMisses.remove(missKey, invocation);
+		}
+	}
+
+	@Nullable
+	private Object evaluateCoalescedFuture(CacheMissKey missKey, CacheOperationInvoker invoker,
+			Method method, CacheOperationContexts contexts) {
+
+		InFlightInvocation invocation = new InFlightInvocation();
+		Object inFlight = this.inFlightCacheMisses.putIfAbsent(missKey, invocation);
+		if (inFlight != null) {
+			if (isReentrant(inFlight, missKey)) {
+				return evaluate(null, invoker, method, contexts);
+			}
+			if (logger.isTraceEnabled()) {
+				logger.trace("Joining in-flight invocation for cache entries " + missKey.entries());
+			}
+			// Protect the shared future against completion by individual callers
+			return ((CompletableFuture<?>) inFlight).copy();
+		}
+		CompletableFuture<?> returnValue;
+		try {
+			returnValue = (CompletableFuture<?>) evaluate(null, invoker, method, contexts);
+		}
+		catch (RuntimeException | Error ex) {
+			this.inFlightCacheMisses.remove(missKey, invocation);
+			invocation.completeExceptionally(
+					ex instanceof CacheOperationInvoker.ThrowableWrapper wrapper ? wrapper.getOriginal() : ex);
+			throw ex;
+		}
+		finally {
+			// The method has returned its future: other callers on this thread may join it
+			invocation.invokingThread = null;
+		}
+		if (returnValue == null) {
+			this.inFlightCacheMisses.remove(missKey, invocation);
+			invocation.complete(null);
+			return null;
+		}
+		// Chained after the cache put, so that subsequent callers find the cached value
+		return returnValue.whenComplete((value, ex) -> {
+			this.inFlightCacheMisses.remove(missKey, invocation);
+			if (ex != null) {
+				invocation.completeExceptionally(ex);
+			}
+			else {
+				invocation.complete(value);
+			}
+		});
+	}
+
+	/**
+	 * Determine whether the given in-flight invocation is being performed by
+	 * the current thread, i.e. whether a recursive call would wait for itself.
+	 */
+	private boolean isReentrant(Object inFlight, CacheMissKey missKey) {
+		if (inFlight instanceof InFlightInvocation invocation && invocation.invokingThread == Thread.currentThread()) {
+			if (logger.isTraceEnabled()) {
+				logger.trace("Not coalescing recursive invocation for cache entries " + missKey.entries());
+			}
+			return true;
+		}
+		return false;
+	}
+
+	@Nullable
+	private Object executeBatch(CacheOperationInvoker invoker, Method method, CacheOperationContexts contexts) {
+		CacheOperationContext context = contexts.get(CacheableOperation.class).iterator().next();
+		Object[] args = contexts.getArgs();
+		if (!(args[0] instanceof Collection<?> keys) || keys.isEmpty() ||
+				!isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT)) {
+			return invokeOperation(invoker);
+		}
+
+		// Look up all keys at once, in each cache for the keys not found so far
+		Map<Object, Cache.ValueWrapper> cacheHits = new LinkedHashMap<>(keys.size());
+		Collection<?> missingKeys = keys;
+		for (Cache cache : context.getCaches()) {
+			cacheHits.putAll(doGetAll(cache, missingKeys));
+			missingKeys = missingKeys.stream().filter(key -> !cacheHits.containsKey(key)).toList();
+			if (missingKeys.isEmpty()) {
+				break;
+			}
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace("Cache entries for " + cacheHits.size() + " of " + keys.size() +
+					" keys found in cache(s) " + context.getCacheNames());
+		}
+
+		// Invoke the method for the missing keys only
+		Map<?, ?> loadedValues = Collections.emptyMap();
+		if (!missingKeys.isEmpty()) {
+			Collection<Object> keysToLoad = CollectionFactory.createCollection(
+					method.getParameterTypes()[0], missingKeys.size());
+			keysToLoad.addAll(missingKeys);
+			try {
+				args[0] = keysToLoad;
+				loadedValues = (Map<?, ?>) invokeOperation(invoker);
+			}
+			finally {
+				args[0] = keys;
+			}
+			if (loadedValues == null) {
+				loadedValues = Collections.emptyMap();
+			}
+			else if (!loadedValues.isEmpty()) {
+				for (Cache cache : context.getCaches()) {
+					doPutAll(cache, loadedValues);
+				}
+			}
+		}
+
+		Map<Object, Object> result = CollectionFactory.createMap(method.getReturnType(),
+				cacheHits.size() + loadedValues.size());
+		for (Object key : keys) {
+			Cache.ValueWrapper cacheHit = cacheHits.get(key);
+			if (cacheHit != null) {
+				result.put(key, unwrapCacheValue(cacheHit));
+			}
+			else if (loadedValues.containsKey(key)) {
+				result.put(key, loadedValues.get(key));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Refresh the cached value in the background after a cache hit, if the
+	 * operation declares a refresh-ahead duration that the value exceeds.
+	 * @param contexts the cache operation contexts of the invocation
+	 */
+	private void refreshIfNecessary(CacheOperationContexts contexts) {
+		CacheOperationContext context = contexts.getRefreshAheadContext();
+		if (context == null) {
+			return;
+		}
+		Duration refreshAfter = ((CacheableOperation) context.getOperation()).getRefreshAfter();
+		Object key = context.getGeneratedKey();
+		Assert.state(refreshAfter != null && key != null, "Refresh-ahead context without duration or key");
+		CacheEntryKey refreshKey = new CacheEntryKey(context.getCacheNames(), key);
+		long writeTime = this.refreshAheadWriteTimes.get(refreshKey);
+		if (System.currentTimeMillis() - writeTime < refreshAfter.toMillis()) {
+			return;
+		}
+		if (!this.refreshesInProgress.add(refreshKey)) {
+			return;
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace("Refreshing cache entry for key '" + key + "' in cache(s) " + context.getCacheNames());
+		}
+		try {
+			TaskExecutor refreshExecutor = getRefreshExecutor();
+			Assert.state(refreshExecutor != null, "No refresh executor");
+			refreshExecutor.execute(() -> refresh(refreshKey, contexts));
+		}
+		catch (TaskRejectedException ex) {
+			this.refreshesInProgress.remove(refreshKey);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Refresh of cache entry for key '" + key + "' rejected by executor", ex);
+			}
+		}
+	}
+
+	/**
+	 * Invoke the underlying method through the refresh invoker and update all
+	 * caches of the cacheable operations with its result.
+	 */
+	private void refresh(CacheEntryKey refreshKey, CacheOperationContexts contexts) {
+		boolean async = false;
+		try {
+			CacheOperationInvoker refreshInvoker = contexts.refreshInvoker;
+			Assert.state(refreshInvoker != null, "No refresh invoker");
+			Object returnValue = invokeOperation(refreshInvoker);
+			Object cacheValue = unwrapReturnValue(returnValue);
+			List<CachePutRequest> cachePutRequests = new ArrayList<>(1);
+			collectPutRequests(contexts.get(CacheableOperation.class), cacheValue, cachePutRequests);
+			for (CachePutRequest cachePutRequest : cachePutRequests) {
+				cachePutRequest.apply(cacheValue);
+			}
+			if (returnValue instanceof CompletableFuture<?> future) {
+				async = true;
+				future.whenComplete((value, ex) -> {
+					this.refreshesInProgress.remove(refreshKey);
+					if (ex != null) {
+						logRefreshFailure(refreshKey, ex);
+					}
+				});
+			}
+		}
+		catch (Throwable ex) {
+			logRefreshFailure(refreshKey,
+					(ex instanceof CacheOperationInvoker.ThrowableWrapper wrapper ? wrapper.getOriginal() : ex));
+		}
+		finally {
+			if (!async) {
+				this.refreshesInProgress.remove(refreshKey);
+			}
+		}
+	}
+
+	private void logRefreshFailure(CacheEntryKey refreshKey, Throwable ex) {
+		if (logger.isWarnEnabled()) {
+			logger.warn("Failed to refresh cache entry for key '" + refreshKey.key() +
+					"' in cache(s) " + refreshKey.cacheNames(), ex);
+		}
+	}
+
 	@Nullable
 	private Object unwrapCacheValue(@Nullable Object cacheValue) {
 		return (cacheValue instanceof Cache.ValueWrapper wrapper ? wrapper.get() : cacheValue);
@@ -738,18 +1173,29 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		private final MultiValueMap<Class<? extends CacheOperation>, CacheOperationContext> contexts;
 
+		private final Object[] args;
+
+		@Nullable
+		private final CacheOperationInvoker refreshInvoker;
+
 		private final boolean sync;
 
+		private final boolean batch;
+
 		boolean processed;
 
 		public CacheOperationContexts(Collection<? extends CacheOperation> operations, Method method,
-				Object[] args, Object target, Class<?> targetClass) {
+				Object[] args, Object target, Class<?> targetClass, @Nullable CacheOperationInvoker refreshInvoker) {
 
 			this.contexts = new LinkedMultiValueMap<>(operations.size());
 			for (CacheOperation op : operations) {
 				this.contexts.add(op.getClass(), getOperationContext(op, method, args, target, targetClass));
 			}
+			this.args = args;
+			this.refreshInvoker = refreshInvoker;
 			this.sync = determineSyncFlag(method);
+			this.batch = determineBatchFlag(method);
+			validateRefreshAhead(method);
 		}
 
 		public Collection<CacheOperationContext> get(Class<? extends CacheOperation> operationClass) {
@@ -757,10 +1203,77 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return (result != null ? result : Collections.emptyList());
 		}
 
+		public Object[] getArgs() {
+			return this.args;
+		}
+
 		public boolean isSynchronized() {
 			return this.sync;
 		}
 
+		public boolean isBatch() {
+			return this.batch;
+		}
+
+		/**
+		 * Return the context of the cacheable operation that refreshes its cached
+		 * values ahead, or {@code null} if the invocation is not eligible for it.
+		 */
+		@Nullable
+		public CacheOperationContext getRefreshAheadContext() {
+			if (this.contexts.size() != 1) {  // not only @Cacheable operations
+				return null;
+			}
+			for (CacheOperationContext context : get(CacheableOperation.class)) {
+				if (context.getOperation() instanceof CacheableOperation cacheable &&
+						cacheable.getRefreshAfter() != null && context.getGeneratedKey() != null) {
+					return context;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Return the key identifying a miss of the cacheable operations, or
+		 * {@code null} if the invocation is not eligible for coalescing.
+		 */
+		@Nullable
+		public CacheMissKey getCacheMissKey(Method method) {
+			if (this.contexts.size() != 1) {  // not only @Cacheable operations
+				return null;
+			}
+			Collection<CacheOperationContext> cacheableContexts = get(CacheableOperation.class);
+			List<CacheEntryKey> entries = new ArrayList<>(cacheableContexts.size());
+			boolean keyed = false;
+			for (CacheOperationContext context : cacheableContexts) {
+				// A null key indicates an operation whose condition does not pass
+				Object key = context.getGeneratedKey();
+				entries.add(new CacheEntryKey(context.getCacheNames(), key));
+				keyed |= (key != null);
+			}
+			return (keyed ? new CacheMissKey(method, entries) : null);
+		}
+
+		private void validateRefreshAhead(Method method) {
+			for (CacheOperationContext context : get(CacheableOperation.class)) {
+				CacheOperation operation = context.getOperation();
+				if (operation instanceof CacheableOperation cacheable && cacheable.getRefreshAfter() != null) {
+					if (ReactiveAdapterRegistry.getSharedInstance().getAdapter(method.getReturnType()) != null) {
+						throw new IllegalStateException("A reactive return type does not support " +
+								"the refreshAfter attribute on '" + operation + "'");
+					}
+					if (this.refreshInvoker == null) {
+						throw new IllegalStateException(
+								"Cache aspect does not support the refreshAfter attribute on '" + operation + "'");
+					}
+					if (getRefreshExecutor() == null) {
+						throw new IllegalStateException("No refresh executor for the refreshAfter attribute on '" +
+								operation + "': set one on the cache aspect or register a TaskExecutor bean");
+					}
+				}
+			}
+		}
+
 		private boolean determineSyncFlag(Method method) {
 			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
 			if (cacheableContexts == null) {  // no @Cacheable operation at all
@@ -792,6 +1305,47 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 					throw new IllegalStateException(
 							"A sync=true operation does not support the unless attribute on '" + operation + "'");
 				}
+				if (operation instanceof CacheableOperation cacheable && cacheable.getRefreshAfter() != null) {
+					throw new IllegalStateException(
+							"A sync=true operation does not support the refreshAfter attribute on '" + operation + "'");
+				}
+				return true;
+			}
+			return false;
+		}
+
+		private boolean determineBatchFlag(Method method) {
+			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
+			if (cacheableContexts == null) {  // no @Cacheable operation at all
+				return false;
+			}
+			CacheOperationContext batchContext = null;
+			for (CacheOperationContext context : cacheableContexts) {
+				if (context.getOperation() instanceof CacheableOperation cacheable && cacheable.isBatch()) {
+					batchContext = context;
+					break;
+				}
+			}
+			if (batchContext != null) {
+				if (this.contexts.size() > 1 || cacheableContexts.size() > 1) {
+					throw new IllegalStateException(
+							"A batch=true operation cannot be combined with other cache operations on '" + method + "'");
+				}
+				CacheableOperation operation = (CacheableOperation) batchContext.getOperation();
+				if (operation.isSync()) {
+					throw new IllegalStateException(
+							"A batch=true operation cannot be combined with sync=true on '" + operation + "'");
+				}
+				if (StringUtils.hasText(operation.getKey()) || StringUtils.hasText(operation.getUnless()) ||
+						operation.getRefreshAfter() != null) {
+					throw new IllegalStateException("A batch=true operation does not support the key, " +
+							"unless and refreshAfter attributes on '" + operation + "'");
+				}
+				if (method.getParameterCount() == 0 || !Collection.class.isAssignableFrom(method.getParameterTypes()[0]) ||
+						!Map.class.isAssignableFrom(method.getReturnType())) {
+					throw new IllegalStateException("A batch=true operation requires a method with a Collection " +
+							"as first parameter and a Map as return type: '" + method + "'");
+				}
 				return true;
 			}
 			return false;
@@ -898,8 +1452,13 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			if (this.conditionPassing == null) {
 				if (StringUtils.hasText(this.metadata.operation.getCondition())) {
 					EvaluationContext evaluationContext = createEvaluationContext(result);
-					this.conditionPassing = evaluator.condition(this.metadata.operation.getCondition(),
-							this.metadata.methodKey, evaluationContext);
+					try {
+						this.conditionPassing = evaluator.condition(this.metadata.operation.getCondition(),
+								this.metadata.methodKey, evaluationContext);
+					}
+					finally {
+						evaluator.releaseEvaluationContext(evaluationContext);
+					}
 				}
 				else {
 					this.conditionPassing = true;
@@ -918,7 +1477,12 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			}
 			if (StringUtils.hasText(unless)) {
 				EvaluationContext evaluationContext = createEvaluationContext(value);
-				return !evaluator.unless(unless, this.metadata.methodKey, evaluationContext);
+				try {
+					return !evaluator.unless(unless, this.metadata.methodKey, evaluationContext);
+				}
+				finally {
+					evaluator.releaseEvaluationContext(evaluationContext);
+				}
 			}
 			return true;
 		}
@@ -930,7 +1494,13 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		protected Object generateKey(@Nullable Object result) {
 			if (StringUtils.hasText(this.metadata.operation.getKey())) {
 				EvaluationContext evaluationContext = createEvaluationContext(result);
-				this.key = evaluator.key(this.metadata.operation.getKey(), this.metadata.methodKey, evaluationContext);
+				try {
+					this.key = evaluator.key(this.metadata.operation.getKey(), this.metadata.methodKey,
+							evaluationContext);
+				}
+				finally {
+					evaluator.releaseEvaluationContext(evaluationContext);
+				}
 			}
 			else {
 				this.key = this.metadata.keyGenerator.generate(this.target, this.metadata.method, this.args);
@@ -1010,6 +1580,32 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	}
 
 
+	/**
+	 * Key for an in-flight invocation after a cache miss, covering the
+	 * entries of all cacheable operations of the method.
+	 */
+	private record CacheMissKey(Method method, List<CacheEntryKey> entries) {
+	}
+
+
+	/**
+	 * Key for the entries of a cache operation in all of its caches.
+	 */
+	private record CacheEntryKey(Collection<String> cacheNames, @Nullable Object key) {
+	}
+
+
+	/**
+	 * Result of an in-flight invocation for coalesced cache misses, along with
+	 * the thread invoking the underlying method while the invocation is ongoing.
+	 */
+	private static final class InFlightInvocation extends CompletableFuture<Object> {
+
+		@Nullable
+		volatile Thread invokingThread = Thread.currentThread();
+	}
+
+
 	private class CachePutRequest {
 
 		private final CacheOperationContext context;
@@ -1050,6 +1646,11 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				for (Cache cache : this.context.getCaches()) {
 					doPut(cache, key, value);
 				}
+				if (this.context.getOperation() instanceof CacheableOperation cacheable &&
+						cacheable.getRefreshAfter() != null) {
+					refreshAheadWriteTimes.put(
+							new CacheEntryKey(this.context.getCacheNames(), key), System.currentTimeMillis());
+				}
 			}
 		}
 	}
@@ -1164,7 +1765,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				}
 				else {
 					return adapter.fromPublisher(Mono.fromFuture(cachedFuture)
-							.switchIfEmpty(Mono.defer(() -> (Mono) evaluate(null, invoker, method, contexts)))
+							.switchIfEmpty(Mono.defer(() -> (Mono) evaluateCacheMiss(invoker, method, contexts)))
 							.flatMap(v -> evaluate(Mono.justOrEmpty(unwrapCacheValue(v)), invoker, method, contexts))
 							.onErrorResume(RuntimeException.class, ex -> {
 								try {
@@ -1180,6 +1781,33 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return NOT_HANDLED;
 		}
 
+		@Nullable
+		public Object evaluateCoalesced(CacheMissKey missKey, CacheOperationInvoker invoker,
+				Method method, CacheOperationContexts contexts) {
+
+			ReactiveAdapter adapter = this.registry.getAdapter(method.getReturnType());
+			if (adapter == null || adapter.isMultiValue() || adapter.isNoValue()) {
+				return NOT_HANDLED;
+			}
+			// On subscription, join an in-flight invocation, if any. Otherwise register
+			// a shared invocation before invoking the method, so that concurrent misses
+			// join it instead of invoking the method themselves.
+			return adapter.fromPublisher(Mono.defer(() -> {
+				Mono<?>[] shared = new Mono<?>[1];
+				shared[0] = Mono.defer(() -> {
+							Object returnValue = evaluate(null, invoker, method, contexts);
+							return (returnValue != null ? Mono.from(adapter.toPublisher(returnValue)) : Mono.empty());
+						})
+						.doFinally(signal -> inFlightCacheMisses.remove(missKey, shared[0]))
+						.share();
+				Object inFlight = inFlightCacheMisses.putIfAbsent(missKey, shared[0]);
+				if (inFlight != null && logger.isTraceEnabled()) {
+					logger.trace("Joining in-flight invocation for cache entries " + missKey.entries());
+				}
+				return (inFlight != null ? (Mono<?>) inFlight : shared[0]);
+			}));
+		}
+
 		private Flux<?> valueToFlux(Object value, CacheOperationContexts contexts) {
 			Object data = unwrapCacheValue(value);
 			return (!contexts.processed && data instanceof Iterable<?> iterable ? Flux.fromIterable(iterable) :
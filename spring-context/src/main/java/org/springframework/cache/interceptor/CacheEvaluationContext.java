@@ -17,43 +17,73 @@
 package org.springframework.cache.interceptor;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
-import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.KotlinDetector;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
 
 /**
- * Cache-specific evaluation context that adds method parameters as SpEL
- * variables, in a lazy manner. The lazy nature avoids unnecessary
- * parsing of a class's byte code for parameter discovery.
+ * Cache-specific evaluation context that exposes method parameters as SpEL
+ * variables, in a lazy manner: like with a
+ * {@link org.springframework.context.expression.MethodBasedEvaluationContext},
+ * arguments are available as {@code aX}, {@code pX} and under their discovered
+ * parameter name, yet they are only resolved when looked up, based on the
+ * {@link ParameterNames} precomputed per method.
  *
  * <p>Also defines a set of "unavailable variables" (i.e. variables that should
  * lead to an exception as soon as they are accessed). This can be useful
  * to verify a condition does not match even when not all potential variables
  * are present.
  *
- * <p>To limit the creation of objects, an ugly constructor is used
- * (rather than a dedicated 'closure'-like class for deferred execution).
+ * <p>A context may be {@linkplain #reset reset} for another operation, which
+ * allows for reusing it across invocations on the same thread.
  *
  * @author Costin Leau
  * @author Stephane Nicoll
  * @author Juergen Hoeller
  * @since 3.1
+ * @see CacheEvaluationContextFactory
  */
-class CacheEvaluationContext extends MethodBasedEvaluationContext {
+class CacheEvaluationContext extends StandardEvaluationContext {
 
 	private final Set<String> unavailableVariables = new HashSet<>(1);
 
+	@Nullable
+	private Map<String, Object> variables;
+
+	private ParameterNames parameterNames;
 
-	CacheEvaluationContext(Object rootObject, Method method, Object[] arguments,
-			ParameterNameDiscoverer parameterNameDiscoverer) {
+	private Object[] arguments;
 
-		super(rootObject, method, arguments, parameterNameDiscoverer);
+
+	CacheEvaluationContext(Object rootObject, ParameterNames parameterNames, Object[] arguments) {
+		super(rootObject);
+		this.parameterNames = parameterNames;
+		this.arguments = arguments;
 	}
 
 
+	/**
+	 * Prepare this context for another operation, removing all variables.
+	 */
+	void reset(@Nullable Object rootObject, ParameterNames parameterNames, Object[] arguments) {
+		setRootObject(rootObject);
+		this.parameterNames = parameterNames;
+		this.arguments = arguments;
+		this.unavailableVariables.clear();
+		if (this.variables != null) {
+			this.variables.clear();
+		}
+	}
+
 	/**
 	 * Add the specified variable name as unavailable for this context.
 	 * <p>Any expression trying to access this variable should lead to an exception.
@@ -65,9 +95,23 @@ class CacheEvaluationContext extends MethodBasedEvaluationContext {
 		this.unavailableVariables.add(name);
 	}
 
+	@Override
+	public void setVariable(@Nullable String name, @Nullable Object value) {
+		if (name != null) {
+			if (value != null) {
+				if (this.variables == null) {
+					this.variables = new HashMap<>(4);
+				}
+				this.variables.put(name, value);
+			}
+			else if (this.variables != null) {
+				this.variables.remove(name);
+			}
+		}
+	}
 
 	/**
-	 * Load the param information only when needed.
+	 * Resolve the method arguments only when needed.
 	 */
 	@Override
 	@Nullable
@@ -75,7 +119,70 @@ class CacheEvaluationContext extends MethodBasedEvaluationContext {
 		if (this.unavailableVariables.contains(name)) {
 			throw new VariableNotAvailableException(name);
 		}
-		return super.lookupVariable(name);
+		Object variable = (this.variables != null ? this.variables.get(name) : null);
+		if (variable != null) {
+			return variable;
+		}
+		variable = super.lookupVariable(name);
+		if (variable != null) {
+			return variable;
+		}
+		return this.parameterNames.resolveArgument(name, this.arguments);
+	}
+
+
+	/**
+	 * Variable names for the parameters of a given method, computed once per
+	 * method rather than for every evaluation.
+	 */
+	static final class ParameterNames {
+
+		static final ParameterNames NONE = new ParameterNames();
+
+		private final Map<String, Integer> indexes;
+
+		private final int parameterCount;
+
+		private final boolean suspendingFunction;
+
+		private ParameterNames() {
+			this.indexes = Collections.emptyMap();
+			this.parameterCount = 0;
+			this.suspendingFunction = false;
+		}
+
+		ParameterNames(Method method, ParameterNameDiscoverer parameterNameDiscoverer) {
+			String[] paramNames = parameterNameDiscoverer.getParameterNames(method);
+			this.parameterCount = (paramNames != null ? paramNames.length : method.getParameterCount());
+			this.suspendingFunction = KotlinDetector.isSuspendingFunction(method);
+			this.indexes = new HashMap<>(this.parameterCount * 4);
+			for (int i = 0; i < this.parameterCount; i++) {
+				this.indexes.put("a" + i, i);
+				this.indexes.put("p" + i, i);
+				if (paramNames != null && paramNames[i] != null) {
+					this.indexes.put(paramNames[i], i);
+				}
+			}
+		}
+
+		/**
+		 * Resolve the argument for the given variable name, if any.
+		 */
+		@Nullable
+		Object resolveArgument(String name, Object[] arguments) {
+			Integer index = this.indexes.get(name);
+			if (index == null || ObjectUtils.isEmpty(arguments)) {
+				return null;
+			}
+			int i = index;
+			int argsCount = (this.suspendingFunction ? arguments.length - 1 : arguments.length);
+			if (argsCount > this.parameterCount && i == this.parameterCount - 1) {
+				// Expose remaining arguments as vararg array for last parameter
+				return Arrays.copyOfRange(arguments, i, argsCount);
+			}
+			// Actual argument found - otherwise null
+			return (argsCount > i ? arguments[i] : null);
+		}
 	}
 
 }
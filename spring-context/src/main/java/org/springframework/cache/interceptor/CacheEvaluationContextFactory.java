@@ -17,10 +17,15 @@
 package org.springframework.cache.interceptor;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import org.springframework.cache.interceptor.CacheEvaluationContext.ParameterNames;
 import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.function.SingletonSupplier;
@@ -29,18 +34,46 @@ import org.springframework.util.function.SingletonSupplier;
  * A factory for {@link CacheEvaluationContext} that makes sure that internal
  * delegates are reused.
  *
+ * <p>Parameter names are discovered once per method. If configured to
+ * {@linkplain #CacheEvaluationContextFactory(StandardEvaluationContext, boolean)
+ * reuse contexts}, the operations of a cached method invocation share a context
+ * that gets reset for every operation, avoiding the creation of a context and
+ * the copying of its delegates for every evaluation. A context obtained that way
+ * needs to be {@linkplain #release released} once the evaluation is complete.
+ * Contexts are only kept between {@link #beginInvocation()} and
+ * {@link #endInvocation()}, so that a thread does not retain them (and the
+ * delegates they refer to) once the invocation is complete.
+ *
  * @author Stephane Nicoll
  * @since 6.1.1
  */
 class CacheEvaluationContextFactory {
 
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+
 	private final StandardEvaluationContext originalContext;
 
+	private final Map<Method, ParameterNames> parameterNamesCache = new ConcurrentHashMap<>(64);
+
+	@Nullable
+	private final ThreadLocal<ReusableContextHolder> reusableContext;
+
 	@Nullable
 	private Supplier<ParameterNameDiscoverer> parameterNameDiscoverer;
 
 	CacheEvaluationContextFactory(StandardEvaluationContext originalContext) {
+		this(originalContext, false);
+	}
+
+	/**
+	 * Create a factory for the given original context.
+	 * @param originalContext the context to apply the delegates from
+	 * @param reuseContexts whether to reuse a context within an invocation
+	 * @since 6.2
+	 */
+	CacheEvaluationContextFactory(StandardEvaluationContext originalContext, boolean reuseContexts) {
 		this.originalContext = originalContext;
+		this.reusableContext = (reuseContexts ? new NamedThreadLocal<>("Reusable cache evaluation context") : null);
 	}
 
 	public void setParameterNameDiscoverer(Supplier<ParameterNameDiscoverer> parameterNameDiscoverer) {
@@ -54,8 +87,38 @@ class CacheEvaluationContextFactory {
 		return this.parameterNameDiscoverer.get();
 	}
 
+	/**
+	 * Mark the start of a cached method invocation on the current thread,
+	 * allowing released contexts to be reused until {@link #endInvocation()}.
+	 * @return {@code true} if this call started the scope and the caller is
+	 * responsible for ending it, {@code false} if contexts are not reused or
+	 * if an outer invocation is in progress on the current thread already
+	 * @since 6.2
+	 */
+	boolean beginInvocation() {
+		if (this.reusableContext == null || this.reusableContext.get() != null) {
+			return false;
+		}
+		this.reusableContext.set(new ReusableContextHolder());
+		return true;
+	}
+
+	/**
+	 * Mark the end of a cached method invocation started with
+	 * {@link #beginInvocation()}, discarding the context of the current thread.
+	 * @since 6.2
+	 */
+	void endInvocation() {
+		if (this.reusableContext != null) {
+			this.reusableContext.remove();
+		}
+	}
+
 	/**
 	 * Creates a {@link CacheEvaluationContext} for the specified operation.
+	 * <p>If contexts are reused, the released context of the current invocation
+	 * is returned unless it is in use already, e.g. for an expression triggering
+	 * another cache operation.
 	 * @param rootObject the {@code root} object to use for the context
 	 * @param targetMethod the target cache {@link Method}
 	 * @param args the arguments of the method invocation
@@ -64,10 +127,60 @@ class CacheEvaluationContextFactory {
 	public CacheEvaluationContext forOperation(CacheExpressionRootObject rootObject,
 			Method targetMethod, Object[] args) {
 
-		CacheEvaluationContext evaluationContext = new CacheEvaluationContext(
-				rootObject, targetMethod, args, getParameterNameDiscoverer());
+		ParameterNames parameterNames = getParameterNames(targetMethod);
+		ReusableContextHolder holder = (this.reusableContext != null ? this.reusableContext.get() : null);
+		if (holder != null && holder.context != null) {
+			CacheEvaluationContext evaluationContext = holder.context;
+			holder.context = null;
+			evaluationContext.reset(rootObject, parameterNames, args);
+			return evaluationContext;
+		}
+		CacheEvaluationContext evaluationContext = new CacheEvaluationContext(rootObject, parameterNames, args);
 		this.originalContext.applyDelegatesTo(evaluationContext);
 		return evaluationContext;
 	}
 
+	/**
+	 * Release the given context once the evaluation is complete, making it
+	 * available for reuse by the current invocation if configured to do so.
+	 * Outside of an invocation, the context is simply dropped.
+	 * @param evaluationContext the context obtained from this factory
+	 * @since 6.2
+	 */
+	public void release(EvaluationContext evaluationContext) {
+		ReusableContextHolder holder = (this.reusableContext != null ? this.reusableContext.get() : null);
+		if (holder != null && evaluationContext instanceof CacheEvaluationContext context) {
+			// Do not hold on to the root object and arguments of the last operation
+			context.reset(null, ParameterNames.NONE, NO_ARGUMENTS);
+			holder.context = context;
+		}
+	}
+
+	private ParameterNames getParameterNames(Method method) {
+		ParameterNames parameterNames = this.parameterNamesCache.get(method);
+		if (parameterNames == null) {
+			parameterNames = this.parameterNamesCache.computeIfAbsent(method,
+					key -> new ParameterNames(key, getParameterNameDiscoverer()));
+		}
+		return parameterNames;
+	}
+
+	/**
+	 * Clear the cached parameter names.
+	 * @since 6.2
+	 */
+	void clear() {
+		this.parameterNamesCache.clear();
+	}
+
+
+	/**
+	 * Holder for the context to reuse within the current invocation.
+	 */
+	private static final class ReusableContextHolder {
+
+		@Nullable
+		CacheEvaluationContext context;
+	}
+
 }
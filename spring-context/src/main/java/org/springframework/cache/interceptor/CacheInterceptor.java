@@ -22,6 +22,7 @@ import java.lang.reflect.Method;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
+import org.springframework.aop.ProxyMethodInvocation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -59,10 +60,24 @@ public class CacheInterceptor extends CacheAspectSupport implements MethodInterc
 			}
 		};
 
+		CacheOperationInvoker refreshInvoker = null;
+		if (invocation instanceof ProxyMethodInvocation pmi) {
+			// Proceeds through a clone, taken once the invocation returned with a cache hit
+			// and has therefore not proceeded itself
+			refreshInvoker = () -> {
+				try {
+					return pmi.invocableClone().proceed();
+				}
+				catch (Throwable ex) {
+					throw new CacheOperationInvoker.ThrowableWrapper(ex);
+				}
+			};
+		}
+
 		Object target = invocation.getThis();
 		Assert.state(target != null, "Target must not be null");
 		try {
-			return execute(aopAllianceInvoker, target, method, invocation.getArguments());
+			return execute(aopAllianceInvoker, target, method, invocation.getArguments(), refreshInvoker);
 		}
 		catch (CacheOperationInvoker.ThrowableWrapper th) {
 			throw th.getOriginal();
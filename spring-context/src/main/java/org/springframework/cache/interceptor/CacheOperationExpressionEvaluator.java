@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,14 +18,11 @@ package org.springframework.cache.interceptor;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.cache.Cache;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.CachedExpressionEvaluator;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.Expression;
 import org.springframework.lang.Nullable;
 
 /**
@@ -59,12 +56,6 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 	public static final String RESULT_VARIABLE = "result";
 
 
-	private final Map<ExpressionKey, Expression> keyCache = new ConcurrentHashMap<>(64);
-
-	private final Map<ExpressionKey, Expression> conditionCache = new ConcurrentHashMap<>(64);
-
-	private final Map<ExpressionKey, Expression> unlessCache = new ConcurrentHashMap<>(64);
-
 	private final CacheEvaluationContextFactory evaluationContextFactory;
 
 	public CacheOperationExpressionEvaluator(CacheEvaluationContextFactory evaluationContextFactory) {
@@ -101,28 +92,57 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 		return evaluationContext;
 	}
 
+	/**
+	 * Release an {@link EvaluationContext} obtained from
+	 * {@link #createEvaluationContext} once the evaluation is complete.
+	 * @param evaluationContext the context to release
+	 * @since 6.2
+	 */
+	public void releaseEvaluationContext(EvaluationContext evaluationContext) {
+		this.evaluationContextFactory.release(evaluationContext);
+	}
+
+	/**
+	 * Mark the start of a cached method invocation on the current thread.
+	 * @return whether the caller needs to {@linkplain #endInvocation() end}
+	 * the invocation once complete
+	 * @since 6.2
+	 * @see CacheEvaluationContextFactory#beginInvocation()
+	 */
+	boolean beginInvocation() {
+		return this.evaluationContextFactory.beginInvocation();
+	}
+
+	/**
+	 * Mark the end of a cached method invocation on the current thread.
+	 * @since 6.2
+	 * @see CacheEvaluationContextFactory#endInvocation()
+	 */
+	void endInvocation() {
+		this.evaluationContextFactory.endInvocation();
+	}
+
 	@Nullable
 	public Object key(String keyExpression, AnnotatedElementKey methodKey, EvaluationContext evalContext) {
-		return getExpression(this.keyCache, methodKey, keyExpression).getValue(evalContext);
+		return getExpression(methodKey, keyExpression).getValue(evalContext);
 	}
 
 	public boolean condition(String conditionExpression, AnnotatedElementKey methodKey, EvaluationContext evalContext) {
-		return (Boolean.TRUE.equals(getExpression(this.conditionCache, methodKey, conditionExpression).getValue(
+		return (Boolean.TRUE.equals(getExpression(methodKey, conditionExpression).getValue(
 				evalContext, Boolean.class)));
 	}
 
 	public boolean unless(String unlessExpression, AnnotatedElementKey methodKey, EvaluationContext evalContext) {
-		return (Boolean.TRUE.equals(getExpression(this.unlessCache, methodKey, unlessExpression).getValue(
+		return (Boolean.TRUE.equals(getExpression(methodKey, unlessExpression).getValue(
 				evalContext, Boolean.class)));
 	}
 
 	/**
-	 * Clear all caches.
+	 * Clear all caches, including the expression cache of this evaluator.
 	 */
 	void clear() {
-		this.keyCache.clear();
-		this.conditionCache.clear();
-		this.unlessCache.clear();
+		getExpressionCache().clear();
+		this.evaluationContextFactory.clear();
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.cache.interceptor;
 
+import java.time.Duration;
+
 import org.springframework.lang.Nullable;
 
 /**
@@ -33,6 +35,11 @@ public class CacheableOperation extends CacheOperation {
 
 	private final boolean sync;
 
+	@Nullable
+	private final Duration refreshAfter;
+
+	private final boolean batch;
+
 
 	/**
 	 * Create a new {@link CacheableOperation} instance from the given builder.
@@ -42,6 +49,8 @@ public class CacheableOperation extends CacheOperation {
 		super(b);
 		this.unless = b.unless;
 		this.sync = b.sync;
+		this.refreshAfter = b.refreshAfter;
+		this.batch = b.batch;
 	}
 
 
@@ -54,6 +63,25 @@ public class CacheableOperation extends CacheOperation {
 		return this.sync;
 	}
 
+	/**
+	 * Return the age after which a cached value is refreshed in the background
+	 * on access, or {@code null} if cached values are not refreshed ahead.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Duration getRefreshAfter() {
+		return this.refreshAfter;
+	}
+
+	/**
+	 * Return whether this operation caches the entries of a map returned for
+	 * a collection of keys individually.
+	 * @since 6.2
+	 */
+	public boolean isBatch() {
+		return this.batch;
+	}
+
 
 	/**
 	 * A builder that can be used to create a {@link CacheableOperation}.
@@ -66,6 +94,11 @@ public class CacheableOperation extends CacheOperation {
 
 		private boolean sync;
 
+		@Nullable
+		private Duration refreshAfter;
+
+		private boolean batch;
+
 		public void setUnless(String unless) {
 			this.unless = unless;
 		}
@@ -74,6 +107,23 @@ public class CacheableOperation extends CacheOperation {
 			this.sync = sync;
 		}
 
+		/**
+		 * Set the age after which a cached value is refreshed in the background.
+		 * @since 6.2
+		 */
+		public void setRefreshAfter(@Nullable Duration refreshAfter) {
+			this.refreshAfter = refreshAfter;
+		}
+
+		/**
+		 * Set whether the entries of a map returned for a collection of keys
+		 * are cached individually.
+		 * @since 6.2
+		 */
+		public void setBatch(boolean batch) {
+			this.batch = batch;
+		}
+
 		@Override
 		protected StringBuilder getOperationDescription() {
 			StringBuilder sb = super.getOperationDescription();
@@ -83,6 +133,14 @@ public class CacheableOperation extends CacheOperation {
 			sb.append(" | sync='");
 			sb.append(this.sync);
 			sb.append('\'');
+			if (this.refreshAfter != null) {
+				sb.append(" | refreshAfter='");
+				sb.append(this.refreshAfter);
+				sb.append('\'');
+			}
+			if (this.batch) {
+				sb.append(" | batch='true'");
+			}
 			return sb;
 		}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.context.annotation;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
@@ -24,6 +25,11 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -51,6 +57,7 @@ import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.ClassFormatException;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.PersistentCachingMetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.TypeFilter;
@@ -131,6 +138,9 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Nullable
 	private CandidateComponentsIndex componentsIndex;
 
+	@Nullable
+	private Executor metadataReaderExecutor;
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -298,7 +308,11 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Override
 	public void setResourceLoader(@Nullable ResourceLoader resourceLoader) {
 		this.resourcePatternResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
-		this.metadataReaderFactory = new CachingMetadataReaderFactory(resourceLoader);
+		String metadataCacheDirectory =
+				SpringProperties.getProperty(PersistentCachingMetadataReaderFactory.CACHE_DIRECTORY_PROPERTY_NAME);
+		this.metadataReaderFactory = (metadataCacheDirectory != null ?
+				new PersistentCachingMetadataReaderFactory(resourceLoader, new File(metadataCacheDirectory)) :
+				new CachingMetadataReaderFactory(resourceLoader));
 		this.componentsIndex = CandidateComponentsIndexLoader.loadIndex(this.resourcePatternResolver.getClassLoader());
 	}
 
@@ -319,7 +333,10 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	/**
 	 * Set the {@link MetadataReaderFactory} to use.
 	 * <p>Default is a {@link CachingMetadataReaderFactory} for the specified
-	 * {@linkplain #setResourceLoader resource loader}.
+	 * {@linkplain #setResourceLoader resource loader}, or a
+	 * {@link PersistentCachingMetadataReaderFactory} if a cache directory has been
+	 * specified through the {@value PersistentCachingMetadataReaderFactory#CACHE_DIRECTORY_PROPERTY_NAME}
+	 * property.
 	 * <p>Call this setter method <i>after</i> {@link #setResourceLoader} in order
 	 * for the given MetadataReaderFactory to override the default factory.
 	 */
@@ -337,6 +354,35 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return this.metadataReaderFactory;
 	}
 
+	/**
+	 * Set an {@link Executor} for reading the metadata of scanned classes in
+	 * parallel, with at most as many concurrent tasks per scan as there are
+	 * available processors, the calling thread participating in the reading.
+	 * Tasks that the executor has not started by the time the calling thread
+	 * has run out of classes to read are skipped rather than awaited, so a
+	 * saturated or single-threaded executor does not stall the scan, even if
+	 * the scan itself runs on one of its threads.
+	 * <p>Candidate components are determined on the calling thread afterwards,
+	 * in the same order as for sequential scanning. The
+	 * {@linkplain #setMetadataReaderFactory MetadataReaderFactory} needs to be
+	 * thread-safe, as is the case for the default {@link CachingMetadataReaderFactory}.
+	 * <p>Default is none, reading the metadata of all classes on the calling thread.
+	 * @since 6.2
+	 */
+	public void setMetadataReaderExecutor(@Nullable Executor metadataReaderExecutor) {
+		this.metadataReaderExecutor = metadataReaderExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} for reading the metadata of scanned classes
+	 * in parallel, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Executor getMetadataReaderExecutor() {
+		return this.metadataReaderExecutor;
+	}
+
 
 	/**
 	 * Scan the component index or class path for candidate components.
@@ -446,20 +492,106 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		catch (IOException ex) {
 			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
 		}
+		if (this.metadataReaderFactory instanceof PersistentCachingMetadataReaderFactory pcmrf) {
+			// Store metadata read through ASM for subsequent runs
+			pcmrf.flush();
+		}
 		return candidates;
 	}
 
+	/**
+	 * Read the metadata for the given resources through the
+	 * {@linkplain #setMetadataReaderExecutor metadata reader executor}, if any.
+	 * @param resources the resources found for a scan
+	 * @return the {@link MetadataReader} or the exception thrown per resource,
+	 * or {@code null} if the metadata is to be read on the calling thread
+	 */
+	@Nullable
+	private Object[] readMetadataInParallel(Resource[] resources) {
+		Executor executor = this.metadataReaderExecutor;
+		if (executor == null || resources.length < 2) {
+			return null;
+		}
+		MetadataReaderFactory metadataReaderFactory = getMetadataReaderFactory();
+		Object[] metadataReaders = new Object[resources.length];
+		AtomicInteger nextIndex = new AtomicInteger();
+		Runnable reader = () -> {
+			int index;
+			while ((index = nextIndex.getAndIncrement()) < resources.length) {
+				Resource resource = resources[index];
+				if (!isCglibClass(resource)) {
+					try {
+						metadataReaders[index] = metadataReaderFactory.getMetadataReader(resource);
+					}
+					catch (Throwable ex) {
+						metadataReaders[index] = ex;
+					}
+				}
+			}
+		};
+		int parallelism = Math.min(Runtime.getRuntime().availableProcessors(), resources.length);
+		List<MetadataReaderTask> tasks = new ArrayList<>(parallelism);
+		for (int i = 1; i < parallelism; i++) {
+			MetadataReaderTask task = new MetadataReaderTask(reader);
+			try {
+				executor.execute(task);
+			}
+			catch (RejectedExecutionException ex) {
+				// Executor saturated: continue with the tasks submitted so far.
+				break;
+			}
+			tasks.add(task);
+		}
+		reader.run();
+		for (MetadataReaderTask task : tasks) {
+			// Only wait for tasks that have been started: all resources are claimed by now.
+			if (!task.claim()) {
+				task.completion.join();
+			}
+		}
+		return metadataReaders;
+	}
+
+	/**
+	 * Obtain the {@link MetadataReader} for the given resource, either from
+	 * the given pre-read metadata or from the {@link MetadataReaderFactory}.
+	 */
+	private MetadataReader getMetadataReader(Resource resource, @Nullable Object[] metadataReaders, int index)
+			throws IOException {
+
+		Object result = (metadataReaders != null ? metadataReaders[index] : null);
+		if (result instanceof MetadataReader metadataReader) {
+			return metadataReader;
+		}
+		else if (result instanceof IOException ex) {
+			throw ex;
+		}
+		else if (result instanceof RuntimeException ex) {
+			throw ex;
+		}
+		else if (result instanceof Error err) {
+			throw err;
+		}
+		return getMetadataReaderFactory().getMetadataReader(resource);
+	}
+
+	private static boolean isCglibClass(Resource resource) {
+		String filename = resource.getFilename();
+		return (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+	}
+
 	private Set<BeanDefinition> scanCandidateComponents(String basePackage) {
 		Set<BeanDefinition> candidates = new LinkedHashSet<>();
 		try {
 			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
 					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPath);
+			Object[] metadataReaders = readMetadataInParallel(resources);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
-				String filename = resource.getFilename();
-				if (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
+			for (int i = 0; i < resources.length; i++) {
+				Resource resource = resources[i];
+				if (isCglibClass(resource)) {
 					// Ignore CGLIB-generated classes in the classpath
 					continue;
 				}
@@ -467,7 +599,7 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 					logger.trace("Scanning " + resource);
 				}
 				try {
-					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					MetadataReader metadataReader = getMetadataReader(resource, metadataReaders, i);
 					if (isCandidateComponent(metadataReader)) {
 						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 						sbd.setSource(resource);
@@ -514,6 +646,10 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		catch (IOException ex) {
 			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
 		}
+		if (this.metadataReaderFactory instanceof PersistentCachingMetadataReaderFactory pcmrf) {
+			// Store metadata read through ASM for subsequent runs
+			pcmrf.flush();
+		}
 		return candidates;
 	}
 
@@ -590,4 +726,38 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		}
 	}
 
+
+	/**
+	 * Task for reading metadata on the metadata reader executor, to be claimed
+	 * either by the executor when starting it or by the scanning thread.
+	 */
+	private static final class MetadataReaderTask implements Runnable {
+
+		private final Runnable reader;
+
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+		MetadataReaderTask(Runnable reader) {
+			this.reader = reader;
+		}
+
+		boolean claim() {
+			return this.claimed.compareAndSet(false, true);
+		}
+
+		@Override
+		public void run() {
+			if (claim()) {
+				try {
+					this.reader.run();
+				}
+				finally {
+					this.completion.complete(null);
+				}
+			}
+		}
+	}
+
 }
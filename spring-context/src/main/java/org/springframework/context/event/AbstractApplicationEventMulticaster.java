@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,14 @@ package org.springframework.context.event;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.springframework.aop.framework.AopProxyUtils;
@@ -108,10 +110,12 @@ public abstract class AbstractApplicationEventMulticaster
 			// Explicitly remove target for a proxy, if registered already,
 			// in order to avoid double invocations of the same listener.
 			Object singletonTarget = AopProxyUtils.getSingletonTarget(listener);
-			if (singletonTarget instanceof ApplicationListener) {
-				this.defaultRetriever.applicationListeners.remove(singletonTarget);
-			}
-			this.defaultRetriever.applicationListeners.add(listener);
+			this.defaultRetriever.updateApplicationListeners(listeners -> {
+				if (singletonTarget instanceof ApplicationListener) {
+					listeners.remove(singletonTarget);
+				}
+				listeners.add(listener);
+			});
 			this.retrieverCache.clear();
 		}
 	}
@@ -119,7 +123,7 @@ public abstract class AbstractApplicationEventMulticaster
 	@Override
 	public void addApplicationListenerBean(String listenerBeanName) {
 		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListenerBeans.add(listenerBeanName);
+			this.defaultRetriever.updateApplicationListenerBeans(beans -> beans.add(listenerBeanName));
 			this.retrieverCache.clear();
 		}
 	}
@@ -127,7 +131,7 @@ public abstract class AbstractApplicationEventMulticaster
 	@Override
 	public void removeApplicationListener(ApplicationListener<?> listener) {
 		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListeners.remove(listener);
+			this.defaultRetriever.updateApplicationListeners(listeners -> listeners.remove(listener));
 			this.retrieverCache.clear();
 		}
 	}
@@ -135,7 +139,7 @@ public abstract class AbstractApplicationEventMulticaster
 	@Override
 	public void removeApplicationListenerBean(String listenerBeanName) {
 		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListenerBeans.remove(listenerBeanName);
+			this.defaultRetriever.updateApplicationListenerBeans(beans -> beans.remove(listenerBeanName));
 			this.retrieverCache.clear();
 		}
 	}
@@ -143,7 +147,7 @@ public abstract class AbstractApplicationEventMulticaster
 	@Override
 	public void removeApplicationListeners(Predicate<ApplicationListener<?>> predicate) {
 		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListeners.removeIf(predicate);
+			this.defaultRetriever.updateApplicationListeners(listeners -> listeners.removeIf(predicate));
 			this.retrieverCache.clear();
 		}
 	}
@@ -151,7 +155,7 @@ public abstract class AbstractApplicationEventMulticaster
 	@Override
 	public void removeApplicationListenerBeans(Predicate<String> predicate) {
 		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListenerBeans.removeIf(predicate);
+			this.defaultRetriever.updateApplicationListenerBeans(beans -> beans.removeIf(predicate));
 			this.retrieverCache.clear();
 		}
 	}
@@ -159,8 +163,8 @@ public abstract class AbstractApplicationEventMulticaster
 	@Override
 	public void removeAllListeners() {
 		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListeners.clear();
-			this.defaultRetriever.applicationListenerBeans.clear();
+			this.defaultRetriever.applicationListeners = Collections.emptySet();
+			this.defaultRetriever.applicationListenerBeans = Collections.emptySet();
 			this.retrieverCache.clear();
 		}
 	}
@@ -172,9 +176,7 @@ public abstract class AbstractApplicationEventMulticaster
 	 * @see org.springframework.context.ApplicationListener
 	 */
 	protected Collection<ApplicationListener<?>> getApplicationListeners() {
-		synchronized (this.defaultRetriever) {
-			return this.defaultRetriever.getApplicationListeners();
-		}
+		return this.defaultRetriever.getApplicationListeners();
 	}
 
 	/**
@@ -238,12 +240,9 @@ public abstract class AbstractApplicationEventMulticaster
 		Set<ApplicationListener<?>> filteredListeners = (retriever != null ? new LinkedHashSet<>() : null);
 		Set<String> filteredListenerBeans = (retriever != null ? new LinkedHashSet<>() : null);
 
-		Set<ApplicationListener<?>> listeners;
-		Set<String> listenerBeans;
-		synchronized (this.defaultRetriever) {
-			listeners = new LinkedHashSet<>(this.defaultRetriever.applicationListeners);
-			listenerBeans = new LinkedHashSet<>(this.defaultRetriever.applicationListenerBeans);
-		}
+		// Immutable snapshots, replaced on registration changes
+		Set<ApplicationListener<?>> listeners = this.defaultRetriever.applicationListeners;
+		Set<String> listenerBeans = this.defaultRetriever.applicationListenerBeans;
 
 		// Add programmatically registered listeners, including ones coming
 		// from ApplicationListenerDetector (singleton beans and inner beans).
@@ -497,20 +496,37 @@ public abstract class AbstractApplicationEventMulticaster
 
 	/**
 	 * Helper class that encapsulates a general set of target listeners.
+	 * <p>Registrations are kept in immutable sets which get replaced on every
+	 * change (copy-on-write), allowing for reading them without synchronization.
+	 * Changes need to be performed while synchronizing on this retriever.
 	 */
 	private class DefaultListenerRetriever {
 
-		public final Set<ApplicationListener<?>> applicationListeners = new LinkedHashSet<>();
+		public volatile Set<ApplicationListener<?>> applicationListeners = Collections.emptySet();
+
+		public volatile Set<String> applicationListenerBeans = Collections.emptySet();
+
+		public void updateApplicationListeners(Consumer<Set<ApplicationListener<?>>> update) {
+			Set<ApplicationListener<?>> listeners = new LinkedHashSet<>(this.applicationListeners);
+			update.accept(listeners);
+			this.applicationListeners = Collections.unmodifiableSet(listeners);
+		}
 
-		public final Set<String> applicationListenerBeans = new LinkedHashSet<>();
+		public void updateApplicationListenerBeans(Consumer<Set<String>> update) {
+			Set<String> listenerBeans = new LinkedHashSet<>(this.applicationListenerBeans);
+			update.accept(listenerBeans);
+			this.applicationListenerBeans = Collections.unmodifiableSet(listenerBeans);
+		}
 
 		public Collection<ApplicationListener<?>> getApplicationListeners() {
+			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
+			Set<String> applicationListenerBeans = this.applicationListenerBeans;
 			List<ApplicationListener<?>> allListeners = new ArrayList<>(
-					this.applicationListeners.size() + this.applicationListenerBeans.size());
-			allListeners.addAll(this.applicationListeners);
-			if (!this.applicationListenerBeans.isEmpty()) {
+					applicationListeners.size() + applicationListenerBeans.size());
+			allListeners.addAll(applicationListeners);
+			if (!applicationListenerBeans.isEmpty()) {
 				BeanFactory beanFactory = getBeanFactory();
-				for (String listenerBeanName : this.applicationListenerBeans) {
+				for (String listenerBeanName : applicationListenerBeans) {
 					try {
 						ApplicationListener<?> listener =
 								beanFactory.getBean(listenerBeanName, ApplicationListener.class);
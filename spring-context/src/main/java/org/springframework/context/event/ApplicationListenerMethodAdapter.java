@@ -26,6 +26,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -35,6 +37,8 @@ import org.reactivestreams.Subscription;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.PayloadApplicationEvent;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.core.BridgeMethodResolver;
@@ -63,6 +67,10 @@ import org.springframework.util.StringUtils;
  * to define any arbitrary event type. If a condition is defined, it is
  * evaluated prior to invoking the underlying method.
  *
+ * <p>For a {@linkplain EventListener#batchSize() batching} listener, the
+ * handled events are collected and the underlying method gets invoked with
+ * a {@code List} of events once the batch is complete.
+ *
  * @author Stephane Nicoll
  * @author Juergen Hoeller
  * @author Sam Brannen
@@ -70,7 +78,8 @@ import org.springframework.util.StringUtils;
  * @author Yanming Zhou
  * @since 4.2
  */
-public class ApplicationListenerMethodAdapter implements GenericApplicationListener {
+public class ApplicationListenerMethodAdapter
+		implements GenericApplicationListener, QueuedApplicationListener<ApplicationEvent> {
 
 	private static final boolean reactiveStreamsPresent = ClassUtils.isPresent(
 			"org.reactivestreams.Publisher", ApplicationListenerMethodAdapter.class.getClassLoader());
@@ -93,6 +102,15 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 
 	private final boolean defaultExecution;
 
+	private final boolean queued;
+
+	@Nullable
+	private final String deliveryKey;
+
+	private final int batchSize;
+
+	private final long batchWindow;
+
 	private final int order;
 
 	@Nullable
@@ -104,6 +122,9 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	@Nullable
 	private EventExpressionEvaluator evaluator;
 
+	@Nullable
+	private volatile EventBatch batch;
+
 
 	/**
 	 * Construct a new ApplicationListenerMethodAdapter.
@@ -119,20 +140,36 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		this.methodKey = new AnnotatedElementKey(this.targetMethod, targetClass);
 
 		EventListener ann = AnnotatedElementUtils.findMergedAnnotation(this.targetMethod, EventListener.class);
-		this.declaredEventTypes = resolveDeclaredEventTypes(method, ann);
+		this.batchSize = (ann != null ? ann.batchSize() : 0);
+		this.batchWindow = (ann != null ? ann.batchWindow() : 0);
+		this.declaredEventTypes = resolveDeclaredEventTypes(method, ann, isBatch(ann));
 		this.condition = (ann != null ? ann.condition() : null);
 		this.defaultExecution = (ann == null || ann.defaultExecution());
+		this.deliveryKey = (ann != null && StringUtils.hasText(ann.deliveryKey()) ? ann.deliveryKey() : null);
+		this.queued = (ann != null && (ann.queued() || this.deliveryKey != null));
 		this.order = resolveOrder(this.targetMethod);
 		String id = (ann != null ? ann.id() : "");
 		this.listenerId = (!id.isEmpty() ? id : null);
 	}
 
-	private static List<ResolvableType> resolveDeclaredEventTypes(Method method, @Nullable EventListener ann) {
+	private static List<ResolvableType> resolveDeclaredEventTypes(
+			Method method, @Nullable EventListener ann, boolean batch) {
+
 		int count = (KotlinDetector.isSuspendingFunction(method) ? method.getParameterCount() - 1 : method.getParameterCount());
 		if (count > 1) {
 			throw new IllegalStateException(
 					"Maximum one parameter is allowed for event listener method: " + method);
 		}
+		if (batch) {
+			Assert.state(ann != null, "Batching requires an @EventListener annotation");
+			Assert.state(ann.batchSize() >= 0 && ann.batchWindow() >= 0,
+					() -> "Batch size and window must not be negative for event listener method: " + method);
+			Class<?> parameterType = (count == 1 ? method.getParameterTypes()[0] : null);
+			if (parameterType != List.class && parameterType != Collection.class) {
+				throw new IllegalStateException(
+						"List parameter is mandatory for batching event listener method: " + method);
+			}
+		}
 
 		if (ann != null) {
 			Class<?>[] classes = ann.classes();
@@ -149,7 +186,20 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 			throw new IllegalStateException(
 					"Event parameter is mandatory for event listener method: " + method);
 		}
-		return Collections.singletonList(ResolvableType.forMethodParameter(method, 0));
+		ResolvableType parameterType = ResolvableType.forMethodParameter(method, 0);
+		if (batch) {
+			ResolvableType elementType = parameterType.asCollection().getGeneric();
+			if (elementType == ResolvableType.NONE) {
+				throw new IllegalStateException(
+						"Event type cannot be resolved for batching event listener method: " + method);
+			}
+			return Collections.singletonList(elementType);
+		}
+		return Collections.singletonList(parameterType);
+	}
+
+	private static boolean isBatch(@Nullable EventListener ann) {
+		return (ann != null && (ann.batchSize() != 0 || ann.batchWindow() != 0));
 	}
 
 	private static int resolveOrder(Method method) {
@@ -162,8 +212,29 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	 * Initialize this instance.
 	 */
 	void init(ApplicationContext applicationContext, @Nullable EventExpressionEvaluator evaluator) {
+		init(applicationContext, evaluator, null);
+	}
+
+	/**
+	 * Initialize this instance, using the given shared scheduler for completing
+	 * batches once their {@linkplain EventListener#batchWindow() window} has elapsed.
+	 * Once the scheduler is shut down, events get processed right away.
+	 * @since 6.2
+	 */
+	void init(ApplicationContext applicationContext, @Nullable EventExpressionEvaluator evaluator,
+			@Nullable EventBatchScheduler batchScheduler) {
+
 		this.applicationContext = applicationContext;
 		this.evaluator = evaluator;
+		if (isBatch()) {
+			Assert.state(this.batchWindow <= 0 || batchScheduler != null,
+					() -> "No scheduler available for batch window of event listener method: " + this.method);
+			EventBatch batch = new EventBatch(batchScheduler);
+			this.batch = batch;
+			if (applicationContext instanceof ConfigurableApplicationContext cac) {
+				cac.addApplicationListener(batch);
+			}
+		}
 	}
 
 
@@ -232,6 +303,47 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		return ClassUtils.getQualifiedMethodName(method) + sj;
 	}
 
+	/**
+	 * Return whether the target listener opted into queued delivery.
+	 * @since 6.2
+	 * @see EventListener#queued()
+	 * @see EventListener#deliveryKey()
+	 */
+	@Override
+	public boolean supportsQueuedDelivery() {
+		return this.queued;
+	}
+
+	/**
+	 * Evaluate the {@link EventListener#deliveryKey() delivery key expression}
+	 * of the target listener for the given event, if any.
+	 * @since 6.2
+	 */
+	@Override
+	@Nullable
+	public Object getDeliveryKey(ApplicationEvent event) {
+		if (this.deliveryKey == null) {
+			return null;
+		}
+		Object[] args = resolveArguments(event);
+		if (args == null) {
+			return null;
+		}
+		Assert.state(this.evaluator != null, () -> "No EventExpressionEvaluator available for evaluating the " +
+				"delivery key of " + this.method + " - has the listener adapter been initialized?");
+		return this.evaluator.deliveryKey(this.deliveryKey, event, this.targetMethod, this.methodKey, args);
+	}
+
+	/**
+	 * Return whether the target listener collects events into batches.
+	 * @since 6.2
+	 * @see EventListener#batchSize()
+	 * @see EventListener#batchWindow()
+	 */
+	protected boolean isBatch() {
+		return (this.batchSize != 0 || this.batchWindow != 0);
+	}
+
 	/**
 	 * Return whether default execution is applicable for the target listener.
 	 * @since 6.2
@@ -251,6 +363,11 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	public void processEvent(ApplicationEvent event) {
 		Object[] args = resolveArguments(event);
 		if (shouldHandle(event, args)) {
+			EventBatch batch = this.batch;
+			if (batch != null) {
+				batch.add(args[0]);
+				return;
+			}
 			Object result = doInvoke(args);
 			if (result != null) {
 				handleResult(result);
@@ -261,6 +378,37 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		}
 	}
 
+	/**
+	 * Process the given batch of events through the listener method, handling
+	 * a non-null result, if any.
+	 * <p>The events of a batch that fails to be processed are logged along
+	 * with the failure, rather than being retried with a subsequent batch.
+	 * @param events the collected events (or payloads) to process
+	 * @since 6.2
+	 * @see #isBatch()
+	 */
+	protected void processBatch(List<Object> events) {
+		Object result = doInvoke(new Object[] {events});
+		if (result != null) {
+			handleResult(result);
+		}
+		else {
+			logger.trace("No result object given - no result to handle");
+		}
+	}
+
+	/**
+	 * Process all events collected for the current batch right away.
+	 * <p>Pending events also get processed on close of the application context.
+	 * @since 6.2
+	 */
+	public void flushBatch() {
+		EventBatch batch = this.batch;
+		if (batch != null) {
+			batch.flush();
+		}
+	}
+
 	/**
 	 * Determine whether the listener method would actually handle the given
 	 * event, checking if the condition matches.
@@ -506,6 +654,127 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	}
 
 
+	/**
+	 * Collector for the events of a batching listener, completing a batch
+	 * once the batch size is reached or once the batch window has elapsed
+	 * since the first event of the batch, whichever comes first.
+	 * <p>Listens for the close of the application context in order to
+	 * process pending events; events added after that get processed right
+	 * away. The batch window timer runs on a scheduler shared by all batching
+	 * listeners of the application context, with batches completed by their
+	 * window getting processed through the executor of that scheduler.
+	 */
+	private class EventBatch implements ApplicationListener<ContextClosedEvent> {
+
+		private final Object lock = new Object();
+
+		@Nullable
+		private final EventBatchScheduler scheduler;
+
+		private List<Object> events = new ArrayList<>();
+
+		@Nullable
+		private ScheduledFuture<?> scheduledFlush;
+
+		private int window;
+
+		private boolean closed;
+
+		public EventBatch(@Nullable EventBatchScheduler scheduler) {
+			this.scheduler = scheduler;
+		}
+
+		public void add(Object event) {
+			List<Object> completedBatch = null;
+			synchronized (this.lock) {
+				this.events.add(event);
+				if (isClosed() || (batchSize > 0 && this.events.size() >= batchSize)) {
+					completedBatch = drain();
+				}
+				else if (batchWindow > 0 && this.scheduler != null && this.scheduledFlush == null) {
+					int window = this.window;
+					try {
+						this.scheduledFlush = this.scheduler.schedule(() -> flushOnSchedule(window), batchWindow);
+					}
+					catch (RejectedExecutionException ex) {
+						// Scheduler shut down already -> process right away
+						completedBatch = drain();
+					}
+				}
+			}
+			if (completedBatch != null) {
+				process(completedBatch);
+			}
+		}
+
+		private boolean isClosed() {
+			return (this.closed || (this.scheduler != null && this.scheduler.isShutdown()));
+		}
+
+		public void flush() {
+			List<Object> completedBatch;
+			synchronized (this.lock) {
+				completedBatch = drain();
+			}
+			if (!completedBatch.isEmpty()) {
+				process(completedBatch);
+			}
+		}
+
+		private void flushOnSchedule(int window) {
+			List<Object> completedBatch;
+			synchronized (this.lock) {
+				if (window != this.window) {
+					// Completed by size or flushed in the meantime
+					return;
+				}
+				completedBatch = drain();
+			}
+			if (!completedBatch.isEmpty() && this.scheduler != null) {
+				// Keep the timer thread free: process through the executor
+				this.scheduler.execute(() -> process(completedBatch));
+			}
+		}
+
+		private void process(List<Object> completedBatch) {
+			try {
+				processBatch(completedBatch);
+			}
+			catch (RuntimeException | Error ex) {
+				logger.error("Failed to process batch of " + completedBatch.size() + " events in " +
+						"batching listener " + ApplicationListenerMethodAdapter.this + ": " + completedBatch, ex);
+				throw ex;
+			}
+		}
+
+		private List<Object> drain() {
+			List<Object> completedBatch = this.events;
+			this.events = new ArrayList<>();
+			this.window++;
+			if (this.scheduledFlush != null) {
+				this.scheduledFlush.cancel(false);
+				this.scheduledFlush = null;
+			}
+			return completedBatch;
+		}
+
+		@Override
+		public boolean supportsAsyncExecution() {
+			return false;
+		}
+
+		@Override
+		public void onApplicationEvent(ContextClosedEvent event) {
+			if (event.getApplicationContext() == applicationContext) {
+				synchronized (this.lock) {
+					this.closed = true;
+				}
+				flush();
+			}
+		}
+	}
+
+
 	/**
 	 * Inner class to avoid a hard dependency on the Reactive Streams API at runtime.
 	 */
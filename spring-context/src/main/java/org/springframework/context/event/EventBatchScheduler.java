@@ -0,0 +1,159 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Scheduler for the {@linkplain EventListener#batchWindow() batch windows} of
+ * the batching listeners of an application context.
+ *
+ * <p>A single timer thread tracks the windows of all listeners. Completed
+ * batches are handed over to the given executor for processing, or to a
+ * dedicated worker thread if no executor is available, so that a slow
+ * listener does not delay the windows of other listeners. Failures get
+ * reported to the given error handler, if any.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see EventListenerMethodProcessor
+ */
+final class EventBatchScheduler {
+
+	private final Supplier<Executor> executor;
+
+	private final Supplier<ErrorHandler> errorHandler;
+
+	@Nullable
+	private ScheduledThreadPoolExecutor timer;
+
+	@Nullable
+	private ThreadPoolExecutor worker;
+
+	private volatile boolean shutdown;
+
+
+	/**
+	 * Create a new scheduler.
+	 * @param executor supplier for the executor to process completed batches
+	 * with, returning {@code null} for a dedicated worker thread
+	 * @param errorHandler supplier for the handler to report processing
+	 * failures to, returning {@code null} if none
+	 */
+	EventBatchScheduler(Supplier<Executor> executor, Supplier<ErrorHandler> errorHandler) {
+		this.executor = executor;
+		this.errorHandler = errorHandler;
+	}
+
+
+	/**
+	 * Schedule the given task, typically handing a completed batch over to
+	 * {@link #execute}, to run once the given window has elapsed.
+	 * @throws RejectedExecutionException if this scheduler has been shut down
+	 */
+	ScheduledFuture<?> schedule(Runnable task, long windowMillis) {
+		return getTimer().schedule(task, windowMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Process a completed batch through the given task, reporting a failure
+	 * to the error handler. Runs the task in the calling thread if the
+	 * executor does not accept it.
+	 */
+	void execute(Runnable task) {
+		Runnable taskToUse = () -> {
+			try {
+				task.run();
+			}
+			catch (Throwable ex) {
+				ErrorHandler errorHandler = this.errorHandler.get();
+				if (errorHandler != null) {
+					errorHandler.handleError(ex);
+				}
+				// Otherwise logged along with the events of the batch already
+			}
+		};
+		try {
+			Executor executor = this.executor.get();
+			(executor != null ? executor : getWorker()).execute(taskToUse);
+		}
+		catch (RejectedExecutionException ex) {
+			taskToUse.run();
+		}
+	}
+
+	/**
+	 * Return whether this scheduler has been shut down, in which case batching
+	 * listeners process their events right away.
+	 */
+	boolean isShutdown() {
+		return this.shutdown;
+	}
+
+	/**
+	 * Shut down the timer and the worker thread, if any. Windows still pending
+	 * at this point are completed once elapsed.
+	 */
+	synchronized void shutdown() {
+		this.shutdown = true;
+		if (this.timer != null) {
+			this.timer.shutdown();
+		}
+		if (this.worker != null) {
+			this.worker.shutdown();
+		}
+	}
+
+	private synchronized ScheduledThreadPoolExecutor getTimer() {
+		if (this.timer == null) {
+			if (this.shutdown) {
+				throw new RejectedExecutionException("Event batch scheduler has been shut down");
+			}
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("event-batch-timer-");
+			threadFactory.setDaemon(true);
+			ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, threadFactory);
+			timer.setRemoveOnCancelPolicy(true);
+			this.timer = timer;
+		}
+		return this.timer;
+	}
+
+	private synchronized ThreadPoolExecutor getWorker() {
+		if (this.worker == null) {
+			if (this.shutdown) {
+				throw new RejectedExecutionException("Event batch scheduler has been shut down");
+			}
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("event-batch-");
+			threadFactory.setDaemon(true);
+			this.worker = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<>(), threadFactory);
+		}
+		return this.worker;
+	}
+
+}
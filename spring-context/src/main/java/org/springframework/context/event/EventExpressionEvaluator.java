@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,16 +17,14 @@
 package org.springframework.context.event;
 
 import java.lang.reflect.Method;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.CachedExpressionEvaluator;
 import org.springframework.context.expression.MethodBasedEvaluationContext;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.Expression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Utility class for handling SpEL expression parsing for application events.
@@ -38,8 +36,6 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
  */
 class EventExpressionEvaluator extends CachedExpressionEvaluator {
 
-	private final Map<ExpressionKey, Expression> conditionCache = new ConcurrentHashMap<>(64);
-
 	private final StandardEvaluationContext originalEvaluationContext;
 
 	EventExpressionEvaluator(StandardEvaluationContext originalEvaluationContext) {
@@ -55,10 +51,23 @@ class EventExpressionEvaluator extends CachedExpressionEvaluator {
 
 		EventExpressionRootObject rootObject = new EventExpressionRootObject(event, args);
 		EvaluationContext evaluationContext = createEvaluationContext(rootObject, targetMethod, args);
-		return (Boolean.TRUE.equals(getExpression(this.conditionCache, methodKey, conditionExpression).getValue(
+		return (Boolean.TRUE.equals(getExpression(methodKey, conditionExpression).getValue(
 				evaluationContext, Boolean.class)));
 	}
 
+	/**
+	 * Evaluate the delivery key defined by the specified expression.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Object deliveryKey(String keyExpression, ApplicationEvent event, Method targetMethod,
+			AnnotatedElementKey methodKey, Object[] args) {
+
+		EventExpressionRootObject rootObject = new EventExpressionRootObject(event, args);
+		EvaluationContext evaluationContext = createEvaluationContext(rootObject, targetMethod, args);
+		return getExpression(methodKey, keyExpression).getValue(evaluationContext);
+	}
+
 	private EvaluationContext createEvaluationContext(EventExpressionRootObject rootObject,
 			Method method, Object[] args) {
 
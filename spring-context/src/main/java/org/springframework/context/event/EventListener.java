@@ -140,6 +140,63 @@ public @interface EventListener {
 	 */
 	boolean defaultExecution() default true;
 
+	/**
+	 * Whether the listener should be invoked through a bounded queue of its own
+	 * when the {@link SimpleApplicationEventMulticaster} is configured with a
+	 * {@linkplain SimpleApplicationEventMulticaster#setTaskExecutor task executor},
+	 * rather than submitting each invocation to the executor directly.
+	 * <p>Implied by a {@link #deliveryKey} expression.
+	 * @since 6.2
+	 * @see QueuedApplicationListener
+	 * @see SimpleApplicationEventMulticaster#setListenerQueueCapacity
+	 */
+	boolean queued() default false;
+
+	/**
+	 * Spring Expression Language (SpEL) expression used for computing the
+	 * delivery key of a {@link #queued} listener, e.g. {@code "#order.customerId"}.
+	 * <p>Events with equal keys are delivered to the listener one after the other,
+	 * in publication order. Events with different keys may be delivered in parallel.
+	 * <p>The default expression is {@code ""}, meaning the listener is not queued
+	 * unless {@link #queued} is set, and queued events are delivered in parallel.
+	 * <p>The SpEL expression is evaluated against the same context as the
+	 * {@link #condition} expression, when the event is published.
+	 * @since 6.2
+	 * @see QueuedApplicationListener#getDeliveryKey
+	 */
+	String deliveryKey() default "";
+
+	/**
+	 * The number of events to collect before invoking the listener method
+	 * with a batch of events.
+	 * <p>A batching listener method declares a single {@code List} parameter
+	 * for the events (or payloads) of a batch, e.g. {@code List<AuditEvent>},
+	 * and gets invoked once per batch. The {@link #condition} gets evaluated
+	 * per event, with the arguments referring to the individual event.
+	 * <p>The default is {@code 0}, meaning no batching unless a
+	 * {@link #batchWindow} is specified. Events still pending get processed
+	 * on close of the application context.
+	 * @since 6.2
+	 * @see #batchWindow()
+	 */
+	int batchSize() default 0;
+
+	/**
+	 * The maximum time in milliseconds to collect events for a batch, starting
+	 * with the first event of the batch, after which the listener method gets
+	 * invoked with the events collected so far.
+	 * <p>The batch windows of all batching listeners of an application context
+	 * are tracked by a single timer thread, which is shut down along with the
+	 * context. Batches completed by their window get processed through the
+	 * task executor of the event multicaster or through a dedicated worker
+	 * thread, as configured on {@link EventListenerMethodProcessor}.
+	 * <p>The default is {@code 0}, meaning that a batch is only completed once
+	 * the {@link #batchSize} is reached.
+	 * @since 6.2
+	 * @see #batchSize()
+	 */
+	long batchWindow() default 0;
+
 	/**
 	 * An optional identifier for the listener, defaulting to the fully-qualified
 	 * signature of the declaring method (e.g. "mypackage.MyClass.myMethod()").
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -31,6 +32,7 @@ import org.springframework.aop.scope.ScopedObject;
 import org.springframework.aop.scope.ScopedProxyUtils;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
@@ -49,6 +51,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ErrorHandler;
 
 /**
  * Registers {@link EventListener} methods as individual {@link ApplicationListener} instances.
@@ -63,7 +66,13 @@ import org.springframework.util.CollectionUtils;
  * @see DefaultEventListenerFactory
  */
 public class EventListenerMethodProcessor
-		implements SmartInitializingSingleton, ApplicationContextAware, BeanFactoryPostProcessor {
+		implements SmartInitializingSingleton, ApplicationContextAware, BeanFactoryPostProcessor, DisposableBean {
+
+	/**
+	 * Name of the multicaster bean in the application context.
+	 * @see org.springframework.context.support.AbstractApplicationContext#APPLICATION_EVENT_MULTICASTER_BEAN_NAME
+	 */
+	private static final String EVENT_MULTICASTER_BEAN_NAME = "applicationEventMulticaster";
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -83,12 +92,49 @@ public class EventListenerMethodProcessor
 
 	private final Set<Class<?>> nonAnnotatedClasses = ConcurrentHashMap.newKeySet(64);
 
+	@Nullable
+	private Executor batchExecutor;
+
+	@Nullable
+	private ErrorHandler batchErrorHandler;
+
+	private final EventBatchScheduler batchScheduler =
+			new EventBatchScheduler(this::getBatchExecutor, this::getBatchErrorHandler);
+
 
 	public EventListenerMethodProcessor() {
 		this.originalEvaluationContext = new StandardEvaluationContext();
 		this.evaluator = new EventExpressionEvaluator(this.originalEvaluationContext);
 	}
 
+
+	/**
+	 * Set the executor to process batches through once their
+	 * {@linkplain EventListener#batchWindow() window} has elapsed.
+	 * <p>Default is the task executor of the application event multicaster,
+	 * if any, or otherwise a single worker thread which is shut down along
+	 * with the application context. The thread that tracks the batch windows
+	 * never invokes listener methods itself.
+	 * @since 6.2
+	 * @see SimpleApplicationEventMulticaster#setTaskExecutor
+	 */
+	public void setBatchExecutor(Executor batchExecutor) {
+		this.batchExecutor = batchExecutor;
+	}
+
+	/**
+	 * Set the {@link ErrorHandler} to invoke in case of a failure to process
+	 * a batch once its {@linkplain EventListener#batchWindow() window} has
+	 * elapsed.
+	 * <p>Default is the error handler of the application event multicaster,
+	 * if any. Failures are logged along with the events of the batch either way.
+	 * @since 6.2
+	 * @see SimpleApplicationEventMulticaster#setErrorHandler
+	 */
+	public void setBatchErrorHandler(ErrorHandler batchErrorHandler) {
+		this.batchErrorHandler = batchErrorHandler;
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) {
 		Assert.isTrue(applicationContext instanceof ConfigurableApplicationContext,
@@ -190,7 +236,7 @@ public class EventListenerMethodProcessor
 							ApplicationListener<?> applicationListener =
 									factory.createApplicationListener(beanName, targetType, methodToUse);
 							if (applicationListener instanceof ApplicationListenerMethodAdapter alma) {
-								alma.init(context, this.evaluator);
+								alma.init(context, this.evaluator, this.batchScheduler);
 							}
 							context.addApplicationListener(applicationListener);
 							break;
@@ -205,6 +251,44 @@ public class EventListenerMethodProcessor
 		}
 	}
 
+	@Nullable
+	private Executor getBatchExecutor() {
+		if (this.batchExecutor != null) {
+			return this.batchExecutor;
+		}
+		SimpleApplicationEventMulticaster multicaster = getEventMulticaster();
+		return (multicaster != null ? multicaster.getTaskExecutor() : null);
+	}
+
+	@Nullable
+	private ErrorHandler getBatchErrorHandler() {
+		if (this.batchErrorHandler != null) {
+			return this.batchErrorHandler;
+		}
+		SimpleApplicationEventMulticaster multicaster = getEventMulticaster();
+		return (multicaster != null ? multicaster.getErrorHandler() : null);
+	}
+
+	@Nullable
+	private SimpleApplicationEventMulticaster getEventMulticaster() {
+		ConfigurableListableBeanFactory beanFactory = this.beanFactory;
+		Object multicaster = (beanFactory != null && beanFactory.containsSingleton(EVENT_MULTICASTER_BEAN_NAME) ?
+				beanFactory.getSingleton(EVENT_MULTICASTER_BEAN_NAME) : null);
+		return (multicaster instanceof SimpleApplicationEventMulticaster simpleMulticaster ? simpleMulticaster : null);
+	}
+
+	/**
+	 * Shut down the scheduler for batch windows. Batches still pending at this
+	 * point are processed once their window has elapsed; pending batches are
+	 * usually processed on close of the application context already. Events
+	 * for batching listeners get processed right away from now on.
+	 * @since 6.2
+	 */
+	@Override
+	public void destroy() {
+		this.batchScheduler.shutdown();
+	}
+
 	/**
 	 * Determine whether the given class is an {@code org.springframework}
 	 * bean class that is not annotated as a user or test {@link Component}...
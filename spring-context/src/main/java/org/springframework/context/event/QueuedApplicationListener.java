@@ -0,0 +1,65 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * Extended variant of the standard {@link ApplicationListener} interface,
+ * opting into queued delivery when the {@link SimpleApplicationEventMulticaster}
+ * is configured with a {@linkplain SimpleApplicationEventMulticaster#setTaskExecutor
+ * task executor}.
+ *
+ * <p>Each queued listener gets its own bounded queue of pending events,
+ * so that a slow listener does not hold up the delivery to other listeners.
+ * Events with the same {@linkplain #getDeliveryKey delivery key} are delivered
+ * one after the other in publication order; events without a key may be
+ * delivered in parallel.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @param <E> the specific {@code ApplicationEvent} subclass to listen to
+ * @see SimpleApplicationEventMulticaster#setListenerQueueCapacity
+ * @see SimpleApplicationEventMulticaster#setBackpressurePolicy
+ * @see EventListener#queued()
+ */
+public interface QueuedApplicationListener<E extends ApplicationEvent> extends ApplicationListener<E> {
+
+	/**
+	 * Return whether this listener instance should actually be invoked through
+	 * a queue of its own.
+	 * <p>The default implementation returns {@code true}.
+	 */
+	default boolean supportsQueuedDelivery() {
+		return true;
+	}
+
+	/**
+	 * Determine the delivery key for the given event.
+	 * <p>The default implementation returns {@code null}.
+	 * @param event the event about to be queued for this listener
+	 * @return the key to deliver the event in order with other events with
+	 * an equal key, or {@code null} for delivery without ordering guarantees
+	 */
+	@Nullable
+	default Object getDeliveryKey(E event) {
+		return null;
+	}
+
+}
@@ -16,8 +16,15 @@
 
 package org.springframework.context.event;
 
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -28,6 +35,7 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.context.PayloadApplicationEvent;
 import org.springframework.core.ResolvableType;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
 
 /**
@@ -43,6 +51,14 @@ import org.springframework.util.ErrorHandler;
  * but adds minimal overhead. Specify an alternative task executor to have
  * listeners executed in different threads, for example from a thread pool.
  *
+ * <p>With a task executor, listeners implementing {@link QueuedApplicationListener}
+ * (including {@link EventListener#queued() queued} event listener methods) get
+ * a bounded queue of their own, with the given {@link BackpressurePolicy} applying
+ * once the queue is full. Events with the same delivery key are delivered to such
+ * a listener in publication order, while all other events are delivered in parallel.
+ * An event whose delivery key cannot be determined is not delivered to the listener;
+ * the failure is passed to the {@link #setErrorHandler ErrorHandler} or logged.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @author Stephane Nicoll
@@ -51,12 +67,26 @@ import org.springframework.util.ErrorHandler;
  */
 public class SimpleApplicationEventMulticaster extends AbstractApplicationEventMulticaster {
 
+	/**
+	 * The default capacity of the queue of pending events per queued listener.
+	 * @since 6.2
+	 * @see #setListenerQueueCapacity
+	 */
+	public static final int DEFAULT_LISTENER_QUEUE_CAPACITY = 1024;
+
+
 	@Nullable
 	private Executor taskExecutor;
 
 	@Nullable
 	private ErrorHandler errorHandler;
 
+	private int listenerQueueCapacity = DEFAULT_LISTENER_QUEUE_CAPACITY;
+
+	private BackpressurePolicy backpressurePolicy = BackpressurePolicy.CALLER_RUNS;
+
+	private final Map<ApplicationListener<?>, ListenerQueue> listenerQueues = new ConcurrentHashMap<>();
+
 	@Nullable
 	private volatile Log lazyLogger;
 
@@ -133,6 +163,81 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		return this.errorHandler;
 	}
 
+	/**
+	 * Set the maximum number of pending events per {@link QueuedApplicationListener},
+	 * including events currently being processed.
+	 * <p>Default is {@link #DEFAULT_LISTENER_QUEUE_CAPACITY}. Once the queue of a
+	 * listener is full, the {@linkplain #setBackpressurePolicy backpressure policy}
+	 * applies to further events for that listener.
+	 * <p>Only takes effect for listener queues created after this call.
+	 * @since 6.2
+	 * @see #setTaskExecutor
+	 */
+	public void setListenerQueueCapacity(int listenerQueueCapacity) {
+		Assert.isTrue(listenerQueueCapacity > 0, "Listener queue capacity must be greater than 0");
+		this.listenerQueueCapacity = listenerQueueCapacity;
+	}
+
+	/**
+	 * Set the policy to apply when the queue of a {@link QueuedApplicationListener}
+	 * is full.
+	 * <p>Default is {@link BackpressurePolicy#CALLER_RUNS}.
+	 * @since 6.2
+	 * @see #setListenerQueueCapacity
+	 */
+	public void setBackpressurePolicy(BackpressurePolicy backpressurePolicy) {
+		Assert.notNull(backpressurePolicy, "BackpressurePolicy must not be null");
+		this.backpressurePolicy = backpressurePolicy;
+	}
+
+	/**
+	 * Return the current backpressure policy for queued listeners.
+	 * @since 6.2
+	 */
+	protected BackpressurePolicy getBackpressurePolicy() {
+		return this.backpressurePolicy;
+	}
+
+	@Override
+	public void removeApplicationListener(ApplicationListener<?> listener) {
+		super.removeApplicationListener(listener);
+		this.listenerQueues.remove(listener);
+	}
+
+	@Override
+	public void removeApplicationListenerBean(String listenerBeanName) {
+		super.removeApplicationListenerBean(listenerBeanName);
+		retainListenerQueues();
+	}
+
+	@Override
+	public void removeApplicationListeners(Predicate<ApplicationListener<?>> predicate) {
+		super.removeApplicationListeners(predicate);
+		this.listenerQueues.keySet().removeIf(predicate);
+	}
+
+	@Override
+	public void removeApplicationListenerBeans(Predicate<String> predicate) {
+		super.removeApplicationListenerBeans(predicate);
+		retainListenerQueues();
+	}
+
+	@Override
+	public void removeAllListeners() {
+		super.removeAllListeners();
+		this.listenerQueues.clear();
+	}
+
+	/**
+	 * Remove the queues of listeners that are not registered anymore.
+	 * Events already queued for such a listener are still delivered.
+	 */
+	private void retainListenerQueues() {
+		if (!this.listenerQueues.isEmpty()) {
+			this.listenerQueues.keySet().retainAll(getApplicationListeners());
+		}
+	}
+
 	@Override
 	public void multicastEvent(ApplicationEvent event) {
 		multicastEvent(event, null);
@@ -144,12 +249,20 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		Executor executor = getTaskExecutor();
 		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
 			if (executor != null && listener.supportsAsyncExecution()) {
-				try {
-					executor.execute(() -> invokeListener(listener, event));
+				if (listener instanceof QueuedApplicationListener<?> queuedListener &&
+						queuedListener.supportsQueuedDelivery()) {
+					Object key;
+					try {
+						key = getDeliveryKey(queuedListener, event);
+					}
+					catch (Throwable ex) {
+						handleDeliveryKeyFailure(listener, ex);
+						continue;
+					}
+					this.listenerQueues.computeIfAbsent(listener, ListenerQueue::new).enqueue(event, key, executor);
 				}
-				catch (RejectedExecutionException ex) {
-					// Probably on shutdown -> invoke listener locally instead
-					invokeListener(listener, event);
+				else {
+					execute(executor, () -> invokeListener(listener, event));
 				}
 			}
 			else {
@@ -158,6 +271,39 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		}
 	}
 
+	@Nullable
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private Object getDeliveryKey(QueuedApplicationListener listener, ApplicationEvent event) {
+		try {
+			return listener.getDeliveryKey(event);
+		}
+		catch (ClassCastException ex) {
+			// Non-matching event type for a lambda-defined listener -> no key to use.
+			return null;
+		}
+	}
+
+	private void handleDeliveryKeyFailure(ApplicationListener<?> listener, Throwable ex) {
+		ErrorHandler errorHandler = getErrorHandler();
+		if (errorHandler != null) {
+			errorHandler.handleError(ex);
+		}
+		else {
+			getLogger().error("Failed to determine delivery key for listener " + listener +
+					" - event not delivered to it", ex);
+		}
+	}
+
+	private void execute(Executor executor, Runnable task) {
+		try {
+			executor.execute(task);
+		}
+		catch (RejectedExecutionException ex) {
+			// Probably on shutdown -> run task locally instead
+			task.run();
+		}
+	}
+
 	/**
 	 * Invoke the given listener with the given event.
 	 * @param listener the ApplicationListener to invoke
@@ -191,11 +337,7 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 							matchesClassCastMessage(msg, payloadEvent.getPayload().getClass()))) {
 				// Possibly a lambda-defined listener which we could not resolve the generic event type for
 				// -> let's suppress the exception.
-				Log loggerToUse = this.lazyLogger;
-				if (loggerToUse == null) {
-					loggerToUse = LogFactory.getLog(getClass());
-					this.lazyLogger = loggerToUse;
-				}
+				Log loggerToUse = getLogger();
 				if (loggerToUse.isTraceEnabled()) {
 					loggerToUse.trace("Non-matching event type for listener: " + listener, ex);
 				}
@@ -224,4 +366,148 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		return false;
 	}
 
+	private Log getLogger() {
+		Log loggerToUse = this.lazyLogger;
+		if (loggerToUse == null) {
+			loggerToUse = LogFactory.getLog(getClass());
+			this.lazyLogger = loggerToUse;
+		}
+		return loggerToUse;
+	}
+
+
+	/**
+	 * Policy for an event published to a {@link QueuedApplicationListener}
+	 * whose queue is full.
+	 * @since 6.2
+	 * @see #setBackpressurePolicy
+	 */
+	public enum BackpressurePolicy {
+
+		/**
+		 * Invoke the listener in the publishing thread instead. For an event
+		 * with a delivery key, the publisher blocks as with {@link #BLOCK}
+		 * in order to retain the delivery order for that key.
+		 */
+		CALLER_RUNS,
+
+		/**
+		 * Block the publishing thread until the queue has capacity again.
+		 */
+		BLOCK,
+
+		/**
+		 * Discard the event for the listener, logging it at debug level.
+		 */
+		DISCARD
+	}
+
+
+	/**
+	 * Bounded queue of pending events for a specific listener, delivering
+	 * events with equal keys through a sequential lane per key.
+	 */
+	private class ListenerQueue {
+
+		private final ApplicationListener<?> listener;
+
+		private final Semaphore permits;
+
+		private final Map<Object, Lane> lanes = new ConcurrentHashMap<>();
+
+		public ListenerQueue(ApplicationListener<?> listener) {
+			this.listener = listener;
+			this.permits = new Semaphore(listenerQueueCapacity);
+		}
+
+		public void enqueue(ApplicationEvent event, @Nullable Object key, Executor executor) {
+			if (!this.permits.tryAcquire()) {
+				BackpressurePolicy policy = getBackpressurePolicy();
+				if (policy == BackpressurePolicy.DISCARD) {
+					Log loggerToUse = getLogger();
+					if (loggerToUse.isDebugEnabled()) {
+						loggerToUse.debug("Discarding event for listener with full queue: " + this.listener);
+					}
+					return;
+				}
+				if (policy == BackpressurePolicy.CALLER_RUNS && key == null) {
+					invokeListener(this.listener, event);
+					return;
+				}
+				try {
+					this.permits.acquire();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					invokeListener(this.listener, event);
+					return;
+				}
+			}
+			if (key == null) {
+				execute(executor, () -> {
+					try {
+						invokeListener(this.listener, event);
+					}
+					finally {
+						this.permits.release();
+					}
+				});
+			}
+			else {
+				Lane lane = this.lanes.compute(key, (k, existing) -> {
+					Lane laneToUse = (existing != null ? existing : new Lane(k));
+					laneToUse.events.add(event);
+					return laneToUse;
+				});
+				if (lane.scheduled.compareAndSet(false, true)) {
+					execute(executor, lane);
+				}
+			}
+		}
+
+
+		/**
+		 * Sequential delivery of the events for a specific key, removing
+		 * itself from the lanes of the listener once drained.
+		 */
+		private class Lane implements Runnable {
+
+			private final Object key;
+
+			private final Queue<ApplicationEvent> events = new ConcurrentLinkedQueue<>();
+
+			private final AtomicBoolean scheduled = new AtomicBoolean();
+
+			public Lane(Object key) {
+				this.key = key;
+			}
+
+			@Override
+			public void run() {
+				while (true) {
+					ApplicationEvent event = this.events.poll();
+					if (event == null) {
+						// Remove this lane unless an event got added in the meantime
+						lanes.computeIfPresent(this.key, (k, lane) ->
+								(lane == this && this.events.isEmpty() ? null : lane));
+						if (lanes.get(this.key) != this) {
+							return;
+						}
+						continue;
+					}
+					try {
+						invokeListener(listener, event);
+					}
+					catch (Throwable ex) {
+						// Keep delivering subsequent events for this key
+						getLogger().error("Listener failed to process event with delivery key [" + this.key + "]", ex);
+					}
+					finally {
+						permits.release();
+					}
+				}
+			}
+		}
+	}
+
 }
@@ -29,14 +29,22 @@ import org.springframework.util.Assert;
  * Shared utility class used to evaluate and cache SpEL expressions that
  * are defined on an {@link java.lang.reflect.AnnotatedElement AnnotatedElement}.
  *
+ * <p>Parsed expressions are kept in a bounded {@link ExpressionCache} owned by
+ * the evaluator instance.
+ *
  * @author Stephane Nicoll
  * @since 4.2
  * @see AnnotatedElementKey
  */
 public abstract class CachedExpressionEvaluator {
 
+	private static final SpelExpressionParser sharedParser = new SpelExpressionParser();
+
+
 	private final SpelExpressionParser parser;
 
+	private final ExpressionCache expressionCache;
+
 	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
 
@@ -44,15 +52,25 @@ public abstract class CachedExpressionEvaluator {
 	 * Create a new instance with the default {@link SpelExpressionParser}.
 	 */
 	protected CachedExpressionEvaluator() {
-		this(new SpelExpressionParser());
+		this(sharedParser);
 	}
 
 	/**
 	 * Create a new instance with the specified {@link SpelExpressionParser}.
 	 */
 	protected CachedExpressionEvaluator(SpelExpressionParser parser) {
+		this(parser, ExpressionCache.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new instance with the specified {@link SpelExpressionParser},
+	 * keeping up to the given number of parsed expressions.
+	 * @since 6.2
+	 */
+	protected CachedExpressionEvaluator(SpelExpressionParser parser, int expressionCacheCapacity) {
 		Assert.notNull(parser, "SpelExpressionParser must not be null");
 		this.parser = parser;
+		this.expressionCache = new ExpressionCache(expressionCacheCapacity);
 	}
 
 
@@ -72,9 +90,33 @@ public abstract class CachedExpressionEvaluator {
 	}
 
 	/**
-	 * Return the parsed {@link Expression} for the specified SpEL expression.
+	 * Return the {@link ExpressionCache} of this evaluator, e.g. to monitor
+	 * its hit and miss counts.
+	 * @since 6.2
+	 */
+	public ExpressionCache getExpressionCache() {
+		return this.expressionCache;
+	}
+
+	/**
+	 * Return the parsed {@link Expression} for the specified SpEL expression
+	 * from the {@link #getExpressionCache() expression cache}.
 	 * <p>{@linkplain #parseExpression(String) Parses} the expression if it hasn't
 	 * already been parsed and cached.
+	 * @param elementKey the {@code AnnotatedElementKey} containing the element
+	 * on which the expression is defined
+	 * @param expression the expression to parse
+	 * @since 6.2
+	 */
+	protected Expression getExpression(AnnotatedElementKey elementKey, String expression) {
+		return this.expressionCache.getExpression(createKey(elementKey, expression), this::parseExpression);
+	}
+
+	/**
+	 * Return the parsed {@link Expression} for the specified SpEL expression,
+	 * additionally keeping it in the given cache.
+	 * <p>Retrieves the expression from the {@link #getExpressionCache() expression
+	 * cache} if it is not contained in the given cache yet.
 	 * @param cache the cache to use
 	 * @param elementKey the {@code AnnotatedElementKey} containing the element
 	 * on which the expression is defined
@@ -84,7 +126,7 @@ public abstract class CachedExpressionEvaluator {
 			AnnotatedElementKey elementKey, String expression) {
 
 		ExpressionKey expressionKey = createKey(elementKey, expression);
-		return cache.computeIfAbsent(expressionKey, key -> parseExpression(expression));
+		return cache.computeIfAbsent(expressionKey, key -> getExpression(elementKey, expression));
 	}
 
 	/**
@@ -117,6 +159,10 @@ public abstract class CachedExpressionEvaluator {
 			this.expression = expression;
 		}
 
+		String getExpression() {
+			return this.expression;
+		}
+
 		@Override
 		public boolean equals(@Nullable Object other) {
 			return (this == other || (other instanceof ExpressionKey that &&
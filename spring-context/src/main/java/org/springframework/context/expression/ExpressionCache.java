@@ -0,0 +1,127 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.expression;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.context.expression.CachedExpressionEvaluator.ExpressionKey;
+import org.springframework.expression.Expression;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded cache of parsed expressions of a {@link CachedExpressionEvaluator},
+ * keeping the least recently used expressions up to the given capacity.
+ *
+ * <p>Each evaluator owns a cache of its own, so that parsed expressions do
+ * not outlive the evaluator and its application context. The number of cache
+ * hits and misses is exposed for monitoring, see
+ * {@link CachedExpressionEvaluator#getExpressionCache()}.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see CachedExpressionEvaluator#getExpression(AnnotatedElementKey, String)
+ */
+public class ExpressionCache {
+
+	/**
+	 * The default capacity of the cache of an evaluator: {@value}.
+	 */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+
+	private final ConcurrentLruCache<ExpressionKey, Expression> cache;
+
+	private final LongAdder requestCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+
+	/**
+	 * Create a new cache with the given capacity.
+	 * @param capacity the maximum number of expressions to keep
+	 */
+	ExpressionCache(int capacity) {
+		this.cache = new ConcurrentLruCache<>(capacity, key -> {
+			throw new IllegalStateException("Expressions are parsed by the owning evaluator");
+		});
+	}
+
+
+	/**
+	 * Return the parsed expression for the given key, parsing it through
+	 * the given function if not cached yet.
+	 * @param key the element on which the expression is defined along with
+	 * the expression to parse
+	 * @param parser the function to parse the expression with
+	 */
+	Expression getExpression(ExpressionKey key, Function<String, Expression> parser) {
+		this.requestCount.increment();
+		Expression cached = this.cache.getIfPresent(key);
+		if (cached == null) {
+			this.missCount.increment();
+			Expression parsed = parser.apply(key.getExpression());
+			cached = this.cache.putIfAbsent(key, parsed);
+			if (cached == null) {
+				cached = parsed;
+			}
+		}
+		return cached;
+	}
+
+	/**
+	 * Return the number of requests served from the cache.
+	 */
+	public long getHitCount() {
+		return Math.max(this.requestCount.sum() - this.missCount.sum(), 0);
+	}
+
+	/**
+	 * Return the number of requests that required the expression to be parsed.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the current number of cached expressions.
+	 */
+	public int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Return the maximum number of cached expressions.
+	 */
+	public int capacity() {
+		return this.cache.capacity();
+	}
+
+	/**
+	 * Remove all cached expressions, leaving the hit and miss counts as-is.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "ExpressionCache [size = " + size() + ", capacity = " + capacity() +
+				", hits = " + getHitCount() + ", misses = " + getMissCount() + "]";
+	}
+
+}
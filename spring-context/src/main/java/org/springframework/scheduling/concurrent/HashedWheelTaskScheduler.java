@@ -0,0 +1,766 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Implementation of Spring's {@link TaskScheduler} interface based on a
+ * hashed timing wheel, suitable for a large number of scheduled tasks which
+ * mostly get cancelled before they are due, e.g. timeouts and heartbeats per
+ * connection or per session.
+ *
+ * <p>In contrast to {@link ThreadPoolTaskScheduler} which is backed by the
+ * priority queue of a {@link java.util.concurrent.ScheduledThreadPoolExecutor}
+ * with O(log n) cost for scheduling and cancelling a task, this scheduler
+ * hashes each task into one of a fixed number of buckets on a wheel, with
+ * constant cost for scheduling and cancellation. A single scheduler thread
+ * advances the wheel once per {@link #setTickDuration tick} and triggers all
+ * tasks that are due in the current bucket. The trade-off is precision: tasks
+ * are never triggered early but may get triggered up to one tick late.
+ *
+ * <p>By default, due tasks are executed on the scheduler thread itself, so
+ * they are expected to be short-lived. For longer-running tasks, consider
+ * a {@link #setTargetTaskExecutor "targetTaskExecutor"} for dispatching
+ * execution to a thread pool.
+ *
+ * <p>Fixed-rate and fixed-delay execution as well as {@link Trigger}-based
+ * scheduling are supported through rescheduling on the wheel. Lifecycle
+ * management follows {@link ExecutorConfigurationSupport}, including
+ * pause/resume and early shutdown signals. Similar to the default policies
+ * of a {@code ScheduledThreadPoolExecutor}, a graceful shutdown lets existing
+ * one-time tasks run when due while cancelling periodic tasks.
+ *
+ * <p>This scheduler may be passed to any component accepting a
+ * {@link TaskScheduler}, e.g. for heartbeats of the simple STOMP broker via
+ * {@code SimpleBrokerMessageHandler#setTaskScheduler} or of SockJS sessions
+ * via {@code SockJsServiceRegistration#setTaskScheduler}.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see #setTickDuration
+ * @see #setTicksPerWheel
+ * @see ThreadPoolTaskScheduler
+ * @see SimpleAsyncTaskScheduler
+ */
+@SuppressWarnings("serial")
+public class HashedWheelTaskScheduler extends ExecutorConfigurationSupport implements TaskScheduler {
+
+	private static final TimeUnit NANO = TimeUnit.NANOSECONDS;
+
+
+	private Duration tickDuration = Duration.ofMillis(10);
+
+	private int ticksPerWheel = 512;
+
+	@Nullable
+	private Executor targetTaskExecutor;
+
+	@Nullable
+	private ErrorHandler errorHandler;
+
+	private Clock clock = Clock.systemDefaultZone();
+
+	@Nullable
+	private HashedWheelExecutor scheduledExecutor;
+
+
+	/**
+	 * Set the duration of a single tick of the wheel, i.e. the precision
+	 * with which tasks get triggered. Default is 10 milliseconds.
+	 * <p>A shorter tick duration triggers tasks more accurately at the expense
+	 * of the scheduler thread waking up more often.
+	 */
+	public void setTickDuration(Duration tickDuration) {
+		Assert.isTrue(tickDuration.toMillis() >= 1, "Tick duration must be at least 1 millisecond");
+		this.tickDuration = tickDuration;
+	}
+
+	/**
+	 * Return the duration of a single tick of the wheel.
+	 */
+	public Duration getTickDuration() {
+		return this.tickDuration;
+	}
+
+	/**
+	 * Set the number of buckets on the wheel, rounded up to a power of two.
+	 * Default is 512.
+	 * <p>Tasks which are due further ahead than a full rotation of the wheel
+	 * get skipped in their bucket for the corresponding number of rotations.
+	 * A larger wheel keeps the number of tasks per bucket low for a large
+	 * number of scheduled tasks.
+	 */
+	public void setTicksPerWheel(int ticksPerWheel) {
+		Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= (1 << 30), "Ticks per wheel must be between 1 and 2^30");
+		this.ticksPerWheel = ticksPerWheel;
+	}
+
+	/**
+	 * Return the number of buckets on the wheel.
+	 */
+	public int getTicksPerWheel() {
+		return this.ticksPerWheel;
+	}
+
+	/**
+	 * Specify a custom target {@link Executor} to delegate to for
+	 * the individual execution of due tasks.
+	 * <p>By default, tasks get executed on the scheduler thread.
+	 * @see SimpleAsyncTaskScheduler#setTargetTaskExecutor
+	 */
+	public void setTargetTaskExecutor(Executor targetTaskExecutor) {
+		this.targetTaskExecutor = targetTaskExecutor;
+	}
+
+	/**
+	 * Provide an {@link ErrorHandler} strategy.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		Assert.notNull(errorHandler, "ErrorHandler must not be null");
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Set the clock to use for scheduling purposes.
+	 * <p>The default clock is the system clock for the default time zone.
+	 * @see Clock#systemDefaultZone()
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public Clock getClock() {
+		return this.clock;
+	}
+
+
+	@Override
+	protected ExecutorService initializeExecutor(
+			ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+
+		this.scheduledExecutor = new HashedWheelExecutor(threadFactory, NANO.convert(this.tickDuration),
+				normalizeTicksPerWheel(this.ticksPerWheel), this.targetTaskExecutor);
+		return this.scheduledExecutor;
+	}
+
+	private static int normalizeTicksPerWheel(int ticksPerWheel) {
+		int normalized = 1;
+		while (normalized < ticksPerWheel) {
+			normalized <<= 1;
+		}
+		return normalized;
+	}
+
+	/**
+	 * Return the underlying ScheduledExecutorService for native access.
+	 * @return the underlying ScheduledExecutorService (never {@code null})
+	 * @throws IllegalStateException if the HashedWheelTaskScheduler hasn't been initialized yet
+	 */
+	public ScheduledExecutorService getScheduledExecutor() throws IllegalStateException {
+		Assert.state(this.scheduledExecutor != null, "HashedWheelTaskScheduler not initialized");
+		return this.scheduledExecutor;
+	}
+
+	/**
+	 * Return the number of tasks currently scheduled on the wheel,
+	 * not including tasks which are being executed at the moment.
+	 */
+	public int getPendingTaskCount() {
+		return (this.scheduledExecutor != null ? this.scheduledExecutor.pendingCount.get() : 0);
+	}
+
+
+	// TaskScheduler implementation
+
+	@Override
+	@Nullable
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		try {
+			ErrorHandler errorHandler = this.errorHandler;
+			if (errorHandler == null) {
+				errorHandler = TaskUtils.getDefaultErrorHandler(true);
+			}
+			return new ReschedulingRunnable(task, trigger, this.clock, executor, errorHandler).schedule();
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		Duration delay = Duration.between(this.clock.instant(), startTime);
+		try {
+			return executor.schedule(errorHandlingTask(task, false), NANO.convert(delay), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		Duration initialDelay = Duration.between(this.clock.instant(), startTime);
+		try {
+			return executor.scheduleAtFixedRate(errorHandlingTask(task, true),
+					NANO.convert(initialDelay), NANO.convert(period), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		try {
+			return executor.scheduleAtFixedRate(errorHandlingTask(task, true),
+					0, NANO.convert(period), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		Duration initialDelay = Duration.between(this.clock.instant(), startTime);
+		try {
+			return executor.scheduleWithFixedDelay(errorHandlingTask(task, true),
+					NANO.convert(initialDelay), NANO.convert(delay), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+		ScheduledExecutorService executor = getScheduledExecutor();
+		try {
+			return executor.scheduleWithFixedDelay(errorHandlingTask(task, true),
+					0, NANO.convert(delay), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	private Runnable errorHandlingTask(Runnable task, boolean isRepeatingTask) {
+		return TaskUtils.decorateTaskWithErrorHandler(task, this.errorHandler, isRepeatingTask);
+	}
+
+
+	/**
+	 * ScheduledExecutorService backed by a hashed timing wheel, advanced by
+	 * a single worker thread. Newly scheduled and cancelled timeouts get handed
+	 * over through concurrent queues and processed on the next tick. Buckets are
+	 * only accessed under the wheel lock, which the worker thread holds for its
+	 * bookkeeping on each tick but not while executing due tasks, allowing for
+	 * {@link #shutdownNow()} to drain the wheel from any thread.
+	 */
+	private class HashedWheelExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+		private static final int RUNNING = 0;
+
+		private static final int SHUTDOWN = 1;
+
+		private static final int STOP = 2;
+
+		private static final long MAX_DELAY = Long.MAX_VALUE >> 1;
+
+		private final long tickNanos;
+
+		private final Bucket[] wheel;
+
+		private final int mask;
+
+		@Nullable
+		private final Executor targetExecutor;
+
+		private final Queue<WheelTimeout<?>> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+
+		private final Queue<WheelTimeout<?>> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger pendingCount = new AtomicInteger();
+
+		private final AtomicLong sequencer = new AtomicLong();
+
+		private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+		private final Object wheelLock = new Object();
+
+		private final List<WheelTimeout<?>> dueTimeouts = new ArrayList<>();
+
+		private final CountDownLatch termination = new CountDownLatch(1);
+
+		private final Thread workerThread;
+
+		private final long startTime;
+
+		private long tick;
+
+		HashedWheelExecutor(ThreadFactory threadFactory, long tickNanos, int ticksPerWheel,
+				@Nullable Executor targetExecutor) {
+
+			this.tickNanos = tickNanos;
+			this.wheel = new Bucket[ticksPerWheel];
+			for (int i = 0; i < ticksPerWheel; i++) {
+				this.wheel[i] = new Bucket();
+			}
+			this.mask = ticksPerWheel - 1;
+			this.targetExecutor = targetExecutor;
+			this.workerThread = threadFactory.newThread(this::runWheel);
+			this.startTime = System.nanoTime();
+			this.workerThread.start();
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+			return schedule(new WheelTimeout<>(command, null, triggerTime(delay, unit), 0));
+		}
+
+		@Override
+		public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+			return schedule(new WheelTimeout<>(callable, triggerTime(delay, unit)));
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleAtFixedRate(
+				Runnable command, long initialDelay, long period, TimeUnit unit) {
+
+			Assert.isTrue(period > 0, "Period must be greater than 0");
+			return schedule(new WheelTimeout<>(command, null, triggerTime(initialDelay, unit), toNanos(period, unit)));
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleWithFixedDelay(
+				Runnable command, long initialDelay, long delay, TimeUnit unit) {
+
+			Assert.isTrue(delay > 0, "Delay must be greater than 0");
+			return schedule(new WheelTimeout<>(command, null, triggerTime(initialDelay, unit), -toNanos(delay, unit)));
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			schedule(command, 0, NANO);
+		}
+
+		private long triggerTime(long delay, TimeUnit unit) {
+			return System.nanoTime() - this.startTime + Math.max(toNanos(delay, unit), 0);
+		}
+
+		/**
+		 * Convert the given delay to nanoseconds, constrained to half the value
+		 * range so that deadlines relative to the start time cannot overflow.
+		 * @see java.util.concurrent.ScheduledThreadPoolExecutor
+		 */
+		private long toNanos(long delay, TimeUnit unit) {
+			return Math.min(unit.toNanos(delay), MAX_DELAY);
+		}
+
+		private <V> ScheduledFuture<V> schedule(WheelTimeout<V> timeout) {
+			if (this.state.get() != RUNNING) {
+				throw new RejectedExecutionException("Executor has been shut down");
+			}
+			enqueue(timeout);
+			return timeout;
+		}
+
+		private void enqueue(WheelTimeout<?> timeout) {
+			this.pendingCount.incrementAndGet();
+			this.scheduledTimeouts.add(timeout);
+		}
+
+		private void runWheel() {
+			boolean shutdownProcessed = false;
+			try {
+				while (this.state.get() != STOP) {
+					long deadline = waitForNextTick();
+					if (deadline < 0) {
+						continue;
+					}
+					synchronized (this.wheelLock) {
+						if (this.state.get() == STOP) {
+							break;
+						}
+						if (this.state.get() == SHUTDOWN && !shutdownProcessed) {
+							cancelPeriodicTimeouts();
+							shutdownProcessed = true;
+						}
+						processCancelledTimeouts();
+						transferScheduledTimeouts();
+						if (shutdownProcessed && this.pendingCount.get() == 0) {
+							break;
+						}
+						this.wheel[(int) (this.tick & this.mask)].expireTimeouts(deadline, this.dueTimeouts);
+						this.tick++;
+					}
+					for (WheelTimeout<?> timeout : this.dueTimeouts) {
+						if (this.state.get() == STOP) {
+							timeout.cancel(false);
+						}
+						else if (!timeout.isCancelled()) {
+							runTimeout(timeout);
+						}
+					}
+					this.dueTimeouts.clear();
+				}
+			}
+			finally {
+				this.termination.countDown();
+			}
+		}
+
+		/**
+		 * Wait until the deadline of the current tick has been reached.
+		 * @return the deadline relative to the start time, or -1 if
+		 * interrupted for shutdown purposes
+		 */
+		private long waitForNextTick() {
+			long deadline = this.tickNanos * (this.tick + 1);
+			while (true) {
+				long currentTime = System.nanoTime() - this.startTime;
+				long sleepMillis = (deadline - currentTime + 999999) / 1000000;
+				if (sleepMillis <= 0) {
+					return currentTime;
+				}
+				try {
+					Thread.sleep(sleepMillis);
+				}
+				catch (InterruptedException ex) {
+					if (this.state.get() != RUNNING) {
+						return -1;
+					}
+				}
+			}
+		}
+
+		private void transferScheduledTimeouts() {
+			WheelTimeout<?> timeout;
+			while ((timeout = this.scheduledTimeouts.poll()) != null) {
+				if (timeout.isPeriodic() && isShutdown()) {
+					timeout.cancel(false);
+				}
+				if (timeout.isCancelled()) {
+					this.pendingCount.decrementAndGet();
+					continue;
+				}
+				long calculated = timeout.deadline / this.tickNanos;
+				timeout.remainingRounds = (calculated - this.tick) / this.wheel.length;
+				long ticks = Math.max(calculated, this.tick);
+				this.wheel[(int) (ticks & this.mask)].add(timeout);
+			}
+		}
+
+		private void processCancelledTimeouts() {
+			WheelTimeout<?> timeout;
+			while ((timeout = this.cancelledTimeouts.poll()) != null) {
+				Bucket bucket = timeout.bucket;
+				if (bucket != null) {
+					bucket.remove(timeout);
+					this.pendingCount.decrementAndGet();
+				}
+			}
+		}
+
+		private void cancelPeriodicTimeouts() {
+			for (WheelTimeout<?> timeout : this.scheduledTimeouts) {
+				if (timeout.isPeriodic()) {
+					timeout.cancel(false);
+				}
+			}
+			for (Bucket bucket : this.wheel) {
+				for (WheelTimeout<?> timeout = bucket.head; timeout != null; timeout = timeout.next) {
+					if (timeout.isPeriodic()) {
+						timeout.cancel(false);
+					}
+				}
+			}
+		}
+
+		private void runTimeout(WheelTimeout<?> timeout) {
+			if (this.targetExecutor != null) {
+				try {
+					this.targetExecutor.execute(() -> runTimeoutInCurrentThread(timeout));
+				}
+				catch (RejectedExecutionException ex) {
+					if (logger.isWarnEnabled()) {
+						logger.warn("Target executor rejected scheduled task " + timeout, ex);
+					}
+					timeout.cancel(false);
+				}
+			}
+			else {
+				runTimeoutInCurrentThread(timeout);
+			}
+		}
+
+		private void runTimeoutInCurrentThread(WheelTimeout<?> timeout) {
+			beforeExecute(Thread.currentThread(), timeout);
+			try {
+				timeout.run();
+			}
+			finally {
+				afterExecute(timeout, null);
+			}
+		}
+
+		@Override
+		public void shutdown() {
+			this.state.compareAndSet(RUNNING, SHUTDOWN);
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			this.state.set(STOP);
+			this.workerThread.interrupt();
+			List<Runnable> unprocessed = new ArrayList<>();
+			synchronized (this.wheelLock) {
+				for (Bucket bucket : this.wheel) {
+					bucket.clear(unprocessed);
+				}
+				WheelTimeout<?> timeout;
+				while ((timeout = this.scheduledTimeouts.poll()) != null) {
+					if (!timeout.isCancelled()) {
+						unprocessed.add(timeout);
+					}
+				}
+				this.cancelledTimeouts.clear();
+				this.pendingCount.set(0);
+			}
+			return unprocessed;
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return (this.state.get() != RUNNING);
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return (this.termination.getCount() == 0);
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return this.termination.await(timeout, unit);
+		}
+
+
+		/**
+		 * Doubly linked list of the timeouts hashed to one tick of the wheel.
+		 */
+		private class Bucket {
+
+			@Nullable
+			private WheelTimeout<?> head;
+
+			@Nullable
+			private WheelTimeout<?> tail;
+
+			void add(WheelTimeout<?> timeout) {
+				timeout.bucket = this;
+				if (this.tail == null) {
+					this.head = timeout;
+					this.tail = timeout;
+				}
+				else {
+					this.tail.next = timeout;
+					timeout.prev = this.tail;
+					this.tail = timeout;
+				}
+			}
+
+			void remove(WheelTimeout<?> timeout) {
+				WheelTimeout<?> next = timeout.next;
+				if (timeout.prev != null) {
+					timeout.prev.next = next;
+				}
+				if (next != null) {
+					next.prev = timeout.prev;
+				}
+				if (timeout == this.head) {
+					this.head = next;
+				}
+				if (timeout == this.tail) {
+					this.tail = timeout.prev;
+				}
+				timeout.prev = null;
+				timeout.next = null;
+				timeout.bucket = null;
+			}
+
+			void expireTimeouts(long deadline, List<WheelTimeout<?>> dueTimeouts) {
+				WheelTimeout<?> timeout = this.head;
+				while (timeout != null) {
+					WheelTimeout<?> next = timeout.next;
+					if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+						remove(timeout);
+						pendingCount.decrementAndGet();
+						dueTimeouts.add(timeout);
+					}
+					else if (timeout.remainingRounds > 0) {
+						timeout.remainingRounds--;
+					}
+					timeout = next;
+				}
+			}
+
+			void clear(List<Runnable> unprocessed) {
+				WheelTimeout<?> timeout = this.head;
+				while (timeout != null) {
+					WheelTimeout<?> next = timeout.next;
+					remove(timeout);
+					if (!timeout.isCancelled()) {
+						unprocessed.add(timeout);
+					}
+					timeout = next;
+				}
+			}
+		}
+
+
+		/**
+		 * Scheduled task on the wheel, with the deadline kept in nanoseconds
+		 * relative to the start time of the wheel.
+		 */
+		private class WheelTimeout<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+			private final long sequenceNumber = sequencer.getAndIncrement();
+
+			/**
+			 * Positive for fixed-rate execution, negative for fixed-delay execution,
+			 * 0 for a one-time task.
+			 */
+			private final long period;
+
+			private volatile long deadline;
+
+			private long remainingRounds;
+
+			@Nullable
+			private Bucket bucket;
+
+			@Nullable
+			private WheelTimeout<?> prev;
+
+			@Nullable
+			private WheelTimeout<?> next;
+
+			WheelTimeout(Runnable runnable, @Nullable V result, long deadline, long period) {
+				super(runnable, result);
+				this.deadline = deadline;
+				this.period = period;
+			}
+
+			WheelTimeout(Callable<V> callable, long deadline) {
+				super(callable);
+				this.deadline = deadline;
+				this.period = 0;
+			}
+
+			@Override
+			public boolean isPeriodic() {
+				return (this.period != 0);
+			}
+
+			@Override
+			public void run() {
+				if (!isPeriodic()) {
+					super.run();
+				}
+				else if (runAndReset()) {
+					if (isShutdown()) {
+						cancel(false);
+						return;
+					}
+					this.deadline = (this.period > 0 ? this.deadline + this.period :
+							System.nanoTime() - startTime - this.period);
+					enqueue(this);
+					if (isShutdown()) {
+						cancel(false);
+					}
+				}
+			}
+
+			@Override
+			public boolean cancel(boolean mayInterruptIfRunning) {
+				boolean cancelled = super.cancel(mayInterruptIfRunning);
+				if (cancelled) {
+					cancelledTimeouts.add(this);
+				}
+				return cancelled;
+			}
+
+			@Override
+			public long getDelay(TimeUnit unit) {
+				return unit.convert(this.deadline - (System.nanoTime() - startTime), NANO);
+			}
+
+			@Override
+			public int compareTo(Delayed other) {
+				if (other == this) {
+					return 0;
+				}
+				if (other instanceof WheelTimeout<?> that) {
+					int result = Long.compare(this.deadline, that.deadline);
+					return (result != 0 ? result : Long.compare(this.sequenceNumber, that.sequenceNumber));
+				}
+				return Long.compare(getDelay(NANO), other.getDelay(NANO));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,539 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.SchedulingTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.core.task.TaskExecutor} implementation that runs
+ * each task in a new virtual thread, with admission control through a limit on
+ * the number of concurrently executing tasks.
+ *
+ * <p>Tasks submitted while the {@link #setConcurrencyLimit "concurrencyLimit"}
+ * is reached are held in a backlog queue and get started in submission order
+ * as soon as running tasks complete. Tasks submitted while the backlog is full
+ * (according to the {@link #setQueueCapacity "queueCapacity"}) get rejected
+ * with a {@link TaskRejectedException}. In contrast to
+ * {@link org.springframework.core.task.SimpleAsyncTaskExecutor} with a
+ * concurrency limit, submitting threads never block, and no thread is created
+ * for a task before it may actually run.
+ *
+ * <p>A {@link #setTaskTimeoutMillis "taskTimeout"} may be specified for
+ * interrupting tasks that run for too long, e.g. tasks blocked on a remote
+ * resource. Submitted {@link Future} tasks get cancelled in such a case.
+ *
+ * <p>Lifecycle management follows {@link ExecutorConfigurationSupport}: this
+ * executor supports pause/resume and early shutdown signals, and on shutdown
+ * either lets all running and queued tasks complete or interrupts running tasks
+ * and cancels queued tasks, according to the
+ * {@link #setWaitForTasksToCompleteOnShutdown "waitForTasksToCompleteOnShutdown"}
+ * flag. For monitoring, the {@linkplain #getActiveCount() active count} and
+ * {@linkplain #getQueueSize() queue size} as well as the number of completed
+ * and timed-out tasks are exposed.
+ *
+ * <p>Virtual threads require JDK 21+. For testing purposes or for a gradual
+ * migration, {@link #setVirtualThreads "virtualThreads"} may be switched off,
+ * creating regular threads through the configured
+ * {@link #setThreadFactory ThreadFactory} instead. Note that the
+ * {@link #setRejectedExecutionHandler RejectedExecutionHandler} setting does
+ * not apply to this executor, which always rejects with an exception.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see #setConcurrencyLimit
+ * @see #setQueueCapacity
+ * @see #setTaskTimeoutMillis
+ * @see VirtualThreadTaskExecutor
+ */
+@SuppressWarnings("serial")
+public class VirtualThreadPerTaskExecutor extends ExecutorConfigurationSupport
+		implements AsyncTaskExecutor, SchedulingTaskExecutor {
+
+	private int concurrencyLimit = Integer.MAX_VALUE;
+
+	private int queueCapacity = Integer.MAX_VALUE;
+
+	private long taskTimeoutMillis = 0;
+
+	private boolean virtualThreads = true;
+
+	@Nullable
+	private TaskDecorator taskDecorator;
+
+	@Nullable
+	private BoundedExecutorService executorService;
+
+
+	/**
+	 * Set the maximum number of tasks to execute concurrently.
+	 * Default is unlimited.
+	 * <p>Further tasks are held in the backlog queue until a running task
+	 * completes.
+	 * @see #setQueueCapacity
+	 */
+	public void setConcurrencyLimit(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit > 0, "Concurrency limit must be greater than 0");
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
+	/**
+	 * Return the maximum number of tasks to execute concurrently.
+	 */
+	public int getConcurrencyLimit() {
+		return this.concurrencyLimit;
+	}
+
+	/**
+	 * Set the capacity of the backlog queue for tasks waiting for execution.
+	 * Default is unlimited.
+	 * <p>Any positive value will lead to a bounded FIFO queue; any other value
+	 * will lead to immediate rejection of tasks once the concurrency limit has
+	 * been reached.
+	 * @see #setConcurrencyLimit
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Return the capacity of the backlog queue.
+	 */
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	/**
+	 * Set the maximum time in milliseconds that a task may run before it gets
+	 * interrupted, or cancelled in case of a {@link Future} task.
+	 * Default is 0, not applying any timeout.
+	 * <p>The time spent in the backlog queue does not count towards the timeout.
+	 * Note that tasks need to react to interruption for the timeout to be effective.
+	 */
+	public void setTaskTimeoutMillis(long taskTimeoutMillis) {
+		this.taskTimeoutMillis = taskTimeoutMillis;
+	}
+
+	/**
+	 * Return the maximum time in milliseconds that a task may run.
+	 */
+	public long getTaskTimeoutMillis() {
+		return this.taskTimeoutMillis;
+	}
+
+	/**
+	 * Specify whether to use virtual threads instead of platform threads.
+	 * Default is {@code true}, requiring JDK 21+.
+	 * <p>If switched off, threads will be created through the configured
+	 * {@link #setThreadFactory ThreadFactory}.
+	 * @see VirtualThreadTaskExecutor#getVirtualThreadFactory()
+	 */
+	public void setVirtualThreads(boolean virtual) {
+		this.virtualThreads = virtual;
+	}
+
+	/**
+	 * Specify a custom {@link TaskDecorator} to be applied to any {@link Runnable}
+	 * about to be executed.
+	 * @see ThreadPoolTaskExecutor#setTaskDecorator
+	 */
+	public void setTaskDecorator(TaskDecorator taskDecorator) {
+		this.taskDecorator = taskDecorator;
+	}
+
+
+	@Override
+	protected ExecutorService initializeExecutor(
+			ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+
+		ThreadFactory threadFactoryToUse = (this.virtualThreads ?
+				new VirtualThreadTaskExecutor(getThreadNamePrefix()).getVirtualThreadFactory() : threadFactory);
+		this.executorService = new BoundedExecutorService(threadFactoryToUse, createQueue(this.queueCapacity));
+		return this.executorService;
+	}
+
+	/**
+	 * Create the BlockingQueue to use as backlog.
+	 * <p>A LinkedBlockingQueue instance will be created for a positive
+	 * capacity value; a SynchronousQueue otherwise.
+	 * @param queueCapacity the specified queue capacity
+	 * @return the BlockingQueue instance
+	 * @see ThreadPoolTaskExecutor#createQueue
+	 */
+	protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+		if (queueCapacity > 0) {
+			return new LinkedBlockingQueue<>(queueCapacity);
+		}
+		else {
+			return new SynchronousQueue<>();
+		}
+	}
+
+	private BoundedExecutorService getExecutorService() {
+		Assert.state(this.executorService != null, "VirtualThreadPerTaskExecutor not initialized");
+		return this.executorService;
+	}
+
+	/**
+	 * Return the number of tasks currently executing.
+	 */
+	public int getActiveCount() {
+		return (this.executorService != null ? this.executorService.activeCount.get() : 0);
+	}
+
+	/**
+	 * Return the number of tasks currently waiting in the backlog queue.
+	 */
+	public int getQueueSize() {
+		return (this.executorService != null ? this.executorService.backlog.size() : 0);
+	}
+
+	/**
+	 * Return the number of tasks that have completed execution,
+	 * including tasks that have failed or timed out.
+	 */
+	public long getCompletedTaskCount() {
+		return (this.executorService != null ? this.executorService.completedTaskCount.sum() : 0);
+	}
+
+	/**
+	 * Return the number of tasks that have exceeded the
+	 * {@link #setTaskTimeoutMillis task timeout}.
+	 */
+	public long getTimedOutTaskCount() {
+		return (this.executorService != null ? this.executorService.timedOutTaskCount.sum() : 0);
+	}
+
+
+	@Override
+	public void execute(Runnable task) {
+		ExecutorService executor = getExecutorService();
+		try {
+			executor.execute(task);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public Future<?> submit(Runnable task) {
+		ExecutorService executor = getExecutorService();
+		try {
+			return executor.submit(task);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		ExecutorService executor = getExecutorService();
+		try {
+			return executor.submit(task);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(executor, task, ex);
+		}
+	}
+
+
+	/**
+	 * ExecutorService that starts a new thread per task, holding tasks in the
+	 * backlog queue while the concurrency limit is reached.
+	 */
+	private class BoundedExecutorService extends AbstractExecutorService {
+
+		private final ThreadFactory threadFactory;
+
+		private final BlockingQueue<Runnable> backlog;
+
+		private final Semaphore permits = new Semaphore(concurrencyLimit);
+
+		private final AtomicInteger activeCount = new AtomicInteger();
+
+		private final LongAdder completedTaskCount = new LongAdder();
+
+		private final LongAdder timedOutTaskCount = new LongAdder();
+
+		private final Set<TaskHandle> runningTasks = ConcurrentHashMap.newKeySet();
+
+		private final CountDownLatch termination = new CountDownLatch(1);
+
+		@Nullable
+		private final ScheduledThreadPoolExecutor timeoutScheduler;
+
+		private volatile boolean shutdown;
+
+		BoundedExecutorService(ThreadFactory threadFactory, BlockingQueue<Runnable> backlog) {
+			this.threadFactory = threadFactory;
+			this.backlog = backlog;
+			if (taskTimeoutMillis > 0) {
+				CustomizableThreadFactory timeoutThreadFactory =
+						new CustomizableThreadFactory(getThreadNamePrefix() + "timeout-");
+				timeoutThreadFactory.setDaemon(true);
+				this.timeoutScheduler = new ScheduledThreadPoolExecutor(1, timeoutThreadFactory);
+				this.timeoutScheduler.setRemoveOnCancelPolicy(true);
+			}
+			else {
+				this.timeoutScheduler = null;
+			}
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			if (this.shutdown) {
+				throw new RejectedExecutionException("Executor has been shut down");
+			}
+			TaskHandle task = new TaskHandle(command,
+					(taskDecorator != null ? taskDecorator.decorate(command) : command));
+			if (this.backlog.isEmpty() && this.permits.tryAcquire()) {
+				// Count as active before re-checking the shutdown flag, so that
+				// either this task gets rejected or termination awaits its completion
+				this.activeCount.incrementAndGet();
+				if (this.shutdown) {
+					release();
+					throw new RejectedExecutionException("Executor has been shut down");
+				}
+				start(task);
+			}
+			else {
+				if (!this.backlog.offer(task)) {
+					throw new RejectedExecutionException("Concurrency limit of " + concurrencyLimit +
+							" reached and backlog queue full");
+				}
+				if (this.shutdown && this.backlog.remove(task)) {
+					// Shut down concurrently: not going to be picked up reliably
+					throw new RejectedExecutionException("Executor has been shut down");
+				}
+				startQueuedTasks();
+			}
+		}
+
+		/**
+		 * Start a new thread for the given task, with a permit acquired
+		 * and the task counted as active already.
+		 */
+		private void start(TaskHandle task) {
+			try {
+				Thread thread = this.threadFactory.newThread(task);
+				Assert.state(thread != null, "ThreadFactory did not create a thread");
+				thread.start();
+			}
+			catch (RuntimeException | Error ex) {
+				release();
+				throw ex;
+			}
+		}
+
+		/**
+		 * Release the permit and active count for a task that did not start.
+		 */
+		private void release() {
+			this.activeCount.decrementAndGet();
+			this.permits.release();
+			checkTermination();
+		}
+
+		/**
+		 * Start queued tasks in FIFO order for as long as permits are available.
+		 * <p>Each task is counted as active before it leaves the backlog, so that
+		 * {@link #checkTermination()} never sees an empty backlog without it.
+		 */
+		private void startQueuedTasks() {
+			while (!this.backlog.isEmpty() && this.permits.tryAcquire()) {
+				this.activeCount.incrementAndGet();
+				TaskHandle task = (TaskHandle) this.backlog.poll();
+				if (task == null) {
+					// Taken by another thread in the meantime
+					release();
+				}
+				else {
+					try {
+						start(task);
+					}
+					catch (RuntimeException | Error ex) {
+						logger.error("Failed to start thread for queued task", ex);
+						task.cancel();
+					}
+				}
+			}
+		}
+
+		private void afterCompletion() {
+			this.activeCount.decrementAndGet();
+			this.completedTaskCount.increment();
+			this.permits.release();
+			startQueuedTasks();
+			checkTermination();
+		}
+
+		private void checkTermination() {
+			if (this.shutdown && this.activeCount.get() == 0 && this.backlog.isEmpty() &&
+					this.termination.getCount() > 0) {
+				if (this.timeoutScheduler != null) {
+					this.timeoutScheduler.shutdownNow();
+				}
+				this.termination.countDown();
+			}
+		}
+
+		@Override
+		public void shutdown() {
+			this.shutdown = true;
+			checkTermination();
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			this.shutdown = true;
+			List<Runnable> remainingTasks = new ArrayList<>();
+			Runnable queued;
+			while ((queued = this.backlog.poll()) != null) {
+				remainingTasks.add(((TaskHandle) queued).command);
+			}
+			for (TaskHandle task : this.runningTasks) {
+				task.interrupt();
+			}
+			checkTermination();
+			return remainingTasks;
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return this.shutdown;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return (this.termination.getCount() == 0);
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return this.termination.await(timeout, unit);
+		}
+
+
+		/**
+		 * Handle for a submitted task, tracking its thread and timeout.
+		 */
+		private class TaskHandle implements Runnable {
+
+			private final Runnable command;
+
+			private final Runnable decorated;
+
+			@Nullable
+			private volatile Thread thread;
+
+			TaskHandle(Runnable command, Runnable decorated) {
+				this.command = command;
+				this.decorated = decorated;
+			}
+
+			@Override
+			public void run() {
+				Thread thread = Thread.currentThread();
+				this.thread = thread;
+				runningTasks.add(this);
+				ScheduledFuture<?> timeout = null;
+				Throwable failure = null;
+				try {
+					beforeExecute(thread, this.decorated);
+					if (timeoutScheduler != null) {
+						timeout = timeoutScheduler.schedule(
+								() -> onTimeout(thread), taskTimeoutMillis, TimeUnit.MILLISECONDS);
+					}
+					this.decorated.run();
+				}
+				catch (Throwable ex) {
+					failure = ex;
+					throw ex;
+				}
+				finally {
+					if (timeout != null) {
+						timeout.cancel(false);
+					}
+					runningTasks.remove(this);
+					try {
+						afterExecute(this.decorated, failure);
+					}
+					finally {
+						afterCompletion();
+					}
+				}
+			}
+
+			private void onTimeout(Thread thread) {
+				timedOutTaskCount.increment();
+				if (logger.isWarnEnabled()) {
+					logger.warn("Task [" + this.command + "] exceeded timeout of " + taskTimeoutMillis +
+							" ms in thread '" + thread.getName() + "'");
+				}
+				interrupt();
+			}
+
+			void interrupt() {
+				if (this.command instanceof Future<?> future) {
+					future.cancel(true);
+				}
+				else {
+					Thread thread = this.thread;
+					if (thread != null) {
+						thread.interrupt();
+					}
+				}
+			}
+
+			void cancel() {
+				if (this.command instanceof Future<?> future) {
+					future.cancel(false);
+				}
+			}
+		}
+	}
+
+}
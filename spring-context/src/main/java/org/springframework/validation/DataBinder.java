@@ -61,6 +61,7 @@ import org.springframework.format.Formatter;
 import org.springframework.format.support.FormatterPropertyEditorAdapter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.PatternMatchUtils;
 import org.springframework.util.StringUtils;
@@ -141,6 +142,14 @@ public class DataBinder implements PropertyEditorRegistry, TypeConverter {
 	 */
 	protected static final Log logger = LogFactory.getLog(DataBinder.class);
 
+	/**
+	 * Cache of resolved constructor bindings, keyed by target class.
+	 * Property binding is not planned ahead per target class and set of
+	 * allowed fields, see {@link ConstructorBinding}.
+	 */
+	private static final Map<Class<?>, ConstructorBinding> constructorBindingCache =
+			new ConcurrentReferenceHashMap<>(64);
+
 	@Nullable
 	private Object target;
 
@@ -925,7 +934,8 @@ public class DataBinder implements PropertyEditorRegistry, TypeConverter {
 		}
 
 		Object result = null;
-		Constructor<?> ctor = BeanUtils.getResolvableConstructor(clazz);
+		ConstructorBinding binding = constructorBindingCache.computeIfAbsent(clazz, ConstructorBinding::new);
+		Constructor<?> ctor = binding.constructor;
 
 		if (ctor.getParameterCount() == 0) {
 			// A single default constructor -> clearly a standard JavaBeans arrangement.
@@ -933,13 +943,14 @@ public class DataBinder implements PropertyEditorRegistry, TypeConverter {
 		}
 		else {
 			// A single data class constructor -> resolve constructor arguments from request parameters.
-			String[] paramNames = BeanUtils.getParameterNames(ctor);
-			Class<?>[] paramTypes = ctor.getParameterTypes();
+			String[] paramNames = binding.parameterNames;
+			Class<?>[] paramTypes = binding.parameterTypes;
 			Object[] args = new Object[paramTypes.length];
 			Set<String> failedParamNames = new HashSet<>(4);
 
 			for (int i = 0; i < paramNames.length; i++) {
-				MethodParameter param = MethodParameter.forFieldAwareConstructor(ctor, i, paramNames[i]);
+				// Copy of the shared parameter, safe to hand out to resolvers and subclasses
+				MethodParameter param = binding.parameters[i].clone();
 				String lookupName = null;
 				if (this.nameResolver != null) {
 					lookupName = this.nameResolver.resolveName(param);
@@ -950,7 +961,7 @@ public class DataBinder implements PropertyEditorRegistry, TypeConverter {
 
 				String paramPath = nestedPath + lookupName;
 				Class<?> paramType = paramTypes[i];
-				ResolvableType resolvableType = ResolvableType.forMethodParameter(param);
+				ResolvableType resolvableType = binding.resolvableTypes[i];
 
 				Object value = valueResolver.resolveValue(paramPath, paramType);
 
@@ -1415,6 +1426,50 @@ public class DataBinder implements PropertyEditorRegistry, TypeConverter {
 	}
 
 
+	/**
+	 * Resolved constructor for binding to a target class, along with its
+	 * parameter metadata. Only depends on the target class and is therefore
+	 * shared across DataBinder instances, avoiding repeated constructor and
+	 * parameter name resolution for every constructor binding.
+	 * <p>Note that this only covers constructor binding: property binding
+	 * and type conversion are still resolved per bind, based on the
+	 * introspection results and converters cached elsewhere. There is no
+	 * binding plan per set of allowed fields since field checks may be
+	 * customized per binder instance, e.g. through {@link #isAllowed}.
+	 * <p>The MethodParameters are shared and must not be exposed as-is:
+	 * every bind operates on {@linkplain MethodParameter#clone() copies}.
+	 */
+	private static final class ConstructorBinding {
+
+		final Constructor<?> constructor;
+
+		final String[] parameterNames;
+
+		final Class<?>[] parameterTypes;
+
+		final MethodParameter[] parameters;
+
+		final ResolvableType[] resolvableTypes;
+
+		ConstructorBinding(Class<?> clazz) {
+			this.constructor = BeanUtils.getResolvableConstructor(clazz);
+			int parameterCount = this.constructor.getParameterCount();
+			this.parameterNames = (parameterCount > 0 ?
+					BeanUtils.getParameterNames(this.constructor) : new String[0]);
+			this.parameterTypes = this.constructor.getParameterTypes();
+			this.parameters = new MethodParameter[parameterCount];
+			this.resolvableTypes = new ResolvableType[parameterCount];
+			for (int i = 0; i < parameterCount; i++) {
+				this.parameters[i] = MethodParameter.forFieldAwareConstructor(
+						this.constructor, i, this.parameterNames[i]);
+				// Resolve annotations upfront, to be carried over to copies
+				this.parameters[i].getParameterAnnotations();
+				this.resolvableTypes[i] = ResolvableType.forMethodParameter(this.parameters[i]);
+			}
+		}
+	}
+
+
 	/**
 	 * {@link SimpleTypeConverter} that is also {@link PropertyEditorRegistrar}.
 	 */
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.context.testfixture.cache.AbstractValueAdaptingCacheTests;
+import org.springframework.util.ConcurrentLruCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link BoundedConcurrentMapCache}.
+ */
+class BoundedConcurrentMapCacheTests extends AbstractValueAdaptingCacheTests<BoundedConcurrentMapCache> {
+
+	private BoundedConcurrentMapCache cache;
+
+	private BoundedConcurrentMapCache cacheNoNull;
+
+
+	@BeforeEach
+	void setup() {
+		this.cache = new BoundedConcurrentMapCache(CACHE_NAME, 100, null, true);
+		this.cacheNoNull = new BoundedConcurrentMapCache(CACHE_NAME_NO_NULL, 100, null, false);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected ConcurrentLruCache<Object, Object> getNativeCache() {
+		return this.cache.getNativeCache();
+	}
+
+
+	@Test
+	void evictsLeastRecentlyUsedEntries() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 2);
+		cache.put("k1", "v1");
+		cache.put("k2", "v2");
+		assertThat(cache.get("k1")).isNotNull();
+		cache.put("k3", "v3");
+
+		assertThat(cache.get("k2")).isNull();
+		assertThat(cache.get("k1", String.class)).isEqualTo("v1");
+		assertThat(cache.get("k3", String.class)).isEqualTo("v3");
+		assertThat(cache.getStatistics().evictionCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().size()).isEqualTo(2);
+	}
+
+	@Test
+	void expiresEntriesAfterWrite() throws InterruptedException {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10, Duration.ofMillis(20), true);
+		cache.put("k1", "v1");
+		assertThat(cache.get("k1", String.class)).isEqualTo("v1");
+
+		Thread.sleep(50);
+		assertThat(cache.get("k1")).isNull();
+		assertThat(cache.putIfAbsent("k1", "v2")).isNull();
+		assertThat(cache.get("k1", String.class)).isEqualTo("v2");
+		assertThat(cache.getStatistics().evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void purgesExpiredEntriesOnWrite() throws InterruptedException {
+		BoundedConcurrentMapCache cache =
+				new BoundedConcurrentMapCache(CACHE_NAME, Integer.MAX_VALUE, Duration.ofMillis(100), true);
+		cache.put("k1", "v1");
+		cache.putIfAbsent("k2", "v2");
+		cache.put("k3", "v3");
+		cache.put("k3", "v4");
+
+		Thread.sleep(200);
+		cache.put("k4", "v4");
+		assertThat(cache.getStatistics().size()).isEqualTo(1);
+		assertThat(cache.getStatistics().evictionCount()).isEqualTo(3);
+		assertThat(cache.getStatistics().requestCount()).isZero();
+	}
+
+	@Test
+	void recursiveLoadOfSameKeyFails() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10);
+
+		assertThatExceptionOfType(Cache.ValueRetrievalException.class)
+				.isThrownBy(() -> cache.get("k1", () -> cache.get("k1", () -> "v1")))
+				.withCauseInstanceOf(IllegalStateException.class);
+		assertThat(cache.get("k1")).isNull();
+		assertThat(cache.get("k1", () -> "v2")).isEqualTo("v2");
+	}
+
+	@Test
+	void recordsHitsAndMisses() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10);
+		cache.put("k1", "v1");
+		cache.get("k1");
+		cache.get("k1");
+		cache.get("k2");
+
+		ConcurrentMapCacheStatistics statistics = cache.getStatistics();
+		assertThat(statistics.hitCount()).isEqualTo(2);
+		assertThat(statistics.missCount()).isEqualTo(1);
+		assertThat(statistics.requestCount()).isEqualTo(3);
+		assertThat(statistics.hitRate()).isEqualTo(2.0 / 3);
+	}
+
+}
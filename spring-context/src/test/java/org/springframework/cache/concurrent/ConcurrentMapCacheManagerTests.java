@@ -16,6 +16,8 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cache.Cache;
@@ -131,4 +133,31 @@ class ConcurrentMapCacheManagerTests {
 		assertThat(cache1x.get("key")).isNull();
 	}
 
+	@Test
+	void testBoundedMode() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1");
+		cm.setMaximumSize(2);
+		cm.setExpireAfterWrite(Duration.ofMinutes(1));
+		Cache cache1 = cm.getCache("c1");
+		assertThat(cache1).isInstanceOf(BoundedConcurrentMapCache.class);
+		assertThat(((BoundedConcurrentMapCache) cache1).getMaximumSize()).isEqualTo(2);
+
+		cache1.put("key1", "value1");
+		cache1.put("key2", "value2");
+		cache1.put("key3", "value3");
+		assertThat(cache1.get("key1")).isNull();
+		assertThat(cache1.get("key3").get()).isEqualTo("value3");
+
+		ConcurrentMapCacheStatistics statistics = cm.getCacheStatistics().get("c1");
+		assertThat(statistics.hitCount()).isEqualTo(1);
+		assertThat(statistics.missCount()).isEqualTo(1);
+		assertThat(statistics.evictionCount()).isEqualTo(1);
+		assertThat(statistics.size()).isEqualTo(2);
+
+		cm.setMaximumSize(0);
+		cm.setExpireAfterWrite(null);
+		assertThat(cm.getCache("c1")).isInstanceOf(ConcurrentMapCache.class);
+		assertThat(cm.getCacheStatistics()).isEmpty();
+	}
+
 }
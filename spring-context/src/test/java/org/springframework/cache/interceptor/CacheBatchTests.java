@@ -0,0 +1,159 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link Cacheable#batch()} operations.
+ */
+class CacheBatchTests {
+
+	private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("testCache");
+
+	private final BatchService target = new BatchService();
+
+
+	@Test
+	void loadsAllKeysOnMiss() {
+		BatchService service = createProxy();
+		assertThat(service.findAll(List.of(1, 2, 3))).containsExactly(
+				Map.entry(1, "v1"), Map.entry(2, "v2"), Map.entry(3, "v3"));
+		assertThat(this.target.requestedKeys).containsExactly(List.of(1, 2, 3));
+
+		Cache cache = this.cacheManager.getCache("testCache");
+		assertThat(cache.get(1, String.class)).isEqualTo("v1");
+		assertThat(cache.get(3, String.class)).isEqualTo("v3");
+	}
+
+	@Test
+	void loadsMissingKeysOnly() {
+		BatchService service = createProxy();
+		Cache cache = this.cacheManager.getCache("testCache");
+		cache.put(2, "cached2");
+
+		assertThat(service.findAll(List.of(1, 2, 3))).containsExactly(
+				Map.entry(1, "v1"), Map.entry(2, "cached2"), Map.entry(3, "v3"));
+		assertThat(this.target.requestedKeys).containsExactly(List.of(1, 3));
+	}
+
+	@Test
+	void skipsInvocationOnFullHit() {
+		BatchService service = createProxy();
+		service.findAll(List.of(1, 2));
+		assertThat(service.findAll(List.of(2, 1))).containsExactly(Map.entry(2, "v2"), Map.entry(1, "v1"));
+		assertThat(this.target.requestedKeys).hasSize(1);
+	}
+
+	@Test
+	void passesMissingKeysAsDeclaredCollectionType() {
+		BatchService service = createProxy();
+		this.cacheManager.getCache("testCache").put("a", "cached");
+		assertThat(service.findAllBySet(Set.of("a", "b"))).containsOnlyKeys("a", "b");
+		assertThat(this.target.requestedKeys).singleElement().isInstanceOf(Set.class);
+	}
+
+	@Test
+	void cachesNullValuesAndOmitsAbsentKeys() {
+		BatchService service = createProxy();
+		assertThat(service.findSome(List.of(1, 2, 3))).containsOnlyKeys(1, 2);
+		assertThat(service.findSome(List.of(1, 2, 3))).containsEntry(2, null);
+		assertThat(this.target.requestedKeys).containsExactly(List.of(1, 2, 3), List.of(3));
+	}
+
+	@Test
+	void batchOperationWithOtherOperationsIsRejected() {
+		BatchService service = createProxy();
+		assertThatIllegalStateException().isThrownBy(() -> service.findAllAndEvict(List.of(1)))
+				.withMessageContaining("batch=true");
+	}
+
+
+	private BatchService createProxy() {
+		CacheInterceptor interceptor = new CacheInterceptor();
+		interceptor.setCacheManager(this.cacheManager);
+		interceptor.setCacheOperationSources(new AnnotationCacheOperationSource());
+		interceptor.afterPropertiesSet();
+		interceptor.afterSingletonsInstantiated();
+		ProxyFactory proxyFactory = new ProxyFactory(this.target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(interceptor);
+		return (BatchService) proxyFactory.getProxy();
+	}
+
+
+	public static class BatchService {
+
+		final List<Collection<?>> requestedKeys = new ArrayList<>();
+
+		@Cacheable(cacheNames = "testCache", batch = true)
+		public Map<Integer, String> findAll(List<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", batch = true)
+		public Map<String, String> findAllBySet(Set<String> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", batch = true)
+		public Map<Integer, String> findSome(List<Integer> ids) {
+			this.requestedKeys.add(ids);
+			Map<Integer, String> result = new LinkedHashMap<>();
+			for (Integer id : ids) {
+				if (id < 3) {
+					result.put(id, (id == 1 ? "v1" : null));
+				}
+			}
+			return result;
+		}
+
+		@Caching(cacheable = @Cacheable(cacheNames = "testCache", batch = true),
+				evict = @CacheEvict(cacheNames = "testCache", key = "'other'"))
+		public Map<Integer, String> findAllAndEvict(List<Integer> ids) {
+			return load(ids);
+		}
+
+		private <K> Map<K, String> load(Collection<K> ids) {
+			this.requestedKeys.add(ids);
+			Map<K, String> result = new LinkedHashMap<>();
+			for (K id : ids) {
+				result.put(id, "v" + id);
+			}
+			return result;
+		}
+	}
+
+}
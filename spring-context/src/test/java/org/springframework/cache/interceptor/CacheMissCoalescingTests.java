@@ -0,0 +1,257 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CacheAspectSupport#setCoalesceCacheMisses(boolean)}.
+ */
+class CacheMissCoalescingTests {
+
+	private static final int CALLERS = 8;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+	private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("testCache", "otherCache");
+
+	private final SlowService target = new SlowService();
+
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	void concurrentMissesShareSingleInvocation() throws Exception {
+		SlowService service = createProxy(true);
+		List<Future<Long>> results = new ArrayList<>();
+		results.add(this.executor.submit(() -> service.find("key")));
+		assertThat(this.target.started.await(10, TimeUnit.SECONDS)).isTrue();
+		for (int i = 1; i < CALLERS; i++) {
+			results.add(this.executor.submit(() -> service.find("key")));
+		}
+		this.target.release.countDown();
+
+		for (Future<Long> result : results) {
+			assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1L);
+		}
+		assertThat(this.target.invocations).hasValue(1);
+		assertThat(this.cacheManager.getCache("testCache").get("key", Long.class)).isEqualTo(1L);
+	}
+
+	@Test
+	void concurrentMissesInvokeIndividuallyByDefault() throws Exception {
+		SlowService service = createProxy(false);
+		CountDownLatch allStarted = new CountDownLatch(CALLERS);
+		this.target.allStarted = allStarted;
+		List<Future<Long>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(this.executor.submit(() -> service.find("key")));
+		}
+		assertThat(allStarted.await(10, TimeUnit.SECONDS)).isTrue();
+		this.target.release.countDown();
+
+		for (Future<Long> result : results) {
+			result.get(10, TimeUnit.SECONDS);
+		}
+		assertThat(this.target.invocations).hasValue(CALLERS);
+	}
+
+	@Test
+	void concurrentMissesWithOtherOperationsAreNotCoalesced() throws Exception {
+		SlowService service = createProxy(true);
+		CountDownLatch allStarted = new CountDownLatch(2);
+		this.target.allStarted = allStarted;
+		Future<Long> first = this.executor.submit(() -> service.findAndEvict("key"));
+		Future<Long> second = this.executor.submit(() -> service.findAndEvict("key"));
+		assertThat(allStarted.await(10, TimeUnit.SECONDS)).isTrue();
+		this.target.release.countDown();
+
+		first.get(10, TimeUnit.SECONDS);
+		second.get(10, TimeUnit.SECONDS);
+		assertThat(this.target.invocations).hasValue(2);
+	}
+
+	@Test
+	void recursiveMissOnInvokingThreadIsNotCoalesced() throws Exception {
+		SlowService service = createProxy(true);
+		this.target.self = service;
+		Future<Long> result = this.executor.submit(() -> service.findRecursively("key", true));
+
+		assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(2L);
+		assertThat(this.target.invocations).hasValue(2);
+		assertThat(service.findRecursively("key", true)).isEqualTo(2L);
+		assertThat(this.target.invocations).hasValue(2);
+	}
+
+	@Test
+	void concurrentMissesShareSingleCompletableFuture() {
+		SlowService service = createProxy(true);
+		CompletableFuture<Long> r1 = service.findFuture("key");
+		CompletableFuture<Long> r2 = service.findFuture("key");
+		CompletableFuture<Long> r3 = service.findFuture("key");
+		assertThat(this.target.invocations).hasValue(1);
+		assertThat(r2).isNotDone();
+
+		this.target.pending.complete(42L);
+		assertThat(r1.join()).isEqualTo(42L);
+		assertThat(r2.join()).isEqualTo(42L);
+		assertThat(r3.join()).isEqualTo(42L);
+
+		assertThat(service.findFuture("key").join()).isEqualTo(42L);
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void concurrentMissesShareSingleMonoSubscription() {
+		SlowService service = createProxy(true);
+		CompletableFuture<Long> r1 = service.findMono("key").toFuture();
+		CompletableFuture<Long> r2 = service.findMono("key").toFuture();
+		CompletableFuture<Long> r3 = service.findMono("key").toFuture();
+		assertThat(this.target.invocations).hasValue(1);
+		assertThat(this.target.subscriptions).hasValue(1);
+		assertThat(r2).isNotDone();
+
+		this.target.pending.complete(42L);
+		assertThat(r1.join()).isEqualTo(42L);
+		assertThat(r2.join()).isEqualTo(42L);
+		assertThat(r3.join()).isEqualTo(42L);
+
+		assertThat(service.findMono("key").block()).isEqualTo(42L);
+		assertThat(this.target.invocations).hasValue(1);
+		assertThat(this.target.subscriptions).hasValue(1);
+	}
+
+	@Test
+	void concurrentMissesAreCoalescedPerKeyOfAllCacheableOperations() {
+		SlowService service = createProxy(true);
+		CompletableFuture<Long> r1 = service.findFutureInBothCaches("key", "a");
+		CompletableFuture<Long> r2 = service.findFutureInBothCaches("key", "a");
+		CompletableFuture<Long> r3 = service.findFutureInBothCaches("key", "b");
+		assertThat(this.target.invocations).hasValue(2);
+
+		this.target.pending.complete(42L);
+		assertThat(r1.join()).isEqualTo(42L);
+		assertThat(r2.join()).isEqualTo(42L);
+		assertThat(r3.join()).isEqualTo(42L);
+	}
+
+
+	private SlowService createProxy(boolean coalesceCacheMisses) {
+		CacheInterceptor interceptor = new CacheInterceptor();
+		interceptor.setCacheManager(this.cacheManager);
+		interceptor.setCacheOperationSources(new AnnotationCacheOperationSource());
+		interceptor.setCoalesceCacheMisses(coalesceCacheMisses);
+		interceptor.afterPropertiesSet();
+		interceptor.afterSingletonsInstantiated();
+		ProxyFactory proxyFactory = new ProxyFactory(this.target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(interceptor);
+		return (SlowService) proxyFactory.getProxy();
+	}
+
+
+	public static class SlowService {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		final AtomicInteger subscriptions = new AtomicInteger();
+
+		final CountDownLatch started = new CountDownLatch(1);
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final CompletableFuture<Long> pending = new CompletableFuture<>();
+
+		volatile CountDownLatch allStarted;
+
+		volatile SlowService self;
+
+		@Cacheable("testCache")
+		public Long find(String key) throws InterruptedException {
+			return awaitRelease();
+		}
+
+		@Caching(cacheable = @Cacheable("testCache"), evict = @CacheEvict(cacheNames = "testCache", key = "'other'"))
+		public Long findAndEvict(String key) throws InterruptedException {
+			return awaitRelease();
+		}
+
+		@Cacheable(cacheNames = "testCache", key = "#key")
+		public Long findRecursively(String key, boolean recurse) {
+			this.invocations.incrementAndGet();
+			return (recurse ? this.self.findRecursively(key, false) + 1 : 1L);
+		}
+
+		@Cacheable("testCache")
+		public CompletableFuture<Long> findFuture(String key) {
+			this.invocations.incrementAndGet();
+			return this.pending;
+		}
+
+		@Caching(cacheable = {@Cacheable(cacheNames = "testCache", key = "#key"),
+				@Cacheable(cacheNames = "otherCache", key = "#other")})
+		public CompletableFuture<Long> findFutureInBothCaches(String key, String other) {
+			this.invocations.incrementAndGet();
+			return this.pending;
+		}
+
+		@Cacheable("testCache")
+		public Mono<Long> findMono(String key) {
+			this.invocations.incrementAndGet();
+			return Mono.fromFuture(() -> {
+				this.subscriptions.incrementAndGet();
+				return this.pending;
+			});
+		}
+
+		private Long awaitRelease() throws InterruptedException {
+			long count = this.invocations.incrementAndGet();
+			this.started.countDown();
+			if (this.allStarted != null) {
+				this.allStarted.countDown();
+			}
+			this.release.await(10, TimeUnit.SECONDS);
+			return count;
+		}
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.cache.interceptor;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
@@ -144,10 +145,108 @@ class CacheOperationExpressionEvaluatorTests {
 		assertThat(value).isEqualTo(String.class.getName());
 	}
 
+	@Test
+	void resolveArguments() {
+		EvaluationContext context = createEvaluationContext(CacheOperationExpressionEvaluator.NO_RESULT);
+		Object[] args = ((CacheExpressionRootObject) context.getRootObject().getValue()).getArgs();
+		SpelExpressionParser parser = new SpelExpressionParser();
+		assertThat(parser.parseExpression("#a0").getValue(context)).isSameAs(args[0]);
+		assertThat(parser.parseExpression("#p1").getValue(context)).isSameAs(args[1]);
+		assertThat(parser.parseExpression("#b").getValue(context)).isSameAs(args[1]);
+		assertThat(parser.parseExpression("#p2").getValue(context)).isNull();
+	}
+
+	@Test
+	void reuseEvaluationContextAfterRelease() {
+		CacheOperationExpressionEvaluator eval = new CacheOperationExpressionEvaluator(
+				new CacheEvaluationContextFactory(this.originalEvaluationContext, true));
+		assertThat(eval.beginInvocation()).isTrue();
+		try {
+			EvaluationContext context = createEvaluationContext(eval, "theResult");
+			eval.releaseEvaluationContext(context);
+
+			EvaluationContext reused = createEvaluationContext(eval, CacheOperationExpressionEvaluator.NO_RESULT);
+			assertThat(reused).isSameAs(context);
+			assertThat(new SpelExpressionParser().parseExpression("#result").getValue(reused)).isNull();
+			assertThat(new SpelExpressionParser().parseExpression("#a").getValue(reused)).isNotNull();
+		}
+		finally {
+			eval.endInvocation();
+		}
+	}
+
+	@Test
+	void doNotReuseEvaluationContextInUse() {
+		CacheOperationExpressionEvaluator eval = new CacheOperationExpressionEvaluator(
+				new CacheEvaluationContextFactory(this.originalEvaluationContext, true));
+		assertThat(eval.beginInvocation()).isTrue();
+		try {
+			EvaluationContext context = createEvaluationContext(eval, "theResult");
+			eval.releaseEvaluationContext(context);
+
+			EvaluationContext outer = createEvaluationContext(eval, "outer");
+			assertThat(eval.beginInvocation()).isFalse();
+			EvaluationContext inner = createEvaluationContext(eval, "inner");
+			assertThat(inner).isNotSameAs(outer);
+			assertThat(new SpelExpressionParser().parseExpression("#result").getValue(outer)).isEqualTo("outer");
+			assertThat(new SpelExpressionParser().parseExpression("#result").getValue(inner)).isEqualTo("inner");
+		}
+		finally {
+			eval.endInvocation();
+		}
+	}
+
+	@Test
+	void doNotRetainEvaluationContextAfterInvocation() {
+		StaticApplicationContext applicationContext = new StaticApplicationContext();
+		applicationContext.refresh();
+		this.originalEvaluationContext.setBeanResolver(new BeanFactoryResolver(applicationContext));
+		CacheEvaluationContextFactory factory = new CacheEvaluationContextFactory(this.originalEvaluationContext, true);
+		CacheOperationExpressionEvaluator eval = new CacheOperationExpressionEvaluator(factory);
+
+		assertThat(eval.beginInvocation()).isTrue();
+		EvaluationContext context = createEvaluationContext(eval, "theResult");
+		eval.releaseEvaluationContext(context);
+		eval.endInvocation();
+		applicationContext.close();
+		assertThat(reusableContext(factory).get()).isNull();
+
+		// Released outside of an invocation: dropped rather than kept for the thread
+		EvaluationContext other = createEvaluationContext(eval, "theResult");
+		eval.releaseEvaluationContext(other);
+		assertThat(reusableContext(factory).get()).isNull();
+		assertThat(createEvaluationContext(eval, "theResult")).isNotSameAs(other);
+	}
+
+	@Test
+	void doNotReuseEvaluationContextByDefault() {
+		EvaluationContext context = createEvaluationContext(CacheOperationExpressionEvaluator.NO_RESULT);
+		this.eval.releaseEvaluationContext(context);
+		assertThat(createEvaluationContext(CacheOperationExpressionEvaluator.NO_RESULT)).isNotSameAs(context);
+	}
+
+	private static ThreadLocal<?> reusableContext(CacheEvaluationContextFactory factory) {
+		Field field = ReflectionUtils.findField(CacheEvaluationContextFactory.class, "reusableContext");
+		assertThat(field).isNotNull();
+		ReflectionUtils.makeAccessible(field);
+		ThreadLocal<?> threadLocal = (ThreadLocal<?>) ReflectionUtils.getField(field, factory);
+		assertThat(threadLocal).isNotNull();
+		return threadLocal;
+	}
+
 	private EvaluationContext createEvaluationContext(Object result) {
 		return createEvaluationContext(result, null);
 	}
 
+	private EvaluationContext createEvaluationContext(CacheOperationExpressionEvaluator eval, Object result) {
+		AnnotatedClass target = new AnnotatedClass();
+		Method method = ReflectionUtils.findMethod(
+				AnnotatedClass.class, "multipleCaching", Object.class, Object.class);
+		Object[] args = new Object[] {new Object(), new Object()};
+		Collection<ConcurrentMapCache> caches = Collections.singleton(new ConcurrentMapCache("test"));
+		return eval.createEvaluationContext(caches, method, args, target, target.getClass(), method, result);
+	}
+
 	private EvaluationContext createEvaluationContext(Object result, @Nullable BeanFactory beanFactory) {
 		if (beanFactory != null) {
 			this.originalEvaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aopalliance.intercept.MethodInterceptor;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for refresh-ahead of {@link Cacheable#refreshAfter()} operations.
+ */
+class CacheRefreshAheadTests {
+
+	private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("testCache", "otherCache");
+
+	private final CountingService target = new CountingService();
+
+	private final CacheInterceptor interceptor = new CacheInterceptor();
+
+	private final AtomicInteger outerInvocations = new AtomicInteger();
+
+	private final AtomicInteger innerInvocations = new AtomicInteger();
+
+
+	@Test
+	void staleHitReturnsCachedValueAndRefreshes() {
+		CountingService service = createProxy();
+		assertThat(service.find("key")).isEqualTo(1L);
+		assertThat(service.find("key")).isEqualTo(1L);
+		assertThat(this.target.invocations).hasValue(2);
+		assertThat(cachedValue("testCache", "key")).isEqualTo(2L);
+		assertThat(service.find("key")).isEqualTo(2L);
+	}
+
+	@Test
+	void refreshProceedsThroughRemainingAdviceChain() {
+		CountingService service = createProxy();
+		assertThat(service.find("key")).isEqualTo(1L);
+		assertThat(service.find("key")).isEqualTo(1L);
+		assertThat(this.target.invocations).hasValue(2);
+		assertThat(this.outerInvocations).hasValue(2);
+		assertThat(this.innerInvocations).hasValue(2);
+	}
+
+	@Test
+	void refreshUpdatesAllCaches() {
+		CountingService service = createProxy();
+		assertThat(service.findInBothCaches("key")).isEqualTo(1L);
+		assertThat(service.findInBothCaches("key")).isEqualTo(1L);
+		assertThat(this.target.invocations).hasValue(2);
+		assertThat(cachedValue("testCache", "key")).isEqualTo(2L);
+		assertThat(cachedValue("otherCache", "key")).isEqualTo(2L);
+	}
+
+	@Test
+	void cachesPlainValue() {
+		CountingService service = createProxy();
+		assertThat(service.findWithLongRefresh("key")).isEqualTo(1L);
+		assertThat(cachedValue("testCache", "key")).isEqualTo(1L);
+	}
+
+	@Test
+	void unknownCachedValueIsAgedFromFirstHit() {
+		CountingService service = createProxy();
+		this.cacheManager.getCache("testCache").put("key", 42L);
+		assertThat(service.findWithLongRefresh("key")).isEqualTo(42L);
+		assertThat(service.findWithLongRefresh("key")).isEqualTo(42L);
+		assertThat(this.target.invocations).hasValue(0);
+
+		assertThat(service.find("key")).isEqualTo(42L);
+		assertThat(this.target.invocations).hasValue(1);
+		assertThat(cachedValue("testCache", "key")).isEqualTo(1L);
+	}
+
+	@Test
+	void freshHitDoesNotRefresh() {
+		CountingService service = createProxy();
+		assertThat(service.findWithLongRefresh("key")).isEqualTo(1L);
+		assertThat(service.findWithLongRefresh("key")).isEqualTo(1L);
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void staleHitWithOtherOperationsDoesNotRefresh() {
+		CountingService service = createProxy();
+		assertThat(service.findAndEvict("key")).isEqualTo(1L);
+		assertThat(service.findAndEvict("key")).isEqualTo(1L);
+		assertThat(this.target.invocations).hasValue(1);
+	}
+
+	@Test
+	void staleHitRefreshesCompletableFuture() {
+		CountingService service = createProxy();
+		assertThat(service.findFuture("key").join()).isEqualTo(1L);
+		assertThat(service.findFuture("key").join()).isEqualTo(1L);
+		assertThat(this.target.invocations).hasValue(2);
+		assertThat(service.findFuture("key").join()).isEqualTo(2L);
+	}
+
+	@Test
+	void rejectedRefreshIsRetriedOnNextHit() {
+		CountingService service = createProxy();
+		assertThat(service.find("key")).isEqualTo(1L);
+		this.interceptor.setRefreshExecutor(task -> {
+			throw new TaskRejectedException("rejected");
+		});
+		assertThat(service.find("key")).isEqualTo(1L);
+		assertThat(this.target.invocations).hasValue(1);
+
+		this.interceptor.setRefreshExecutor(new SyncTaskExecutor());
+		assertThat(service.find("key")).isEqualTo(1L);
+		assertThat(this.target.invocations).hasValue(2);
+	}
+
+	@Test
+	void failedRefreshKeepsCachedValue() {
+		CountingService service = createProxy();
+		assertThat(service.find("key")).isEqualTo(1L);
+		this.target.failure = new IllegalStateException("test");
+		assertThat(service.find("key")).isEqualTo(1L);
+		assertThat(cachedValue("testCache", "key")).isEqualTo(1L);
+	}
+
+	@Test
+	void syncOperationWithRefreshAfterIsRejected() {
+		CountingService service = createProxy();
+		assertThatIllegalStateException().isThrownBy(() -> service.findSync("key"))
+				.withMessageContaining("refreshAfter");
+	}
+
+	@Test
+	void reactiveOperationWithRefreshAfterIsRejected() {
+		CountingService service = createProxy();
+		assertThatIllegalStateException().isThrownBy(() -> service.findMono("key"))
+				.withMessageContaining("refreshAfter");
+	}
+
+	@Test
+	void refreshAfterWithoutExecutorIsRejected() {
+		this.interceptor.setCacheManager(this.cacheManager);
+		this.interceptor.setCacheOperationSources(new AnnotationCacheOperationSource());
+		this.interceptor.afterPropertiesSet();
+		this.interceptor.afterSingletonsInstantiated();
+		ProxyFactory proxyFactory = new ProxyFactory(this.target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(this.interceptor);
+		CountingService service = (CountingService) proxyFactory.getProxy();
+
+		assertThatIllegalStateException().isThrownBy(() -> service.find("key"))
+				.withMessageContaining("No refresh executor");
+	}
+
+	@Test
+	void refreshAfterWithoutRefreshInvokerIsRejected() {
+		createProxy();
+		assertThatIllegalStateException().isThrownBy(() -> this.interceptor.execute(
+						() -> this.target.find("key"), this.target,
+						CountingService.class.getMethod("find", String.class), new Object[] {"key"}))
+				.withMessageContaining("refreshAfter");
+	}
+
+
+	private CountingService createProxy() {
+		this.interceptor.setCacheManager(this.cacheManager);
+		this.interceptor.setCacheOperationSources(new AnnotationCacheOperationSource());
+		this.interceptor.setRefreshExecutor(new SyncTaskExecutor());
+		this.interceptor.afterPropertiesSet();
+		this.interceptor.afterSingletonsInstantiated();
+		ProxyFactory proxyFactory = new ProxyFactory(this.target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+			this.outerInvocations.incrementAndGet();
+			return invocation.proceed();
+		});
+		proxyFactory.addAdvice(this.interceptor);
+		proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+			this.innerInvocations.incrementAndGet();
+			return invocation.proceed();
+		});
+		return (CountingService) proxyFactory.getProxy();
+	}
+
+	private Object cachedValue(String cacheName, Object key) {
+		Cache.ValueWrapper wrapper = this.cacheManager.getCache(cacheName).get(key);
+		assertThat(wrapper).isNotNull();
+		return wrapper.get();
+	}
+
+
+	public static class CountingService {
+
+		final AtomicLong invocations = new AtomicLong();
+
+		volatile RuntimeException failure;
+
+		@Cacheable(cacheNames = "testCache", refreshAfter = "0s")
+		public Long find(String key) {
+			return next();
+		}
+
+		@Cacheable(cacheNames = "testCache", refreshAfter = "1h")
+		public Long findWithLongRefresh(String key) {
+			return next();
+		}
+
+		@Cacheable(cacheNames = {"testCache", "otherCache"}, refreshAfter = "0s")
+		public Long findInBothCaches(String key) {
+			return next();
+		}
+
+		@Caching(cacheable = @Cacheable(cacheNames = "testCache", refreshAfter = "0s"),
+				evict = @CacheEvict(cacheNames = "testCache", key = "'other'"))
+		public Long findAndEvict(String key) {
+			return next();
+		}
+
+		@Cacheable(cacheNames = "testCache", refreshAfter = "0s")
+		public CompletableFuture<Long> findFuture(String key) {
+			return CompletableFuture.completedFuture(next());
+		}
+
+		@Cacheable(cacheNames = "testCache", refreshAfter = "0s", sync = true)
+		public Long findSync(String key) {
+			return next();
+		}
+
+		@Cacheable(cacheNames = "testCache", refreshAfter = "0s")
+		public Mono<Long> findMono(String key) {
+			return Mono.fromSupplier(this::next);
+		}
+
+		private Long next() {
+			if (this.failure != null) {
+				throw this.failure;
+			}
+			return this.invocations.incrementAndGet();
+		}
+	}
+
+}
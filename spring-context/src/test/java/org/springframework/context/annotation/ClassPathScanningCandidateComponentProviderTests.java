@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,10 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -125,6 +129,56 @@ class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, TEST_BASE_PACKAGE, true, true, false);
 	}
 
+	@Test
+	void defaultsWithParallelScan() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+			provider.setResourceLoader(new DefaultResourceLoader(
+					CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+			provider.setMetadataReaderExecutor(executor);
+			testDefault(provider, TEST_BASE_PACKAGE, true, true, false);
+
+			ClassPathScanningCandidateComponentProvider sequentialProvider =
+					new ClassPathScanningCandidateComponentProvider(true);
+			sequentialProvider.setResourceLoader(new DefaultResourceLoader(
+					CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+			assertThat(provider.findCandidateComponents(TEST_BASE_PACKAGE))
+					.extracting(BeanDefinition::getBeanClassName)
+					.containsExactlyElementsOf(sequentialProvider.findCandidateComponents(TEST_BASE_PACKAGE)
+							.stream().map(BeanDefinition::getBeanClassName).toList());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void parallelScanOnThreadOfSingleThreadedExecutor() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+			provider.setResourceLoader(new DefaultResourceLoader(
+					CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+			provider.setMetadataReaderExecutor(executor);
+			// Scan on the executor's only thread: no other task can start until it is done
+			Future<Set<BeanDefinition>> candidates =
+					executor.submit(() -> provider.findCandidateComponents(TEST_BASE_PACKAGE));
+
+			ClassPathScanningCandidateComponentProvider sequentialProvider =
+					new ClassPathScanningCandidateComponentProvider(true);
+			sequentialProvider.setResourceLoader(new DefaultResourceLoader(
+					CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+			assertThat(candidates.get(10, TimeUnit.SECONDS))
+					.extracting(BeanDefinition::getBeanClassName)
+					.containsExactlyElementsOf(sequentialProvider.findCandidateComponents(TEST_BASE_PACKAGE)
+							.stream().map(BeanDefinition::getBeanClassName).toList());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	void defaultsWithIndex() {
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
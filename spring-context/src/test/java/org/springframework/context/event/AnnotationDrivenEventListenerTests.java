@@ -27,11 +27,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
@@ -658,6 +660,43 @@ class AnnotationDrivenEventListenerTests {
 		this.eventCollector.assertTotalEventsCount(1);
 	}
 
+	@Test
+	void batchingEventListener() {
+		load(BatchingTestEventListener.class);
+		BatchingTestEventListener listener = this.context.getBean(BatchingTestEventListener.class);
+		TestEvent event1 = new TestEvent(this, "1");
+		TestEvent event2 = new TestEvent(this, "2");
+		TestEvent event3 = new TestEvent(this, "3");
+
+		this.context.publishEvent(event1);
+		this.eventCollector.assertNoEventReceived(listener);
+		this.context.publishEvent(event2);
+		this.eventCollector.assertEvent(listener, List.of(event1, event2));
+		this.context.publishEvent(event3);
+		this.eventCollector.assertTotalEventsCount(1);
+
+		this.context.close();
+		this.eventCollector.assertEvent(listener, List.of(event1, event2), List.of(event3));
+	}
+
+	@Test
+	void batchingEventListenersWithWindowShareWorkerThread() throws Exception {
+		load(WindowedBatchingTestEventListener.class);
+		WindowedBatchingTestEventListener listener = this.context.getBean(WindowedBatchingTestEventListener.class);
+		TestEvent event1 = new TestEvent(this, "1");
+		TestEvent event2 = new TestEvent(this, "2");
+
+		this.context.publishEvent(event1);
+		this.context.publishEvent(event2);
+		assertThat(listener.latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(listener.events).containsExactlyInAnyOrder(event1, event1, event2, event2);
+		assertThat(listener.threads).hasSizeGreaterThanOrEqualTo(2).allMatch(listener.threads.get(0)::equals);
+		assertThat(listener.threads.get(0).getName()).startsWith("event-batch-").doesNotContain("timer");
+
+		this.context.close();
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> !listener.threads.get(0).isAlive());
+	}
+
 	@Test
 	void missingListenerBeanIgnored() {
 		load(MissingEventListener.class);
@@ -752,6 +791,43 @@ class AnnotationDrivenEventListenerTests {
 	}
 
 
+	@Component
+	static class BatchingTestEventListener extends AbstractTestEventListener {
+
+		@EventListener(batchSize = 2)
+		public void handle(List<TestEvent> events) {
+			collectEvent(events);
+		}
+	}
+
+
+	@Component
+	static class WindowedBatchingTestEventListener {
+
+		final List<TestEvent> events = new CopyOnWriteArrayList<>();
+
+		final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+		final CountDownLatch latch = new CountDownLatch(4);
+
+		@EventListener(batchWindow = 10)
+		public void handle(List<TestEvent> events) {
+			collect(events);
+		}
+
+		@EventListener(batchWindow = 20)
+		public void handleAgain(List<TestEvent> events) {
+			collect(events);
+		}
+
+		private void collect(List<TestEvent> events) {
+			this.events.addAll(events);
+			this.threads.add(Thread.currentThread());
+			events.forEach(event -> this.latch.countDown());
+		}
+	}
+
+
 	@Component
 	static class MetaAnnotationListenerTestBean extends AbstractTestEventListener {
 
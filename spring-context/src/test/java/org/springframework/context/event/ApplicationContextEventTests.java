@@ -215,6 +215,113 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 		smc.multicastEvent(evt);
 	}
 
+	@Test
+	void simpleApplicationEventMulticasterWithQueuedListener() {
+		List<Runnable> tasks = new ArrayList<>();
+		MyQueuedListener listener = new MyQueuedListener(true);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.addApplicationListener(listener);
+
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a1"));
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "b1"));
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a2"));
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a3"));
+		assertThat(listener.received).isEmpty();
+		assertThat(tasks).hasSize(2);
+
+		tasks.forEach(Runnable::run);
+		assertThat(listener.received).containsExactly("a1", "a2", "a3", "b1");
+
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a4"));
+		assertThat(tasks).hasSize(3);
+		tasks.get(2).run();
+		assertThat(listener.received).endsWith("a4");
+	}
+
+	@Test
+	void simpleApplicationEventMulticasterWithQueuedListenerAndCallerRunsPolicy() {
+		List<Runnable> tasks = new ArrayList<>();
+		MyQueuedListener listener = new MyQueuedListener(false);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.setListenerQueueCapacity(1);
+		smc.addApplicationListener(listener);
+
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a1"));
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a2"));
+		assertThat(listener.received).containsExactly("a2");
+		assertThat(tasks).hasSize(1);
+
+		tasks.get(0).run();
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a3"));
+		assertThat(listener.received).containsExactly("a2", "a1");
+		assertThat(tasks).hasSize(2);
+	}
+
+	@Test
+	void simpleApplicationEventMulticasterWithQueuedListenerAndDiscardPolicy() {
+		List<Runnable> tasks = new ArrayList<>();
+		MyQueuedListener listener = new MyQueuedListener(true);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.setListenerQueueCapacity(2);
+		smc.setBackpressurePolicy(SimpleApplicationEventMulticaster.BackpressurePolicy.DISCARD);
+		smc.addApplicationListener(listener);
+
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a1"));
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "b1"));
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a2"));
+		tasks.forEach(Runnable::run);
+		assertThat(listener.received).containsExactly("a1", "b1");
+	}
+
+	@Test
+	void simpleApplicationEventMulticasterWithQueuedListenerAndDeliveryKeyFailure() {
+		List<Runnable> tasks = new ArrayList<>();
+		List<Throwable> errors = new ArrayList<>();
+		MyQueuedListener listener = new MyQueuedListener(true);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.setErrorHandler(errors::add);
+		smc.addApplicationListener(listener);
+
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, ""));
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a1"));
+		tasks.forEach(Runnable::run);
+		assertThat(listener.received).containsExactly("a1");
+		assertThat(errors).singleElement().isInstanceOf(StringIndexOutOfBoundsException.class);
+	}
+
+	@Test
+	void simpleApplicationEventMulticasterWithRemovedQueuedListener() {
+		List<Runnable> tasks = new ArrayList<>();
+		MyQueuedListener listener = new MyQueuedListener(true);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.setListenerQueueCapacity(1);
+		smc.setBackpressurePolicy(SimpleApplicationEventMulticaster.BackpressurePolicy.DISCARD);
+		smc.addApplicationListener(listener);
+
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "a1"));
+		smc.removeApplicationListener(listener);
+		smc.addApplicationListener(listener);
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "b1"));
+		smc.removeApplicationListeners(l -> true);
+		smc.addApplicationListener(listener);
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "c1"));
+		smc.removeAllListeners();
+		smc.addApplicationListener(listener);
+		smc.multicastEvent(new PayloadApplicationEvent<>(this, "d1"));
+		tasks.forEach(Runnable::run);
+		assertThat(listener.received).containsExactly("a1", "b1", "c1", "d1");
+	}
+
 	@Test
 	void orderedListeners() {
 		MyOrderedListener1 listener1 = new MyOrderedListener1();
@@ -686,6 +793,28 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 	}
 
 
+	public static class MyQueuedListener implements QueuedApplicationListener<PayloadApplicationEvent<String>> {
+
+		private final boolean keyed;
+
+		public final List<String> received = new ArrayList<>();
+
+		public MyQueuedListener(boolean keyed) {
+			this.keyed = keyed;
+		}
+
+		@Override
+		public void onApplicationEvent(PayloadApplicationEvent<String> event) {
+			this.received.add(event.getPayload());
+		}
+
+		@Override
+		public Object getDeliveryKey(PayloadApplicationEvent<String> event) {
+			return (this.keyed ? event.getPayload().substring(0, 1) : null);
+		}
+	}
+
+
 	public static class MyNonSingletonListener implements ApplicationListener<ApplicationEvent> {
 
 		public static final Set<ApplicationEvent> seenEvents = new HashSet<>();
@@ -20,7 +20,11 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.aop.framework.ProxyFactory;
@@ -32,6 +36,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.ResolvableTypeProvider;
 import org.springframework.core.annotation.Order;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.ErrorHandler;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,6 +45,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -336,6 +342,127 @@ class ApplicationListenerMethodAdapterTests extends AbstractApplicationEventList
 		verify(this.context, times(2)).getBean("testBean");
 	}
 
+	@Test
+	void queuedListenerWithDeliveryKey() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringWithDeliveryKey", String.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		adapter.init(this.context, new EventExpressionEvaluator(new StandardEvaluationContext()));
+		assertThat(adapter.supportsQueuedDelivery()).isTrue();
+		assertThat(adapter.getDeliveryKey(new PayloadApplicationEvent<>(this, "test"))).isEqualTo(4);
+		assertThat(adapter.getDeliveryKey(new PayloadApplicationEvent<>(this, 123))).isNull();
+	}
+
+	@Test
+	void queuedListenerWithoutDeliveryKey() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringQueued", String.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		assertThat(adapter.supportsQueuedDelivery()).isTrue();
+		assertThat(adapter.getDeliveryKey(new PayloadApplicationEvent<>(this, "test"))).isNull();
+	}
+
+	@Test
+	void listenerIsNotQueuedByDefault() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleString", String.class);
+		assertThat(createTestInstance(method).supportsQueuedDelivery()).isFalse();
+	}
+
+	@Test
+	void batchingListener() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringBatch", List.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		adapter.init(this.context, new EventExpressionEvaluator(new StandardEvaluationContext()));
+		supportsEventType(true, method, createPayloadEventType(String.class));
+		supportsEventType(false, method, createPayloadEventType(Integer.class));
+
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "a"));
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "b"));
+		verify(this.sampleEvents, never()).handleStringBatch(any());
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "c"));
+		verify(this.sampleEvents, times(1)).handleStringBatch(List.of("a", "b", "c"));
+
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "d"));
+		adapter.flushBatch();
+		verify(this.sampleEvents, times(1)).handleStringBatch(List.of("d"));
+	}
+
+	@Test
+	void batchingListenerWithFailingBatch() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringBatch", List.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		adapter.init(this.context, new EventExpressionEvaluator(new StandardEvaluationContext()));
+		willThrow(new IllegalStateException("Test exception")).given(this.sampleEvents)
+				.handleStringBatch(List.of("a", "b", "c"));
+
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "a"));
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "b"));
+		assertThatIllegalStateException().isThrownBy(() ->
+				adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "c")))
+				.withMessage("Test exception");
+
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "d"));
+		adapter.flushBatch();
+		verify(this.sampleEvents, times(1)).handleStringBatch(List.of("d"));
+	}
+
+	@Test
+	void batchingListenerWithWindowRequiresScheduler() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringWindowedBatch", List.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		assertThatIllegalStateException().isThrownBy(() ->
+				adapter.init(this.context, new EventExpressionEvaluator(new StandardEvaluationContext())))
+				.withMessageContaining("No scheduler available");
+	}
+
+	@Test
+	void batchingListenerWithWindowProcessesBatchThroughExecutor() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringWindowedBatch", List.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		List<Runnable> tasks = new CopyOnWriteArrayList<>();
+		List<Throwable> errors = new CopyOnWriteArrayList<>();
+		Executor executor = tasks::add;
+		ErrorHandler errorHandler = errors::add;
+		EventBatchScheduler scheduler = new EventBatchScheduler(() -> executor, () -> errorHandler);
+		adapter.init(this.context, new EventExpressionEvaluator(new StandardEvaluationContext()), scheduler);
+		willThrow(new IllegalStateException("Test exception")).given(this.sampleEvents)
+				.handleStringWindowedBatch(List.of("a"));
+
+		try {
+			adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "a"));
+			Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> !tasks.isEmpty());
+			verify(this.sampleEvents, never()).handleStringWindowedBatch(any());
+
+			tasks.get(0).run();
+			verify(this.sampleEvents, times(1)).handleStringWindowedBatch(List.of("a"));
+			assertThat(errors).singleElement().isInstanceOf(IllegalStateException.class);
+		}
+		finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	void batchingListenerProcessesEventsRightAwayOnceSchedulerShutDown() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "handleStringBatch", List.class);
+		ApplicationListenerMethodAdapter adapter = createTestInstance(method);
+		EventBatchScheduler scheduler = new EventBatchScheduler(() -> null, () -> null);
+		adapter.init(this.context, new EventExpressionEvaluator(new StandardEvaluationContext()), scheduler);
+
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "a"));
+		verify(this.sampleEvents, never()).handleStringBatch(any());
+		scheduler.shutdown();
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "b"));
+		verify(this.sampleEvents, times(1)).handleStringBatch(List.of("a", "b"));
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "c"));
+		verify(this.sampleEvents, times(1)).handleStringBatch(List.of("c"));
+	}
+
+	@Test
+	void batchingListenerWithoutListParameter() {
+		Method method = ReflectionUtils.findMethod(SampleEvents.class, "invalidBatch", String.class);
+		assertThatIllegalStateException().isThrownBy(() -> createTestInstance(method))
+				.withMessageContaining("List parameter is mandatory");
+	}
+
 	@Test  // gh-30399
 	void simplePayloadDoesNotSupportArbitraryGenericEventType() throws Exception {
 		Method method = SampleEvents.class.getDeclaredMethod("handleString", String.class);
@@ -482,6 +609,26 @@ class ApplicationListenerMethodAdapterTests extends AbstractApplicationEventList
 		public void handleString(String payload) {
 		}
 
+		@EventListener(deliveryKey = "#payload.length()")
+		public void handleStringWithDeliveryKey(String payload) {
+		}
+
+		@EventListener(queued = true)
+		public void handleStringQueued(String payload) {
+		}
+
+		@EventListener(batchSize = 3)
+		public void handleStringBatch(List<String> payloads) {
+		}
+
+		@EventListener(batchWindow = 100)
+		public void handleStringWindowedBatch(List<String> payloads) {
+		}
+
+		@EventListener(batchSize = 3)
+		public void invalidBatch(String payload) {
+		}
+
 		@EventListener(String.class)
 		public void handleStringAnnotationValue() {
 		}
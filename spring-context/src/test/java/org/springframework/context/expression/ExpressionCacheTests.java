@@ -0,0 +1,103 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.expression;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ExpressionCache}.
+ */
+class ExpressionCacheTests {
+
+	private final SpelExpressionParser parser = new SpelExpressionParser();
+
+	private final Method method = ReflectionUtils.findMethod(getClass(), "toString");
+
+
+	@Test
+	void countHitsAndMisses() {
+		TestExpressionEvaluator evaluator = new TestExpressionEvaluator(this.parser, 2);
+		Expression expression = evaluator.getTestExpression("true", this.method);
+		assertThat(evaluator.getTestExpression("true", this.method)).isSameAs(expression);
+		assertThat(evaluator.getTestExpression("true", this.method)).isSameAs(expression);
+		assertThat(evaluator.getExpressionCache().getMissCount()).isEqualTo(1);
+		assertThat(evaluator.getExpressionCache().getHitCount()).isEqualTo(2);
+		assertThat(evaluator.getExpressionCache().size()).isEqualTo(1);
+	}
+
+	@Test
+	void evictLeastRecentlyUsedExpressions() {
+		TestExpressionEvaluator evaluator = new TestExpressionEvaluator(this.parser, 2);
+		evaluator.getTestExpression("1", this.method);
+		evaluator.getTestExpression("2", this.method);
+		evaluator.getTestExpression("3", this.method);
+		assertThat(evaluator.getExpressionCache().size()).isEqualTo(2);
+		assertThat(evaluator.getExpressionCache().capacity()).isEqualTo(2);
+
+		evaluator.getTestExpression("1", this.method);
+		assertThat(evaluator.getExpressionCache().getMissCount()).isEqualTo(4);
+	}
+
+	@Test
+	void evaluatorsUseOwnCache() {
+		TestExpressionEvaluator first = new TestExpressionEvaluator(this.parser);
+		TestExpressionEvaluator second = new TestExpressionEvaluator(this.parser);
+		assertThat(first.getExpressionCache()).isNotSameAs(second.getExpressionCache());
+		assertThat(first.getExpressionCache().capacity()).isEqualTo(ExpressionCache.DEFAULT_CAPACITY);
+
+		Expression expression = second.getTestExpression("true", this.method);
+		first.getTestExpression("true", this.method);
+		first.getExpressionCache().clear();
+		assertThat(second.getTestExpression("true", this.method)).isSameAs(expression);
+		assertThat(second.getExpressionCache().getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void clearKeepsCounts() {
+		TestExpressionEvaluator evaluator = new TestExpressionEvaluator(this.parser, 2);
+		evaluator.getTestExpression("true", this.method);
+		evaluator.getExpressionCache().clear();
+		assertThat(evaluator.getExpressionCache().size()).isZero();
+		evaluator.getTestExpression("true", this.method);
+		assertThat(evaluator.getExpressionCache().getMissCount()).isEqualTo(2);
+	}
+
+
+	private static class TestExpressionEvaluator extends CachedExpressionEvaluator {
+
+		TestExpressionEvaluator(SpelExpressionParser parser) {
+			super(parser);
+		}
+
+		TestExpressionEvaluator(SpelExpressionParser parser, int expressionCacheCapacity) {
+			super(parser, expressionCacheCapacity);
+		}
+
+		Expression getTestExpression(String expression, Method method) {
+			return getExpression(new AnnotatedElementKey(method, ExpressionCacheTests.class), expression);
+		}
+	}
+
+}
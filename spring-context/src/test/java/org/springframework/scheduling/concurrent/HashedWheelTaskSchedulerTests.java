@@ -0,0 +1,233 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.Trigger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link HashedWheelTaskScheduler}.
+ */
+class HashedWheelTaskSchedulerTests {
+
+	private final HashedWheelTaskScheduler scheduler = new HashedWheelTaskScheduler();
+
+
+	HashedWheelTaskSchedulerTests() {
+		this.scheduler.setTickDuration(Duration.ofMillis(5));
+		this.scheduler.setThreadNamePrefix("wheel-");
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.scheduler.shutdown();
+	}
+
+
+	@Test
+	void scheduleOneTimeTask() throws Exception {
+		this.scheduler.initialize();
+		AtomicReference<String> threadName = new AtomicReference<>();
+		AtomicLong executionTime = new AtomicLong();
+		CountDownLatch latch = new CountDownLatch(1);
+		long startTime = System.nanoTime();
+		this.scheduler.schedule(() -> {
+			threadName.set(Thread.currentThread().getName());
+			executionTime.set(System.nanoTime());
+			latch.countDown();
+		}, Instant.now().plusMillis(50));
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(threadName.get()).startsWith("wheel-");
+		assertThat(executionTime.get() - startTime).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(45));
+	}
+
+	@Test
+	void scheduleBeyondFullRotation() throws Exception {
+		this.scheduler.setTicksPerWheel(4);
+		this.scheduler.initialize();
+		AtomicLong executionTime = new AtomicLong();
+		CountDownLatch latch = new CountDownLatch(1);
+		long startTime = System.nanoTime();
+		this.scheduler.schedule(() -> {
+			executionTime.set(System.nanoTime());
+			latch.countDown();
+		}, Instant.now().plusMillis(100));
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(executionTime.get() - startTime).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(95));
+	}
+
+	@Test
+	void cancelBeforeDue() {
+		this.scheduler.initialize();
+		AtomicInteger count = new AtomicInteger();
+		ScheduledFuture<?> future = this.scheduler.schedule(count::incrementAndGet, Instant.now().plusSeconds(1));
+		assertThat(this.scheduler.getPendingTaskCount()).isEqualTo(1);
+		assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isPositive();
+
+		assertThat(future.cancel(false)).isTrue();
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> this.scheduler.getPendingTaskCount() == 0);
+		assertThat(count).hasValue(0);
+	}
+
+	@Test
+	void scheduleAtFixedRate() {
+		this.scheduler.initialize();
+		AtomicInteger count = new AtomicInteger();
+		ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(count::incrementAndGet, Duration.ofMillis(10));
+
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> count.get() >= 3);
+		future.cancel(false);
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> this.scheduler.getPendingTaskCount() == 0);
+	}
+
+	@Test
+	void scheduleWithFixedDelay() {
+		this.scheduler.initialize();
+		AtomicInteger count = new AtomicInteger();
+		ScheduledFuture<?> future =
+				this.scheduler.scheduleWithFixedDelay(count::incrementAndGet, Duration.ofMillis(10));
+
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> count.get() >= 3);
+		future.cancel(false);
+	}
+
+	@Test
+	void scheduleWithTrigger() {
+		this.scheduler.initialize();
+		AtomicInteger count = new AtomicInteger();
+		Trigger trigger = triggerContext -> (count.get() < 3 ?
+				this.scheduler.getClock().instant().plusMillis(10) : null);
+		this.scheduler.schedule(count::incrementAndGet, trigger);
+
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> count.get() == 3);
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> this.scheduler.getPendingTaskCount() == 0);
+	}
+
+	@Test
+	void errorHandlerForRepeatingTask() {
+		AtomicInteger errors = new AtomicInteger();
+		this.scheduler.setErrorHandler(ex -> errors.incrementAndGet());
+		this.scheduler.initialize();
+		this.scheduler.scheduleAtFixedRate(() -> {
+			throw new IllegalStateException("Expected");
+		}, Duration.ofMillis(10));
+
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> errors.get() >= 2);
+	}
+
+	@Test
+	void dispatchToTargetTaskExecutor() throws Exception {
+		this.scheduler.setTargetTaskExecutor(task -> new Thread(task, "target").start());
+		this.scheduler.initialize();
+		AtomicReference<String> threadName = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		this.scheduler.schedule(() -> {
+			threadName.set(Thread.currentThread().getName());
+			latch.countDown();
+		}, Instant.now());
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(threadName).hasValue("target");
+	}
+
+	@Test
+	void cancelRemainingTasksOnShutdown() {
+		this.scheduler.initialize();
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {}, Instant.now().plusSeconds(60));
+		this.scheduler.shutdown();
+
+		assertThat(future.isCancelled()).isTrue();
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				this.scheduler.schedule(() -> {}, Instant.now()));
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() ->
+				this.scheduler.getScheduledExecutor().isTerminated());
+	}
+
+	@Test
+	void shutdownWithoutWaitingForUninterruptibleTask() throws Exception {
+		this.scheduler.initialize();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		this.scheduler.schedule(() -> {
+			started.countDown();
+			while (true) {
+				try {
+					release.await();
+					return;
+				}
+				catch (InterruptedException ex) {
+					// ignore interruption
+				}
+			}
+		}, Instant.now());
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {}, Instant.now().plusSeconds(60));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		this.scheduler.shutdown();
+
+		assertThat(future.isCancelled()).isTrue();
+		assertThat(this.scheduler.getScheduledExecutor().isTerminated()).isFalse();
+		release.countDown();
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() ->
+				this.scheduler.getScheduledExecutor().isTerminated());
+	}
+
+	@Test
+	void scheduleWithMaximumDelay() throws Exception {
+		this.scheduler.initialize();
+		AtomicInteger count = new AtomicInteger();
+		ScheduledFuture<?> future = this.scheduler.getScheduledExecutor()
+				.schedule(count::incrementAndGet, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		Thread.sleep(50);
+
+		assertThat(count).hasValue(0);
+		assertThat(future.getDelay(TimeUnit.DAYS)).isGreaterThan(365);
+	}
+
+	@Test
+	void runOneTimeTasksOnGracefulShutdown() throws Exception {
+		this.scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		this.scheduler.setAwaitTerminationSeconds(5);
+		this.scheduler.initialize();
+		CountDownLatch latch = new CountDownLatch(1);
+		this.scheduler.schedule(latch::countDown, Instant.now().plusMillis(50));
+		ScheduledFuture<?> periodic = this.scheduler.scheduleAtFixedRate(() -> {}, Duration.ofSeconds(60));
+		this.scheduler.shutdown();
+
+		assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(periodic.isCancelled()).isTrue();
+		assertThat(this.scheduler.getScheduledExecutor().isTerminated()).isTrue();
+	}
+
+}
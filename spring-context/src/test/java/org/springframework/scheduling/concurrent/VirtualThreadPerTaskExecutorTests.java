@@ -0,0 +1,198 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.TaskRejectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link VirtualThreadPerTaskExecutor}, using platform threads
+ * in order to run on any JDK.
+ */
+class VirtualThreadPerTaskExecutorTests {
+
+	private final VirtualThreadPerTaskExecutor executor = new VirtualThreadPerTaskExecutor();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+
+	VirtualThreadPerTaskExecutorTests() {
+		this.executor.setVirtualThreads(false);
+		this.executor.setThreadNamePrefix("test-");
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.release.countDown();
+		this.executor.shutdown();
+	}
+
+
+	@Test
+	void executeInNewThread() throws Exception {
+		this.executor.initialize();
+		Future<String> future = this.executor.submit(() -> Thread.currentThread().getName());
+
+		assertThat(future.get(1, TimeUnit.SECONDS)).startsWith("test-");
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> this.executor.getCompletedTaskCount() == 1);
+	}
+
+	@Test
+	void concurrencyLimitWithBacklog() {
+		this.executor.setConcurrencyLimit(2);
+		this.executor.initialize();
+		AtomicInteger maxActive = new AtomicInteger();
+		AtomicInteger active = new AtomicInteger();
+		for (int i = 0; i < 6; i++) {
+			this.executor.execute(() -> {
+				maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+				awaitRelease();
+				active.decrementAndGet();
+			});
+		}
+
+		assertThat(this.executor.getActiveCount()).isEqualTo(2);
+		assertThat(this.executor.getQueueSize()).isEqualTo(4);
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> active.get() == 2);
+		this.release.countDown();
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> this.executor.getCompletedTaskCount() == 6);
+		assertThat(maxActive).hasValue(2);
+		assertThat(this.executor.getActiveCount()).isZero();
+		assertThat(this.executor.getQueueSize()).isZero();
+	}
+
+	@Test
+	void backlogInSubmissionOrder() {
+		this.executor.setConcurrencyLimit(1);
+		this.executor.initialize();
+		List<Integer> order = new CopyOnWriteArrayList<>();
+		this.executor.execute(this::awaitRelease);
+		for (int i = 0; i < 5; i++) {
+			int index = i;
+			this.executor.execute(() -> order.add(index));
+		}
+		this.release.countDown();
+
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> this.executor.getCompletedTaskCount() == 6);
+		assertThat(order).containsExactly(0, 1, 2, 3, 4);
+	}
+
+	@Test
+	void rejectWhenBacklogFull() {
+		this.executor.setConcurrencyLimit(1);
+		this.executor.setQueueCapacity(1);
+		this.executor.initialize();
+		this.executor.execute(this::awaitRelease);
+		this.executor.execute(this::awaitRelease);
+
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				this.executor.execute(this::awaitRelease));
+	}
+
+	@Test
+	void rejectWithoutBacklog() {
+		this.executor.setConcurrencyLimit(1);
+		this.executor.setQueueCapacity(0);
+		this.executor.initialize();
+		this.executor.execute(this::awaitRelease);
+
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				this.executor.execute(this::awaitRelease));
+	}
+
+	@Test
+	void cancelFutureOnTimeout() {
+		this.executor.setTaskTimeoutMillis(50);
+		this.executor.initialize();
+		Future<?> future = this.executor.submit(this::awaitRelease);
+
+		assertThatExceptionOfType(CancellationException.class).isThrownBy(() -> future.get(5, TimeUnit.SECONDS));
+		Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> this.executor.getTimedOutTaskCount() == 1);
+	}
+
+	@Test
+	void interruptRunnableOnTimeout() {
+		this.executor.setTaskTimeoutMillis(50);
+		this.executor.initialize();
+		CountDownLatch interrupted = new CountDownLatch(1);
+		this.executor.execute(() -> {
+			try {
+				this.release.await();
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+		});
+
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> interrupted.getCount() == 0);
+	}
+
+	@Test
+	void cancelQueuedTasksOnShutdown() {
+		this.executor.setConcurrencyLimit(1);
+		this.executor.initialize();
+		Future<?> running = this.executor.submit(this::awaitRelease);
+		Future<?> queued = this.executor.submit(this::awaitRelease);
+		this.executor.shutdown();
+
+		assertThat(queued.isCancelled()).isTrue();
+		assertThatExceptionOfType(CancellationException.class).isThrownBy(() -> running.get(5, TimeUnit.SECONDS));
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				this.executor.execute(this::awaitRelease));
+		Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> !this.executor.isRunning());
+	}
+
+	@Test
+	void completeQueuedTasksOnShutdown() throws Exception {
+		this.executor.setConcurrencyLimit(1);
+		this.executor.setWaitForTasksToCompleteOnShutdown(true);
+		this.executor.setAwaitTerminationSeconds(5);
+		this.executor.initialize();
+		this.executor.execute(this::awaitRelease);
+		Future<?> queued = this.executor.submit(() -> {});
+		this.release.countDown();
+		this.executor.shutdown();
+
+		assertThat(queued.get(1, TimeUnit.SECONDS)).isNull();
+		assertThat(this.executor.getCompletedTaskCount()).isEqualTo(2);
+	}
+
+
+	private void awaitRelease() {
+		try {
+			this.release.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
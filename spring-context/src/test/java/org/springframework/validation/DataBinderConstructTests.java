@@ -17,6 +17,7 @@
 package org.springframework.validation;
 
 import java.beans.ConstructorProperties;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,6 +26,7 @@ import java.util.Set;
 import jakarta.validation.constraints.NotNull;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.lang.Nullable;
@@ -102,6 +104,42 @@ class DataBinderConstructTests {
 		assertThat(bindingResult.getFieldValue("param3")).isNull();
 	}
 
+	@Test
+	void dataClassBindingWithSharedConstructorBinding() {
+		DataBinder binder = initDataBinder(DataClass.class);
+		binder.construct(new MapValueResolver(Map.of("param1", "value1", "param2", "true")));
+		DataClass dataClass = getTarget(binder);
+		assertThat(dataClass.param1()).isEqualTo("value1");
+
+		binder = initDataBinder(DataClass.class);
+		binder.setNameResolver(param -> "param1".equals(param.getParameterName()) ? "p1" : null);
+		binder.construct(new MapValueResolver(Map.of("p1", "value2", "param2", "false", "optionalParam", "3")));
+		dataClass = getTarget(binder);
+		assertThat(dataClass.param1()).isEqualTo("value2");
+		assertThat(dataClass.param2()).isFalse();
+		assertThat(dataClass.param3()).isEqualTo(3);
+	}
+
+	@Test
+	void dataClassBindingHandsOutParameterCopies() {
+		List<MethodParameter> params = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			DataBinder binder = initDataBinder(DataClass.class);
+			binder.setNameResolver(param -> {
+				params.add(param);
+				return null;
+			});
+			binder.construct(new MapValueResolver(Map.of("param1", "value1", "param2", "true")));
+			DataClass dataClass = getTarget(binder);
+			assertThat(dataClass.param1()).isEqualTo("value1");
+		}
+
+		assertThat(params).hasSize(6);
+		assertThat(params.get(0)).isNotSameAs(params.get(3));
+		assertThat(params.get(0).getParameterName()).isEqualTo("param1");
+		assertThat(params.get(3).hasParameterAnnotation(NotNull.class)).isTrue();
+	}
+
 	@Test
 	void listBinding() {
 		MapValueResolver valueResolver = new MapValueResolver(Map.of(
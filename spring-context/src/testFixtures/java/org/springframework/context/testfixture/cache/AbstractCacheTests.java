@@ -16,7 +16,9 @@
 
 package org.springframework.context.testfixture.cache;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -89,6 +91,28 @@ public abstract class AbstractCacheTests<T extends Cache> {
 		assertThat(cache.get(key).get()).isEqualTo(value);
 	}
 
+	@Test
+	protected void testCacheGetAllAndPutAll() {
+		T cache = getCache();
+
+		String key1 = createRandomKey();
+		String key2 = createRandomKey();
+		String key3 = createRandomKey();
+		assertThat(cache.getAll(List.of(key1, key2, key3))).isEmpty();
+
+		Map<String, Object> entries = new LinkedHashMap<>();
+		entries.put(key1, "george");
+		entries.put(key3, null);
+		cache.putAll(entries);
+		assertThat(cache.get(key1, String.class)).isEqualTo("george");
+
+		Map<Object, Cache.ValueWrapper> result = cache.getAll(List.of(key3, key2, key1));
+		assertThat(result).containsOnlyKeys(key3, key1);
+		assertThat(result.keySet()).containsExactly(key3, key1);
+		assertThat(result.get(key1).get()).isEqualTo("george");
+		assertThat(result.get(key3).get()).isNull();
+	}
+
 	@Test
 	protected void testCacheRemove() {
 		T cache = getCache();
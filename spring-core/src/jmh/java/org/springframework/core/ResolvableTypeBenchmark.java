@@ -0,0 +1,86 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link ResolvableType#as(Class)} lookups and
+ * {@link GenericTypeResolver} resolution against plain classes.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResolvableTypeBenchmark {
+
+	@Benchmark
+	public void asInheritedInterface(BenchmarkState state, Blackhole bh) {
+		bh.consume(ResolvableType.forClass(state.listClass).as(Collection.class));
+	}
+
+	@Benchmark
+	public void asNotFound(BenchmarkState state, Blackhole bh) {
+		bh.consume(ResolvableType.forClass(state.listClass).as(Map.class));
+	}
+
+	@Benchmark
+	public void asGenericInterfaceAndResolveGeneric(BenchmarkState state, Blackhole bh) {
+		bh.consume(ResolvableType.forClass(state.functionClass).as(Function.class).resolveGenerics());
+	}
+
+	@Benchmark
+	public void resolveTypeArguments(BenchmarkState state, Blackhole bh) {
+		bh.consume(GenericTypeResolver.resolveTypeArguments(state.functionClass, Function.class));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public Class<?> listClass = StringList.class;
+
+		public Class<?> functionClass = StringLengthFunction.class;
+	}
+
+
+	@SuppressWarnings("serial")
+	static class StringList extends ArrayList<String> {
+	}
+
+
+	static class StringLengthFunction implements Function<String, Integer> {
+
+		@Override
+		public Integer apply(String value) {
+			return value.length();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -102,6 +102,39 @@ public class GenericConversionServiceBenchmark {
 	}
 
 
+	@Benchmark
+	public void convertStringToPrimitivesWithConversionService(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.intSource, int.class));
+		bh.consume(state.conversionService.convert(state.longSource, Long.class));
+		bh.consume(state.conversionService.convert(state.booleanSource, boolean.class));
+	}
+
+	@Benchmark
+	public void convertStringToPrimitivesBaseline(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(Integer.valueOf(state.intSource));
+		bh.consume(Long.valueOf(state.longSource));
+		bh.consume(Boolean.valueOf(state.booleanSource));
+	}
+
+	@Benchmark
+	public void canConvertUnsupportedClassPair(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.canConvert(Thread.class, Integer.class));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ScalarBenchmarkState {
+
+		GenericConversionService conversionService = new DefaultConversionService();
+
+		String intSource = "1024";
+
+		String longSource = "1234567890123";
+
+		String booleanSource = "true";
+	}
+
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
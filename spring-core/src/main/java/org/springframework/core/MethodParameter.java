@@ -890,6 +890,16 @@ public class MethodParameter {
 			this.parameterName = fieldName;
 		}
 
+		private FieldAwareConstructorParameter(FieldAwareConstructorParameter original) {
+			super(original);
+			this.combinedAnnotations = original.combinedAnnotations;
+		}
+
+		@Override
+		public FieldAwareConstructorParameter clone() {
+			return new FieldAwareConstructorParameter(this);
+		}
+
 		@Override
 		public Annotation[] getParameterAnnotations() {
 			String parameterName = this.parameterName;
@@ -33,6 +33,7 @@ import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.SerializableTypeWrapper.FieldTypeProvider;
 import org.springframework.core.SerializableTypeWrapper.MethodParameterTypeProvider;
@@ -97,6 +98,16 @@ public class ResolvableType implements Serializable {
 	private static final ConcurrentReferenceHashMap<ResolvableType, ResolvableType> cache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	/**
+	 * Strongly held cache of {@link #as(Class)} results for plain classes, keyed
+	 * by source class and target class. Only used for cache-safe classes (loaded
+	 * by the ClassLoader of this class or one of its ancestors), so that entries
+	 * survive garbage collection without pinning any application ClassLoader.
+	 * Cleared along with the regular cache through {@link #clearCache()}.
+	 */
+	private static final Map<Class<?>, Map<Class<?>, ResolvableType>> asTypeCache =
+			new ConcurrentHashMap<>(256);
+
 
 	/**
 	 * The underlying Java type being managed.
@@ -496,6 +507,22 @@ public class ResolvableType implements Serializable {
 		if (resolved == null || resolved == type) {
 			return this;
 		}
+		if (isPlainClass() && isCacheSafe(resolved) && isCacheSafe(type)) {
+			Map<Class<?>, ResolvableType> asTypes = asTypeCache.get(resolved);
+			if (asTypes == null) {
+				asTypes = asTypeCache.computeIfAbsent(resolved, key -> new ConcurrentHashMap<>(8));
+			}
+			ResolvableType asType = asTypes.get(type);
+			if (asType == null) {
+				asType = resolveAs(type);
+				asTypes.put(type, asType);
+			}
+			return asType;
+		}
+		return resolveAs(type);
+	}
+
+	private ResolvableType resolveAs(Class<?> type) {
 		for (ResolvableType interfaceType : getInterfaces()) {
 			ResolvableType interfaceAsType = interfaceType.as(type);
 			if (interfaceAsType != NONE) {
@@ -1557,9 +1584,38 @@ public class ResolvableType implements Serializable {
 	 */
 	public static void clearCache() {
 		cache.clear();
+		asTypeCache.clear();
 		SerializableTypeWrapper.cache.clear();
 	}
 
+	/**
+	 * Determine whether this type is a plain {@link Class} wrapper without any
+	 * source or context, i.e. equal to any other plain wrapper for the same class.
+	 */
+	private boolean isPlainClass() {
+		return (this.type instanceof Class && this.componentType == null && this.typeProvider == null &&
+				this.variableResolver == null && getClass() == ResolvableType.class);
+	}
+
+	/**
+	 * Determine whether the given class may be strongly held in a static cache,
+	 * i.e. whether it is loaded by the ClassLoader of this class or an ancestor.
+	 */
+	private static boolean isCacheSafe(Class<?> clazz) {
+		ClassLoader classLoader = clazz.getClassLoader();
+		if (classLoader == null) {
+			return true;
+		}
+		ClassLoader current = ResolvableType.class.getClassLoader();
+		while (current != null) {
+			if (current == classLoader) {
+				return true;
+			}
+			current = current.getParent();
+		}
+		return false;
+	}
+
 
 	/**
 	 * Strategy interface used to resolve {@link TypeVariable TypeVariables}.
@@ -16,6 +16,7 @@
 
 package org.springframework.core.convert.support;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
@@ -45,6 +46,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -77,6 +79,17 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	private final Map<Class<?>, Map<Class<?>, ClassPairConversion>> classPairCache =
+			new ConcurrentReferenceHashMap<>(64);
+
+	/**
+	 * Whether the {@code Class} based variants of {@code canConvert} and
+	 * {@code convert} may resolve conversions per class pair: only if the
+	 * {@code TypeDescriptor} based methods that they would otherwise delegate
+	 * to are not overridden.
+	 */
+	private final boolean classPairConversion = !overridesTypeDescriptorLookup(getClass());
+
 
 	// ConverterRegistry implementation
 
@@ -131,8 +144,11 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Override
 	public boolean canConvert(@Nullable Class<?> sourceType, Class<?> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
-		return canConvert((sourceType != null ? TypeDescriptor.valueOf(sourceType) : null),
-				TypeDescriptor.valueOf(targetType));
+		if (!this.classPairConversion) {
+			return canConvert((sourceType != null ? TypeDescriptor.valueOf(sourceType) : null),
+					TypeDescriptor.valueOf(targetType));
+		}
+		return (sourceType == null || getClassPairConversion(sourceType, targetType).converter != null);
 	}
 
 	@Override
@@ -162,7 +178,16 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Nullable
 	public <T> T convert(@Nullable Object source, Class<T> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
-		return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
+		if (source == null || !this.classPairConversion) {
+			return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
+		}
+		ClassPairConversion conversion = getClassPairConversion(source.getClass(), targetType);
+		if (conversion.converter != null) {
+			Object result = ConversionUtils.invokeConverter(
+					conversion.converter, source, conversion.sourceType, conversion.targetType);
+			return (T) handleResult(conversion.sourceType, conversion.targetType, result);
+		}
+		return (T) handleConverterNotFound(source, conversion.sourceType, conversion.targetType);
 	}
 
 	@Override
@@ -275,8 +300,49 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return generics;
 	}
 
+	/**
+	 * Resolve the conversion for the given plain source and target class,
+	 * caching the type descriptors along with the converter per class pair.
+	 * This allows for lookups without any allocations for repeated conversions.
+	 */
+	private ClassPairConversion getClassPairConversion(Class<?> sourceClass, Class<?> targetClass) {
+		Map<Class<?>, ClassPairConversion> conversions = this.classPairCache.get(sourceClass);
+		if (conversions == null) {
+			conversions = new ConcurrentHashMap<>(4);
+			Map<Class<?>, ClassPairConversion> existing = this.classPairCache.putIfAbsent(sourceClass, conversions);
+			if (existing != null) {
+				conversions = existing;
+			}
+		}
+		ClassPairConversion conversion = conversions.get(targetClass);
+		if (conversion == null) {
+			TypeDescriptor sourceType = TypeDescriptor.valueOf(sourceClass);
+			TypeDescriptor targetType = TypeDescriptor.valueOf(targetClass);
+			conversion = new ClassPairConversion(sourceType, targetType, getConverter(sourceType, targetType));
+			conversions.put(targetClass, conversion);
+		}
+		return conversion;
+	}
+
+	/**
+	 * Determine whether the given subclass overrides any of the methods that
+	 * the {@code Class} based conversion methods delegate to by contract.
+	 */
+	private static boolean overridesTypeDescriptorLookup(Class<?> clazz) {
+		return (clazz != GenericConversionService.class &&
+				(isOverridden(clazz, "canConvert", TypeDescriptor.class, TypeDescriptor.class) ||
+				isOverridden(clazz, "convert", Object.class, TypeDescriptor.class, TypeDescriptor.class) ||
+				isOverridden(clazz, "getConverter", TypeDescriptor.class, TypeDescriptor.class)));
+	}
+
+	private static boolean isOverridden(Class<?> clazz, String methodName, Class<?>... paramTypes) {
+		Method method = ReflectionUtils.findMethod(clazz, methodName, paramTypes);
+		return (method != null && method.getDeclaringClass() != GenericConversionService.class);
+	}
+
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.classPairCache.clear();
 	}
 
 	@Nullable
@@ -416,6 +482,14 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * Resolved conversion for a pair of plain classes.
+	 */
+	private record ClassPairConversion(
+			TypeDescriptor sourceType, TypeDescriptor targetType, @Nullable GenericConverter converter) {
+	}
+
+
 	/**
 	 * Key for use with the converter cache.
 	 */
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,13 @@
 
 package org.springframework.core.convert.support;
 
+import java.util.Map;
+
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalConverter;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.converter.ConverterFactory;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.NumberUtils;
 
 /**
@@ -42,9 +45,13 @@ import org.springframework.util.NumberUtils;
  */
 final class NumberToNumberConverterFactory implements ConverterFactory<Number, Number>, ConditionalConverter {
 
+	private final Map<Class<? extends Number>, Converter<Number, ?>> converterCache = new ConcurrentReferenceHashMap<>(16);
+
+
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T extends Number> Converter<Number, T> getConverter(Class<T> targetType) {
-		return new NumberToNumber<>(targetType);
+		return (Converter<Number, T>) this.converterCache.computeIfAbsent(targetType, NumberToNumber::new);
 	}
 
 	@Override
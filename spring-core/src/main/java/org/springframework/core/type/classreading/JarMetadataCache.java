@@ -0,0 +1,663 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.Type;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * File-backed store for the {@link SimpleAnnotationMetadata} of the classes
+ * in a single jar file, as used by {@link PersistentCachingMetadataReaderFactory}.
+ *
+ * <p>A cache file starts with the path, size, last-modified timestamp and
+ * CRC-32 checksum of the jar file that it has been created for. It is only
+ * used as long as the jar file has the same size and either the same
+ * last-modified timestamp or the same checksum, the latter covering jar files
+ * that have been copied or extracted again without any change in content.
+ * The header is followed by a table of all strings used in the cache file
+ * and by the binary representation of the metadata per jar entry, referring
+ * to the strings by index.
+ *
+ * <p>Only directly present annotations are stored, with their explicitly
+ * declared attribute values; meta-annotations are resolved at runtime as
+ * for metadata read through ASM.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ */
+final class JarMetadataCache {
+
+	private static final int MAGIC = 0x534D4443;
+
+	private static final int VERSION = 1;
+
+	private static final long UNKNOWN_CHECKSUM = -1;
+
+	private static final byte STRING = 's';
+
+	private static final byte BOOLEAN = 'Z';
+
+	private static final byte BYTE = 'B';
+
+	private static final byte CHAR = 'C';
+
+	private static final byte SHORT = 'S';
+
+	private static final byte INT = 'I';
+
+	private static final byte LONG = 'J';
+
+	private static final byte FLOAT = 'F';
+
+	private static final byte DOUBLE = 'D';
+
+	private static final byte ENUM = 'E';
+
+	private static final byte ANNOTATION = '@';
+
+	private static final byte ARRAY = '[';
+
+	private static final Log logger = LogFactory.getLog(JarMetadataCache.class);
+
+
+	private final File jarFile;
+
+	private final File cacheFile;
+
+	private long jarLength;
+
+	private long jarLastModified;
+
+	private long jarChecksum = UNKNOWN_CHECKSUM;
+
+	private final List<String> strings = new ArrayList<>();
+
+	private final Map<String, Integer> stringIndex = new HashMap<>();
+
+	private final Map<String, byte[]> entries = new HashMap<>();
+
+	private boolean dirty;
+
+
+	private JarMetadataCache(File jarFile, File cacheFile) {
+		this.jarFile = jarFile;
+		this.cacheFile = cacheFile;
+		this.jarLength = jarFile.length();
+		this.jarLastModified = jarFile.lastModified();
+	}
+
+
+	/**
+	 * Load the cache for the given jar file from the given cache file,
+	 * starting with an empty cache if the cache file does not exist or
+	 * does not match the current state of the jar file.
+	 * @param jarFile the jar file to cache class metadata for
+	 * @param cacheFile the file to load the cache from and to store it in
+	 * @return the cache (never {@code null})
+	 */
+	static JarMetadataCache load(File jarFile, File cacheFile) {
+		JarMetadataCache cache = new JarMetadataCache(jarFile, cacheFile);
+		if (cacheFile.isFile()) {
+			try {
+				cache.read();
+			}
+			catch (IOException | RuntimeException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring unreadable metadata cache file " + cacheFile + ": " + ex);
+				}
+				cache.reset();
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Return the cached metadata for the given jar entry, if any.
+	 * @param entryName the name of the jar entry (pointing to a ".class" file)
+	 * @param classLoader the ClassLoader to resolve annotation types with
+	 * @return the metadata, or {@code null} if none cached
+	 */
+	@Nullable
+	synchronized SimpleAnnotationMetadata get(String entryName, @Nullable ClassLoader classLoader) {
+		byte[] bytes = this.entries.get(entryName);
+		if (bytes == null) {
+			return null;
+		}
+		try {
+			return new Decoder(new DataInputStream(new ByteArrayInputStream(bytes)), classLoader).readClass();
+		}
+		catch (IOException | RuntimeException | LinkageError ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring cached metadata for " + entryName + " in " + this.jarFile + ": " + ex);
+			}
+			this.entries.remove(entryName);
+			this.dirty = true;
+			return null;
+		}
+	}
+
+	/**
+	 * Add the given metadata for the given jar entry to this cache.
+	 * @param entryName the name of the jar entry (pointing to a ".class" file)
+	 * @param metadata the metadata read for the jar entry
+	 */
+	synchronized void put(String entryName, SimpleAnnotationMetadata metadata) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		int stringCount = this.strings.size();
+		try {
+			new Encoder(new DataOutputStream(bytes)).writeClass(metadata);
+		}
+		catch (IOException | RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Not caching metadata for " + entryName + " in " + this.jarFile + ": " + ex);
+			}
+			// Roll back strings that are not referenced by any stored entry
+			while (this.strings.size() > stringCount) {
+				this.stringIndex.remove(this.strings.remove(this.strings.size() - 1));
+			}
+			return;
+		}
+		this.entries.put(entryName, bytes.toByteArray());
+		this.dirty = true;
+	}
+
+	/**
+	 * Write this cache to its cache file if it has been modified since it
+	 * has been loaded, unless the jar file has been modified in the meantime.
+	 * @throws IOException in case of I/O failure
+	 */
+	synchronized void flush() throws IOException {
+		if (!this.dirty) {
+			return;
+		}
+		if (this.jarFile.length() != this.jarLength || this.jarFile.lastModified() != this.jarLastModified) {
+			// Jar file modified while in use: cached entries are possibly out of date.
+			reset();
+			return;
+		}
+		if (this.jarChecksum == UNKNOWN_CHECKSUM) {
+			this.jarChecksum = computeChecksum(this.jarFile);
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+		write(new DataOutputStream(bytes));
+		Path target = this.cacheFile.toPath();
+		Files.createDirectories(target.getParent());
+		Path tempFile = Files.createTempFile(target.getParent(), this.cacheFile.getName(), ".tmp");
+		try {
+			Files.write(tempFile, bytes.toByteArray());
+			try {
+				Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+		this.dirty = false;
+	}
+
+	/**
+	 * Return the number of jar entries in this cache.
+	 */
+	synchronized int size() {
+		return this.entries.size();
+	}
+
+	private void read() throws IOException {
+		byte[] bytes = Files.readAllBytes(this.cacheFile.toPath());
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+		if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(this.jarFile.getPath())) {
+			return;
+		}
+		long length = in.readLong();
+		long lastModified = in.readLong();
+		long checksum = in.readLong();
+		if (length != this.jarLength) {
+			return;
+		}
+		if (lastModified != this.jarLastModified) {
+			if (computeChecksum(this.jarFile) != checksum) {
+				return;
+			}
+			// Same content with different timestamp: store current timestamp for the next run.
+			this.dirty = true;
+		}
+		this.jarChecksum = checksum;
+		int stringCount = readVarInt(in);
+		for (int i = 0; i < stringCount; i++) {
+			byte[] stringBytes = new byte[readVarInt(in)];
+			in.readFully(stringBytes);
+			addString(new String(stringBytes, StandardCharsets.UTF_8));
+		}
+		int entryCount = readVarInt(in);
+		for (int i = 0; i < entryCount; i++) {
+			String entryName = this.strings.get(readVarInt(in));
+			byte[] entryBytes = new byte[readVarInt(in)];
+			in.readFully(entryBytes);
+			this.entries.put(entryName, entryBytes);
+		}
+	}
+
+	private void write(DataOutputStream out) throws IOException {
+		// Register entry names upfront for the string table to be complete
+		List<Integer> entryNameIndexes = new ArrayList<>(this.entries.size());
+		for (String entryName : this.entries.keySet()) {
+			entryNameIndexes.add(addString(entryName));
+		}
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeUTF(this.jarFile.getPath());
+		out.writeLong(this.jarLength);
+		out.writeLong(this.jarLastModified);
+		out.writeLong(this.jarChecksum);
+		writeVarInt(out, this.strings.size());
+		for (String string : this.strings) {
+			byte[] stringBytes = string.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(out, stringBytes.length);
+			out.write(stringBytes);
+		}
+		writeVarInt(out, this.entries.size());
+		int i = 0;
+		for (byte[] entryBytes : this.entries.values()) {
+			writeVarInt(out, entryNameIndexes.get(i++));
+			writeVarInt(out, entryBytes.length);
+			out.write(entryBytes);
+		}
+	}
+
+	private void reset() {
+		this.jarLength = this.jarFile.length();
+		this.jarLastModified = this.jarFile.lastModified();
+		this.jarChecksum = UNKNOWN_CHECKSUM;
+		this.strings.clear();
+		this.stringIndex.clear();
+		this.entries.clear();
+		this.dirty = false;
+	}
+
+	private int addString(String string) {
+		Integer index = this.stringIndex.get(string);
+		if (index == null) {
+			index = this.strings.size();
+			this.strings.add(string);
+			this.stringIndex.put(string, index);
+		}
+		return index;
+	}
+
+
+	private static long computeChecksum(File file) throws IOException {
+		CRC32 checksum = new CRC32();
+		try (InputStream in = new CheckedInputStream(Files.newInputStream(file.toPath()), checksum)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		return checksum.getValue();
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed variable-length integer");
+	}
+
+
+	/**
+	 * Writes class metadata, registering strings with the enclosing cache.
+	 */
+	private class Encoder {
+
+		private final DataOutputStream out;
+
+		Encoder(DataOutputStream out) {
+			this.out = out;
+		}
+
+		void writeClass(SimpleAnnotationMetadata metadata) throws IOException {
+			writeString(metadata.getClassName());
+			writeVarInt(this.out, metadata.getAccess());
+			writeString(metadata.getEnclosingClassName());
+			writeString(metadata.getSuperClassName());
+			this.out.writeBoolean(metadata.isIndependent());
+			writeStrings(metadata.getInterfaceNames());
+			writeStrings(metadata.getMemberClassNames());
+			writeAnnotations(metadata.getAnnotations());
+			Set<MethodMetadata> methods = metadata.getDeclaredMethods();
+			writeVarInt(this.out, methods.size());
+			for (MethodMetadata method : methods) {
+				SimpleMethodMetadata simpleMethod = (SimpleMethodMetadata) method;
+				writeString(simpleMethod.getMethodName());
+				writeVarInt(this.out, simpleMethod.getAccess());
+				writeString(((SimpleMethodMetadataReadingVisitor.Source) simpleMethod.getSource()).getDescriptor());
+				writeAnnotations(simpleMethod.getAnnotations());
+			}
+		}
+
+		private void writeAnnotations(MergedAnnotations annotations) throws IOException {
+			List<MergedAnnotation<Annotation>> directlyPresent = annotations.stream()
+					.filter(MergedAnnotation::isDirectlyPresent).toList();
+			writeVarInt(this.out, directlyPresent.size());
+			for (MergedAnnotation<?> annotation : directlyPresent) {
+				// Length-prefixed for skipping annotations that cannot be resolved on read
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+				new Encoder(new DataOutputStream(bytes)).writeAnnotation(annotation);
+				writeVarInt(this.out, bytes.size());
+				bytes.writeTo(this.out);
+			}
+		}
+
+		private void writeAnnotation(MergedAnnotation<?> annotation) throws IOException {
+			writeString(annotation.getType().getName());
+			Map<String, Object> attributes = new LinkedHashMap<>();
+			for (Method attribute : annotation.getType().getDeclaredMethods()) {
+				String name = attribute.getName();
+				if (!Modifier.isStatic(attribute.getModifiers()) && attribute.getParameterCount() == 0 &&
+						attribute.getReturnType() != void.class && !annotation.hasDefaultValue(name)) {
+					attributes.put(name, getAttributeValue(annotation, attribute));
+				}
+			}
+			writeVarInt(this.out, attributes.size());
+			for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+				writeString(entry.getKey());
+				writeValue(entry.getValue());
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object getAttributeValue(MergedAnnotation<?> annotation, Method attribute) {
+			String name = attribute.getName();
+			Class<?> type = attribute.getReturnType();
+			if (type == Class.class) {
+				return annotation.getString(name);
+			}
+			if (type == Class[].class) {
+				return annotation.getStringArray(name);
+			}
+			if (type.isAnnotation()) {
+				return annotation.getAnnotation(name, (Class<Annotation>) type);
+			}
+			if (type.isArray() && type.componentType().isAnnotation()) {
+				return annotation.getAnnotationArray(name, (Class<Annotation>) type.componentType());
+			}
+			return annotation.getValue(name).orElseThrow();
+		}
+
+		private void writeValue(Object value) throws IOException {
+			if (value instanceof String string) {
+				this.out.writeByte(STRING);
+				writeString(string);
+			}
+			else if (value instanceof Boolean bool) {
+				this.out.writeByte(BOOLEAN);
+				this.out.writeBoolean(bool);
+			}
+			else if (value instanceof Byte number) {
+				this.out.writeByte(BYTE);
+				this.out.writeByte(number);
+			}
+			else if (value instanceof Character character) {
+				this.out.writeByte(CHAR);
+				this.out.writeChar(character);
+			}
+			else if (value instanceof Short number) {
+				this.out.writeByte(SHORT);
+				this.out.writeShort(number);
+			}
+			else if (value instanceof Integer number) {
+				this.out.writeByte(INT);
+				this.out.writeInt(number);
+			}
+			else if (value instanceof Long number) {
+				this.out.writeByte(LONG);
+				this.out.writeLong(number);
+			}
+			else if (value instanceof Float number) {
+				this.out.writeByte(FLOAT);
+				this.out.writeFloat(number);
+			}
+			else if (value instanceof Double number) {
+				this.out.writeByte(DOUBLE);
+				this.out.writeDouble(number);
+			}
+			else if (value instanceof Enum<?> enumValue) {
+				this.out.writeByte(ENUM);
+				writeString(enumValue.getDeclaringClass().getName());
+				writeString(enumValue.name());
+			}
+			else if (value instanceof MergedAnnotation<?> annotation) {
+				this.out.writeByte(ANNOTATION);
+				writeAnnotation(annotation);
+			}
+			else if (value.getClass().isArray()) {
+				this.out.writeByte(ARRAY);
+				writeString(value.getClass().componentType().getName());
+				int length = Array.getLength(value);
+				writeVarInt(this.out, length);
+				for (int i = 0; i < length; i++) {
+					writeValue(Array.get(value, i));
+				}
+			}
+			else {
+				throw new IllegalArgumentException("Unsupported attribute value type: " + value.getClass().getName());
+			}
+		}
+
+		private void writeStrings(String[] values) throws IOException {
+			writeVarInt(this.out, values.length);
+			for (String value : values) {
+				writeString(value);
+			}
+		}
+
+		private void writeString(@Nullable String value) throws IOException {
+			writeVarInt(this.out, (value != null ? addString(value) + 1 : 0));
+		}
+	}
+
+
+	/**
+	 * Reads class metadata, resolving strings against the enclosing cache.
+	 */
+	private class Decoder {
+
+		private final DataInputStream in;
+
+		@Nullable
+		private final ClassLoader classLoader;
+
+		Decoder(DataInputStream in, @Nullable ClassLoader classLoader) {
+			this.in = in;
+			this.classLoader = classLoader;
+		}
+
+		SimpleAnnotationMetadata readClass() throws IOException {
+			String className = readRequiredString();
+			int access = readVarInt(this.in);
+			String enclosingClassName = readString();
+			String superClassName = readString();
+			boolean independentInnerClass = this.in.readBoolean();
+			Set<String> interfaceNames = readStrings();
+			Set<String> memberClassNames = readStrings();
+			MergedAnnotations annotations =
+					readAnnotations(new SimpleAnnotationMetadataReadingVisitor.Source(className));
+			int methodCount = readVarInt(this.in);
+			Set<MethodMetadata> declaredMethods = new LinkedHashSet<>(Math.max(methodCount, 4));
+			for (int i = 0; i < methodCount; i++) {
+				String methodName = readRequiredString();
+				int methodAccess = readVarInt(this.in);
+				String descriptor = readRequiredString();
+				Object source = new SimpleMethodMetadataReadingVisitor.Source(className, methodName, descriptor);
+				String returnTypeName = Type.getReturnType(descriptor).getClassName();
+				declaredMethods.add(new SimpleMethodMetadata(methodName, methodAccess, className,
+						returnTypeName, source, readAnnotations(source)));
+			}
+			return new SimpleAnnotationMetadata(className, access, enclosingClassName, superClassName,
+					independentInnerClass, interfaceNames, memberClassNames, declaredMethods, annotations);
+		}
+
+		private MergedAnnotations readAnnotations(Object source) throws IOException {
+			int count = readVarInt(this.in);
+			List<MergedAnnotation<?>> annotations = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				byte[] bytes = new byte[readVarInt(this.in)];
+				this.in.readFully(bytes);
+				Decoder decoder = new Decoder(new DataInputStream(new ByteArrayInputStream(bytes)), this.classLoader);
+				String typeName = decoder.readRequiredString();
+				Class<? extends Annotation> type;
+				try {
+					type = resolveAnnotationType(typeName);
+				}
+				catch (ClassNotFoundException | LinkageError ex) {
+					// Skip annotation type not present, as for metadata read through ASM
+					continue;
+				}
+				annotations.add(decoder.readAnnotation(source, type));
+			}
+			return MergedAnnotations.of(annotations);
+		}
+
+		private MergedAnnotation<?> readAnnotation(Object source, Class<? extends Annotation> type)
+				throws IOException {
+
+			int count = readVarInt(this.in);
+			Map<String, Object> attributes = new LinkedHashMap<>(count);
+			for (int i = 0; i < count; i++) {
+				String name = readRequiredString();
+				attributes.put(name, readValue(source));
+			}
+			return MergedAnnotation.of(this.classLoader, source, type, attributes);
+		}
+
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		private Object readValue(Object source) throws IOException {
+			byte tag = this.in.readByte();
+			return switch (tag) {
+				case STRING -> readRequiredString();
+				case BOOLEAN -> this.in.readBoolean();
+				case BYTE -> this.in.readByte();
+				case CHAR -> this.in.readChar();
+				case SHORT -> this.in.readShort();
+				case INT -> this.in.readInt();
+				case LONG -> this.in.readLong();
+				case FLOAT -> this.in.readFloat();
+				case DOUBLE -> this.in.readDouble();
+				case ENUM -> {
+					Class enumType = ClassUtils.resolveClassName(readRequiredString(), this.classLoader);
+					yield Enum.valueOf(enumType, readRequiredString());
+				}
+				case ANNOTATION -> {
+					Class<? extends Annotation> type;
+					try {
+						type = resolveAnnotationType(readRequiredString());
+					}
+					catch (ClassNotFoundException ex) {
+						throw new IllegalStateException(ex);
+					}
+					yield readAnnotation(source, type);
+				}
+				case ARRAY -> {
+					Class<?> componentType = ClassUtils.resolveClassName(readRequiredString(), this.classLoader);
+					int length = readVarInt(this.in);
+					Object array = Array.newInstance(componentType, length);
+					for (int i = 0; i < length; i++) {
+						Array.set(array, i, readValue(source));
+					}
+					yield array;
+				}
+				default -> throw new IOException("Unknown attribute value tag: " + tag);
+			};
+		}
+
+		@SuppressWarnings("unchecked")
+		private Class<? extends Annotation> resolveAnnotationType(String typeName) throws ClassNotFoundException {
+			return (Class<? extends Annotation>) ClassUtils.forName(typeName, this.classLoader);
+		}
+
+		private Set<String> readStrings() throws IOException {
+			int count = readVarInt(this.in);
+			Set<String> values = new LinkedHashSet<>(Math.max(count, 4));
+			for (int i = 0; i < count; i++) {
+				values.add(readRequiredString());
+			}
+			return values;
+		}
+
+		private String readRequiredString() throws IOException {
+			String value = readString();
+			if (value == null) {
+				throw new IOException("Unexpected null string");
+			}
+			return value;
+		}
+
+		@Nullable
+		private String readString() throws IOException {
+			int index = readVarInt(this.in);
+			return (index != 0 ? JarMetadataCache.this.strings.get(index - 1) : null);
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * {@link CachingMetadataReaderFactory} that additionally keeps the metadata
+ * of classes in jar files in a file-backed cache, allowing classpath scanning
+ * to skip ASM parsing for unchanged jar files across JVM restarts.
+ *
+ * <p>The cache directory holds one cache file per jar file, storing the parsed
+ * metadata in a compact binary format. A cache file is only used as long as
+ * its jar file is unchanged, as determined by the size, the last-modified
+ * timestamp and - in case of a different timestamp - the CRC-32 checksum of
+ * the jar file. Classes in file system directories are always parsed through
+ * ASM since they are usually subject to change.
+ *
+ * <p>Metadata read through ASM is added to the cache files on {@link #flush()},
+ * which is also triggered by {@link #clearCache()}. Any failure to read or
+ * write a cache file leads to the metadata being read through ASM again.
+ *
+ * <p>Note that the cache assumes an unchanged set of resolvable annotation
+ * types: annotations whose types could not be resolved when reading a class
+ * are not stored and remain absent as long as the jar file is unchanged.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @see #CACHE_DIRECTORY_PROPERTY_NAME
+ */
+public class PersistentCachingMetadataReaderFactory extends CachingMetadataReaderFactory {
+
+	/**
+	 * System property that specifies a directory for caching the metadata
+	 * of scanned classes in jar files across JVM restarts, in particular for
+	 * classpath scanning through {@code ClassPathScanningCandidateComponentProvider}.
+	 * By default, no persistent cache is used.
+	 * <p>May alternatively be configured via a {@code spring.properties} file
+	 * in the root of the classpath.
+	 * @see org.springframework.core.SpringProperties
+	 */
+	public static final String CACHE_DIRECTORY_PROPERTY_NAME = "spring.metadata.cache.dir";
+
+	private static final String CACHE_FILE_SUFFIX = ".metadata";
+
+	private static final Log logger = LogFactory.getLog(PersistentCachingMetadataReaderFactory.class);
+
+
+	private final File cacheDirectory;
+
+	private final Map<File, JarMetadataCache> jarCaches = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Create a new PersistentCachingMetadataReaderFactory for the default
+	 * class loader, using a local resource cache.
+	 * @param cacheDirectory the directory to store cache files in
+	 */
+	public PersistentCachingMetadataReaderFactory(File cacheDirectory) {
+		super();
+		Assert.notNull(cacheDirectory, "Cache directory must not be null");
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Create a new PersistentCachingMetadataReaderFactory for the given
+	 * {@link ClassLoader}, using a local resource cache.
+	 * @param classLoader the ClassLoader to use
+	 * @param cacheDirectory the directory to store cache files in
+	 */
+	public PersistentCachingMetadataReaderFactory(@Nullable ClassLoader classLoader, File cacheDirectory) {
+		super(classLoader);
+		Assert.notNull(cacheDirectory, "Cache directory must not be null");
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Create a new PersistentCachingMetadataReaderFactory for the given
+	 * {@link ResourceLoader}, using a shared resource cache if supported
+	 * or a local resource cache otherwise.
+	 * @param resourceLoader the Spring ResourceLoader to use
+	 * (also determines the ClassLoader to use)
+	 * @param cacheDirectory the directory to store cache files in
+	 */
+	public PersistentCachingMetadataReaderFactory(@Nullable ResourceLoader resourceLoader, File cacheDirectory) {
+		super(resourceLoader);
+		Assert.notNull(cacheDirectory, "Cache directory must not be null");
+		this.cacheDirectory = cacheDirectory;
+	}
+
+
+	/**
+	 * Return the directory that cache files are stored in.
+	 */
+	public final File getCacheDirectory() {
+		return this.cacheDirectory;
+	}
+
+
+	@Override
+	protected MetadataReader createMetadataReader(Resource resource) throws IOException {
+		URL url = (resource.isFile() ? null : getJarEntryUrl(resource));
+		if (url == null) {
+			return super.createMetadataReader(resource);
+		}
+		File jarFile = ResourceUtils.getFile(ResourceUtils.extractJarFileURL(url));
+		String urlFile = url.getFile();
+		String entryName = urlFile.substring(
+				urlFile.indexOf(ResourceUtils.JAR_URL_SEPARATOR) + ResourceUtils.JAR_URL_SEPARATOR.length());
+		JarMetadataCache jarCache = this.jarCaches.computeIfAbsent(jarFile,
+				file -> JarMetadataCache.load(file, getCacheFile(file)));
+		SimpleAnnotationMetadata metadata = jarCache.get(entryName, getResourceLoader().getClassLoader());
+		if (metadata != null) {
+			return new SimpleMetadataReader(resource, metadata);
+		}
+		MetadataReader metadataReader = super.createMetadataReader(resource);
+		if (metadataReader.getAnnotationMetadata() instanceof SimpleAnnotationMetadata simpleMetadata) {
+			jarCache.put(entryName, simpleMetadata);
+		}
+		return metadataReader;
+	}
+
+	/**
+	 * Write the metadata read through ASM since the last flush to the
+	 * corresponding cache files.
+	 * <p>Failures are logged and otherwise ignored since the cache files
+	 * are an optimization only.
+	 */
+	public void flush() {
+		for (Map.Entry<File, JarMetadataCache> entry : this.jarCaches.entrySet()) {
+			try {
+				entry.getValue().flush();
+			}
+			catch (IOException ex) {
+				if (logger.isInfoEnabled()) {
+					logger.info("Failed to write metadata cache file for " + entry.getKey() + ": " + ex);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Flush the cache files and clear the in-memory caches, removing all
+	 * cached class metadata from memory.
+	 * @see #flush()
+	 */
+	@Override
+	public void clearCache() {
+		flush();
+		this.jarCaches.clear();
+		super.clearCache();
+	}
+
+	/**
+	 * Determine the cache file for the given jar file.
+	 * <p>The default implementation combines the name of the jar file with
+	 * a hash of its path, in the {@linkplain #getCacheDirectory() cache directory}.
+	 * @param jarFile the jar file to determine the cache file for
+	 * @return the cache file (which does not need to exist yet)
+	 */
+	protected File getCacheFile(File jarFile) {
+		String pathHash = DigestUtils.md5DigestAsHex(jarFile.getPath().getBytes(StandardCharsets.UTF_8));
+		return new File(this.cacheDirectory, jarFile.getName() + '-' + pathHash + CACHE_FILE_SUFFIX);
+	}
+
+
+	/**
+	 * Return the URL of the given resource if it points to an entry in a
+	 * jar file in the file system.
+	 */
+	@Nullable
+	private static URL getJarEntryUrl(Resource resource) {
+		try {
+			URL url = resource.getURL();
+			if (ResourceUtils.URL_PROTOCOL_JAR.equals(url.getProtocol()) &&
+					url.getFile().contains(ResourceUtils.JAR_URL_SEPARATOR) &&
+					ResourceUtils.isFileURL(ResourceUtils.extractJarFileURL(url))) {
+				return url;
+			}
+		}
+		catch (IOException ex) {
+			// Not resolvable as URL -> no persistent caching
+		}
+		return null;
+	}
+
+}
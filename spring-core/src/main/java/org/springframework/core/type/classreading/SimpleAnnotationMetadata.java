@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -161,6 +161,10 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 		return Collections.unmodifiableSet(this.declaredMethods);
 	}
 
+	int getAccess() {
+		return this.access;
+	}
+
 
 	@Override
 	public boolean equals(@Nullable Object other) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
@@ -56,6 +57,9 @@ public final class ConcurrentLruCache<K, V> {
 
 	private final Function<K, V> generator;
 
+	@Nullable
+	private final BiConsumer<K, V> evictionCallback;
+
 	private final ReadOperations<K, V> readOperations;
 
 	private final WriteOperations writeOperations;
@@ -77,14 +81,31 @@ public final class ConcurrentLruCache<K, V> {
 	 * @param generator a function to generate a new value for a given key
 	 */
 	public ConcurrentLruCache(int capacity, Function<K, V> generator) {
-		this(capacity, generator, 16);
+		this(capacity, generator, null, 16);
 	}
 
-	private ConcurrentLruCache(int capacity, Function<K, V> generator, int concurrencyLevel) {
+	/**
+	 * Create a new cache instance with the given capacity and generator function,
+	 * notifying the given callback of entries evicted due to the capacity limit.
+	 * @param capacity the maximum number of entries in the cache
+	 * (0 indicates no caching, always generating a new value)
+	 * @param generator a function to generate a new value for a given key
+	 * @param evictionCallback a callback for evicted entries, invoked while
+	 * holding the internal eviction lock (it should therefore return quickly)
+	 * @since 6.2
+	 */
+	public ConcurrentLruCache(int capacity, Function<K, V> generator, @Nullable BiConsumer<K, V> evictionCallback) {
+		this(capacity, generator, evictionCallback, 16);
+	}
+
+	private ConcurrentLruCache(int capacity, Function<K, V> generator,
+			@Nullable BiConsumer<K, V> evictionCallback, int concurrencyLevel) {
+
 		Assert.isTrue(capacity >= 0, "Capacity must be >= 0");
 		this.capacity = capacity;
 		this.cache = new ConcurrentHashMap<>(16, 0.75f, concurrencyLevel);
 		this.generator = generator;
+		this.evictionCallback = evictionCallback;
 		this.readOperations = new ReadOperations<>(this.evictionQueue);
 		this.writeOperations = new WriteOperations();
 	}
@@ -101,24 +122,74 @@ public final class ConcurrentLruCache<K, V> {
 		final Node<K, V> node = this.cache.get(key);
 		if (node == null) {
 			V value = this.generator.apply(key);
-			put(key, value);
+			putIfAbsent(key, value);
 			return value;
 		}
 		processRead(node);
 		return node.getValue();
 	}
 
-	private void put(K key, V value) {
+	/**
+	 * Retrieve an entry from the cache, without triggering generation of the value.
+	 * @param key the key to retrieve the entry for
+	 * @return the cached value, or {@code null} if none
+	 * @since 6.2
+	 */
+	@Nullable
+	public V getIfPresent(K key) {
+		final Node<K, V> node = this.cache.get(key);
+		if (node == null) {
+			return null;
+		}
+		processRead(node);
+		return node.getValue();
+	}
+
+	/**
+	 * Associate the given value with the given key, replacing any existing entry.
+	 * @param key the key to store the value for
+	 * @param value the value to store
+	 * @since 6.2
+	 */
+	public void put(K key, V value) {
 		Assert.notNull(key, "key must not be null");
 		Assert.notNull(value, "value must not be null");
+		if (this.capacity == 0) {
+			return;
+		}
+		final Node<K, V> node = new Node<>(key, new CacheEntry<>(value, CacheEntryState.ACTIVE));
+		final Node<K, V> prior = this.cache.put(key, node);
+		if (prior != null) {
+			markForRemoval(prior);
+			processWrite(new RemovalTask(prior));
+		}
+		processWrite(new AddTask(node));
+	}
+
+	/**
+	 * Associate the given value with the given key, unless an entry exists already.
+	 * @param key the key to store the value for
+	 * @param value the value to store
+	 * @return the existing value, or {@code null} if the given value was stored
+	 * @since 6.2
+	 */
+	@Nullable
+	public V putIfAbsent(K key, V value) {
+		Assert.notNull(key, "key must not be null");
+		Assert.notNull(value, "value must not be null");
+		if (this.capacity == 0) {
+			return null;
+		}
 		final CacheEntry<V> cacheEntry = new CacheEntry<>(value, CacheEntryState.ACTIVE);
 		final Node<K, V> node = new Node<>(key, cacheEntry);
 		final Node<K, V> prior = this.cache.putIfAbsent(node.key, node);
 		if (prior == null) {
 			processWrite(new AddTask(node));
+			return null;
 		}
 		else {
 			processRead(prior);
+			return prior.getValue();
 		}
 	}
 
@@ -200,6 +271,9 @@ public final class ConcurrentLruCache<K, V> {
 	private void markAsRemoved(Node<K, V> node) {
 		for (; ; ) {
 			CacheEntry<V> current = node.get();
+			if (current.state == CacheEntryState.REMOVED) {
+				return;
+			}
 			CacheEntry<V> removed = new CacheEntry<>(current.value, CacheEntryState.REMOVED);
 			if (node.compareAndSet(current, removed)) {
 				this.currentSize.lazySet(this.currentSize.get() - 1);
@@ -234,6 +308,25 @@ public final class ConcurrentLruCache<K, V> {
 		return true;
 	}
 
+	/**
+	 * Immediately remove the given key and any associated value,
+	 * provided that the key is currently mapped to the given value.
+	 * @param key the key to evict the entry for
+	 * @param value the value expected to be associated with the key
+	 * @return {@code true} if the entry has been removed,
+	 * {@code false} if there was no such entry or a different value
+	 * @since 6.2
+	 */
+	public boolean remove(K key, V value) {
+		final Node<K, V> node = this.cache.get(key);
+		if (node == null || !ObjectUtils.nullSafeEquals(node.getValue(), value) || !this.cache.remove(key, node)) {
+			return false;
+		}
+		markForRemoval(node);
+		processWrite(new RemovalTask(node));
+		return true;
+	}
+
 	/*
 	 * Transition the node from the {@code active} state to the {@code pending removal} state,
 	 * if the transition is valid.
@@ -276,8 +369,11 @@ public final class ConcurrentLruCache<K, V> {
 				if (node == null) {
 					return;
 				}
-				cache.remove(node.key, node);
+				boolean evicted = cache.remove(node.key, node);
 				markAsRemoved(node);
+				if (evicted && evictionCallback != null) {
+					evictionCallback.accept(node.key, node.getValue());
+				}
 			}
 		}
 
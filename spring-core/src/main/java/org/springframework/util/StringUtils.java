@@ -282,7 +282,7 @@ public abstract class StringUtils {
 	 * @see java.lang.Character#isWhitespace
 	 */
 	public static String trimAllWhitespace(String str) {
-		if (!hasLength(str)) {
+		if (!containsWhitespace(str)) {
 			return str;
 		}
 
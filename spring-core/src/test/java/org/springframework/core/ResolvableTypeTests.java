@@ -433,6 +433,19 @@ class ResolvableTypeTests {
 		assertThat(type).isSameAs(ResolvableType.NONE);
 	}
 
+	@Test
+	void asFromPlainClassIsCached() {
+		ResolvableType type = ResolvableType.forClass(ExtendsList.class).as(List.class);
+		assertThat(ResolvableType.forClass(ExtendsList.class).as(List.class)).isSameAs(type);
+		assertThat(ResolvableType.forClass(ExtendsList.class).as(Map.class)).isSameAs(ResolvableType.NONE);
+		assertThat(type.resolveGeneric()).isEqualTo(CharSequence.class);
+
+		ResolvableType.clearCache();
+		ResolvableType recomputed = ResolvableType.forClass(ExtendsList.class).as(List.class);
+		assertThat(recomputed).isNotSameAs(type).isEqualTo(type);
+		assertThat(ResolvableType.forRawClass(ExtendsList.class).as(List.class)).isNotSameAs(recomputed);
+	}
+
 	@Test
 	void asSelf() {
 		ResolvableType type = ResolvableType.forClass(ExtendsList.class);
@@ -141,6 +141,29 @@ class GenericConversionServiceTests {
 				conversionService.convert("3", Integer.class));
 	}
 
+	@Test
+	void converterNotFoundIsNotCachedAcrossConverterRegistration() {
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() ->
+				conversionService.convert("3", Integer.class));
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		assertThat(conversionService.convert("3", Integer.class)).isEqualTo(3);
+		assertThat(conversionService.convert("4", int.class)).isEqualTo(4);
+		conversionService.removeConvertible(String.class, Number.class);
+		assertThat(conversionService.canConvert(String.class, Integer.class)).isFalse();
+	}
+
+	@Test
+	void classBasedVariantsDelegateToOverriddenTypeDescriptorVariants() {
+		TypeDescriptorRecordingConversionService conversionService = new TypeDescriptorRecordingConversionService();
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+
+		assertThat(conversionService.canConvert(String.class, Integer.class)).isTrue();
+		assertThat(conversionService.convert("3", Integer.class)).isEqualTo(3);
+		assertThat(conversionService.convert("4", Integer.class)).isEqualTo(4);
+		assertThat(conversionService.calls).containsExactly(
+				"canConvert java.lang.Integer", "convert java.lang.Integer", "convert java.lang.Integer");
+	}
+
 	@Test
 	void addConverterNoSourceTargetClassInfoAvailable() {
 		assertThatIllegalArgumentException().isThrownBy(() ->
@@ -594,6 +617,25 @@ class GenericConversionServiceTests {
 	}
 
 
+	private static class TypeDescriptorRecordingConversionService extends GenericConversionService {
+
+		final List<String> calls = new ArrayList<>();
+
+		@Override
+		public boolean canConvert(@Nullable TypeDescriptor sourceType, TypeDescriptor targetType) {
+			this.calls.add("canConvert " + targetType);
+			return super.canConvert(sourceType, targetType);
+		}
+
+		@Override
+		@Nullable
+		public Object convert(@Nullable Object source, @Nullable TypeDescriptor sourceType, TypeDescriptor targetType) {
+			this.calls.add("convert " + targetType);
+			return super.convert(source, sourceType, targetType);
+		}
+	}
+
+
 	private interface MyBaseInterface {
 	}
 
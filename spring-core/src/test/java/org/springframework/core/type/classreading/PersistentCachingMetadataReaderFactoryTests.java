@@ -0,0 +1,226 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.type.AbstractAnnotationMetadataTests;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentCachingMetadataReaderFactory}, running the common
+ * metadata tests against metadata restored from a cache file.
+ */
+class PersistentCachingMetadataReaderFactoryTests extends AbstractAnnotationMetadataTests {
+
+	@TempDir
+	File tempDir;
+
+
+	@Override
+	protected AnnotationMetadata get(Class<?> source) {
+		try {
+			File jarFile = createJar(source);
+			Resource resource = getResource(jarFile, source);
+			PersistentCachingMetadataReaderFactory factory = createFactory();
+			AnnotationMetadata parsedMetadata = factory.getMetadataReader(resource).getAnnotationMetadata();
+			factory.clearCache();
+			assertThat(loadJarCache(jarFile).size()).isEqualTo(1);
+			AnnotationMetadata cachedMetadata = createFactory().getMetadataReader(resource).getAnnotationMetadata();
+			assertThat(cachedMetadata).isNotSameAs(parsedMetadata).isEqualTo(parsedMetadata);
+			return cachedMetadata;
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Test
+	void restoresAttributeValuesOfAllTypes() {
+		AnnotationMetadata metadata = get(AnnotatedWithAllTypes.class);
+		assertThat(metadata.getAnnotations().get(AllTypes.class).synthesize())
+				.isEqualTo(AnnotatedWithAllTypes.class.getAnnotation(AllTypes.class));
+		MethodMetadata method = metadata.getAnnotatedMethods(AllTypes.class.getName()).iterator().next();
+		assertThat(method.getMethodName()).isEqualTo("annotatedMethod");
+		assertThat(method.getReturnTypeName()).isEqualTo("java.lang.String[]");
+		assertThat(method.getAnnotations().get(AllTypes.class).synthesize())
+				.isEqualTo(ClassUtils.getMethod(AnnotatedWithAllTypes.class, "annotatedMethod", int.class)
+						.getAnnotation(AllTypes.class));
+		assertThat(method).isEqualTo(new SimpleMetadataReaderFactory()
+				.getMetadataReader(AnnotatedWithAllTypes.class.getName()).getAnnotationMetadata()
+				.getAnnotatedMethods(AllTypes.class.getName()).iterator().next());
+	}
+
+	@Test
+	void cacheIsValidForJarWithDifferentTimestampButSameContent() throws IOException {
+		File jarFile = createJar(AnnotatedWithAllTypes.class);
+		populateCache(jarFile);
+		assertThat(jarFile.setLastModified(jarFile.lastModified() - 60_000)).isTrue();
+		assertThat(loadJarCache(jarFile).size()).isEqualTo(1);
+	}
+
+	@Test
+	void cacheIsInvalidForChangedJar() throws IOException {
+		File jarFile = createJar(AnnotatedWithAllTypes.class);
+		populateCache(jarFile);
+		long lastModified = jarFile.lastModified();
+		try (OutputStream out = Files.newOutputStream(jarFile.toPath())) {
+			writeJar(out, AnnotatedWithAllTypes.class, AllTypes.class);
+		}
+		assertThat(jarFile.setLastModified(lastModified)).isTrue();
+		assertThat(loadJarCache(jarFile).size()).isZero();
+	}
+
+	@Test
+	void corruptCacheFileIsIgnored() throws IOException {
+		File jarFile = createJar(AnnotatedWithAllTypes.class);
+		PersistentCachingMetadataReaderFactory factory = createFactory();
+		Files.createDirectories(factory.getCacheDirectory().toPath());
+		Files.writeString(factory.getCacheFile(jarFile).toPath(), "corrupt");
+		Resource resource = getResource(jarFile, AnnotatedWithAllTypes.class);
+		assertThat(factory.getMetadataReader(resource).getClassMetadata().getClassName())
+				.isEqualTo(AnnotatedWithAllTypes.class.getName());
+		factory.flush();
+		assertThat(loadJarCache(jarFile).size()).isEqualTo(1);
+	}
+
+	@Test
+	void classesInDirectoriesAreNotCached() throws IOException {
+		PersistentCachingMetadataReaderFactory factory = createFactory();
+		factory.getMetadataReader(AnnotatedWithAllTypes.class.getName());
+		factory.flush();
+		assertThat(factory.getCacheDirectory()).doesNotExist();
+	}
+
+
+	private PersistentCachingMetadataReaderFactory createFactory() {
+		return new PersistentCachingMetadataReaderFactory(getClass().getClassLoader(), new File(this.tempDir, "cache"));
+	}
+
+	private void populateCache(File jarFile) throws IOException {
+		PersistentCachingMetadataReaderFactory factory = createFactory();
+		factory.getMetadataReader(getResource(jarFile, AnnotatedWithAllTypes.class));
+		factory.flush();
+		assertThat(loadJarCache(jarFile).size()).isEqualTo(1);
+	}
+
+	private JarMetadataCache loadJarCache(File jarFile) {
+		return JarMetadataCache.load(jarFile, createFactory().getCacheFile(jarFile));
+	}
+
+	private File createJar(Class<?> source) throws IOException {
+		File jarFile = new File(this.tempDir, source.getSimpleName() + ".jar");
+		try (OutputStream out = Files.newOutputStream(jarFile.toPath())) {
+			writeJar(out, source);
+		}
+		return jarFile;
+	}
+
+	private static void writeJar(OutputStream out, Class<?>... sources) throws IOException {
+		try (JarOutputStream jar = new JarOutputStream(out)) {
+			for (Class<?> source : sources) {
+				String entryName = ClassUtils.convertClassNameToResourcePath(source.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+				jar.putNextEntry(new JarEntry(entryName));
+				try (InputStream in = source.getClassLoader().getResourceAsStream(entryName)) {
+					in.transferTo(jar);
+				}
+				jar.closeEntry();
+			}
+		}
+	}
+
+	private static Resource getResource(File jarFile, Class<?> source) throws IOException {
+		return new UrlResource("jar:" + jarFile.toURI() + "!/" +
+				ClassUtils.convertClassNameToResourcePath(source.getName()) + ClassUtils.CLASS_FILE_SUFFIX);
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Nested {
+
+		String value() default "";
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface AllTypes {
+
+		String string() default "";
+
+		boolean bool() default false;
+
+		byte byteValue() default 0;
+
+		char charValue() default ' ';
+
+		short shortValue() default 0;
+
+		int intValue() default 0;
+
+		long longValue() default 0;
+
+		float floatValue() default 0;
+
+		double doubleValue() default 0;
+
+		Class<?> type() default Object.class;
+
+		ElementType enumValue() default ElementType.TYPE;
+
+		Nested nested() default @Nested;
+
+		String[] strings() default {};
+
+		int[] ints() default {};
+
+		Class<?>[] types() default {};
+
+		ElementType[] enumValues() default {};
+
+		Nested[] nestedValues() default {};
+	}
+
+	@AllTypes(string = "s", bool = true, byteValue = 1, charValue = 'c', shortValue = 2, intValue = 3,
+			longValue = 4, floatValue = 5.5f, doubleValue = 6.6, type = String.class, enumValue = ElementType.FIELD,
+			nested = @Nested("n"), strings = {"a", "b"}, ints = {1, 2}, types = {String.class, int[].class},
+			enumValues = {ElementType.METHOD, ElementType.FIELD}, nestedValues = {@Nested("x"), @Nested})
+	static class AnnotatedWithAllTypes {
+
+		@AllTypes(intValue = 1, strings = {}, nestedValues = @Nested("y"))
+		public String[] annotatedMethod(int value) {
+			return new String[0];
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package org.springframework.util;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,4 +111,60 @@ class ConcurrentLruCacheTests {
 		assertThat(this.cache.contains("k3")).isTrue();
 	}
 
+	@Test
+	void getIfPresentDoesNotGenerate() {
+		assertThat(this.cache.getIfPresent("k1")).isNull();
+		assertThat(this.cache.size()).isZero();
+		assertThat(this.cache.get("k1")).isEqualTo("k1value");
+		assertThat(this.cache.getIfPresent("k1")).isEqualTo("k1value");
+	}
+
+	@Test
+	void putReplacesExistingEntry() {
+		this.cache.put("k1", "v1");
+		this.cache.put("k1", "v2");
+		assertThat(this.cache.getIfPresent("k1")).isEqualTo("v2");
+		assertThat(this.cache.size()).isEqualTo(1);
+		assertThat(this.cache.get("k1")).isEqualTo("v2");
+	}
+
+	@Test
+	void putIfAbsentKeepsExistingEntry() {
+		assertThat(this.cache.putIfAbsent("k1", "v1")).isNull();
+		assertThat(this.cache.putIfAbsent("k1", "v2")).isEqualTo("v1");
+		assertThat(this.cache.getIfPresent("k1")).isEqualTo("v1");
+	}
+
+	@Test
+	void removeOnlyIfMappedToGivenValue() {
+		this.cache.put("k1", "v1");
+
+		assertThat(this.cache.remove("k1", "v2")).isFalse();
+		assertThat(this.cache.getIfPresent("k1")).isEqualTo("v1");
+		assertThat(this.cache.remove("k1", "v1")).isTrue();
+		assertThat(this.cache.contains("k1")).isFalse();
+		assertThat(this.cache.size()).isZero();
+		assertThat(this.cache.remove("k1", "v1")).isFalse();
+	}
+
+	@Test
+	void evictionCallback() {
+		List<String> evicted = new ArrayList<>();
+		ConcurrentLruCache<String, String> cache =
+				new ConcurrentLruCache<>(2, key -> key + "value", (key, value) -> evicted.add(key + "=" + value));
+
+		cache.put("k1", "v1");
+		cache.put("k2", "v2");
+		cache.getIfPresent("k1");
+		cache.put("k3", "v3");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.contains("k1")).isTrue();
+		assertThat(cache.contains("k3")).isTrue();
+		assertThat(evicted).containsExactly("k2=v2");
+
+		cache.remove("k1");
+		assertThat(evicted).containsExactly("k2=v2");
+	}
+
 }
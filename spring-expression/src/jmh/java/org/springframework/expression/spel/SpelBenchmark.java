@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -103,4 +103,35 @@ public class SpelBenchmark {
 		return data.expression.getValue(data.context);
 	}
 
+	@State(Scope.Benchmark)
+	public static class ContextBenchmarkData {
+
+		public StandardEvaluationContext originalContext = new StandardEvaluationContext();
+
+		public StandardEvaluationContext reusedContext = new StandardEvaluationContext();
+
+		public Expression expression;
+
+		public Object rootObject = new Object[] {"key", 42};
+
+		public ContextBenchmarkData() {
+			this.originalContext.applyDelegatesTo(this.reusedContext);
+			this.expression = new SpelExpressionParser().parseExpression("#root[0] + '-' + #root[1]");
+		}
+	}
+
+	@Benchmark
+	public Object getValueWithNewContext(ContextBenchmarkData data) {
+		StandardEvaluationContext context = new StandardEvaluationContext(data.rootObject);
+		data.originalContext.applyDelegatesTo(context);
+		return data.expression.getValue(context);
+	}
+
+	@Benchmark
+	public Object getValueWithReusedContext(ContextBenchmarkData data) {
+		StandardEvaluationContext context = data.reusedContext;
+		context.setRootObject(data.rootObject);
+		return data.expression.getValue(context);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2014 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,19 @@ public enum SpelCompilerMode {
 	 * type information changing) then that will be caught internally and the system switches back to
 	 * interpreted mode. It may subsequently compile it again later.
 	 */
-	MIXED
+	MIXED,
+
+	/**
+	 * In tiered mode, expressions are interpreted first and get compiled once they
+	 * have been evaluated a number of times. The compiled form is guarded by the
+	 * type of the root object it has been compiled for: if a different root object
+	 * type is observed, or if the compiled form fails, the expression switches back
+	 * to interpreted mode and gets recompiled for the newly observed types once it
+	 * is hot again. As in {@link #MIXED} mode, an expression that keeps failing to
+	 * compile, or keeps getting switched back for changing types, eventually stays
+	 * in interpreted mode.
+	 * @since 6.2
+	 */
+	TIERED
 
 }
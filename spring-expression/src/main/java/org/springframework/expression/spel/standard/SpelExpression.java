@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -70,6 +70,11 @@ public class SpelExpression implements Expression {
 	@Nullable
 	private volatile CompiledExpression compiledAst;
 
+	// The root object type that the compiled form has been generated for in tiered mode,
+	// or null if not guarded by the root object type
+	@Nullable
+	private volatile Class<?> compiledRootType;
+
 	// Count of many times as the expression been interpreted - can trigger compilation
 	// when certain limit reached
 	private final AtomicInteger interpretedCount = new AtomicInteger();
@@ -119,19 +124,15 @@ public class SpelExpression implements Expression {
 	@Override
 	@Nullable
 	public Object getValue() throws EvaluationException {
-		CompiledExpression compiledAst = this.compiledAst;
+		CompiledExpression compiledAst = getCompiledAst(getEvaluationContext().getRootObject().getValue());
 		if (compiledAst != null) {
 			try {
 				EvaluationContext context = getEvaluationContext();
 				return compiledAst.getValue(context.getRootObject().getValue(), context);
 			}
 			catch (Throwable ex) {
-				// If running in mixed mode, revert to interpreted
-				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
-				}
-				else {
+				// If running in mixed or tiered mode, revert to interpreted
+				if (!revertToInterpretedOnFailure()) {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
 					throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION);
 				}
@@ -148,7 +149,7 @@ public class SpelExpression implements Expression {
 	@Override
 	@Nullable
 	public <T> T getValue(@Nullable Class<T> expectedResultType) throws EvaluationException {
-		CompiledExpression compiledAst = this.compiledAst;
+		CompiledExpression compiledAst = getCompiledAst(getEvaluationContext().getRootObject().getValue());
 		if (compiledAst != null) {
 			try {
 				EvaluationContext context = getEvaluationContext();
@@ -162,12 +163,8 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
-				// If running in mixed mode, revert to interpreted
-				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
-				}
-				else {
+				// If running in mixed or tiered mode, revert to interpreted
+				if (!revertToInterpretedOnFailure()) {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
 					throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION);
 				}
@@ -184,18 +181,14 @@ public class SpelExpression implements Expression {
 	@Override
 	@Nullable
 	public Object getValue(@Nullable Object rootObject) throws EvaluationException {
-		CompiledExpression compiledAst = this.compiledAst;
+		CompiledExpression compiledAst = getCompiledAst(rootObject);
 		if (compiledAst != null) {
 			try {
 				return compiledAst.getValue(rootObject, getEvaluationContext());
 			}
 			catch (Throwable ex) {
-				// If running in mixed mode, revert to interpreted
-				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
-				}
-				else {
+				// If running in mixed or tiered mode, revert to interpreted
+				if (!revertToInterpretedOnFailure()) {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
 					throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION);
 				}
@@ -213,7 +206,7 @@ public class SpelExpression implements Expression {
 	@Override
 	@Nullable
 	public <T> T getValue(@Nullable Object rootObject, @Nullable Class<T> expectedResultType) throws EvaluationException {
-		CompiledExpression compiledAst = this.compiledAst;
+		CompiledExpression compiledAst = getCompiledAst(rootObject);
 		if (compiledAst != null) {
 			try {
 				Object result = compiledAst.getValue(rootObject, getEvaluationContext());
@@ -226,12 +219,8 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
-				// If running in mixed mode, revert to interpreted
-				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
-				}
-				else {
+				// If running in mixed or tiered mode, revert to interpreted
+				if (!revertToInterpretedOnFailure()) {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
 					throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION);
 				}
@@ -251,18 +240,14 @@ public class SpelExpression implements Expression {
 	public Object getValue(EvaluationContext context) throws EvaluationException {
 		Assert.notNull(context, "EvaluationContext must not be null");
 
-		CompiledExpression compiledAst = this.compiledAst;
+		CompiledExpression compiledAst = getCompiledAst(context.getRootObject().getValue());
 		if (compiledAst != null) {
 			try {
 				return compiledAst.getValue(context.getRootObject().getValue(), context);
 			}
 			catch (Throwable ex) {
-				// If running in mixed mode, revert to interpreted
-				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
-				}
-				else {
+				// If running in mixed or tiered mode, revert to interpreted
+				if (!revertToInterpretedOnFailure()) {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
 					throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION);
 				}
@@ -281,7 +266,7 @@ public class SpelExpression implements Expression {
 	public <T> T getValue(EvaluationContext context, @Nullable Class<T> expectedResultType) throws EvaluationException {
 		Assert.notNull(context, "EvaluationContext must not be null");
 
-		CompiledExpression compiledAst = this.compiledAst;
+		CompiledExpression compiledAst = getCompiledAst(context.getRootObject().getValue());
 		if (compiledAst != null) {
 			try {
 				Object result = compiledAst.getValue(context.getRootObject().getValue(), context);
@@ -293,12 +278,8 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
-				// If running in mixed mode, revert to interpreted
-				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
-				}
-				else {
+				// If running in mixed or tiered mode, revert to interpreted
+				if (!revertToInterpretedOnFailure()) {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
 					throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION);
 				}
@@ -316,18 +297,14 @@ public class SpelExpression implements Expression {
 	public Object getValue(EvaluationContext context, @Nullable Object rootObject) throws EvaluationException {
 		Assert.notNull(context, "EvaluationContext must not be null");
 
-		CompiledExpression compiledAst = this.compiledAst;
+		CompiledExpression compiledAst = getCompiledAst(rootObject);
 		if (compiledAst != null) {
 			try {
 				return compiledAst.getValue(rootObject, context);
 			}
 			catch (Throwable ex) {
-				// If running in mixed mode, revert to interpreted
-				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
-				}
-				else {
+				// If running in mixed or tiered mode, revert to interpreted
+				if (!revertToInterpretedOnFailure()) {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
 					throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION);
 				}
@@ -348,7 +325,7 @@ public class SpelExpression implements Expression {
 
 		Assert.notNull(context, "EvaluationContext must not be null");
 
-		CompiledExpression compiledAst = this.compiledAst;
+		CompiledExpression compiledAst = getCompiledAst(rootObject);
 		if (compiledAst != null) {
 			try {
 				Object result = compiledAst.getValue(rootObject, context);
@@ -360,12 +337,8 @@ public class SpelExpression implements Expression {
 				}
 			}
 			catch (Throwable ex) {
-				// If running in mixed mode, revert to interpreted
-				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
-				}
-				else {
+				// If running in mixed or tiered mode, revert to interpreted
+				if (!revertToInterpretedOnFailure()) {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
 					throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION);
 				}
@@ -478,6 +451,51 @@ public class SpelExpression implements Expression {
 	}
 
 
+	/**
+	 * Return the compiled form of the expression to use for the given root object.
+	 * <p>In tiered mode, a compiled form generated for a different root object type
+	 * gets discarded, with the expression getting interpreted (and eventually
+	 * recompiled) for the newly observed type. Each such deoptimization counts as
+	 * a failed attempt, so that compilation gets abandoned for polymorphic sites.
+	 * @param rootObject the root object to evaluate against
+	 * @return the compiled form, or {@code null} if to be interpreted
+	 */
+	@Nullable
+	private CompiledExpression getCompiledAst(@Nullable Object rootObject) {
+		CompiledExpression compiledAst = this.compiledAst;
+		if (compiledAst != null) {
+			Class<?> compiledRootType = this.compiledRootType;
+			if (compiledRootType != null && compiledRootType != getRootType(rootObject)) {
+				// Type guard failed: operand types changed since compilation
+				deoptimize();
+				return null;
+			}
+		}
+		return compiledAst;
+	}
+
+	/**
+	 * Revert to interpreted evaluation after a failure of the compiled form,
+	 * if running in mixed or tiered mode.
+	 * @return {@code true} if reverted, {@code false} if the failure needs to be
+	 * propagated to the caller
+	 */
+	private boolean revertToInterpretedOnFailure() {
+		SpelCompilerMode compilerMode = this.configuration.getCompilerMode();
+		if (compilerMode == SpelCompilerMode.TIERED) {
+			// Presumably different operand types -> recompile once hot again,
+			// unless the expression keeps failing
+			deoptimize();
+			return true;
+		}
+		if (compilerMode == SpelCompilerMode.MIXED) {
+			this.compiledAst = null;
+			this.interpretedCount.set(0);
+			return true;
+		}
+		return false;
+	}
+
 	/**
 	 * Compile the expression if it has been evaluated more than the threshold number
 	 * of times to trigger compilation.
@@ -492,6 +510,9 @@ public class SpelExpression implements Expression {
 					compileExpression();
 				}
 			}
+			else if (compilerMode == SpelCompilerMode.TIERED) {
+				checkTieredCompile(expressionState);
+			}
 			else {
 				// compilerMode = SpelCompilerMode.MIXED
 				if (this.interpretedCount.get() > INTERPRETED_COUNT_THRESHOLD) {
@@ -501,6 +522,16 @@ public class SpelExpression implements Expression {
 		}
 	}
 
+	private void checkTieredCompile(ExpressionState expressionState) {
+		Class<?> rootType = getRootType(expressionState.getActiveContextObject().getValue());
+		if (this.interpretedCount.get() > INTERPRETED_COUNT_THRESHOLD) {
+			if (!compileExpression(rootType)) {
+				// Not compilable (yet) -> wait until hot again before the next attempt
+				this.interpretedCount.set(0);
+			}
+		}
+	}
+
 	/**
 	 * Perform expression compilation. This will only succeed once exit descriptors for
 	 * all nodes have been determined. If the compilation fails and has failed more than
@@ -508,6 +539,10 @@ public class SpelExpression implements Expression {
 	 * @return whether this expression has been successfully compiled
 	 */
 	public boolean compileExpression() {
+		return compileExpression(null);
+	}
+
+	private boolean compileExpression(@Nullable Class<?> rootType) {
 		CompiledExpression compiledAst = this.compiledAst;
 		if (compiledAst != null) {
 			// Previously compiled
@@ -528,6 +563,7 @@ public class SpelExpression implements Expression {
 				compiledAst = compiler.compile(this.ast);
 				if (compiledAst != null) {
 					// Successfully compiled
+					this.compiledRootType = rootType;
 					this.compiledAst = compiledAst;
 					return true;
 				}
@@ -541,8 +577,9 @@ public class SpelExpression implements Expression {
 				// Failed to compile
 				this.failedAttempts.incrementAndGet();
 
-				// If running in mixed mode, revert to interpreted
-				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
+				// If running in mixed or tiered mode, revert to interpreted
+				SpelCompilerMode compilerMode = this.configuration.getCompilerMode();
+				if (compilerMode == SpelCompilerMode.MIXED || compilerMode == SpelCompilerMode.TIERED) {
 					this.compiledAst = null;
 					this.interpretedCount.set(0);
 					return false;
@@ -555,6 +592,22 @@ public class SpelExpression implements Expression {
 		}
 	}
 
+	/**
+	 * Discard the compiled form in tiered mode, counting as a failed attempt:
+	 * in contrast to {@link #revertToInterpreted()}, an expression that keeps
+	 * getting deoptimized eventually stays interpreted.
+	 */
+	private void deoptimize() {
+		synchronized (this) {
+			if (this.compiledAst != null) {
+				this.compiledAst = null;
+				this.compiledRootType = null;
+				this.failedAttempts.incrementAndGet();
+			}
+		}
+		this.interpretedCount.set(0);
+	}
+
 	/**
 	 * Cause an expression to revert to being interpreted if it has been using a compiled
 	 * form. It also resets the compilation attempt failure count (an expression is normally no
@@ -562,6 +615,7 @@ public class SpelExpression implements Expression {
 	 */
 	public void revertToInterpreted() {
 		this.compiledAst = null;
+		this.compiledRootType = null;
 		this.interpretedCount.set(0);
 		this.failedAttempts.set(0);
 	}
@@ -583,6 +637,10 @@ public class SpelExpression implements Expression {
 		return this.ast.toStringAST();
 	}
 
+	private static Class<?> getRootType(@Nullable Object rootObject) {
+		return (rootObject != null ? rootObject.getClass() : Void.class);
+	}
+
 	private TypedValue toTypedValue(@Nullable Object object) {
 		return (object != null ? new TypedValue(object) : TypedValue.NULL);
 	}
@@ -29,6 +29,7 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.BOOLEAN;
 import static org.springframework.expression.spel.standard.SpelExpressionTestUtils.assertIsCompiled;
+import static org.springframework.expression.spel.standard.SpelExpressionTestUtils.assertIsNotCompiled;
 
 /**
  * Tests for the {@link SpelCompiler}.
@@ -92,6 +93,68 @@ class SpelCompilerTests {
 		});
 	}
 
+	@Test
+	void tieredModeCompilesExpressionOnceHot() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.TIERED, null);
+		Expression expression = new SpelExpressionParser(config).parseExpression("value");
+
+		IntStream.rangeClosed(1, 100).forEach(i -> assertThat(expression.getValue(new Bean1())).isEqualTo("11"));
+		assertIsNotCompiled(expression);
+		assertThat(expression.getValue(new Bean1())).isEqualTo("11");
+		assertIsCompiled(expression);
+		assertThat(expression.getValue(new Bean1())).isEqualTo("11");
+	}
+
+	@Test
+	void tieredModeRecompilesExpressionForChangedRootObjectType() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.TIERED, null);
+		Expression expression = new SpelExpressionParser(config).parseExpression("value");
+		IntStream.rangeClosed(1, 101).forEach(i -> expression.getValue(new Bean1()));
+		assertIsCompiled(expression);
+
+		assertThat(expression.getValue(new Bean2())).isEqualTo(111);
+		assertIsNotCompiled(expression);
+		IntStream.rangeClosed(1, 101).forEach(i -> assertThat(expression.getValue(new Bean2())).isEqualTo(111));
+		assertIsCompiled(expression);
+		assertThat(expression.getValue(new Bean2())).isEqualTo(111);
+		assertThat(expression.getValue(new Bean1())).isEqualTo("11");
+	}
+
+	@Test
+	void tieredModeGivesUpCompilingPolymorphicExpression() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.TIERED, null);
+		Expression expression = new SpelExpressionParser(config).parseExpression("#bean.value");
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		Object[] beans = new Object[] {new Bean1(), new Bean2()};
+
+		context.setVariable("bean", beans[0]);
+		IntStream.rangeClosed(1, 101).forEach(i -> expression.getValue(context));
+		assertIsCompiled(expression);
+		for (int round = 1; round <= 200; round++) {
+			context.setVariable("bean", beans[round % 2]);
+			IntStream.rangeClosed(1, 101).forEach(i -> expression.getValue(context));
+		}
+		assertIsNotCompiled(expression);
+		IntStream.rangeClosed(1, 101).forEach(i ->
+				assertThat(expression.getValue(context)).asString().startsWith("1"));
+		assertIsNotCompiled(expression);
+	}
+
+	@Test
+	void changingRegisteredVariableTypeDoesNotResultInFailureInTieredMode() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.TIERED, null);
+		SpelExpressionParser parser = new SpelExpressionParser(config);
+		Expression sharedExpression = parser.parseExpression("#bean.value");
+		StandardEvaluationContext context = new StandardEvaluationContext();
+
+		Object[] beans = new Object[] {new Bean1(), new Bean2(), new Bean3(), new Bean4()};
+
+		IntStream.rangeClosed(1, 100_000).parallel().forEach(count -> {
+			context.setVariable("bean", beans[count % 4]);
+			assertThat(sharedExpression.getValue(context)).asString().startsWith("1");
+		});
+	}
+
 
 	static class OrderedComponent implements Ordered {
 
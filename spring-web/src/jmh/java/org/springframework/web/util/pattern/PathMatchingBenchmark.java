@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -74,6 +74,20 @@ public class PathMatchingBenchmark {
 		}
 	}
 
+	@Benchmark
+	public void matchAndSortAllRoutesWithPathPatternIndex(AllRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pattern : data.index.getCandidates(path)) {
+				if (pattern.matches(path)) {
+					matches.add(pattern);
+				}
+			}
+			Collections.sort(matches);
+			bh.consume(matches);
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class StaticRoutesPatternParser extends PatternParserData {
 
@@ -149,10 +163,14 @@ public class PathMatchingBenchmark {
 
 		List<PathContainer> requestPaths = new ArrayList<>();
 
+		PathPatternIndex<PathPattern> index = new PathPatternIndex<>();
+
 		void parseRoutes(List<Route> routes) {
 			PathPatternParser parser = new PathPatternParser();
 			routes.forEach(route -> {
-				this.patterns.add(parser.parse(route.pattern));
+				PathPattern pattern = parser.parse(route.pattern);
+				this.patterns.add(pattern);
+				this.index.add(pattern, pattern);
 				route.matchingPaths.forEach(path -> this.requestPaths.add(PathContainer.parsePath(path)));
 			});
 		}
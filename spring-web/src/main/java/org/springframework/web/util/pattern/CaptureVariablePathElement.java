@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -77,17 +77,10 @@ class CaptureVariablePathElement extends PathElement {
 			return false;
 		}
 
-		if (this.constraintPattern != null) {
-			// TODO possible optimization - only regex match if rest of pattern matches?
-			// Benefit likely to vary pattern to pattern
-			Matcher matcher = this.constraintPattern.matcher(candidateCapture);
-			if (matcher.groupCount() != 0) {
-				throw new IllegalArgumentException(
-						"No capture groups allowed in the constraint regex: " + this.constraintPattern.pattern());
-			}
-			if (!matcher.matches()) {
-				return false;
-			}
+		// TODO possible optimization - only regex match if rest of pattern matches?
+		// Benefit likely to vary pattern to pattern
+		if (!matchesConstraint(candidateCapture)) {
+			return false;
 		}
 
 		boolean match = false;
@@ -120,6 +113,30 @@ class CaptureVariablePathElement extends PathElement {
 		return match;
 	}
 
+	/**
+	 * Whether the given candidate satisfies the constraint pattern, if any.
+	 * @param candidateCapture the non-empty path segment value to check
+	 */
+	boolean matchesConstraint(String candidateCapture) {
+		if (this.constraintPattern == null) {
+			return true;
+		}
+		Matcher matcher = this.constraintPattern.matcher(candidateCapture);
+		if (matcher.groupCount() != 0) {
+			throw new IllegalArgumentException(
+					"No capture groups allowed in the constraint regex: " + this.constraintPattern.pattern());
+		}
+		return matcher.matches();
+	}
+
+	/**
+	 * Whether the constraint pattern, if any, declares capture groups,
+	 * which is rejected when matching.
+	 */
+	boolean hasConstraintCaptureGroups() {
+		return (this.constraintPattern != null && this.constraintPattern.matcher("").groupCount() != 0);
+	}
+
 	public String getVariableName() {
 		return this.variableName;
 	}
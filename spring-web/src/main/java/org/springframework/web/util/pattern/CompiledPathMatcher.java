@@ -0,0 +1,214 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.server.PathContainer.Element;
+import org.springframework.http.server.PathContainer.PathSegment;
+import org.springframework.http.server.PathContainer.Separator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Flattened form of a {@link PathPattern} made up only of separators, literal
+ * segments and single-segment capture variables, e.g. <code>/orders/{id}/items</code>.
+ *
+ * <p>Such a pattern always maps pattern element {@code n} to path element
+ * {@code n}, so it can be matched with a single loop over the path elements
+ * rather than by walking the chain of {@link PathElement PathElements}, and
+ * without allocating a {@link PathPattern.MatchingContext}. The captured
+ * variables are at fixed positions in the path, which allows URI and matrix
+ * variables to be extracted lazily, only when they are actually read.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ */
+final class CompiledPathMatcher {
+
+	private static final byte SEPARATOR = 0;
+
+	private static final byte LITERAL = 1;
+
+	private static final byte CAPTURE = 2;
+
+
+	private final byte[] kinds;
+
+	private final String[] literals;
+
+	private final CaptureVariablePathElement[] captures;
+
+	private final int[] captureIndexes;
+
+	private final boolean caseSensitive;
+
+	private final boolean matchOptionalTrailingSeparator;
+
+
+	private CompiledPathMatcher(byte[] kinds, String[] literals, CaptureVariablePathElement[] captures,
+			int[] captureIndexes, boolean caseSensitive, boolean matchOptionalTrailingSeparator) {
+
+		this.kinds = kinds;
+		this.literals = literals;
+		this.captures = captures;
+		this.captureIndexes = captureIndexes;
+		this.caseSensitive = caseSensitive;
+		this.matchOptionalTrailingSeparator = matchOptionalTrailingSeparator;
+	}
+
+
+	/**
+	 * Whether the given path elements match the compiled pattern.
+	 * @param path the elements of a non-empty path
+	 */
+	boolean matches(List<Element> path) {
+		int patternLength = this.kinds.length;
+		int pathLength = path.size();
+		if (pathLength != patternLength && !(this.matchOptionalTrailingSeparator &&
+				this.kinds[patternLength - 1] != SEPARATOR && pathLength == patternLength + 1 &&
+				path.get(patternLength) instanceof Separator)) {
+			return false;
+		}
+		for (int i = 0; i < patternLength; i++) {
+			Element element = path.get(i);
+			byte kind = this.kinds[i];
+			if (kind == SEPARATOR) {
+				if (!(element instanceof Separator)) {
+					return false;
+				}
+			}
+			else if (element instanceof PathSegment pathSegment) {
+				String value = pathSegment.valueToMatch();
+				if (kind == LITERAL) {
+					String literal = this.literals[i];
+					if (value.length() != literal.length() ||
+							!(this.caseSensitive ? literal.equals(value) : literal.equalsIgnoreCase(value))) {
+						return false;
+					}
+				}
+				else if (value.isEmpty() || !this.captures[i].matchesConstraint(value)) {
+					return false;
+				}
+			}
+			else {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return the match result for the given path elements, which must have
+	 * been {@link #matches(List) matched} before.
+	 */
+	PathPattern.PathMatchInfo getPathMatchInfo(List<Element> path) {
+		return (this.captureIndexes.length == 0 ? PathPattern.PathMatchInfo.EMPTY :
+				new PathPattern.PathMatchInfo(this, path));
+	}
+
+	/**
+	 * Extract the URI variables from the given matched path elements.
+	 */
+	Map<String, String> extractUriVariables(List<Element> path) {
+		Map<String, String> uriVariables = CollectionUtils.newHashMap(this.captureIndexes.length);
+		for (int index : this.captureIndexes) {
+			PathSegment pathSegment = (PathSegment) path.get(index);
+			uriVariables.put(this.captures[index].getVariableName(), pathSegment.valueToMatch());
+		}
+		return uriVariables;
+	}
+
+	/**
+	 * Extract the matrix variables from the given matched path elements.
+	 */
+	@Nullable
+	Map<String, MultiValueMap<String, String>> extractMatrixVariables(List<Element> path) {
+		Map<String, MultiValueMap<String, String>> matrixVariables = null;
+		for (int index : this.captureIndexes) {
+			PathSegment pathSegment = (PathSegment) path.get(index);
+			MultiValueMap<String, String> parameters = pathSegment.parameters();
+			if (!parameters.isEmpty()) {
+				if (matrixVariables == null) {
+					matrixVariables = new HashMap<>();
+				}
+				matrixVariables.put(this.captures[index].getVariableName(),
+						CollectionUtils.unmodifiableMultiValueMap(parameters));
+			}
+		}
+		return matrixVariables;
+	}
+
+
+	/**
+	 * Compile the given chain of path elements, if it only consists of
+	 * separators, literal segments and single-segment capture variables.
+	 * @param head the first element of the pattern
+	 * @param matchOptionalTrailingSeparator whether the pattern should match
+	 * paths with an additional trailing separator
+	 * @return the compiled matcher, or {@code null} if the pattern contains
+	 * elements that cannot be compiled
+	 */
+	@Nullable
+	static CompiledPathMatcher compile(@Nullable PathElement head, boolean matchOptionalTrailingSeparator) {
+		if (head == null) {
+			return null;
+		}
+		int length = 0;
+		for (PathElement elem = head; elem != null; elem = elem.next) {
+			length++;
+		}
+		byte[] kinds = new byte[length];
+		String[] literals = new String[length];
+		CaptureVariablePathElement[] captures = new CaptureVariablePathElement[length];
+		List<Integer> captureIndexes = new ArrayList<>();
+		boolean caseSensitive = true;
+		byte previous = CAPTURE;
+		int i = 0;
+		for (PathElement elem = head; elem != null; elem = elem.next, i++) {
+			if (elem instanceof SeparatorPathElement) {
+				kinds[i] = SEPARATOR;
+			}
+			else if (previous != SEPARATOR && i != 0) {
+				// Segments are expected to alternate with separators
+				return null;
+			}
+			else if (elem instanceof LiteralPathElement literal) {
+				kinds[i] = LITERAL;
+				literals[i] = literal.getText();
+				caseSensitive = literal.isCaseSensitive();
+			}
+			else if (elem instanceof CaptureVariablePathElement capture && !capture.hasConstraintCaptureGroups()) {
+				kinds[i] = CAPTURE;
+				captures[i] = capture;
+				captureIndexes.add(i);
+			}
+			else {
+				return null;
+			}
+			previous = kinds[i];
+		}
+		return new CompiledPathMatcher(kinds, literals, captures,
+				captureIndexes.stream().mapToInt(Integer::intValue).toArray(),
+				caseSensitive, matchOptionalTrailingSeparator);
+	}
+
+}
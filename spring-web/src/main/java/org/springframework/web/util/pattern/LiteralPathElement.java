@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -108,6 +108,20 @@ class LiteralPathElement extends PathElement {
 		return true;
 	}
 
+	/**
+	 * Return whether this element compares the path segment case-sensitively.
+	 */
+	boolean isCaseSensitive() {
+		return this.caseSensitive;
+	}
+
+	/**
+	 * Return the literal text of this element.
+	 */
+	String getText() {
+		return this.text;
+	}
+
 	@Override
 	public String toString() {
 		return "Literal(" + this.text + ")";
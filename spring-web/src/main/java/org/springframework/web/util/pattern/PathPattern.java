@@ -122,6 +122,10 @@ public class PathPattern implements Comparable<PathPattern> {
 	@Nullable
 	private final PathElement head;
 
+	/** Flattened matcher for patterns made up of literals and captures only, if applicable. */
+	@Nullable
+	private final CompiledPathMatcher compiledMatcher;
+
 	/** How many variables are captured in this pattern. */
 	private int capturedVariableCount;
 
@@ -175,6 +179,7 @@ public class PathPattern implements Comparable<PathPattern> {
 			}
 			elem = elem.next;
 		}
+		this.compiledMatcher = CompiledPathMatcher.compile(head, this.matchOptionalTrailingSeparator);
 	}
 
 
@@ -213,6 +218,9 @@ public class PathPattern implements Comparable<PathPattern> {
 				return false;
 			}
 		}
+		if (this.compiledMatcher != null) {
+			return this.compiledMatcher.matches(pathContainer.elements());
+		}
 		MatchingContext matchingContext = new MatchingContext(pathContainer, false);
 		return this.head.matches(0, matchingContext);
 	}
@@ -238,6 +246,10 @@ public class PathPattern implements Comparable<PathPattern> {
 				return null;
 			}
 		}
+		if (this.compiledMatcher != null) {
+			List<Element> elements = pathContainer.elements();
+			return (this.compiledMatcher.matches(elements) ? this.compiledMatcher.getPathMatchInfo(elements) : null);
+		}
 		MatchingContext matchingContext = new MatchingContext(pathContainer, true);
 		return this.head.matches(0, matchingContext) ? matchingContext.getPathMatchResult() : null;
 	}
@@ -552,37 +564,71 @@ public class PathPattern implements Comparable<PathPattern> {
 	 */
 	public static class PathMatchInfo {
 
-		private static final PathMatchInfo EMPTY = new PathMatchInfo(Collections.emptyMap(), Collections.emptyMap());
+		static final PathMatchInfo EMPTY = new PathMatchInfo(Collections.emptyMap(), Collections.emptyMap());
+
+		@Nullable
+		private volatile Map<String, String> uriVariables;
+
+		@Nullable
+		private volatile Map<String, MultiValueMap<String, String>> matrixVariables;
 
-		private final Map<String, String> uriVariables;
+		@Nullable
+		private final CompiledPathMatcher matcher;
 
-		private final Map<String, MultiValueMap<String, String>> matrixVariables;
+		@Nullable
+		private final List<Element> pathElements;
 
 		PathMatchInfo(Map<String, String> uriVars, @Nullable Map<String, MultiValueMap<String, String>> matrixVars) {
 			this.uriVariables = Collections.unmodifiableMap(uriVars);
 			this.matrixVariables = (matrixVars != null ?
 					Collections.unmodifiableMap(matrixVars) : Collections.emptyMap());
+			this.matcher = null;
+			this.pathElements = null;
+		}
+
+		/**
+		 * Create an instance that extracts variables from the matched path
+		 * elements on first access.
+		 * @since 6.2
+		 */
+		PathMatchInfo(CompiledPathMatcher matcher, List<Element> pathElements) {
+			this.matcher = matcher;
+			this.pathElements = pathElements;
 		}
 
 		/**
 		 * Return the extracted URI variables.
 		 */
+		@SuppressWarnings("NullAway")
 		public Map<String, String> getUriVariables() {
-			return this.uriVariables;
+			Map<String, String> uriVariables = this.uriVariables;
+			if (uriVariables == null) {
+				uriVariables = Collections.unmodifiableMap(this.matcher.extractUriVariables(this.pathElements));
+				this.uriVariables = uriVariables;
+			}
+			return uriVariables;
 		}
 
 		/**
 		 * Return maps of matrix variables per path segment, keyed off by URI
 		 * variable name.
 		 */
+		@SuppressWarnings("NullAway")
 		public Map<String, MultiValueMap<String, String>> getMatrixVariables() {
-			return this.matrixVariables;
+			Map<String, MultiValueMap<String, String>> matrixVariables = this.matrixVariables;
+			if (matrixVariables == null) {
+				Map<String, MultiValueMap<String, String>> extracted =
+						this.matcher.extractMatrixVariables(this.pathElements);
+				matrixVariables = (extracted != null ? Collections.unmodifiableMap(extracted) : Collections.emptyMap());
+				this.matrixVariables = matrixVariables;
+			}
+			return matrixVariables;
 		}
 
 		@Override
 		public String toString() {
-			return "PathMatchInfo[uriVariables=" + this.uriVariables + ", " +
-					"matrixVariables=" + this.matrixVariables + "]";
+			return "PathMatchInfo[uriVariables=" + getUriVariables() + ", " +
+					"matrixVariables=" + getMatrixVariables() + "]";
 		}
 	}
 
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.PathContainer.PathSegment;
+import org.springframework.http.server.PathContainer.Separator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Segment trie that indexes values by the {@link PathPattern} they are
+ * registered for, in order to select candidates for a given path without
+ * having to try every registered pattern.
+ *
+ * <p>Each pattern is broken down into its leading path segments: literal
+ * segments (e.g. {@code "orders"}) become literal children and single-segment
+ * captures (e.g. <code>{id}</code>) become a capture child of the current
+ * node. Indexing stops at the first element that cannot be represented that
+ * way, such as a wildcard, a regex segment, or a capture-the-rest element.
+ * A lookup then walks the path segment by segment, so its cost depends on the
+ * depth of the path rather than on the number of registered patterns.
+ *
+ * <p>The index only pre-selects candidates: the returned values are
+ * guaranteed to include every value with a pattern that matches the path,
+ * but callers must still match each candidate pattern against the path.
+ *
+ * <p>This class is not thread-safe: callers are expected to guard concurrent
+ * modification and lookup, e.g. through a read-write lock.
+ *
+ * @author Spring Framework Team
+ * @since 6.2
+ * @param <T> the type of values held in the index
+ */
+public class PathPatternIndex<T> {
+
+	private final Node<T> root = new Node<>();
+
+	private int size;
+
+
+	/**
+	 * Register the given value for the given pattern.
+	 * @param pattern the pattern to index the value under
+	 * @param value the value to register
+	 */
+	public void add(PathPattern pattern, T value) {
+		Assert.notNull(pattern, "PathPattern must not be null");
+		Assert.notNull(value, "Value must not be null");
+		Node<T> node = this.root;
+		PathElement elem = pattern.getHeadSection();
+		while (isIndexableSegment(elem)) {
+			PathElement segment = elem.next;
+			node = (segment instanceof LiteralPathElement literal ?
+					node.literalChildren().computeIfAbsent(literal.getText(), key -> new Node<>()) :
+					node.captureChild());
+			elem = segment.next;
+		}
+		if (elem == null) {
+			node.terminalValues().add(value);
+		}
+		else {
+			node.prefixValues().add(value);
+		}
+		this.size++;
+	}
+
+	/**
+	 * Remove the given value from the given pattern, if registered.
+	 * @param pattern the pattern the value was indexed under
+	 * @param value the value to remove
+	 * @return {@code true} if the value was found and removed
+	 */
+	public boolean remove(PathPattern pattern, T value) {
+		Node<T> node = this.root;
+		PathElement elem = pattern.getHeadSection();
+		while (isIndexableSegment(elem)) {
+			PathElement segment = elem.next;
+			node = (segment instanceof LiteralPathElement literal ?
+					(node.literalChildren != null ? node.literalChildren.get(literal.getText()) : null) :
+					node.captureChild);
+			if (node == null) {
+				return false;
+			}
+			elem = segment.next;
+		}
+		List<T> values = (elem == null ? node.terminalValues : node.prefixValues);
+		if (values != null && values.remove(value)) {
+			this.size--;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Return the number of registrations held in this index.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Return the values whose patterns may match the given path, in no
+	 * particular order and without duplicates.
+	 * @param path the path to select candidates for
+	 * @return the candidate values, possibly empty
+	 */
+	public Set<T> getCandidates(PathContainer path) {
+		Set<T> result = new LinkedHashSet<>();
+		collect(this.root, path.elements(), 0, result);
+		return result;
+	}
+
+	private void collect(Node<T> node, List<PathContainer.Element> elements, int index, Set<T> result) {
+		if (node.prefixValues != null) {
+			result.addAll(node.prefixValues);
+		}
+		int remaining = elements.size() - index;
+		if (node.terminalValues != null &&
+				(remaining == 0 || (remaining == 1 && elements.get(index) instanceof Separator))) {
+			// Fully consumed patterns may still match an optional trailing separator
+			result.addAll(node.terminalValues);
+		}
+		if (remaining < 2 || !(elements.get(index) instanceof Separator) ||
+				!(elements.get(index + 1) instanceof PathSegment segment)) {
+			return;
+		}
+		String value = segment.valueToMatch();
+		if (node.literalChildren != null) {
+			Node<T> child = node.literalChildren.get(value);
+			if (child != null) {
+				collect(child, elements, index + 2, result);
+			}
+		}
+		if (node.captureChild != null && !value.isEmpty()) {
+			collect(node.captureChild, elements, index + 2, result);
+		}
+	}
+
+	/**
+	 * Whether the given element is a separator followed by a path segment that
+	 * can be represented as a literal or capture child in the trie.
+	 */
+	private static boolean isIndexableSegment(@Nullable PathElement elem) {
+		if (!(elem instanceof SeparatorPathElement) || elem.next == null) {
+			return false;
+		}
+		PathElement segment = elem.next;
+		PathElement following = segment.next;
+		if (following != null && !(following instanceof SeparatorPathElement ||
+				following instanceof WildcardTheRestPathElement || following instanceof CaptureTheRestPathElement)) {
+			return false;
+		}
+		if (segment instanceof LiteralPathElement literal) {
+			return literal.isCaseSensitive();
+		}
+		return (segment instanceof CaptureVariablePathElement);
+	}
+
+
+	private static final class Node<T> {
+
+		@Nullable
+		Map<String, Node<T>> literalChildren;
+
+		@Nullable
+		Node<T> captureChild;
+
+		@Nullable
+		List<T> terminalValues;
+
+		@Nullable
+		List<T> prefixValues;
+
+		Map<String, Node<T>> literalChildren() {
+			if (this.literalChildren == null) {
+				this.literalChildren = new HashMap<>();
+			}
+			return this.literalChildren;
+		}
+
+		Node<T> captureChild() {
+			if (this.captureChild == null) {
+				this.captureChild = new Node<>();
+			}
+			return this.captureChild;
+		}
+
+		List<T> terminalValues() {
+			if (this.terminalValues == null) {
+				this.terminalValues = new ArrayList<>(1);
+			}
+			return this.terminalValues;
+		}
+
+		List<T> prefixValues() {
+			if (this.prefixValues == null) {
+				this.prefixValues = new ArrayList<>(1);
+			}
+			return this.prefixValues;
+		}
+	}
+
+}
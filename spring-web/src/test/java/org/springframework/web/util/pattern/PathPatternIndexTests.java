@@ -0,0 +1,119 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.server.PathContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PathPatternIndex}.
+ */
+class PathPatternIndexTests {
+
+	private final PathPatternParser parser = new PathPatternParser();
+
+	private final PathPatternIndex<String> index = new PathPatternIndex<>();
+
+
+	@Test
+	void literalPatterns() {
+		register("/orders", "/orders/open", "/customers");
+
+		assertThat(candidates("/orders")).containsExactly("/orders");
+		assertThat(candidates("/orders/open")).containsExactly("/orders/open");
+		assertThat(candidates("/orders/closed")).isEmpty();
+		assertThat(candidates("/unknown")).isEmpty();
+	}
+
+	@Test
+	void literalPatternsWithTrailingSeparator() {
+		register("/orders");
+
+		assertThat(candidates("/orders/")).containsExactly("/orders");
+	}
+
+	@Test
+	void captureVariablePatterns() {
+		register("/orders/{id}", "/orders/{id}/items/{item}", "/orders/open");
+
+		assertThat(candidates("/orders/42")).containsExactly("/orders/{id}");
+		assertThat(candidates("/orders/open")).containsExactlyInAnyOrder("/orders/open", "/orders/{id}");
+		assertThat(candidates("/orders/42/items/7")).containsExactly("/orders/{id}/items/{item}");
+		assertThat(candidates("/orders")).isEmpty();
+	}
+
+	@Test
+	void nonIndexableElementsArePrefixCandidates() {
+		register("/static/**", "/blog/{slug}.atom", "/files/{*path}", "/**", "/api/v*/status");
+
+		assertThat(candidates("/static/css/style.css")).containsExactlyInAnyOrder("/static/**", "/**");
+		assertThat(candidates("/static")).containsExactlyInAnyOrder("/static/**", "/**");
+		assertThat(candidates("/blog/news.atom")).containsExactlyInAnyOrder("/blog/{slug}.atom", "/**");
+		assertThat(candidates("/files/a/b")).containsExactlyInAnyOrder("/files/{*path}", "/**");
+		assertThat(candidates("/api/v2/status")).containsExactlyInAnyOrder("/api/v*/status", "/**");
+	}
+
+	@Test
+	void candidatesIncludeAllMatchingPatterns() {
+		List<String> patterns = List.of("/", "", "/orders", "/orders/{id}", "/orders/{id}/items",
+				"/orders/*", "/orders/**", "/{type}/{id}", "/{*path}", "/orders/{id:\\d+}");
+		register(patterns.toArray(new String[0]));
+
+		for (String path : List.of("", "/", "/orders", "/orders/", "/orders/42", "/orders/42/items", "/other/1", "/a/b/c")) {
+			PathContainer container = PathContainer.parsePath(path);
+			List<String> expected = patterns.stream().filter(p -> this.parser.parse(p).matches(container)).toList();
+			assertThat(this.index.getCandidates(container)).as(path).containsAll(expected);
+		}
+	}
+
+	@Test
+	void caseInsensitivePatterns() {
+		PathPatternParser caseInsensitiveParser = new PathPatternParser();
+		caseInsensitiveParser.setCaseSensitive(false);
+		this.index.add(caseInsensitiveParser.parse("/Orders"), "/Orders");
+
+		assertThat(candidates("/orders")).containsExactly("/Orders");
+	}
+
+	@Test
+	void remove() {
+		register("/orders/{id}", "/orders/**");
+		assertThat(this.index.size()).isEqualTo(2);
+
+		assertThat(this.index.remove(this.parser.parse("/orders/{id}"), "/orders/{id}")).isTrue();
+		assertThat(this.index.remove(this.parser.parse("/customers/{id}"), "/customers/{id}")).isFalse();
+		assertThat(this.index.size()).isEqualTo(1);
+		assertThat(candidates("/orders/42")).containsExactly("/orders/**");
+	}
+
+
+	private void register(String... patterns) {
+		for (String pattern : patterns) {
+			this.index.add(this.parser.parse(pattern), pattern);
+		}
+	}
+
+	private List<String> candidates(String path) {
+		return List.copyOf(this.index.getCandidates(PathContainer.parsePath(path)));
+	}
+
+}
@@ -1181,6 +1181,35 @@ class PathPatternTests {
 		assertThat(result).isNotNull();
 	}
 
+	@Test
+	void literalAndCapturePatterns() {
+		PathPatternParser parser = new PathPatternParser();
+		PathPattern pattern = parser.parse("/orders/{id}/items/{item:\\d+}");
+		assertMatches(pattern, "/orders/1/items/2");
+		assertNoMatch(pattern, "/orders/1/items/two");
+		assertNoMatch(pattern, "/orders//items/2");
+		assertNoMatch(pattern, "/orders/1/items/2/");
+		assertNoMatch(pattern, "/orders/1/items");
+
+		PathPattern.PathMatchInfo result = pattern.matchAndExtract(toPathContainer("/orders/1;a=b/items/2"));
+		assertThat(result).isNotNull();
+		assertThat(result.getUriVariables()).containsExactlyInAnyOrderEntriesOf(Map.of("id", "1", "item", "2"));
+		assertThat(result.getMatrixVariables()).containsOnlyKeys("id");
+		assertThat(result.getMatrixVariables().get("id").getFirst("a")).isEqualTo("b");
+		assertThat(result.getUriVariables()).isUnmodifiable();
+
+		result = parser.parse("/orders/open").matchAndExtract(toPathContainer("/orders/open"));
+		assertThat(result).isNotNull();
+		assertThat(result.getUriVariables()).isEmpty();
+		assertThat(result.getMatrixVariables()).isEmpty();
+	}
+
+	@Test
+	void captureGroupsInConstraintRejected() {
+		PathPattern pattern = new PathPatternParser().parse("/orders/{id:(\\d+)}");
+		assertThatIllegalArgumentException().isThrownBy(() -> pattern.matches(toPathContainer("/orders/1")));
+	}
+
 	private PathPattern.PathMatchInfo matchAndExtract(String pattern, String path) {
 		return parse(pattern).matchAndExtract(PathPatternTests.toPathContainer(path));
 	}
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +40,7 @@ import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -49,6 +51,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
@@ -95,6 +100,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 	private boolean detectHandlerMethodsInAncestorContexts = false;
 
+	private boolean usePathPatternIndex = false;
+
 	@Nullable
 	private HandlerMethodMappingNamingStrategy<T> namingStrategy;
 
@@ -122,6 +129,32 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		this.detectHandlerMethodsInAncestorContexts = detectHandlerMethodsInAncestorContexts;
 	}
 
+	/**
+	 * Whether to index mappings by their parsed {@link PathPattern PathPatterns}
+	 * in order to pre-select the candidates for a request, instead of checking
+	 * every registered mapping when there is no direct path match.
+	 * <p>Default is "false". Switching this flag on only has an effect when
+	 * parsed patterns are {@link #usesPathPatterns() in use} and the mapping
+	 * type exposes its patterns through {@link #getPathPatterns(Object)}.
+	 * <p>Must be set before mappings are registered.
+	 * @since 6.2
+	 * @see PathPatternIndex
+	 */
+	public void setUsePathPatternIndex(boolean usePathPatternIndex) {
+		Assert.state(this.mappingRegistry.getRegistrations().isEmpty(),
+				"The PathPatternIndex must be enabled before the initialization of " +
+						"request mappings through InitializingBean#afterPropertiesSet.");
+		this.usePathPatternIndex = usePathPatternIndex;
+	}
+
+	/**
+	 * Whether mappings are indexed by their parsed patterns.
+	 * @since 6.2
+	 */
+	public boolean isUsePathPatternIndex() {
+		return this.usePathPatternIndex;
+	}
+
 	/**
 	 * Configure the naming strategy to use for assigning a default name to every
 	 * mapped handler method.
@@ -404,7 +437,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, request);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, request);
+			addMatchingMappings(getCandidateMappings(request), matches, request);
 		}
 		if (!matches.isEmpty()) {
 			Match bestMatch = matches.get(0);
@@ -442,6 +475,14 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		}
 	}
 
+	private Collection<T> getCandidateMappings(HttpServletRequest request) {
+		if (this.usePathPatternIndex && ServletRequestPathUtils.hasParsedRequestPath(request)) {
+			PathContainer path = ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication();
+			return this.mappingRegistry.getMappingsByPattern(path);
+		}
+		return this.mappingRegistry.getRegistrations().keySet();
+	}
+
 	@SuppressWarnings("NullAway")
 	private void addMatchingMappings(Collection<T> mappings, List<Match> matches, HttpServletRequest request) {
 		for (T mapping : mappings) {
@@ -545,6 +586,17 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return urls;
 	}
 
+	/**
+	 * Return the parsed patterns of the given mapping, used to index it when
+	 * {@link #setUsePathPatternIndex(boolean) enabled}.
+	 * <p>The default implementation returns an empty set, in which case the
+	 * mapping is considered a candidate for every request.
+	 * @since 6.2
+	 */
+	protected Set<PathPattern> getPathPatterns(T mapping) {
+		return Collections.emptySet();
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -576,6 +628,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final PathPatternIndex<T> patternIndex = new PathPatternIndex<>();
+
+		private final Set<T> unindexedMappings = new LinkedHashSet<>();
+
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
@@ -599,6 +655,18 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(urlPath);
 		}
 
+		/**
+		 * Return the candidate mappings for the given path, as selected through
+		 * the {@link PathPatternIndex}. Not thread-safe.
+		 * @since 6.2
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPattern(PathContainer path) {
+			Set<T> candidates = this.patternIndex.getCandidates(path);
+			candidates.addAll(this.unindexedMappings);
+			return candidates;
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -644,6 +712,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				if (usePathPatternIndex) {
+					addToPatternIndex(mapping);
+				}
+
 				String name = null;
 				if (getNamingStrategy() != null) {
 					name = getNamingStrategy().getName(handlerMethod, mapping);
@@ -676,6 +748,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			}
 		}
 
+		private void addToPatternIndex(T mapping) {
+			Set<PathPattern> patterns = getPathPatterns(mapping);
+			if (patterns.isEmpty()) {
+				this.unindexedMappings.add(mapping);
+			}
+			for (PathPattern pattern : patterns) {
+				this.patternIndex.add(pattern, mapping);
+			}
+		}
+
 		private void addMappingName(String name, HandlerMethod handlerMethod) {
 			List<HandlerMethod> oldList = this.nameLookup.get(name);
 			if (oldList == null) {
@@ -712,6 +794,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				if (usePathPatternIndex) {
+					removeFromPatternIndex(registration.getMapping());
+				}
+
 				removeMappingName(registration);
 
 				this.corsLookup.remove(registration.getHandlerMethod());
@@ -721,6 +807,13 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			}
 		}
 
+		private void removeFromPatternIndex(T mapping) {
+			this.unindexedMappings.remove(mapping);
+			for (PathPattern pattern : getPathPatterns(mapping)) {
+				this.patternIndex.remove(pattern, mapping);
+			}
+		}
+
 		private void removeMappingName(MappingRegistration<T> definition) {
 			String name = definition.getMappingName();
 			if (name == null) {
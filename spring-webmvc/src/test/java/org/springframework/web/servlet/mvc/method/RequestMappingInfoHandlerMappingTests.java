@@ -87,7 +87,11 @@ class RequestMappingInfoHandlerMappingTests {
 		TestRequestMappingInfoHandlerMapping mapping2 = new TestRequestMappingInfoHandlerMapping();
 		mapping2.setUrlPathHelper(pathHelper);
 
-		return Stream.of(named("defaults", mapping1), named("setRemoveSemicolonContent(false)", mapping2))
+		TestRequestMappingInfoHandlerMapping mapping3 = new TestRequestMappingInfoHandlerMapping();
+		mapping3.setUsePathPatternIndex(true);
+
+		return Stream.of(named("defaults", mapping1), named("setRemoveSemicolonContent(false)", mapping2),
+						named("setUsePathPatternIndex(true)", mapping3))
 				.peek(named -> {
 					TestRequestMappingInfoHandlerMapping mapping = named.getPayload();
 					mapping.setApplicationContext(new StaticWebApplicationContext());